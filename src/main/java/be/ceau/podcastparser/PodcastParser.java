@@ -22,31 +22,57 @@ import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
 
+import be.ceau.podcastparser.dedup.ItemFingerprinter;
+import be.ceau.podcastparser.delta.ChangeDetector;
+import be.ceau.podcastparser.delta.ContentCheck;
+import be.ceau.podcastparser.delta.ContentHasher;
+import be.ceau.podcastparser.delta.FeedDelta;
+import be.ceau.podcastparser.delta.FeedDiffer;
+import be.ceau.podcastparser.delta.FeedFingerprint;
 import be.ceau.podcastparser.exceptions.InvalidFeedFormatException;
 import be.ceau.podcastparser.exceptions.NotPodcastFeedException;
 import be.ceau.podcastparser.exceptions.PodcastParserException;
 import be.ceau.podcastparser.filter.ElementFilter;
+import be.ceau.podcastparser.lazy.PartialFeed;
+import be.ceau.podcastparser.lazy.ResumableParser;
 import be.ceau.podcastparser.models.core.Feed;
 import be.ceau.podcastparser.namespace.callback.NamespaceCallbackHandler;
 import be.ceau.podcastparser.namespace.root.impl.Atom;
 import be.ceau.podcastparser.namespace.root.impl.RSS;
+import be.ceau.podcastparser.sink.ItemSink;
+import be.ceau.podcastparser.util.StringPool;
 import be.ceau.podcastparser.util.Strings;
 
 /**
+ * <p>
  * Parser class for converting podcast XML feeds into {@link Feed} objects.
+ * </p>
+ * <p>
+ * Instances are threadsafe and meant to be shared: all state of a single parse lives in its own
+ * {@link PodcastParserContext}, and the {@link be.ceau.podcastparser.namespace.Namespace}
+ * implementations are stateless singletons. {@link XMLInputFactory} is not guaranteed to be
+ * threadsafe, so each parse borrows a factory from a pool that grows to the number of concurrent
+ * parses. Callback handlers, element filters and an {@link ItemSink} passed to a shared instance
+ * are invoked concurrently by all threads parsing with it, and must be threadsafe themselves; a
+ * {@link StringPool} is.
+ * </p>
  */
 public class PodcastParser {
 
-	private final XMLInputFactory factory;
+	private final Queue<XMLInputFactory> factories = new ConcurrentLinkedQueue<>();
 	private final List<NamespaceCallbackHandler> namespaceCallbackHandlers;
 	private final Set<ElementFilter> elementFilters;
+	private final StringPool stringPool;
+	private final ItemFingerprinter fingerprinter;
 
 	/**
 	 * No-arg constructor
@@ -103,14 +129,56 @@ public class PodcastParser {
 	 *                              {@code null}
 	 */
 	public PodcastParser(Collection<NamespaceCallbackHandler> callbackHandlers, Collection<ElementFilter> elementFilters) {
+		this(callbackHandlers, elementFilters, null);
+	}
+
+	/**
+	 * Constructor with {@link NamespaceCallbackHandler}, {@link ElementFilter} and
+	 * {@link StringPool}. Use this constructor if you want repeated values, such
+	 * as MIME types and category names, to share {@link String} instances in the
+	 * parsed {@link Feed} objects. The {@link StringPool} can be shared by
+	 * multiple parsers and threads.
+	 *
+	 * @param callbackHandlers a {@link Collection} of
+	 *                         {@link NamespaceCallbackHandler} implementations
+	 * @param elementFilters   a {@link Collection} of {@link ElementFilter}
+	 *                         implementations
+	 * @param stringPool       a {@link StringPool}, or {@code null} to disable
+	 *                         pooling
+	 * @throws NullPointerException if either collection is {@code null} or
+	 *                              contains {@code null}
+	 */
+	public PodcastParser(Collection<NamespaceCallbackHandler> callbackHandlers, Collection<ElementFilter> elementFilters, StringPool stringPool) {
+		this(callbackHandlers, elementFilters, stringPool, null);
+	}
+
+	/**
+	 * Constructor with {@link NamespaceCallbackHandler}, {@link ElementFilter},
+	 * {@link StringPool} and {@link ItemFingerprinter}. Use this constructor if
+	 * you want every parsed {@link be.ceau.podcastparser.models.core.Item} to
+	 * carry a fingerprint for deduplication, computed as each item is completed.
+	 *
+	 * @param callbackHandlers a {@link Collection} of
+	 *                         {@link NamespaceCallbackHandler} implementations
+	 * @param elementFilters   a {@link Collection} of {@link ElementFilter}
+	 *                         implementations
+	 * @param stringPool       a {@link StringPool}, or {@code null} to disable
+	 *                         pooling
+	 * @param fingerprinter    an {@link ItemFingerprinter}, or {@code null} to
+	 *                         leave fingerprints unset
+	 * @throws NullPointerException if either collection is {@code null} or
+	 *                              contains {@code null}
+	 */
+	public PodcastParser(Collection<NamespaceCallbackHandler> callbackHandlers, Collection<ElementFilter> elementFilters, StringPool stringPool, ItemFingerprinter fingerprinter) {
 		Objects.requireNonNull(callbackHandlers);
 		Objects.requireNonNull(elementFilters);
-		this.factory = XMLInputFactory.newFactory();
-		this.factory.setXMLResolver(new QuietResolver());
+		this.factories.add(newFactory());
 		this.namespaceCallbackHandlers = Collections.unmodifiableList(new ArrayList<>(callbackHandlers));
 		this.namespaceCallbackHandlers.forEach(Objects::requireNonNull);
 		this.elementFilters = Collections.unmodifiableSet(new LinkedHashSet<>(elementFilters));
 		this.elementFilters.forEach(Objects::requireNonNull);
+		this.stringPool = stringPool;
+		this.fingerprinter = fingerprinter;
 	}
 
 	/**
@@ -121,10 +189,7 @@ public class PodcastParser {
 	 * @throws PodcastParserException if any
 	 */
 	public Feed parse(String xml) throws PodcastParserException {
-		if (Strings.isBlank(xml)) {
-			throw new NotPodcastFeedException("xml input is blank");
-		}
-		try (StringReader reader = new StringReader(xml.trim().replaceFirst("^([\\W]+)<", "<"))) {
+		try (StringReader reader = reader(xml)) {
 			return parse(reader);
 		}
 	}
@@ -138,14 +203,124 @@ public class PodcastParser {
 	 */
 	public Feed parse(Reader reader) throws PodcastParserException {
 		try {
-			return doParse(reader);
+			return doParse(reader, null);
 		} catch (XMLStreamException e) {
 			throw new InvalidFeedFormatException(e);
 		}
 	}
 
-	private Feed doParse(Reader reader) throws XMLStreamException, PodcastParserException {
-		XMLStreamReader streamReader = factory.createXMLStreamReader(reader);
+	/**
+	 * Parse the given XML {@link String}, handing each {@link be.ceau.podcastparser.models.core.Item}
+	 * to the given {@link ItemSink} instead of adding it to the returned {@link Feed}.
+	 *
+	 * @param xml  a {@link java.lang.String} object.
+	 * @param sink an {@link ItemSink}, not {@code null}
+	 * @return a {@link Feed} object with feed level data and without items
+	 * @throws PodcastParserException if any
+	 */
+	public Feed parse(String xml, ItemSink sink) throws PodcastParserException {
+		Objects.requireNonNull(sink);
+		try (StringReader reader = reader(xml)) {
+			return parse(reader, sink);
+		}
+	}
+
+	/**
+	 * Parse the given XML {@link Reader}, handing each {@link be.ceau.podcastparser.models.core.Item}
+	 * to the given {@link ItemSink} instead of adding it to the returned {@link Feed}.
+	 *
+	 * @param reader a {@link java.io.Reader} object.
+	 * @param sink   an {@link ItemSink}, not {@code null}
+	 * @return a {@link Feed} object with feed level data and without items
+	 * @throws PodcastParserException if any
+	 */
+	public Feed parse(Reader reader, ItemSink sink) throws PodcastParserException {
+		Objects.requireNonNull(sink);
+		try {
+			return doParse(reader, sink);
+		} catch (XMLStreamException e) {
+			throw new InvalidFeedFormatException(e);
+		}
+	}
+
+	/**
+	 * Parse only what changed in the given XML {@link String} since the given
+	 * {@link FeedFingerprint}, as described for {@link FeedDiffer}.
+	 *
+	 * @param xml      a {@link java.lang.String} object.
+	 * @param previous {@link FeedFingerprint} from the previous fetch, or
+	 *                 {@link FeedFingerprint#EMPTY}, not {@code null}
+	 * @return a {@link FeedDelta} with the changed values and the new
+	 *         {@link FeedFingerprint}
+	 * @throws PodcastParserException if any
+	 */
+	public FeedDelta parseDelta(String xml, FeedFingerprint previous) throws PodcastParserException {
+		if (Strings.isBlank(xml)) {
+			throw new NotPodcastFeedException("xml input is blank");
+		}
+		return new FeedDiffer(this).diff(xml, previous);
+	}
+
+	/**
+	 * Parse the given XML {@link Reader} only if its {@link ContentHasher} hash
+	 * differs from the given hash of a previous fetch.
+	 *
+	 * @param reader       a {@link java.io.Reader} object.
+	 * @param previousHash {@link ContentCheck#getHash()} of the previous fetch
+	 * @param hasher       {@link ContentHasher}, not {@code null}
+	 * @return a {@link ContentCheck} with the new hash, and the {@link Feed} if
+	 *         changed
+	 * @throws PodcastParserException if any
+	 */
+	public ContentCheck parseIfChanged(Reader reader, long previousHash, ContentHasher hasher) throws PodcastParserException {
+		return new ChangeDetector(this, hasher).parse(reader, previousHash);
+	}
+
+	/**
+	 * Parse the given XML {@link String}, which may be truncated, into a
+	 * {@link PartialFeed} with all complete items and, if truncated, a
+	 * {@link be.ceau.podcastparser.lazy.Checkpoint} to resume from, as described
+	 * for {@link ResumableParser}. Byte offsets are for UTF-8.
+	 *
+	 * @param xml a {@link java.lang.String} object.
+	 * @return a {@link PartialFeed} object
+	 * @throws PodcastParserException if the input is truncated before its first
+	 *                                item
+	 */
+	public PartialFeed parseTolerant(String xml) throws PodcastParserException {
+		if (Strings.isBlank(xml)) {
+			throw new NotPodcastFeedException("xml input is blank");
+		}
+		return new ResumableParser(this).parse(xml);
+	}
+
+	private static StringReader reader(String xml) throws NotPodcastFeedException {
+		if (Strings.isBlank(xml)) {
+			throw new NotPodcastFeedException("xml input is blank");
+		}
+		return new StringReader(xml.trim().replaceFirst("^([\\W]+)<", "<"));
+	}
+
+	private static XMLInputFactory newFactory() {
+		XMLInputFactory factory = XMLInputFactory.newFactory();
+		factory.setXMLResolver(new QuietResolver());
+		return factory;
+	}
+
+	private XMLStreamReader createStreamReader(Reader reader) throws XMLStreamException {
+		XMLInputFactory factory = factories.poll();
+		if (factory == null) {
+			factory = newFactory();
+		}
+		try {
+			return factory.createXMLStreamReader(reader);
+		} finally {
+			factories.offer(factory);
+		}
+	}
+
+	private Feed doParse(Reader reader, ItemSink sink) throws XMLStreamException, PodcastParserException {
+		XMLStreamReader streamReader = createStreamReader(reader);
 		while (streamReader.hasNext()) {
 			switch (streamReader.next()) {
 			case XMLStreamConstants.DTD:
@@ -157,12 +332,16 @@ public class PodcastParser {
 			case XMLStreamConstants.START_ELEMENT:
 				switch (streamReader.getLocalName()) {
 				case "rss": {
-					PodcastParserContext ctx = new PodcastParserContext("rss", streamReader, namespaceCallbackHandlers, elementFilters);
+					PodcastParserContext ctx = new PodcastParserContext("rss", streamReader, namespaceCallbackHandlers, elementFilters, stringPool);
+					ctx.setItemSink(sink);
+					ctx.setFingerprinter(fingerprinter);
 					RSS.instance().parseFeed(ctx);
 					return ctx.getFeed();
 				}
 				case "feed": {
-					PodcastParserContext ctx = new PodcastParserContext("atom", streamReader, namespaceCallbackHandlers, elementFilters);
+					PodcastParserContext ctx = new PodcastParserContext("atom", streamReader, namespaceCallbackHandlers, elementFilters, stringPool);
+					ctx.setItemSink(sink);
+					ctx.setFingerprinter(fingerprinter);
 					Atom.instance().parseFeed(ctx);
 					return ctx.getFeed();
 				}
@@ -16,6 +16,7 @@ package be.ceau.podcastparser;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
@@ -29,12 +30,17 @@ import javax.xml.stream.XMLStreamReader;
 
 import org.slf4j.LoggerFactory;
 
+import be.ceau.podcastparser.dedup.ItemFingerprinter;
 import be.ceau.podcastparser.filter.ElementFilter;
 import be.ceau.podcastparser.models.core.Feed;
 import be.ceau.podcastparser.models.core.Item;
 import be.ceau.podcastparser.namespace.Namespace;
 import be.ceau.podcastparser.namespace.callback.NamespaceCallbackHandler;
+import be.ceau.podcastparser.util.AttributeSnapshot;
+import be.ceau.podcastparser.util.Numbers;
+import be.ceau.podcastparser.sink.ItemSink;
 import be.ceau.podcastparser.util.RequiredState;
+import be.ceau.podcastparser.util.StringPool;
 import be.ceau.podcastparser.util.Strings;
 
 /**
@@ -48,6 +54,32 @@ public class PodcastParserContext {
 	private final Set<ElementFilter> elementFilters;
 	private final Feed feed;
 
+	/**
+	 * Reusable buffer for element text, grown as needed and kept for the lifetime of this
+	 * {@link PodcastParserContext}
+	 */
+	private char[] text = new char[256];
+
+	/**
+	 * Reusable snapshot of the attributes of the current element
+	 */
+	private final AttributeSnapshot attributes = new AttributeSnapshot();
+
+	/**
+	 * Optional pool for deduplicating repeated values, can be {@code null}
+	 */
+	private final StringPool stringPool;
+
+	/**
+	 * Target for parsed items, {@code null} to add them to {@link #feed}
+	 */
+	private ItemSink itemSink;
+
+	/**
+	 * Computes {@link Item#getFingerprint()} for parsed items, can be {@code null}
+	 */
+	private ItemFingerprinter fingerprinter;
+
 	/**
 	 * Constructor
 	 * 
@@ -87,6 +119,24 @@ public class PodcastParserContext {
 	 *            {@link Collection} of {@link ElementFilter} instances, can be {@code null}
 	 */
 	public PodcastParserContext(String rootNamespace, XMLStreamReader reader, Collection<NamespaceCallbackHandler> callbacks, Collection<ElementFilter> filters) {
+		this(rootNamespace, reader, callbacks, filters, null);
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param rootNamespace
+	 *            {@link String} name of the root namespace, not {@code null}
+	 * @param reader
+	 *            {@link XMLStreamReader} instance over the XML input, not {@code null}
+	 * @param callbacks
+	 *            {@link Collection} of {@link NamespaceCallbackHandler} instances, can be {@code null}
+	 * @param filters
+	 *            {@link Collection} of {@link ElementFilter} instances, can be {@code null}
+	 * @param stringPool
+	 *            {@link StringPool} for repeated values, can be {@code null}
+	 */
+	public PodcastParserContext(String rootNamespace, XMLStreamReader reader, Collection<NamespaceCallbackHandler> callbacks, Collection<ElementFilter> filters, StringPool stringPool) {
 		Objects.requireNonNull(rootNamespace);
 		Objects.requireNonNull(reader);
 		this.rootNamespace = rootNamespace;
@@ -104,6 +154,46 @@ public class PodcastParserContext {
 			this.elementFilters = Collections.emptySet();
 		}
 		this.feed = new Feed();
+		this.stringPool = stringPool;
+	}
+
+	/**
+	 * @param itemSink
+	 *            {@link ItemSink} to receive parsed {@link Item} instances instead of the
+	 *            {@link Feed}, or {@code null} to add them to the {@link Feed}
+	 */
+	public void setItemSink(ItemSink itemSink) {
+		this.itemSink = itemSink;
+	}
+
+	/**
+	 * @param fingerprinter
+	 *            {@link ItemFingerprinter} to set the fingerprint of every parsed {@link Item}, or
+	 *            {@code null} for none
+	 */
+	public void setFingerprinter(ItemFingerprinter fingerprinter) {
+		this.fingerprinter = fingerprinter;
+	}
+
+	/**
+	 * Hand a parsed {@link Item} to the {@link ItemSink} of this context, or add it to the
+	 * {@link Feed} if there is none.
+	 * 
+	 * @param item
+	 *            {@link Item}, ignored if {@code null}
+	 */
+	public void addItem(Item item) {
+		if (item == null) {
+			return;
+		}
+		if (fingerprinter != null) {
+			item.setFingerprint(fingerprinter.fingerprint(item));
+		}
+		if (itemSink == null) {
+			feed.addItem(item);
+		} else {
+			itemSink.accept(item);
+		}
 	}
 
 	/**
@@ -183,7 +273,9 @@ public class PodcastParserContext {
 	}
 
 	/**
-	 * Retrieves the element text if currently at a start element.
+	 * Retrieves the element text if currently at a start element. Text in nested elements is
+	 * included. The end of the element is found by tracking depth, so nested elements sharing the
+	 * local name of the current element do not end the element early.
 	 * 
 	 * @return a {@link String} with element text content, or {@code null}
 	 * @throws XMLStreamException
@@ -191,56 +283,194 @@ public class PodcastParserContext {
 	 */
 	public String getElementText() throws XMLStreamException {
 		if (reader.isStartElement() && !reader.isStandalone()) {
-			final String localName = reader.getLocalName();
-			StringBuilder sb = new StringBuilder();
-			while (reader.hasNext()) {
-				switch (reader.next()) {
-				case XMLStreamReader.END_ELEMENT:
-					if (localName.equals(reader.getLocalName())) {
-						return sb.toString();
-					}
-					break;
-				case XMLStreamReader.CHARACTERS:
-					sb.append(reader.getText());
-					break;
-				case XMLStreamReader.CDATA:
-					sb.append(reader.getText());
-					break;
-				}
+			int length = readElementText();
+			if (length < 0) {
+				return reader.getElementText();
 			}
-			return reader.getElementText();
+			return length == 0 ? "" : new String(text, 0, length);
 		}
 		return null;
 	}
 
 	/**
-	 * Extract and attempt parsing current element text as {@link Integer}, catching any exception
+	 * Retrieves the element text like {@link #getElementText()}, deduplicated through the
+	 * {@link StringPool} of this context, if any. Use this for values that typically repeat across
+	 * items or feeds, such as category names.
+	 * 
+	 * @return a {@link String} with element text content, or {@code null}
+	 * @throws XMLStreamException
+	 *             if any
+	 */
+	public String getElementTextInterned() throws XMLStreamException {
+		if (stringPool == null) {
+			return getElementText();
+		}
+		if (reader.isStartElement() && !reader.isStandalone()) {
+			int length = readElementText();
+			if (length < 0) {
+				return stringPool.intern(reader.getElementText());
+			}
+			return stringPool.intern(text, 0, length);
+		}
+		return null;
+	}
+
+	/**
+	 * @param value
+	 *            {@link String} that typically repeats across items or feeds, or {@code null}
+	 * @return an equal {@link String} from the {@link StringPool} of this context, or {@code value}
+	 *         if there is no pool
+	 */
+	public String intern(String value) {
+		return stringPool == null ? value : stringPool.intern(value);
+	}
+
+	/**
+	 * Copy the text of the current element, including text in nested elements, into the reusable
+	 * {@link #text} buffer, leaving the reader at the matching end element.
+	 * 
+	 * @return number of characters in the buffer, or {@code -1} if the document ended first
+	 * @throws XMLStreamException
+	 *             if any
+	 */
+	private int readElementText() throws XMLStreamException {
+		int length = 0;
+		int depth = 1;
+		while (reader.hasNext()) {
+			switch (reader.next()) {
+			case XMLStreamConstants.START_ELEMENT:
+				depth++;
+				break;
+			case XMLStreamConstants.END_ELEMENT:
+				if (--depth == 0) {
+					return length;
+				}
+				break;
+			case XMLStreamConstants.CHARACTERS:
+			case XMLStreamConstants.CDATA:
+				length = appendText(length);
+				break;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Append the text of the current {@link XMLStreamConstants#CHARACTERS} or
+	 * {@link XMLStreamConstants#CDATA} event to the {@link #text} buffer, without creating a
+	 * {@link String} for it.
+	 * 
+	 * @param length
+	 *            number of characters already in the buffer
+	 * @return number of characters in the buffer after appending
+	 * @throws XMLStreamException
+	 *             if any
+	 */
+	private int appendText(int length) throws XMLStreamException {
+		int chunk = reader.getTextLength();
+		if (length + chunk > text.length) {
+			text = Arrays.copyOf(text, Math.max(length + chunk, text.length * 2));
+		}
+		int copied = 0;
+		while (copied < chunk) {
+			int count = reader.getTextCharacters(copied, text, length + copied, chunk - copied);
+			if (count <= 0) {
+				break;
+			}
+			copied += count;
+		}
+		return length + copied;
+	}
+
+	/**
+	 * Extract and attempt parsing current element text as {@code int}, without intermediate
+	 * {@link String} objects.
+	 * 
+	 * @param fallback
+	 *            value to return if the element text is not a valid {@code int}
+	 * @return parsed {@code int} or {@code fallback}
+	 * @throws XMLStreamException
+	 *             if any
+	 */
+	public int getElementTextAsInt(int fallback) throws XMLStreamException {
+		if (reader.isStartElement()) {
+			int length = readElementText();
+			if (length > 0) {
+				return Numbers.parseInt(text, 0, length, fallback);
+			}
+		}
+		return fallback;
+	}
+
+	/**
+	 * Extract and attempt parsing current element text as {@code long}, without intermediate
+	 * {@link String} objects.
+	 * 
+	 * @param fallback
+	 *            value to return if the element text is not a valid {@code long}
+	 * @return parsed {@code long} or {@code fallback}
+	 * @throws XMLStreamException
+	 *             if any
+	 */
+	public long getElementTextAsLong(long fallback) throws XMLStreamException {
+		if (reader.isStartElement()) {
+			int length = readElementText();
+			if (length > 0) {
+				return Numbers.parseLong(text, 0, length, fallback);
+			}
+		}
+		return fallback;
+	}
+
+	/**
+	 * Extract and attempt parsing current element text as {@link Integer}
 	 * 
 	 * @return {@link Integer} or {@code null}
 	 * @throws XMLStreamException
 	 *             if any
 	 */
 	public Integer getElementTextAsInteger() throws XMLStreamException {
-		try {
-			return Integer.valueOf(reader.getElementText().trim());
-		} catch (NumberFormatException e) {
+		long value = getElementTextAsLong(Long.MIN_VALUE);
+		if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
 			return null;
 		}
+		return (int) value;
 	}
 
 	/**
-	 * Extract and attempt parsing current element text as {@link BigDecimal}, catching any exception
+	 * Extract and attempt parsing current element text as {@link BigDecimal}
 	 * 
 	 * @return {@link BigDecimal} or {@code null}
 	 * @throws XMLStreamException
 	 *             if any
 	 */
 	public BigDecimal getElementTextAsBigDecimal() throws XMLStreamException {
-		try {
-			return new BigDecimal(reader.getElementText().trim());
-		} catch (NumberFormatException e) {
-			return null;
+		if (reader.isStartElement()) {
+			int length = readElementText();
+			int start = 0;
+			while (start < length && text[start] <= ' ') {
+				start++;
+			}
+			while (length > start && text[length - 1] <= ' ') {
+				length--;
+			}
+			if (Numbers.isDecimal(text, start, length - start)) {
+				return new BigDecimal(text, start, length - start);
+			}
 		}
+		return null;
+	}
+
+	/**
+	 * Read all attributes of the current start element in a single pass. Use this instead of
+	 * repeated {@link #getAttribute(String)} calls when looking up several attributes of the same
+	 * element. The returned {@link AttributeSnapshot} is reused by this {@link PodcastParserContext},
+	 * so it is only valid until the next call of this method.
+	 * 
+	 * @return {@link AttributeSnapshot} for the current element, not {@code null}
+	 */
+	public AttributeSnapshot getAttributes() {
+		return attributes.load(reader);
 	}
 
 	/**
@@ -256,20 +486,39 @@ public class PodcastParserContext {
 		return value;
 	}
 
+	/**
+	 * @param localName
+	 *            {@link String} attribute name
+	 * @param fallback
+	 *            value to return if the attribute is absent or not a valid {@code int}
+	 * @return attribute value parsed as {@code int}, or {@code fallback}
+	 */
+	public int getAttributeAsInt(String localName, int fallback) {
+		return Numbers.parseInt(reader.getAttributeValue(null, localName), fallback);
+	}
+
+	/**
+	 * @param localName
+	 *            {@link String} attribute name
+	 * @param fallback
+	 *            value to return if the attribute is absent or not a valid {@code long}
+	 * @return attribute value parsed as {@code long}, or {@code fallback}
+	 */
+	public long getAttributeAsLong(String localName, long fallback) {
+		return Numbers.parseLong(reader.getAttributeValue(null, localName), fallback);
+	}
+
 	/**
 	 * @param localName
 	 *            {@link String} attribute name
 	 * @return attribute value parsed as {@link Integer}, or {@code null}
 	 */
 	public Integer getAttributeAsInteger(String localName) {
-		String value = getAttribute(localName);
-		if (value != null) {
-			try {
-				return Integer.valueOf(value);
-			} catch (NumberFormatException e) {
-			}
+		long value = getAttributeAsLong(localName, Long.MIN_VALUE);
+		if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+			return null;
 		}
-		return null;
+		return (int) value;
 	}
 
 	/**
@@ -278,14 +527,7 @@ public class PodcastParserContext {
 	 * @return attribute value parsed as {@link Long}, or {@code null}
 	 */
 	public Long getAttributeAsLong(String localName) {
-		String value = getAttribute(localName);
-		if (value != null) {
-			try {
-				return Long.valueOf(value);
-			} catch (NumberFormatException e) {
-			}
-		}
-		return null;
+		return Numbers.parseLong(reader.getAttributeValue(null, localName));
 	}
 
 	/**
@@ -305,17 +547,26 @@ public class PodcastParserContext {
 
 	/**
 	 * If called after having processed a {@link XMLStreamConstants#START_ELEMENT} event, will skip
-	 * until the end of the newly opened element is reached.
+	 * until the end of the newly opened element is reached. Nested elements are counted, so the
+	 * reader stops at the matching {@link XMLStreamConstants#END_ELEMENT} even if nested elements
+	 * share the same local name.
 	 * 
 	 * @throws XMLStreamException
 	 *             if any
 	 */
 	public void skip() throws XMLStreamException {
 		if (reader.isStartElement()) {
-			String localname = reader.getLocalName();
+			int depth = 1;
 			while (reader.hasNext()) {
-				if (reader.next() == XMLStreamConstants.END_ELEMENT && localname.equals(reader.getLocalName())) {
-					return;
+				switch (reader.next()) {
+				case XMLStreamConstants.START_ELEMENT:
+					depth++;
+					break;
+				case XMLStreamConstants.END_ELEMENT:
+					if (--depth == 0) {
+						return;
+					}
+					break;
 				}
 			}
 		}
@@ -342,11 +593,11 @@ public class PodcastParserContext {
 	 */
 	public String serialize() throws XMLStreamException {
 		if (reader.isStartElement()) {
-			final String localName = reader.getLocalName();
 			StringBuilder xml = new StringBuilder();
 			xml.append(asStartElementString(reader));
 
 			boolean endElement = false;
+			int depth = 1;
 
 			while (reader.hasNext()) {
 				switch (reader.next()) {
@@ -362,13 +613,14 @@ public class PodcastParserContext {
 					xml.append(System.lineSeparator());
 					xml.append(asStartElementString(reader));
 					endElement = false;
+					depth++;
 					break;
 				case XMLStreamConstants.END_ELEMENT:
 					if (endElement) {
 						xml.append(System.lineSeparator());
 					}
 					xml.append(asEndElementString(reader));
-					if (localName.equals(reader.getLocalName())) {
+					if (--depth == 0) {
 						return xml.toString();
 					}
 					endElement = true;
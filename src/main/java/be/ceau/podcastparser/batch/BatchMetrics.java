@@ -0,0 +1,116 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.batch;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable summary of a completed batch.
+ */
+public class BatchMetrics {
+
+	private final long feeds;
+	private final long failures;
+	private final long items;
+	private final long parseNanos;
+	private final long wallNanos;
+	private final int maxInFlight;
+
+	BatchMetrics(long feeds, long failures, long items, long parseNanos, long wallNanos, int maxInFlight) {
+		this.feeds = feeds;
+		this.failures = failures;
+		this.items = items;
+		this.parseNanos = parseNanos;
+		this.wallNanos = wallNanos;
+		this.maxInFlight = maxInFlight;
+	}
+
+	/**
+	 * @return number of sources processed, successful or not
+	 */
+	public long getFeeds() {
+		return feeds;
+	}
+
+	/**
+	 * @return number of sources that could not be parsed
+	 */
+	public long getFailures() {
+		return failures;
+	}
+
+	/**
+	 * @return total number of items in the parsed feeds
+	 */
+	public long getItems() {
+		return items;
+	}
+
+	/**
+	 * @return sum of the time spent on each source, in nanoseconds
+	 */
+	public long getParseNanos() {
+		return parseNanos;
+	}
+
+	/**
+	 * @return elapsed time of the whole batch, in nanoseconds
+	 */
+	public long getWallNanos() {
+		return wallNanos;
+	}
+
+	/**
+	 * @return highest number of sources that were opened, but not yet delivered, at the same time
+	 */
+	public int getMaxInFlight() {
+		return maxInFlight;
+	}
+
+	/**
+	 * @return processed sources per second of elapsed time
+	 */
+	public double getFeedsPerSecond() {
+		return wallNanos == 0 ? 0 : feeds * (double) TimeUnit.SECONDS.toNanos(1) / wallNanos;
+	}
+
+	/**
+	 * @return parse time divided by elapsed time, the average number of sources processed in
+	 *         parallel
+	 */
+	public double getParallelism() {
+		return wallNanos == 0 ? 0 : parseNanos / (double) wallNanos;
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder()
+				.append("BatchMetrics [feeds=")
+				.append(feeds)
+				.append(", failures=")
+				.append(failures)
+				.append(", items=")
+				.append(items)
+				.append(", feedsPerSecond=")
+				.append(String.format("%.1f", getFeedsPerSecond()))
+				.append(", parallelism=")
+				.append(String.format("%.2f", getParallelism()))
+				.append(", maxInFlight=")
+				.append(maxInFlight)
+				.append("]")
+				.toString();
+	}
+
+}
@@ -0,0 +1,190 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.batch;
+
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import be.ceau.podcastparser.PodcastParser;
+import be.ceau.podcastparser.models.core.Feed;
+
+/**
+ * <p>
+ * Parses many {@link FeedSource} instances with a shared {@link PodcastParser} on a given
+ * {@link Executor}, such as a fixed thread pool, a {@link java.util.concurrent.ForkJoinPool} or,
+ * on Java 21 and later, a virtual thread per task executor.
+ * </p>
+ * <p>
+ * The calling thread submits sources and delivers every {@link ParseResult} to the given
+ * {@link Consumer}, so the consumer needs no synchronization. At most {@code maxInFlight} sources
+ * are submitted, parsing or waiting for delivery at any time; the input is pulled only as results
+ * are delivered, which bounds memory regardless of the size of the input. With {@code ordered}
+ * results are delivered in input order, otherwise as soon as they are available.
+ * </p>
+ * <p>
+ * Instances are threadsafe, provided the {@link Executor} is.
+ * </p>
+ */
+public class BatchParser {
+
+	private final PodcastParser parser;
+	private final Executor executor;
+	private final int maxInFlight;
+	private final boolean ordered;
+
+	/**
+	 * @param parser
+	 *            {@link PodcastParser} shared by all workers, not {@code null}
+	 * @param executor
+	 *            {@link Executor} to parse on, not {@code null}
+	 * @param maxInFlight
+	 *            maximum number of sources submitted and not yet delivered, at least 1
+	 * @param ordered
+	 *            {@code true} to deliver results in input order
+	 * @throws IllegalArgumentException
+	 *             if {@code maxInFlight} is less than 1
+	 */
+	public BatchParser(PodcastParser parser, Executor executor, int maxInFlight, boolean ordered) {
+		if (maxInFlight < 1) {
+			throw new IllegalArgumentException("maxInFlight must be at least 1");
+		}
+		this.parser = Objects.requireNonNull(parser);
+		this.executor = Objects.requireNonNull(executor);
+		this.maxInFlight = maxInFlight;
+		this.ordered = ordered;
+	}
+
+	/**
+	 * Parse all sources of the given {@link Stream}, blocking until all results are delivered.
+	 *
+	 * @param sources
+	 *            {@link Stream} of {@link FeedSource}, not {@code null}
+	 * @param consumer
+	 *            {@link Consumer} receiving a {@link ParseResult} for every source, not {@code null}
+	 * @return {@link BatchMetrics} for the batch, never {@code null}
+	 * @throws InterruptedException
+	 *             if the calling thread is interrupted while waiting for results
+	 */
+	public <S extends FeedSource> BatchMetrics parseAll(Stream<S> sources, Consumer<? super ParseResult<S>> consumer) throws InterruptedException {
+		return parseAll(sources.iterator(), consumer);
+	}
+
+	/**
+	 * Parse all sources of the given {@link Iterator}, blocking until all results are delivered.
+	 *
+	 * @param sources
+	 *            {@link Iterator} of {@link FeedSource}, not {@code null}
+	 * @param consumer
+	 *            {@link Consumer} receiving a {@link ParseResult} for every source, not {@code null}
+	 * @return {@link BatchMetrics} for the batch, never {@code null}
+	 * @throws InterruptedException
+	 *             if the calling thread is interrupted while waiting for results
+	 */
+	public <S extends FeedSource> BatchMetrics parseAll(Iterator<S> sources, Consumer<? super ParseResult<S>> consumer) throws InterruptedException {
+		Objects.requireNonNull(sources);
+		Objects.requireNonNull(consumer);
+		Run<S> run = new Run<>(consumer);
+		long start = System.nanoTime();
+		long index = 0;
+		while (sources.hasNext()) {
+			while (run.inFlight >= maxInFlight) {
+				run.deliver(run.completed.take());
+			}
+			S source = Objects.requireNonNull(sources.next());
+			submit(run, index++, source);
+			run.inFlight++;
+			run.maxInFlight = Math.max(run.maxInFlight, run.inFlight);
+		}
+		while (run.inFlight > 0) {
+			run.deliver(run.completed.take());
+		}
+		return new BatchMetrics(index, run.failures, run.items, run.parseNanos, System.nanoTime() - start, run.maxInFlight);
+	}
+
+	private <S extends FeedSource> void submit(Run<S> run, long index, S source) {
+		try {
+			executor.execute(() -> run.completed.add(parse(index, source)));
+		} catch (RejectedExecutionException e) {
+			run.completed.add(new ParseResult<>(index, source, null, e, 0L));
+		}
+	}
+
+	private <S extends FeedSource> ParseResult<S> parse(long index, S source) {
+		long start = System.nanoTime();
+		try (Reader reader = source.open()) {
+			Feed feed = parser.parse(reader);
+			return new ParseResult<>(index, source, feed, null, System.nanoTime() - start);
+		} catch (Throwable e) {
+			// reported, not thrown, so the batch always receives a result for this source
+			return new ParseResult<>(index, source, null, e, System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * State of a single call to {@code parseAll}, only touched by the calling thread apart from the
+	 * queue of completed results.
+	 */
+	private class Run<S extends FeedSource> {
+
+		private final BlockingQueue<ParseResult<S>> completed = new LinkedBlockingQueue<>();
+		private final Map<Long, ParseResult<S>> pending = new HashMap<>();
+		private final Consumer<? super ParseResult<S>> consumer;
+		private long next;
+		private int inFlight;
+		private int maxInFlight;
+		private long failures;
+		private long items;
+		private long parseNanos;
+
+		private Run(Consumer<? super ParseResult<S>> consumer) {
+			this.consumer = consumer;
+		}
+
+		private void deliver(ParseResult<S> result) {
+			if (!ordered) {
+				emit(result);
+				return;
+			}
+			pending.put(result.getIndex(), result);
+			ParseResult<S> head;
+			while ((head = pending.remove(next)) != null) {
+				emit(head);
+			}
+		}
+
+		private void emit(ParseResult<S> result) {
+			next++;
+			inFlight--;
+			parseNanos += result.getNanos();
+			if (result.isSuccess()) {
+				items += result.getFeed().getItems().size();
+			} else {
+				failures++;
+			}
+			consumer.accept(result);
+		}
+
+	}
+
+}
@@ -0,0 +1,108 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import be.ceau.podcastparser.PodcastParser;
+import be.ceau.podcastparser.exceptions.PodcastParserException;
+import be.ceau.podcastparser.lazy.LazyFeed;
+import be.ceau.podcastparser.models.core.Feed;
+import be.ceau.podcastparser.models.core.Item;
+
+/**
+ * <p>
+ * Parses a single large feed on multiple threads. A {@link LazyFeed} scan finds the item
+ * boundaries, skipping comments, CDATA sections and the DOCTYPE. The items are then split into
+ * chunks, and each chunk is parsed as a standalone document. That document holds the markup before
+ * the first item, so the namespace and entity declarations of the root apply. The feed level values
+ * are parsed from the document without its items, and the items of all chunks are added to it in
+ * document order.
+ * </p>
+ * <p>
+ * The result equals that of {@link PodcastParser#parse(String)}, except for feed level values that
+ * occur between items, which are ignored. Feeds with fewer than two chunks of items are parsed
+ * directly on the calling thread. Instances are threadsafe.
+ * </p>
+ */
+public class ChunkedParser {
+
+	private final PodcastParser parser;
+	private final Executor executor;
+	private final int itemsPerChunk;
+
+	/**
+	 * @param parser
+	 *            {@link PodcastParser} shared by all chunks, not {@code null}
+	 * @param executor
+	 *            {@link Executor} to parse chunks on, not {@code null}
+	 * @param itemsPerChunk
+	 *            number of items per chunk, at least 1
+	 * @throws IllegalArgumentException
+	 *             if {@code itemsPerChunk} is less than 1
+	 */
+	public ChunkedParser(PodcastParser parser, Executor executor, int itemsPerChunk) {
+		if (itemsPerChunk < 1) {
+			throw new IllegalArgumentException("itemsPerChunk must be at least 1");
+		}
+		this.parser = Objects.requireNonNull(parser);
+		this.executor = Objects.requireNonNull(executor);
+		this.itemsPerChunk = itemsPerChunk;
+	}
+
+	/**
+	 * Parse the given XML {@link String} into a {@link Feed} object, in parallel chunks.
+	 *
+	 * @param xml
+	 *            a {@link java.lang.String} object.
+	 * @return a {@link Feed} object
+	 * @throws PodcastParserException
+	 *             if any
+	 */
+	public Feed parse(String xml) throws PodcastParserException {
+		Objects.requireNonNull(xml);
+		LazyFeed scan = LazyFeed.scan(xml);
+		int size = scan.size();
+		if (size < 2 * itemsPerChunk) {
+			return parser.parse(xml);
+		}
+		List<CompletableFuture<List<Item>>> chunks = new ArrayList<>(size / itemsPerChunk + 1);
+		for (int from = 0; from < size; from += itemsPerChunk) {
+			int start = from;
+			int end = Math.min(size, from + itemsPerChunk);
+			chunks.add(CompletableFuture.supplyAsync(() -> parser.parse(scan.getDocument(start, end)).getItems(), executor));
+		}
+		try {
+			Feed feed = parser.parse(scan.getDocumentWithoutItems());
+			for (CompletableFuture<List<Item>> chunk : chunks) {
+				for (Item item : chunk.join()) {
+					feed.addItem(item);
+				}
+			}
+			return feed;
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof PodcastParserException) {
+				throw (PodcastParserException) e.getCause();
+			}
+			throw new PodcastParserException(e.getCause());
+		}
+	}
+
+}
@@ -0,0 +1,52 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.batch;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Supplier of the XML of a single feed, opened only when a worker is ready to parse it, so inputs
+ * waiting in a batch hold no content.
+ * </p>
+ * <p>
+ * Implementations can carry an identifier for the feed, such as a URL or file name, which is
+ * available again on the {@link ParseResult}.
+ * </p>
+ */
+@FunctionalInterface
+public interface FeedSource {
+
+	/**
+	 * @return a new {@link Reader} over the XML of the feed, never {@code null}; closed by the caller
+	 * @throws IOException
+	 *             if the feed can not be read
+	 */
+	public Reader open() throws IOException;
+
+	/**
+	 * @param xml
+	 *            XML of a feed, not {@code null}
+	 * @return a {@link FeedSource} reading the given {@link String}
+	 */
+	public static FeedSource of(String xml) {
+		Objects.requireNonNull(xml);
+		return () -> new StringReader(xml);
+	}
+
+}
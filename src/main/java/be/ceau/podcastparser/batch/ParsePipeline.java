@@ -0,0 +1,294 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.batch;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import be.ceau.podcastparser.PodcastParser;
+import be.ceau.podcastparser.models.core.Feed;
+
+/**
+ * <p>
+ * Two stage pipeline that separates reading input from parsing it. Each {@link FeedSource} is read
+ * into memory on an I/O {@link Executor}, typically one virtual thread per task on Java 21 and
+ * later, or a cached thread pool before that. The text is then handed through a bounded queue to a
+ * fixed number of platform threads that do the CPU-bound parsing, so parsing never oversubscribes
+ * the cores, however many readers are active.
+ * </p>
+ * <p>
+ * Backpressure works in two places: {@link #submit(FeedSource)} blocks while {@code maxInFlight}
+ * sources are being read, queued or parsed, and readers block while the queue is full. The
+ * pipeline only uses {@code java.util.concurrent} locks, which do not pin the carrier thread of a
+ * virtual thread when blocking.
+ * </p>
+ * <p>
+ * Every {@link ParseResult} is passed to the consumer on a parse thread, so the consumer must be
+ * threadsafe. Instances are threadsafe.
+ * </p>
+ *
+ * @param <S>
+ *            type of {@link FeedSource}
+ */
+public class ParsePipeline<S extends FeedSource> implements AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(ParsePipeline.class);
+
+	private static final AtomicInteger PIPELINES = new AtomicInteger();
+
+	private final PodcastParser parser;
+	private final Executor ioExecutor;
+	private final Consumer<? super ParseResult<S>> consumer;
+	private final int maxInFlight;
+	private final Semaphore capacity;
+	private final BlockingQueue<Task<S>> queue;
+	private final Task<S> poison = new Task<>(-1L, null, null);
+	private final Thread[] workers;
+	private final CountDownLatch terminated;
+
+	private final long start = System.nanoTime();
+	private final AtomicLong submitted = new AtomicLong();
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final AtomicInteger peak = new AtomicInteger();
+	private final LongAdder completed = new LongAdder();
+	private final LongAdder failures = new LongAdder();
+	private final LongAdder items = new LongAdder();
+	private final LongAdder parseNanos = new LongAdder();
+	private volatile boolean closed;
+	// guards poisoned, a lock rather than a monitor as awaitTermination() blocks while holding it
+	private final ReentrantLock terminationLock = new ReentrantLock();
+	private int poisoned;
+
+	/**
+	 * Create a pipeline and start its parse threads.
+	 *
+	 * @param parser
+	 *            {@link PodcastParser} shared by all parse threads, not {@code null}
+	 * @param ioExecutor
+	 *            {@link Executor} for reading sources, not {@code null}
+	 * @param parseThreads
+	 *            number of platform threads for parsing, at least 1
+	 * @param queueCapacity
+	 *            maximum number of read sources waiting for a parse thread, at least 1
+	 * @param maxInFlight
+	 *            maximum number of sources submitted and not yet completed, at least 1
+	 * @param consumer
+	 *            threadsafe {@link Consumer} receiving a {@link ParseResult} for every source, not
+	 *            {@code null}
+	 * @throws IllegalArgumentException
+	 *             if a number is less than 1
+	 */
+	public ParsePipeline(PodcastParser parser, Executor ioExecutor, int parseThreads, int queueCapacity, int maxInFlight, Consumer<? super ParseResult<S>> consumer) {
+		if (parseThreads < 1 || queueCapacity < 1 || maxInFlight < 1) {
+			throw new IllegalArgumentException("parseThreads, queueCapacity and maxInFlight must be at least 1");
+		}
+		this.parser = Objects.requireNonNull(parser);
+		this.ioExecutor = Objects.requireNonNull(ioExecutor);
+		this.consumer = Objects.requireNonNull(consumer);
+		this.maxInFlight = maxInFlight;
+		this.capacity = new Semaphore(maxInFlight);
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.workers = new Thread[parseThreads];
+		this.terminated = new CountDownLatch(parseThreads);
+		int pipeline = PIPELINES.incrementAndGet();
+		for (int i = 0; i < parseThreads; i++) {
+			workers[i] = new Thread(this::work, "podcastparser-pipeline-" + pipeline + "-parse-" + i);
+			workers[i].setDaemon(true);
+			workers[i].start();
+		}
+	}
+
+	/**
+	 * Submit a source, blocking while the pipeline is at capacity.
+	 *
+	 * @param source
+	 *            {@link FeedSource} to parse, not {@code null}
+	 * @throws InterruptedException
+	 *             if interrupted while waiting for capacity
+	 * @throws IllegalStateException
+	 *             if the pipeline is closed
+	 */
+	public void submit(S source) throws InterruptedException {
+		Objects.requireNonNull(source);
+		if (closed) {
+			throw new IllegalStateException("pipeline is closed");
+		}
+		capacity.acquire();
+		if (closed) {
+			capacity.release();
+			throw new IllegalStateException("pipeline is closed");
+		}
+		long index = submitted.getAndIncrement();
+		peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+		try {
+			ioExecutor.execute(() -> read(index, source));
+		} catch (RejectedExecutionException e) {
+			complete(new ParseResult<>(index, source, null, e, 0L));
+		}
+	}
+
+	private void read(long index, S source) {
+		String xml;
+		try (Reader reader = source.open()) {
+			xml = readFully(reader);
+		} catch (Throwable e) {
+			complete(new ParseResult<>(index, source, null, e, 0L));
+			return;
+		}
+		try {
+			queue.put(new Task<>(index, source, xml));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			complete(new ParseResult<>(index, source, null, e, 0L));
+		}
+	}
+
+	private static String readFully(Reader reader) throws IOException {
+		StringBuilder sb = new StringBuilder(8192);
+		char[] buffer = new char[8192];
+		int read;
+		while ((read = reader.read(buffer)) != -1) {
+			sb.append(buffer, 0, read);
+		}
+		return sb.toString();
+	}
+
+	private void work() {
+		try {
+			parseUntilPoisoned();
+		} finally {
+			terminated.countDown();
+		}
+	}
+
+	private void parseUntilPoisoned() {
+		while (true) {
+			Task<S> task;
+			try {
+				task = queue.take();
+			} catch (InterruptedException e) {
+				return;
+			}
+			if (task == poison) {
+				return;
+			}
+			long begin = System.nanoTime();
+			ParseResult<S> result;
+			try {
+				Feed feed = parser.parse(task.xml);
+				result = new ParseResult<>(task.index, task.source, feed, null, System.nanoTime() - begin);
+			} catch (Throwable e) {
+				result = new ParseResult<>(task.index, task.source, null, e, System.nanoTime() - begin);
+			}
+			complete(result);
+		}
+	}
+
+	private void complete(ParseResult<S> result) {
+		try {
+			parseNanos.add(result.getNanos());
+			if (result.isSuccess()) {
+				items.add(result.getFeed().getItems().size());
+			} else {
+				failures.increment();
+			}
+			consumer.accept(result);
+		} catch (RuntimeException e) {
+			// keep the parse thread alive, the consumer owns its errors
+			logger.error("consumer failed on {}", result, e);
+		} finally {
+			completed.increment();
+			inFlight.decrementAndGet();
+			capacity.release();
+		}
+	}
+
+	/**
+	 * @return {@link BatchMetrics} for all sources completed so far, with elapsed time since the
+	 *         pipeline was created
+	 */
+	public BatchMetrics getMetrics() {
+		return new BatchMetrics(completed.sum(), failures.sum(), items.sum(), parseNanos.sum(), System.nanoTime() - start, peak.get());
+	}
+
+	/**
+	 * Stop accepting sources, wait for all submitted sources to complete and stop the parse threads.
+	 * The I/O {@link Executor} is not shut down. May be called again after an interrupt to resume
+	 * waiting.
+	 *
+	 * @throws InterruptedException
+	 *             if interrupted while waiting
+	 */
+	public void awaitTermination() throws InterruptedException {
+		closed = true;
+		terminationLock.lockInterruptibly();
+		try {
+			// all permits are back once every submitted source completed
+			capacity.acquire(maxInFlight);
+			capacity.release(maxInFlight);
+			for (; poisoned < workers.length; poisoned++) {
+				queue.put(poison);
+			}
+			// not Thread.join(), which waits on a monitor
+			terminated.await();
+		} finally {
+			terminationLock.unlock();
+		}
+	}
+
+	/**
+	 * Stop accepting sources and wait as {@link #awaitTermination()} does. If the calling thread is
+	 * interrupted, this stops waiting, restores the interrupt flag and returns; the parse threads
+	 * keep working through the submitted sources.
+	 */
+	@Override
+	public void close() {
+		try {
+			awaitTermination();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static class Task<S> {
+
+		private final long index;
+		private final S source;
+		private final String xml;
+
+		private Task(long index, S source, String xml) {
+			this.index = index;
+			this.source = source;
+			this.xml = xml;
+		}
+
+	}
+
+}
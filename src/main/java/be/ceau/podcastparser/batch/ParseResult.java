@@ -0,0 +1,101 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.batch;
+
+import be.ceau.podcastparser.models.core.Feed;
+
+/**
+ * <p>
+ * Outcome of parsing a single {@link FeedSource} in a batch: either a {@link Feed} or the error
+ * that prevented parsing it. Errors are reported here and never thrown by the batch.
+ * </p>
+ *
+ * @param <S>
+ *            type of {@link FeedSource}
+ */
+public class ParseResult<S extends FeedSource> {
+
+	private final long index;
+	private final S source;
+	private final Feed feed;
+	private final Throwable error;
+	private final long nanos;
+
+	ParseResult(long index, S source, Feed feed, Throwable error, long nanos) {
+		this.index = index;
+		this.source = source;
+		this.feed = feed;
+		this.error = error;
+		this.nanos = nanos;
+	}
+
+	/**
+	 * @return position of the source in the input of the batch, starting at 0
+	 */
+	public long getIndex() {
+		return index;
+	}
+
+	/**
+	 * @return the parsed {@link FeedSource}, never {@code null}
+	 */
+	public S getSource() {
+		return source;
+	}
+
+	/**
+	 * @return the parsed {@link Feed}, or {@code null} if parsing failed
+	 */
+	public Feed getFeed() {
+		return feed;
+	}
+
+	/**
+	 * @return the error that prevented parsing, or {@code null} if parsing succeeded
+	 */
+	public Throwable getError() {
+		return error;
+	}
+
+	/**
+	 * @return {@code true} if parsing succeeded
+	 */
+	public boolean isSuccess() {
+		return error == null;
+	}
+
+	/**
+	 * @return time spent parsing the source, in nanoseconds; includes reading where the parser
+	 *         streams from the source
+	 */
+	public long getNanos() {
+		return nanos;
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder()
+				.append("ParseResult [index=")
+				.append(index)
+				.append(", success=")
+				.append(isSuccess())
+				.append(", nanos=")
+				.append(nanos)
+				.append(error == null ? "" : ", error=" + error)
+				.append("]")
+				.toString();
+	}
+
+}
@@ -0,0 +1,140 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.codec;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import be.ceau.podcastparser.exceptions.InvalidFeedFormatException;
+
+/**
+ * Reads the primitive encodings written by {@link BinaryWriter} from a {@link ByteBuffer}, from its
+ * position up to its limit.
+ */
+class BinaryReader {
+
+	private final ByteBuffer buffer;
+	private final List<String> dictionary = new ArrayList<>();
+
+	BinaryReader(ByteBuffer buffer) {
+		this.buffer = buffer;
+	}
+
+	ByteBuffer buffer() {
+		return buffer;
+	}
+
+	void resetDictionary() {
+		dictionary.clear();
+	}
+
+	int readByte() {
+		return buffer.get() & 0xFF;
+	}
+
+	int readInt() {
+		return buffer.getInt();
+	}
+
+	long readVarLong() {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			int b = buffer.get();
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new InvalidFeedFormatException("malformed variable length number");
+	}
+
+	int readVarInt() {
+		long value = readVarLong();
+		if (value > 0xFFFFFFFFL) {
+			throw new InvalidFeedFormatException("malformed variable length number");
+		}
+		return (int) value;
+	}
+
+	/**
+	 * @return unsigned variable length number that must be a valid length or count
+	 */
+	int readLength() {
+		int value = readVarInt();
+		if (value < 0 || value > buffer.remaining()) {
+			throw new InvalidFeedFormatException("length beyond end of data");
+		}
+		return value;
+	}
+
+	long readSignedVarLong() {
+		long value = readVarLong();
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	boolean readBoolean() {
+		return buffer.get() != 0;
+	}
+
+	String readString() {
+		int tag = readVarInt();
+		if (tag > 0) {
+			if (tag > dictionary.size()) {
+				throw new InvalidFeedFormatException("invalid string reference");
+			}
+			return dictionary.get(tag - 1);
+		}
+		int length = readLength();
+		String value;
+		if (buffer.hasArray()) {
+			value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+			buffer.position(buffer.position() + length);
+		} else {
+			byte[] utf8 = new byte[length];
+			buffer.get(utf8);
+			value = new String(utf8, StandardCharsets.UTF_8);
+		}
+		dictionary.add(value);
+		return value;
+	}
+
+	ZonedDateTime readDateTime() {
+		long seconds = readSignedVarLong();
+		int nanos = readVarInt();
+		ZoneId zone = ZoneId.of(readString());
+		return ZonedDateTime.ofInstant(Instant.ofEpochSecond(seconds, nanos), zone);
+	}
+
+	Duration readDuration() {
+		long seconds = readSignedVarLong();
+		return Duration.ofSeconds(seconds, readVarInt());
+	}
+
+	BigDecimal readDecimal() {
+		int scale = (int) readSignedVarLong();
+		byte[] unscaled = new byte[readLength()];
+		buffer.get(unscaled);
+		return new BigDecimal(new BigInteger(unscaled), scale);
+	}
+
+}
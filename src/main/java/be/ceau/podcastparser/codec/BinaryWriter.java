@@ -0,0 +1,142 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.codec;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Growable byte buffer with the primitive encodings of the binary format. Strings are dictionary
+ * coded within a record: the first occurrence is written in full, later occurrences as a reference.
+ */
+class BinaryWriter {
+
+	private byte[] bytes = new byte[256];
+	private int length;
+	private final Map<String, Integer> dictionary = new HashMap<>();
+
+	/**
+	 * Start a new record: forget all strings written so far.
+	 */
+	void resetDictionary() {
+		dictionary.clear();
+	}
+
+	int length() {
+		return length;
+	}
+
+	byte[] toByteArray() {
+		return Arrays.copyOf(bytes, length);
+	}
+
+	void reset() {
+		length = 0;
+		dictionary.clear();
+	}
+
+	void write(byte[] source, int offset, int count) {
+		ensure(count);
+		System.arraycopy(source, offset, bytes, length, count);
+		length += count;
+	}
+
+	void writeTo(BinaryWriter target) {
+		target.write(bytes, 0, length);
+	}
+
+	void writeByte(int value) {
+		ensure(1);
+		bytes[length++] = (byte) value;
+	}
+
+	void writeInt(int value) {
+		ensure(4);
+		bytes[length++] = (byte) (value >>> 24);
+		bytes[length++] = (byte) (value >>> 16);
+		bytes[length++] = (byte) (value >>> 8);
+		bytes[length++] = (byte) value;
+	}
+
+	/**
+	 * Unsigned variable length encoding, 7 bits per byte, least significant group first
+	 */
+	void writeVarLong(long value) {
+		ensure(10);
+		while ((value & ~0x7FL) != 0) {
+			bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		bytes[length++] = (byte) value;
+	}
+
+	void writeVarInt(int value) {
+		writeVarLong(value & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Signed variable length encoding, small negative numbers take few bytes as well
+	 */
+	void writeSignedVarLong(long value) {
+		writeVarLong((value << 1) ^ (value >> 63));
+	}
+
+	void writeBoolean(boolean value) {
+		writeByte(value ? 1 : 0);
+	}
+
+	void writeString(String value) {
+		Integer reference = dictionary.get(value);
+		if (reference != null) {
+			writeVarInt(reference + 1);
+			return;
+		}
+		dictionary.put(value, dictionary.size());
+		byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+		writeVarInt(0);
+		writeVarInt(utf8.length);
+		write(utf8, 0, utf8.length);
+	}
+
+	void writeDateTime(ZonedDateTime value) {
+		writeSignedVarLong(value.toEpochSecond());
+		writeVarInt(value.getNano());
+		writeString(value.getZone().getId());
+	}
+
+	void writeDuration(Duration value) {
+		writeSignedVarLong(value.getSeconds());
+		writeVarInt(value.getNano());
+	}
+
+	void writeDecimal(BigDecimal value) {
+		writeSignedVarLong(value.scale());
+		byte[] unscaled = value.unscaledValue().toByteArray();
+		writeVarInt(unscaled.length);
+		write(unscaled, 0, unscaled.length);
+	}
+
+	private void ensure(int count) {
+		if (length + count > bytes.length) {
+			bytes = Arrays.copyOf(bytes, Math.max(length + count, bytes.length * 2));
+		}
+	}
+
+}
@@ -0,0 +1,1111 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.codec;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import be.ceau.podcastparser.exceptions.InvalidFeedFormatException;
+import be.ceau.podcastparser.models.core.Feed;
+import be.ceau.podcastparser.models.core.Item;
+import be.ceau.podcastparser.models.support.Category;
+import be.ceau.podcastparser.models.support.Chapter;
+import be.ceau.podcastparser.models.support.Comments;
+import be.ceau.podcastparser.models.support.Copyright;
+import be.ceau.podcastparser.models.support.Credit;
+import be.ceau.podcastparser.models.support.Enclosure;
+import be.ceau.podcastparser.models.support.Expression;
+import be.ceau.podcastparser.models.support.GeoBox;
+import be.ceau.podcastparser.models.support.GeoPoint;
+import be.ceau.podcastparser.models.support.Hash;
+import be.ceau.podcastparser.models.support.Image;
+import be.ceau.podcastparser.models.support.License;
+import be.ceau.podcastparser.models.support.Link;
+import be.ceau.podcastparser.models.support.MediaContent;
+import be.ceau.podcastparser.models.support.MediaPlayer;
+import be.ceau.podcastparser.models.support.Metamark;
+import be.ceau.podcastparser.models.support.OtherValueKey;
+import be.ceau.podcastparser.models.support.Person;
+import be.ceau.podcastparser.models.support.Rating;
+import be.ceau.podcastparser.models.support.Scene;
+import be.ceau.podcastparser.models.support.Transcript;
+import be.ceau.podcastparser.models.support.TypedString;
+import be.ceau.podcastparser.models.support.UpdateInfo;
+import be.ceau.podcastparser.models.support.Visibility;
+
+/**
+ * <p>
+ * Compact binary encoding of {@link Feed} and {@link Item} instances, including all support
+ * models.
+ * </p>
+ * <p>
+ * An encoded feed starts with {@link #MAGIC} and the format {@link #VERSION}, followed by a header
+ * record with all feed level values, the number of items, and one record per item. Every record is
+ * prefixed with its length and is self-contained, so a single item can be decoded, or skipped,
+ * without reading the others; see {@link #encodeItem(Item)} and {@link #decodeItem(ByteBuffer)}.
+ * </p>
+ * <p>
+ * Version 2 added the item fingerprint. Version 1 encodings never contain it and are still decoded.
+ * </p>
+ * <p>
+ * Within a record, every object starts with a bitmap of the optional fields that are present,
+ * followed by those fields in a fixed order. Numbers are variable length encoded. Strings are
+ * UTF-8, and a string that occurs more than once in a record is written once and referenced
+ * afterwards. Enum values are written by name. Empty collections are omitted, as are {@code null}
+ * elements of collections.
+ * </p>
+ * <p>
+ * Instances are threadsafe.
+ * </p>
+ */
+public class FeedCodec {
+
+	/**
+	 * First four bytes of an encoded feed: {@code PPBF}
+	 */
+	public static final int MAGIC = 0x50504246;
+
+	/**
+	 * Current format version
+	 */
+	public static final int VERSION = 2;
+
+	/**
+	 * Oldest format version that can be decoded
+	 */
+	static final int MIN_VERSION = 1;
+
+	/**
+	 * @param feed
+	 *            {@link Feed} to encode, including its items, not {@code null}
+	 * @return encoded feed, never {@code null}
+	 */
+	public byte[] encode(Feed feed) {
+		BinaryWriter out = new BinaryWriter();
+		out.writeInt(MAGIC);
+		out.writeVarInt(VERSION);
+		BinaryWriter record = new BinaryWriter();
+		writeFeed(record, feed);
+		appendRecord(out, record);
+		out.writeVarInt(feed.getItems().size());
+		for (Item item : feed.getItems()) {
+			record.reset();
+			writeItem(record, item);
+			appendRecord(out, record);
+		}
+		return out.toByteArray();
+	}
+
+	/**
+	 * @param bytes
+	 *            data produced by {@link #encode(Feed)}, not {@code null}
+	 * @return decoded {@link Feed}, never {@code null}
+	 * @throws InvalidFeedFormatException
+	 *             if the data is not a valid encoded feed
+	 */
+	public Feed decode(byte[] bytes) {
+		return decode(ByteBuffer.wrap(bytes));
+	}
+
+	/**
+	 * @param buffer
+	 *            data produced by {@link #encode(Feed)}, read from its position, not {@code null}
+	 * @return decoded {@link Feed}, never {@code null}
+	 * @throws InvalidFeedFormatException
+	 *             if the data is not a valid encoded feed
+	 */
+	public Feed decode(ByteBuffer buffer) {
+		try {
+			BinaryReader in = new BinaryReader(buffer);
+			checkHeader(in);
+			Feed feed = readRecord(in, FeedCodec::readFeed);
+			int count = in.readLength();
+			for (int i = 0; i < count; i++) {
+				feed.addItem(readRecord(in, FeedCodec::readItem));
+			}
+			return feed;
+		} catch (BufferUnderflowException | DateTimeException | IllegalArgumentException e) {
+			throw new InvalidFeedFormatException(e);
+		}
+	}
+
+	/**
+	 * @param feed
+	 *            {@link Feed} to encode, without its items, not {@code null}
+	 * @return a self-contained record with the feed level values, never {@code null}
+	 */
+	public byte[] encodeFeedHeader(Feed feed) {
+		BinaryWriter out = new BinaryWriter();
+		writeFeed(out, feed);
+		return out.toByteArray();
+	}
+
+	/**
+	 * @param buffer
+	 *            record produced by {@link #encodeFeedHeader(Feed)}, from position to limit, not
+	 *            {@code null}
+	 * @return decoded {@link Feed} without items, never {@code null}
+	 * @throws InvalidFeedFormatException
+	 *             if the data is not a valid record
+	 */
+	public Feed decodeFeedHeader(ByteBuffer buffer) {
+		try {
+			return readFeed(new BinaryReader(buffer));
+		} catch (BufferUnderflowException | DateTimeException | IllegalArgumentException e) {
+			throw new InvalidFeedFormatException(e);
+		}
+	}
+
+	/**
+	 * @param item
+	 *            {@link Item} to encode, not {@code null}
+	 * @return a self-contained record, never {@code null}
+	 */
+	public byte[] encodeItem(Item item) {
+		BinaryWriter out = new BinaryWriter();
+		writeItem(out, item);
+		return out.toByteArray();
+	}
+
+	/**
+	 * @param buffer
+	 *            record produced by {@link #encodeItem(Item)}, from position to limit, not
+	 *            {@code null}
+	 * @return decoded {@link Item}, never {@code null}
+	 * @throws InvalidFeedFormatException
+	 *             if the data is not a valid record
+	 */
+	public Item decodeItem(ByteBuffer buffer) {
+		try {
+			return readItem(new BinaryReader(buffer));
+		} catch (BufferUnderflowException | DateTimeException | IllegalArgumentException e) {
+			throw new InvalidFeedFormatException(e);
+		}
+	}
+
+	private static void checkHeader(BinaryReader in) {
+		if (in.readInt() != MAGIC) {
+			throw new InvalidFeedFormatException("not an encoded feed");
+		}
+		int version = in.readVarInt();
+		if (version < MIN_VERSION || version > VERSION) {
+			throw new InvalidFeedFormatException("unsupported format version {}", String.valueOf(version));
+		}
+	}
+
+	private static void appendRecord(BinaryWriter out, BinaryWriter record) {
+		out.writeVarInt(record.length());
+		record.writeTo(out);
+	}
+
+	private static <T> T readRecord(BinaryReader in, Function<BinaryReader, T> reader) {
+		int length = in.readLength();
+		ByteBuffer buffer = in.buffer();
+		int limit = buffer.limit();
+		int end = buffer.position() + length;
+		buffer.limit(end);
+		try {
+			in.resetDictionary();
+			T value = reader.apply(in);
+			if (buffer.position() != end) {
+				throw new InvalidFeedFormatException("record length mismatch");
+			}
+			return value;
+		} finally {
+			buffer.limit(limit);
+		}
+	}
+
+	/**
+	 * @return bitmap with bit {@code i} set if {@code values[i]} is present: not {@code null} and,
+	 *         for collections and maps, not empty
+	 */
+	private static long bits(Object... values) {
+		long bits = 0;
+		for (int i = 0; i < values.length; i++) {
+			Object value = values[i];
+			if (value != null && !(value instanceof Collection && ((Collection<?>) value).isEmpty()) && !(value instanceof Map && ((Map<?, ?>) value).isEmpty())) {
+				bits |= 1L << i;
+			}
+		}
+		return bits;
+	}
+
+	private static boolean has(long bits, int index) {
+		return (bits & 1L << index) != 0;
+	}
+
+	private static void writeString(BinaryWriter out, String value) {
+		if (value != null) {
+			out.writeString(value);
+		}
+	}
+
+	private static <T> void write(BinaryWriter out, T value, BiConsumer<BinaryWriter, T> writer) {
+		if (value != null) {
+			writer.accept(out, value);
+		}
+	}
+
+	private static <T> void writeAll(BinaryWriter out, Collection<T> values, BiConsumer<BinaryWriter, T> writer) {
+		if (values.isEmpty()) {
+			return;
+		}
+		int count = 0;
+		for (T value : values) {
+			if (value != null) {
+				count++;
+			}
+		}
+		out.writeVarInt(count);
+		for (T value : values) {
+			if (value != null) {
+				writer.accept(out, value);
+			}
+		}
+	}
+
+	private static <T> void readAll(BinaryReader in, Function<BinaryReader, T> reader, Consumer<T> adder) {
+		int count = in.readLength();
+		for (int i = 0; i < count; i++) {
+			adder.accept(reader.apply(in));
+		}
+	}
+
+	private static void writeOtherValues(BinaryWriter out, Map<OtherValueKey, String> values) {
+		out.writeVarInt(values.size());
+		for (Map.Entry<OtherValueKey, String> entry : values.entrySet()) {
+			out.writeString(entry.getKey().name());
+			out.writeString(entry.getValue());
+		}
+	}
+
+	private static void readOtherValues(BinaryReader in, BiConsumer<OtherValueKey, String> adder) {
+		int count = in.readLength();
+		for (int i = 0; i < count; i++) {
+			String key = in.readString();
+			String value = in.readString();
+			OtherValueKey otherValueKey = otherValueKey(key);
+			if (otherValueKey != null) {
+				adder.accept(otherValueKey, value);
+			}
+		}
+	}
+
+	private static OtherValueKey otherValueKey(String name) {
+		try {
+			return OtherValueKey.valueOf(name);
+		} catch (IllegalArgumentException e) {
+			// key written by a newer version
+			return null;
+		}
+	}
+
+	private static Rating ratingOrNull(Rating rating) {
+		if (rating.getText() == null && rating.getScheme() == null && rating.getExplicit() == null && rating.getAdultContent() == null) {
+			return null;
+		}
+		return rating;
+	}
+
+	private static void writeFeed(BinaryWriter out, Feed feed) {
+		Rating rating = ratingOrNull(feed.getRating());
+		out.writeVarLong(bits(feed.getId(), feed.getTitle(), feed.getLinks(), feed.getDescription(), feed.getSubtitle(),
+				feed.getSummary(), feed.getLanguage(), feed.getCopyright(), feed.getManagingEditor(), feed.getWebMaster(),
+				feed.getPubDate(), feed.getLastBuildDate(), feed.getCategories(), feed.getGenerator(), feed.getDocs(),
+				feed.getCloud(), feed.getTtl(), feed.getImages(), feed.getTextInput(), feed.getSkipHours(),
+				feed.getSkipDays(), feed.getAuthors(), feed.getOwner(), feed.getContributors(), feed.getKeywords(),
+				feed.getUpdateInfo(), rating, feed.getLocation(), feed.getOtherValues(), feed.getGeoPoint(),
+				feed.getType(), feed.getEmail(), feed.getCredit(), feed.getBrowserFriendly()));
+		out.writeByte((feed.getBlock() ? 1 : 0) | (feed.isComplete() ? 2 : 0));
+		writeString(out, feed.getId());
+		writeString(out, feed.getTitle());
+		writeAll(out, feed.getLinks(), FeedCodec::writeLink);
+		write(out, feed.getDescription(), FeedCodec::writeTypedString);
+		writeString(out, feed.getSubtitle());
+		writeString(out, feed.getSummary());
+		writeString(out, feed.getLanguage());
+		write(out, feed.getCopyright(), FeedCodec::writeCopyright);
+		writeString(out, feed.getManagingEditor());
+		writeString(out, feed.getWebMaster());
+		write(out, feed.getPubDate(), BinaryWriter::writeDateTime);
+		write(out, feed.getLastBuildDate(), BinaryWriter::writeDateTime);
+		writeAll(out, feed.getCategories(), FeedCodec::writeCategory);
+		writeString(out, feed.getGenerator());
+		writeString(out, feed.getDocs());
+		writeString(out, feed.getCloud());
+		write(out, feed.getTtl(), BinaryWriter::writeDuration);
+		writeAll(out, feed.getImages(), FeedCodec::writeImage);
+		writeString(out, feed.getTextInput());
+		writeAll(out, feed.getSkipHours(), (o, hour) -> o.writeSignedVarLong(hour));
+		writeAll(out, feed.getSkipDays(), BinaryWriter::writeString);
+		writeAll(out, feed.getAuthors(), FeedCodec::writePerson);
+		write(out, feed.getOwner(), FeedCodec::writePerson);
+		writeAll(out, feed.getContributors(), FeedCodec::writePerson);
+		writeAll(out, feed.getKeywords(), BinaryWriter::writeString);
+		write(out, feed.getUpdateInfo(), FeedCodec::writeUpdateInfo);
+		write(out, rating, FeedCodec::writeRating);
+		writeString(out, feed.getLocation());
+		if (!feed.getOtherValues().isEmpty()) {
+			writeOtherValues(out, feed.getOtherValues());
+		}
+		write(out, feed.getGeoPoint(), FeedCodec::writeGeoPoint);
+		writeString(out, feed.getType());
+		writeString(out, feed.getEmail());
+		write(out, feed.getCredit(), FeedCodec::writeCredit);
+		write(out, feed.getBrowserFriendly(), FeedCodec::writeTypedString);
+	}
+
+	private static Feed readFeed(BinaryReader in) {
+		long bits = in.readVarLong();
+		int flags = in.readByte();
+		Feed feed = new Feed();
+		feed.setBlock((flags & 1) != 0);
+		feed.setComplete((flags & 2) != 0);
+		if (has(bits, 0))
+			feed.setId(in.readString());
+		if (has(bits, 1))
+			feed.setTitle(in.readString());
+		if (has(bits, 2))
+			readAll(in, FeedCodec::readLink, feed::addLink);
+		if (has(bits, 3))
+			feed.setDescription(readTypedString(in));
+		if (has(bits, 4))
+			feed.setSubtitle(in.readString());
+		if (has(bits, 5))
+			feed.setSummary(in.readString());
+		if (has(bits, 6))
+			feed.setLanguage(in.readString());
+		if (has(bits, 7))
+			feed.setCopyright(readCopyright(in));
+		if (has(bits, 8))
+			feed.setManagingEditor(in.readString());
+		if (has(bits, 9))
+			feed.setWebMaster(in.readString());
+		if (has(bits, 10))
+			feed.setPubDate(in.readDateTime());
+		if (has(bits, 11))
+			feed.setLastBuildDate(in.readDateTime());
+		if (has(bits, 12))
+			readAll(in, FeedCodec::readCategory, feed::addCategory);
+		if (has(bits, 13))
+			feed.setGenerator(in.readString());
+		if (has(bits, 14))
+			feed.setDocs(in.readString());
+		if (has(bits, 15))
+			feed.setCloud(in.readString());
+		if (has(bits, 16))
+			feed.setTtl(in.readDuration());
+		if (has(bits, 17))
+			readAll(in, FeedCodec::readImage, feed::addImage);
+		if (has(bits, 18))
+			feed.setTextInput(in.readString());
+		if (has(bits, 19))
+			readAll(in, i -> (int) i.readSignedVarLong(), feed::addSkipHour);
+		if (has(bits, 20))
+			readAll(in, BinaryReader::readString, feed::addSkipDay);
+		if (has(bits, 21))
+			readAll(in, FeedCodec::readPerson, feed::addAuthor);
+		if (has(bits, 22))
+			feed.setOwner(readPerson(in));
+		if (has(bits, 23))
+			readAll(in, FeedCodec::readPerson, feed::addContributor);
+		if (has(bits, 24))
+			readAll(in, BinaryReader::readString, feed::addKeyword);
+		if (has(bits, 25))
+			feed.setUpdateInfo(readUpdateInfo(in));
+		if (has(bits, 26))
+			readRating(in, feed.getRating());
+		if (has(bits, 27))
+			feed.setLocation(in.readString());
+		if (has(bits, 28))
+			readOtherValues(in, feed::addOtherValue);
+		if (has(bits, 29))
+			feed.setGeoPoint(readGeoPoint(in));
+		if (has(bits, 30))
+			feed.setType(in.readString());
+		if (has(bits, 31))
+			feed.setEmail(in.readString());
+		if (has(bits, 32))
+			feed.setCredit(readCredit(in));
+		if (has(bits, 33))
+			feed.setBrowserFriendly(readTypedString(in));
+		return feed;
+	}
+
+	private static void writeItem(BinaryWriter out, Item item) {
+		Rating rating = item.hasRating() ? ratingOrNull(item.getRating()) : null;
+		out.writeVarLong(bits(item.getTitle(), item.getSubtitle(), item.getLinks(), item.getDescription(), item.getAuthors(),
+				item.getCategories(), item.getCopyright(), item.getEnclosure(), item.getGuid(), item.getPubDate(),
+				item.getUpdated(), item.getValidity(), item.getEdited(), item.getSource(), rating,
+				item.getDuration(), item.getMediaContents(), item.getImages(), item.getKeywords(), item.getContent(),
+				item.getSubject(), item.getComments(), item.getChapters(), item.getHashes(), item.getLicense(),
+				item.getCredits(), item.getLanguage(), item.getOtherValues(), item.getOtherEnclosures(), item.getGeoPoint(),
+				item.getGeoBox(), item.getOrder(), item.getSummary(), item.getEpisodeType(), item.getEpisode(),
+				item.getSeason(), item.getMediaPlayer(), item.getScenes(), item.getTranscripts(), item.getEmbed(),
+				item.getMetamarks(), item.getProvider(), item.getVisibility(), item.getRights(),
+				item.getFingerprint() == 0L ? null : item.getFingerprint()));
+		out.writeByte((item.getBlock() ? 1 : 0) | (item.isHd() ? 2 : 0));
+		write(out, item.getTitle(), FeedCodec::writeTypedString);
+		writeString(out, item.getSubtitle());
+		writeAll(out, item.getLinks(), FeedCodec::writeLink);
+		write(out, item.getDescription(), FeedCodec::writeTypedString);
+		writeAll(out, item.getAuthors(), FeedCodec::writePerson);
+		writeAll(out, item.getCategories(), FeedCodec::writeCategory);
+		write(out, item.getCopyright(), FeedCodec::writeCopyright);
+		write(out, item.getEnclosure(), FeedCodec::writeEnclosure);
+		writeString(out, item.getGuid());
+		write(out, item.getPubDate(), BinaryWriter::writeDateTime);
+		write(out, item.getUpdated(), BinaryWriter::writeDateTime);
+		write(out, item.getValidity(), BinaryWriter::writeDateTime);
+		write(out, item.getEdited(), BinaryWriter::writeDateTime);
+		writeString(out, item.getSource());
+		write(out, rating, FeedCodec::writeRating);
+		write(out, item.getDuration(), BinaryWriter::writeDuration);
+		writeAll(out, item.getMediaContents(), FeedCodec::writeMediaContent);
+		writeAll(out, item.getImages(), FeedCodec::writeImage);
+		writeAll(out, item.getKeywords(), BinaryWriter::writeString);
+		write(out, item.getContent(), FeedCodec::writeTypedString);
+		writeString(out, item.getSubject());
+		write(out, item.getComments(), FeedCodec::writeComments);
+		writeAll(out, item.getChapters(), FeedCodec::writeChapter);
+		writeAll(out, item.getHashes(), FeedCodec::writeHash);
+		write(out, item.getLicense(), FeedCodec::writeLicense);
+		writeAll(out, item.getCredits(), FeedCodec::writeCredit);
+		writeString(out, item.getLanguage());
+		if (!item.getOtherValues().isEmpty()) {
+			writeOtherValues(out, item.getOtherValues());
+		}
+		if (!item.getOtherEnclosures().isEmpty()) {
+			out.writeVarInt(item.getOtherEnclosures().size());
+			for (Map.Entry<String, Enclosure> entry : item.getOtherEnclosures().entrySet()) {
+				out.writeString(entry.getKey());
+				writeEnclosure(out, entry.getValue());
+			}
+		}
+		write(out, item.getGeoPoint(), FeedCodec::writeGeoPoint);
+		write(out, item.getGeoBox(), FeedCodec::writeGeoBox);
+		write(out, item.getOrder(), (o, order) -> o.writeSignedVarLong(order));
+		writeString(out, item.getSummary());
+		writeString(out, item.getEpisodeType());
+		writeString(out, item.getEpisode());
+		writeString(out, item.getSeason());
+		write(out, item.getMediaPlayer(), FeedCodec::writeMediaPlayer);
+		writeAll(out, item.getScenes(), FeedCodec::writeScene);
+		writeAll(out, item.getTranscripts(), FeedCodec::writeTranscript);
+		write(out, item.getEmbed(), FeedCodec::writeTypedString);
+		writeAll(out, item.getMetamarks(), FeedCodec::writeMetamark);
+		writeString(out, item.getProvider());
+		write(out, item.getVisibility(), FeedCodec::writeVisibility);
+		writeString(out, item.getRights());
+		if (item.getFingerprint() != 0L)
+			out.writeVarLong(item.getFingerprint());
+	}
+
+	private static Item readItem(BinaryReader in) {
+		long bits = in.readVarLong();
+		int flags = in.readByte();
+		Item item = new Item();
+		item.setBlock((flags & 1) != 0);
+		item.setHd((flags & 2) != 0);
+		if (has(bits, 0))
+			item.setTitle(readTypedString(in));
+		if (has(bits, 1))
+			item.setSubtitle(in.readString());
+		if (has(bits, 2))
+			readAll(in, FeedCodec::readLink, item::addLink);
+		if (has(bits, 3))
+			item.setDescription(readTypedString(in));
+		if (has(bits, 4))
+			readAll(in, FeedCodec::readPerson, item::addAuthor);
+		if (has(bits, 5))
+			readAll(in, FeedCodec::readCategory, item::addCategory);
+		if (has(bits, 6))
+			item.setCopyright(readCopyright(in));
+		if (has(bits, 7))
+			item.setEnclosure(readEnclosure(in));
+		if (has(bits, 8))
+			item.setGuid(in.readString());
+		if (has(bits, 9))
+			item.setPubDate(in.readDateTime());
+		if (has(bits, 10))
+			item.setUpdated(in.readDateTime());
+		if (has(bits, 11))
+			item.setValidity(in.readDateTime());
+		if (has(bits, 12))
+			item.setEdited(in.readDateTime());
+		if (has(bits, 13))
+			item.setSource(in.readString());
+		if (has(bits, 14))
+			readRating(in, item.getRating());
+		if (has(bits, 15))
+			item.setDuration(in.readDuration());
+		if (has(bits, 16))
+			readAll(in, FeedCodec::readMediaContent, item::addMediaContent);
+		if (has(bits, 17))
+			readAll(in, FeedCodec::readImage, item::addImage);
+		if (has(bits, 18))
+			readAll(in, BinaryReader::readString, item::addKeyword);
+		if (has(bits, 19))
+			item.setContent(readTypedString(in));
+		if (has(bits, 20))
+			item.setSubject(in.readString());
+		if (has(bits, 21))
+			item.setComments(readComments(in));
+		if (has(bits, 22))
+			readAll(in, FeedCodec::readChapter, item::addChapter);
+		if (has(bits, 23))
+			readAll(in, FeedCodec::readHash, item::addHash);
+		if (has(bits, 24))
+			item.setLicense(readLicense(in));
+		if (has(bits, 25))
+			readAll(in, FeedCodec::readCredit, item::addCredit);
+		if (has(bits, 26))
+			item.setLanguage(in.readString());
+		if (has(bits, 27))
+			readOtherValues(in, item::addOtherValue);
+		if (has(bits, 28)) {
+			int count = in.readLength();
+			for (int i = 0; i < count; i++) {
+				String key = in.readString();
+				item.addOtherEnclosure(key, readEnclosure(in));
+			}
+		}
+		if (has(bits, 29))
+			item.setGeoPoint(readGeoPoint(in));
+		if (has(bits, 30))
+			item.setGeoBox(readGeoBox(in));
+		if (has(bits, 31))
+			item.setOrder((int) in.readSignedVarLong());
+		if (has(bits, 32))
+			item.setSummary(in.readString());
+		if (has(bits, 33))
+			item.setEpisodeType(in.readString());
+		if (has(bits, 34))
+			item.setEpisode(in.readString());
+		if (has(bits, 35))
+			item.setSeason(in.readString());
+		if (has(bits, 36))
+			item.setMediaPlayer(readMediaPlayer(in));
+		if (has(bits, 37))
+			readAll(in, FeedCodec::readScene, item::addScene);
+		if (has(bits, 38))
+			readAll(in, FeedCodec::readTranscript, item::addTranscript);
+		if (has(bits, 39))
+			item.setEmbed(readTypedString(in));
+		if (has(bits, 40))
+			readAll(in, FeedCodec::readMetamark, item::addMetamark);
+		if (has(bits, 41))
+			item.setProvider(in.readString());
+		if (has(bits, 42))
+			item.setVisibility(readVisibility(in));
+		if (has(bits, 43))
+			item.setRights(in.readString());
+		if (has(bits, 44))
+			item.setFingerprint(in.readVarLong());
+		return item;
+	}
+
+	private static void writeCategory(BinaryWriter out, Category value) {
+		out.writeVarLong(bits(value.getName(), value.getSubcategory(), value.getScheme(), value.getLabel()));
+		writeString(out, value.getName());
+		writeString(out, value.getSubcategory());
+		writeString(out, value.getScheme());
+		writeString(out, value.getLabel());
+	}
+
+	private static Category readCategory(BinaryReader in) {
+		long bits = in.readVarLong();
+		Category value = new Category();
+		if (has(bits, 0))
+			value.setName(in.readString());
+		if (has(bits, 1))
+			value.setSubcategory(in.readString());
+		if (has(bits, 2))
+			value.setScheme(in.readString());
+		if (has(bits, 3))
+			value.setLabel(in.readString());
+		return value;
+	}
+
+	private static void writeChapter(BinaryWriter out, Chapter value) {
+		out.writeVarLong(bits(value.getTitle(), value.getHref(), value.getImage()));
+		out.writeSignedVarLong(value.getStart());
+		writeString(out, value.getTitle());
+		write(out, value.getHref(), FeedCodec::writeLink);
+		write(out, value.getImage(), FeedCodec::writeImage);
+	}
+
+	private static Chapter readChapter(BinaryReader in) {
+		long bits = in.readVarLong();
+		Chapter value = new Chapter();
+		value.setStart(in.readSignedVarLong());
+		if (has(bits, 0))
+			value.setTitle(in.readString());
+		if (has(bits, 1))
+			value.setHref(readLink(in));
+		if (has(bits, 2))
+			value.setImage(readImage(in));
+		return value;
+	}
+
+	private static void writeComments(BinaryWriter out, Comments value) {
+		out.writeVarLong(bits(value.getNumber(), value.getLink()));
+		write(out, value.getNumber(), (o, number) -> o.writeSignedVarLong(number));
+		write(out, value.getLink(), FeedCodec::writeLink);
+	}
+
+	private static Comments readComments(BinaryReader in) {
+		long bits = in.readVarLong();
+		Comments value = new Comments();
+		if (has(bits, 0))
+			value.setNumber((int) in.readSignedVarLong());
+		if (has(bits, 1))
+			value.setLink(readLink(in));
+		return value;
+	}
+
+	private static void writeCopyright(BinaryWriter out, Copyright value) {
+		out.writeVarLong(bits(value.getText(), value.getUrl()));
+		writeString(out, value.getText());
+		writeString(out, value.getUrl());
+	}
+
+	private static Copyright readCopyright(BinaryReader in) {
+		long bits = in.readVarLong();
+		Copyright value = new Copyright();
+		if (has(bits, 0))
+			value.setText(in.readString());
+		if (has(bits, 1))
+			value.setUrl(in.readString());
+		return value;
+	}
+
+	private static void writeCredit(BinaryWriter out, Credit value) {
+		out.writeVarLong(bits(value.getEntity(), value.getRole(), value.getScheme()));
+		writeString(out, value.getEntity());
+		writeString(out, value.getRole());
+		writeString(out, value.getScheme());
+	}
+
+	private static Credit readCredit(BinaryReader in) {
+		long bits = in.readVarLong();
+		Credit value = new Credit();
+		if (has(bits, 0))
+			value.setEntity(in.readString());
+		if (has(bits, 1))
+			value.setRole(in.readString());
+		if (has(bits, 2))
+			value.setScheme(in.readString());
+		return value;
+	}
+
+	private static void writeEnclosure(BinaryWriter out, Enclosure value) {
+		out.writeVarLong(bits(value.getUrl(), value.getType(), value.getDescription()));
+		out.writeSignedVarLong(value.getLength());
+		writeString(out, value.getUrl());
+		writeString(out, value.getType());
+		writeString(out, value.getDescription());
+	}
+
+	private static Enclosure readEnclosure(BinaryReader in) {
+		long bits = in.readVarLong();
+		Enclosure value = new Enclosure();
+		value.setLength(in.readSignedVarLong());
+		if (has(bits, 0))
+			value.setUrl(in.readString());
+		if (has(bits, 1))
+			value.setType(in.readString());
+		if (has(bits, 2))
+			value.setDescription(in.readString());
+		return value;
+	}
+
+	private static void writeGeoBox(BinaryWriter out, GeoBox value) {
+		out.writeVarLong(bits(value.getLowerCorner(), value.getUpperCorner()));
+		write(out, value.getLowerCorner(), FeedCodec::writeGeoPoint);
+		write(out, value.getUpperCorner(), FeedCodec::writeGeoPoint);
+	}
+
+	private static GeoBox readGeoBox(BinaryReader in) {
+		long bits = in.readVarLong();
+		GeoBox value = new GeoBox();
+		if (has(bits, 0))
+			value.setLowerCorner(readGeoPoint(in));
+		if (has(bits, 1))
+			value.setUpperCorner(readGeoPoint(in));
+		return value;
+	}
+
+	private static void writeGeoPoint(BinaryWriter out, GeoPoint value) {
+		out.writeVarLong(bits(value.getLatitude(), value.getLongitude()));
+		write(out, value.getLatitude(), BinaryWriter::writeDecimal);
+		write(out, value.getLongitude(), BinaryWriter::writeDecimal);
+	}
+
+	private static GeoPoint readGeoPoint(BinaryReader in) {
+		long bits = in.readVarLong();
+		GeoPoint value = new GeoPoint();
+		if (has(bits, 0))
+			value.setLatitude(in.readDecimal());
+		if (has(bits, 1))
+			value.setLongitude(in.readDecimal());
+		return value;
+	}
+
+	private static void writeHash(BinaryWriter out, Hash value) {
+		out.writeVarLong(bits(value.getHash(), value.getAlgo()));
+		writeString(out, value.getHash());
+		writeString(out, value.getAlgo());
+	}
+
+	private static Hash readHash(BinaryReader in) {
+		long bits = in.readVarLong();
+		Hash value = new Hash();
+		if (has(bits, 0))
+			value.setHash(in.readString());
+		if (has(bits, 1))
+			value.setAlgo(in.readString());
+		return value;
+	}
+
+	private static void writeImage(BinaryWriter out, Image value) {
+		out.writeVarLong(bits(value.getUrl(), value.getTitle(), value.getLink(), value.getWidth(), value.getHeight(),
+				value.getDescription(), value.getTime()));
+		writeString(out, value.getUrl());
+		writeString(out, value.getTitle());
+		writeString(out, value.getLink());
+		write(out, value.getWidth(), (o, width) -> o.writeSignedVarLong(width));
+		write(out, value.getHeight(), (o, height) -> o.writeSignedVarLong(height));
+		writeString(out, value.getDescription());
+		write(out, value.getTime(), BinaryWriter::writeSignedVarLong);
+	}
+
+	private static Image readImage(BinaryReader in) {
+		long bits = in.readVarLong();
+		Image value = new Image();
+		if (has(bits, 0))
+			value.setUrl(in.readString());
+		if (has(bits, 1))
+			value.setTitle(in.readString());
+		if (has(bits, 2))
+			value.setLink(in.readString());
+		if (has(bits, 3))
+			value.setWidth((int) in.readSignedVarLong());
+		if (has(bits, 4))
+			value.setHeight((int) in.readSignedVarLong());
+		if (has(bits, 5))
+			value.setDescription(in.readString());
+		if (has(bits, 6))
+			value.setTime(in.readSignedVarLong());
+		return value;
+	}
+
+	private static void writeLicense(BinaryWriter out, License value) {
+		out.writeVarLong(bits(value.getHref(), value.getType(), value.getLabel()));
+		writeString(out, value.getHref());
+		writeString(out, value.getType());
+		writeString(out, value.getLabel());
+	}
+
+	private static License readLicense(BinaryReader in) {
+		long bits = in.readVarLong();
+		License value = new License();
+		if (has(bits, 0))
+			value.setHref(in.readString());
+		if (has(bits, 1))
+			value.setType(in.readString());
+		if (has(bits, 2))
+			value.setLabel(in.readString());
+		return value;
+	}
+
+	private static void writeLink(BinaryWriter out, Link value) {
+		out.writeVarLong(bits(value.getHref(), value.getRel(), value.getType(), value.getHreflang(), value.getTitle(),
+				value.getLength()));
+		writeString(out, value.getHref());
+		writeString(out, value.getRel());
+		writeString(out, value.getType());
+		writeString(out, value.getHreflang());
+		writeString(out, value.getTitle());
+		writeString(out, value.getLength());
+	}
+
+	private static Link readLink(BinaryReader in) {
+		long bits = in.readVarLong();
+		Link value = new Link();
+		if (has(bits, 0))
+			value.setHref(in.readString());
+		if (has(bits, 1))
+			value.setRel(in.readString());
+		if (has(bits, 2))
+			value.setType(in.readString());
+		if (has(bits, 3))
+			value.setHreflang(in.readString());
+		if (has(bits, 4))
+			value.setTitle(in.readString());
+		if (has(bits, 5))
+			value.setLength(in.readString());
+		return value;
+	}
+
+	private static void writeMediaContent(BinaryWriter out, MediaContent value) {
+		out.writeVarLong(bits(value.getUrl(), value.getFileSize(), value.getType(), value.getMedium(), value.getIsDefault(),
+				value.getExpression(), value.getBitrate(), value.getFramerate(), value.getSamplingrate(),
+				value.getChannels(), value.getDuration(), value.getHeight(), value.getWidth(), value.getLang()));
+		writeString(out, value.getUrl());
+		if (value.getFileSize() != null)
+			out.writeSignedVarLong(value.getFileSize(0L));
+		writeString(out, value.getType());
+		writeString(out, value.getMedium());
+		if (value.getIsDefault() != null)
+			out.writeBoolean(value.isDefault());
+		writeString(out, value.getExpression());
+		if (value.getBitrate() != null)
+			out.writeSignedVarLong(value.getBitrate(0L));
+		if (value.getFramerate() != null)
+			out.writeSignedVarLong(value.getFramerate(0L));
+		writeString(out, value.getSamplingrate());
+		if (value.getChannels() != null)
+			out.writeSignedVarLong(value.getChannels(0));
+		write(out, value.getDuration(), BinaryWriter::writeDuration);
+		if (value.getHeight() != null)
+			out.writeSignedVarLong(value.getHeight(0));
+		if (value.getWidth() != null)
+			out.writeSignedVarLong(value.getWidth(0));
+		writeString(out, value.getLang());
+	}
+
+	private static MediaContent readMediaContent(BinaryReader in) {
+		long bits = in.readVarLong();
+		MediaContent value = new MediaContent();
+		if (has(bits, 0))
+			value.setUrl(in.readString());
+		if (has(bits, 1))
+			value.setFileSize(in.readSignedVarLong());
+		if (has(bits, 2))
+			value.setType(in.readString());
+		if (has(bits, 3))
+			value.setMedium(in.readString());
+		if (has(bits, 4))
+			value.setIsDefault(in.readBoolean());
+		value.setExpressionType(has(bits, 5) ? Expression.from(in.readString()) : null);
+		if (has(bits, 6))
+			value.setBitrate(in.readSignedVarLong());
+		if (has(bits, 7))
+			value.setFramerate(in.readSignedVarLong());
+		if (has(bits, 8))
+			value.setSamplingrate(in.readString());
+		if (has(bits, 9))
+			value.setChannels((int) in.readSignedVarLong());
+		if (has(bits, 10))
+			value.setDuration(in.readDuration());
+		if (has(bits, 11))
+			value.setHeight((int) in.readSignedVarLong());
+		if (has(bits, 12))
+			value.setWidth((int) in.readSignedVarLong());
+		if (has(bits, 13))
+			value.setLang(in.readString());
+		return value;
+	}
+
+	private static void writeMediaPlayer(BinaryWriter out, MediaPlayer value) {
+		out.writeVarLong(bits(value.getUrl(), value.getHeight(), value.getWidth()));
+		writeString(out, value.getUrl());
+		write(out, value.getHeight(), (o, height) -> o.writeSignedVarLong(height));
+		write(out, value.getWidth(), (o, width) -> o.writeSignedVarLong(width));
+	}
+
+	private static MediaPlayer readMediaPlayer(BinaryReader in) {
+		long bits = in.readVarLong();
+		MediaPlayer value = new MediaPlayer();
+		if (has(bits, 0))
+			value.setUrl(in.readString());
+		if (has(bits, 1))
+			value.setHeight((int) in.readSignedVarLong());
+		if (has(bits, 2))
+			value.setWidth((int) in.readSignedVarLong());
+		return value;
+	}
+
+	private static void writeMetamark(BinaryWriter out, Metamark value) {
+		out.writeVarLong(bits(value.getText(), value.getLink(), value.getType(), value.getPosition(), value.getDuration()));
+		writeString(out, value.getText());
+		writeString(out, value.getLink());
+		writeString(out, value.getType());
+		write(out, value.getPosition(), (o, position) -> o.writeSignedVarLong(position));
+		write(out, value.getDuration(), (o, duration) -> o.writeSignedVarLong(duration));
+	}
+
+	private static Metamark readMetamark(BinaryReader in) {
+		long bits = in.readVarLong();
+		Metamark value = new Metamark();
+		if (has(bits, 0))
+			value.setText(in.readString());
+		if (has(bits, 1))
+			value.setLink(in.readString());
+		if (has(bits, 2))
+			value.setType(in.readString());
+		if (has(bits, 3))
+			value.setPosition((int) in.readSignedVarLong());
+		if (has(bits, 4))
+			value.setDuration((int) in.readSignedVarLong());
+		return value;
+	}
+
+	private static void writePerson(BinaryWriter out, Person value) {
+		out.writeVarLong(bits(value.getName(), value.getUri(), value.getEmail()));
+		writeString(out, value.getName());
+		writeString(out, value.getUri());
+		writeString(out, value.getEmail());
+	}
+
+	private static Person readPerson(BinaryReader in) {
+		long bits = in.readVarLong();
+		Person value = new Person();
+		if (has(bits, 0))
+			value.setName(in.readString());
+		if (has(bits, 1))
+			value.setUri(in.readString());
+		if (has(bits, 2))
+			value.setEmail(in.readString());
+		return value;
+	}
+
+	private static void writeRating(BinaryWriter out, Rating value) {
+		out.writeVarLong(bits(value.getText(), value.getScheme(), value.getExplicit(), value.getAdultContent()));
+		writeString(out, value.getText());
+		writeString(out, value.getScheme());
+		writeString(out, value.getExplicit());
+		writeString(out, value.getAdultContent());
+	}
+
+	private static void readRating(BinaryReader in, Rating value) {
+		long bits = in.readVarLong();
+		if (has(bits, 0))
+			value.setText(in.readString());
+		if (has(bits, 1))
+			value.setScheme(in.readString());
+		if (has(bits, 2))
+			value.setExplicit(in.readString());
+		if (has(bits, 3))
+			value.setAdultContent(in.readString());
+	}
+
+	private static void writeScene(BinaryWriter out, Scene value) {
+		out.writeVarLong(bits(value.getTitle(), value.getDescription(), value.getStartTime(), value.getEndTime()));
+		writeString(out, value.getTitle());
+		writeString(out, value.getDescription());
+		writeString(out, value.getStartTime());
+		writeString(out, value.getEndTime());
+	}
+
+	private static Scene readScene(BinaryReader in) {
+		long bits = in.readVarLong();
+		Scene value = new Scene();
+		if (has(bits, 0))
+			value.setTitle(in.readString());
+		if (has(bits, 1))
+			value.setDescription(in.readString());
+		if (has(bits, 2))
+			value.setStartTime(in.readString());
+		if (has(bits, 3))
+			value.setEndTime(in.readString());
+		return value;
+	}
+
+	private static void writeTranscript(BinaryWriter out, Transcript value) {
+		out.writeVarLong(bits(value.getText(), value.getType(), value.getLang(), value.getStart(), value.getEnd()));
+		writeString(out, value.getText());
+		writeString(out, value.getType());
+		writeString(out, value.getLang());
+		write(out, value.getStart(), BinaryWriter::writeSignedVarLong);
+		write(out, value.getEnd(), BinaryWriter::writeSignedVarLong);
+	}
+
+	private static Transcript readTranscript(BinaryReader in) {
+		long bits = in.readVarLong();
+		Transcript value = new Transcript();
+		if (has(bits, 0))
+			value.setText(in.readString());
+		if (has(bits, 1))
+			value.setType(in.readString());
+		if (has(bits, 2))
+			value.setLang(in.readString());
+		if (has(bits, 3))
+			value.setStart(in.readSignedVarLong());
+		if (has(bits, 4))
+			value.setEnd(in.readSignedVarLong());
+		return value;
+	}
+
+	private static void writeTypedString(BinaryWriter out, TypedString value) {
+		out.writeVarLong(bits(value.getType(), value.getText()));
+		writeString(out, value.getType());
+		writeString(out, value.getText());
+	}
+
+	private static TypedString readTypedString(BinaryReader in) {
+		long bits = in.readVarLong();
+		TypedString value = new TypedString();
+		if (has(bits, 0))
+			value.setType(in.readString());
+		if (has(bits, 1))
+			value.setText(in.readString());
+		return value;
+	}
+
+	private static void writeUpdateInfo(BinaryWriter out, UpdateInfo value) {
+		out.writeVarLong(bits(value.getFrequency(), value.getPeriod(), value.getBase()));
+		write(out, value.getFrequency(), (o, frequency) -> o.writeSignedVarLong(frequency));
+		writeString(out, value.getPeriod());
+		write(out, value.getBase(), BinaryWriter::writeDateTime);
+	}
+
+	private static UpdateInfo readUpdateInfo(BinaryReader in) {
+		long bits = in.readVarLong();
+		UpdateInfo value = new UpdateInfo();
+		if (has(bits, 0))
+			value.setFrequency((int) in.readSignedVarLong());
+		if (has(bits, 1))
+			value.setPeriod(in.readString());
+		if (has(bits, 2))
+			value.setBase(in.readDateTime());
+		return value;
+	}
+
+	private static void writeVisibility(BinaryWriter out, Visibility value) {
+		out.writeVarLong(bits(value.getFrom(), value.getTo()));
+		write(out, value.getFrom(), BinaryWriter::writeDateTime);
+		write(out, value.getTo(), BinaryWriter::writeDateTime);
+	}
+
+	private static Visibility readVisibility(BinaryReader in) {
+		long bits = in.readVarLong();
+		Visibility value = new Visibility();
+		if (has(bits, 0))
+			value.setFrom(in.readDateTime());
+		if (has(bits, 1))
+			value.setTo(in.readDateTime());
+		return value;
+	}
+
+}
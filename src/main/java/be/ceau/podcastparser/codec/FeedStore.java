@@ -0,0 +1,271 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.codec;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import be.ceau.podcastparser.exceptions.InvalidFeedFormatException;
+import be.ceau.podcastparser.models.core.Feed;
+import be.ceau.podcastparser.models.core.Item;
+
+/**
+ * <p>
+ * Read-only, memory mapped store of encoded {@link Feed} instances, written by
+ * {@link FeedStoreWriter}. Feeds are numbered in the order they were appended.
+ * </p>
+ * <p>
+ * The data file holds the {@link FeedCodec} records of every feed, followed by a directory with the
+ * offset of each record. The index file holds one fixed size entry per feed, pointing to its
+ * directory. Looking up item {@code n} of feed {@code x} reads two offsets and decodes a single
+ * record, without touching the rest of the feed. Since both files are mapped, the operating system
+ * page cache is shared between all processes reading the same store.
+ * </p>
+ * <p>
+ * An instance sees the feeds that were completely written when it was opened. Each file is mapped
+ * in one piece, so a data file can not exceed 2 GB. Instances are threadsafe. Note that a mapping
+ * is only released when it is garbage collected, also after {@link #close()}.
+ * </p>
+ */
+public class FeedStore implements Closeable {
+
+	/**
+	 * First four bytes of a data file: {@code PPSD}
+	 */
+	static final int DATA_MAGIC = 0x50505344;
+
+	/**
+	 * First four bytes of an index file: {@code PPSI}
+	 */
+	static final int INDEX_MAGIC = 0x50505349;
+
+	/**
+	 * Current version, follows {@link FeedCodec#VERSION} since the records carry no version of their
+	 * own
+	 */
+	static final int VERSION = 2;
+
+	/**
+	 * Oldest version that can be read
+	 */
+	static final int MIN_VERSION = 1;
+
+	/**
+	 * Magic number and version at the start of both files
+	 */
+	static final int HEADER_SIZE = 8;
+
+	/**
+	 * Index entry: directory offset ({@code long}), item count ({@code int}) and padding
+	 * ({@code int}, always 0)
+	 */
+	static final int ENTRY_SIZE = 16;
+
+	private final FeedCodec codec = new FeedCodec();
+	private final FileChannel dataChannel;
+	private final FileChannel indexChannel;
+	private final MappedByteBuffer data;
+	private final MappedByteBuffer index;
+	private final int size;
+
+	/**
+	 * Open and map the given files.
+	 *
+	 * @param data
+	 *            {@link Path} of the data file, not {@code null}
+	 * @param index
+	 *            {@link Path} of the index file, not {@code null}
+	 * @throws IOException
+	 *             if either file can not be opened or mapped
+	 * @throws InvalidFeedFormatException
+	 *             if either file is not part of a {@link FeedStore}
+	 */
+	public FeedStore(Path data, Path index) throws IOException {
+		this.dataChannel = FileChannel.open(data, StandardOpenOption.READ);
+		try {
+			this.indexChannel = FileChannel.open(index, StandardOpenOption.READ);
+		} catch (IOException e) {
+			this.dataChannel.close();
+			throw e;
+		}
+		try {
+			// the writer appends a record before its index entry, so mapping the index first means
+			// every mapped entry refers to data that is also mapped
+			this.index = map(indexChannel, INDEX_MAGIC);
+			this.data = map(dataChannel, DATA_MAGIC);
+			this.size = complete((this.index.capacity() - HEADER_SIZE) / ENTRY_SIZE);
+		} catch (IOException | RuntimeException e) {
+			close();
+			throw e;
+		}
+	}
+
+	/**
+	 * @return number of leading entries of which the directory lies within the mapped data, in case
+	 *         the files were written in a different order
+	 */
+	private int complete(int entries) {
+		while (entries > 0) {
+			int entry = HEADER_SIZE + (entries - 1) * ENTRY_SIZE;
+			long end = index.getLong(entry) + (index.getInt(entry + Long.BYTES) + 2L) * Long.BYTES;
+			if (end <= data.capacity()) {
+				break;
+			}
+			entries--;
+		}
+		return entries;
+	}
+
+	private static MappedByteBuffer map(FileChannel channel, int magic) throws IOException {
+		long size = channel.size();
+		if (size > Integer.MAX_VALUE) {
+			throw new IOException("feed store file larger than 2 GB");
+		}
+		if (size < HEADER_SIZE) {
+			throw new InvalidFeedFormatException("not a feed store file");
+		}
+		MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, size);
+		checkHeader(buffer, magic);
+		return buffer;
+	}
+
+	static void checkHeader(ByteBuffer buffer, int magic) {
+		if (buffer.getInt(0) != magic) {
+			throw new InvalidFeedFormatException("not a feed store file");
+		}
+		int version = buffer.getInt(4);
+		if (version < MIN_VERSION || version > VERSION) {
+			throw new InvalidFeedFormatException("unsupported feed store version {}", String.valueOf(version));
+		}
+	}
+
+	/**
+	 * @return number of feeds in this store
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @param feed
+	 *            number of a feed in this store
+	 * @return number of items of the feed
+	 * @throws IndexOutOfBoundsException
+	 *             if there is no such feed
+	 */
+	public int getItemCount(int feed) {
+		return index.getInt(entry(feed) + Long.BYTES);
+	}
+
+	/**
+	 * @param feed
+	 *            number of a feed in this store
+	 * @return the feed level values, without items, never {@code null}
+	 * @throws IndexOutOfBoundsException
+	 *             if there is no such feed
+	 * @throws InvalidFeedFormatException
+	 *             if the stored data is corrupt
+	 */
+	public Feed getFeedHeader(int feed) {
+		return codec.decodeFeedHeader(record(directory(feed), 0));
+	}
+
+	/**
+	 * @param feed
+	 *            number of a feed in this store
+	 * @param item
+	 *            number of an item within the feed
+	 * @return the decoded {@link Item}, never {@code null}
+	 * @throws IndexOutOfBoundsException
+	 *             if there is no such feed or item
+	 * @throws InvalidFeedFormatException
+	 *             if the stored data is corrupt
+	 */
+	public Item getItem(int feed, int item) {
+		int count = getItemCount(feed);
+		if (item < 0 || item >= count) {
+			throw new IndexOutOfBoundsException("item " + item + " of " + count);
+		}
+		return codec.decodeItem(record(directory(feed), item + 1));
+	}
+
+	/**
+	 * @param feed
+	 *            number of a feed in this store
+	 * @return the decoded {@link Feed} with all of its items, never {@code null}
+	 * @throws IndexOutOfBoundsException
+	 *             if there is no such feed
+	 * @throws InvalidFeedFormatException
+	 *             if the stored data is corrupt
+	 */
+	public Feed getFeed(int feed) {
+		int count = getItemCount(feed);
+		int directory = directory(feed);
+		Feed decoded = codec.decodeFeedHeader(record(directory, 0));
+		for (int i = 1; i <= count; i++) {
+			decoded.addItem(codec.decodeItem(record(directory, i)));
+		}
+		return decoded;
+	}
+
+	private int entry(int feed) {
+		if (feed < 0 || feed >= size) {
+			throw new IndexOutOfBoundsException("feed " + feed + " of " + size);
+		}
+		return HEADER_SIZE + feed * ENTRY_SIZE;
+	}
+
+	private int directory(int feed) {
+		long offset = index.getLong(entry(feed));
+		long end = offset + (getItemCount(feed) + 2L) * Long.BYTES;
+		if (offset < HEADER_SIZE || end > data.capacity()) {
+			throw new InvalidFeedFormatException("invalid directory offset for feed {}", String.valueOf(feed));
+		}
+		return (int) offset;
+	}
+
+	/**
+	 * @return a view of record {@code n} listed in the directory at the given offset, with its own
+	 *         position and limit, so concurrent readers do not interfere
+	 */
+	private ByteBuffer record(int directory, int n) {
+		long start = data.getLong(directory + n * Long.BYTES);
+		long end = data.getLong(directory + (n + 1) * Long.BYTES);
+		if (start < HEADER_SIZE || end < start || end > directory) {
+			throw new InvalidFeedFormatException("invalid record offset in directory at {}", String.valueOf(directory));
+		}
+		ByteBuffer buffer = data.duplicate();
+		buffer.limit((int) end).position((int) start);
+		return buffer;
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			dataChannel.close();
+		} finally {
+			if (indexChannel != null) {
+				indexChannel.close();
+			}
+		}
+	}
+
+}
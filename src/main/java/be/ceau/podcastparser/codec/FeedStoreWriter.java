@@ -0,0 +1,203 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.codec;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import be.ceau.podcastparser.exceptions.InvalidFeedFormatException;
+import be.ceau.podcastparser.models.core.Feed;
+import be.ceau.podcastparser.models.core.Item;
+
+/**
+ * <p>
+ * Appends encoded {@link Feed} instances to the data and index file of a {@link FeedStore}.
+ * </p>
+ * <p>
+ * For every feed, the data file receives the header record, the item records and a directory with
+ * the offset of every record. Only when all of that is written, a fixed size entry pointing to the
+ * directory is appended to the index file. A reader never sees a feed before it is complete, and a
+ * writer interrupted halfway leaves unreferenced bytes in the data file at worst. A partial index
+ * entry is discarded when the files are opened again.
+ * </p>
+ * <p>
+ * As {@link FeedStore} maps each file in one piece, neither file may grow beyond 2 GB. An append
+ * that would cross that limit is rejected before anything is written, so the store stays readable.
+ * </p>
+ * <p>
+ * Instances are not threadsafe, and only a single writer should append to a pair of files at any
+ * time.
+ * </p>
+ */
+public class FeedStoreWriter implements Closeable {
+
+	private final FeedCodec codec = new FeedCodec();
+	private final FileChannel data;
+	private final FileChannel index;
+	private final long maxFileSize;
+	private long position;
+	private int size;
+
+	/**
+	 * Open the given files for appending, creating them if needed.
+	 *
+	 * @param data
+	 *            {@link Path} of the data file, not {@code null}
+	 * @param index
+	 *            {@link Path} of the index file, not {@code null}
+	 * @throws IOException
+	 *             if either file can not be opened
+	 * @throws InvalidFeedFormatException
+	 *             if either file exists, but is not part of a {@link FeedStore}
+	 */
+	public FeedStoreWriter(Path data, Path index) throws IOException {
+		this(data, index, Integer.MAX_VALUE);
+	}
+
+	FeedStoreWriter(Path data, Path index, long maxFileSize) throws IOException {
+		this.maxFileSize = maxFileSize;
+		this.data = FileChannel.open(data, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		try {
+			this.index = FileChannel.open(index, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		} catch (IOException e) {
+			this.data.close();
+			throw e;
+		}
+		try {
+			this.position = prepare(this.data, FeedStore.DATA_MAGIC);
+			long entries = prepare(this.index, FeedStore.INDEX_MAGIC) - FeedStore.HEADER_SIZE;
+			// drop a partial entry left by an interrupted writer
+			entries -= entries % FeedStore.ENTRY_SIZE;
+			this.index.truncate(FeedStore.HEADER_SIZE + entries);
+			this.size = (int) (entries / FeedStore.ENTRY_SIZE);
+		} catch (IOException | RuntimeException e) {
+			close();
+			throw e;
+		}
+	}
+
+	private static long prepare(FileChannel channel, int magic) throws IOException {
+		long size = channel.size();
+		ByteBuffer header = ByteBuffer.allocate(FeedStore.HEADER_SIZE);
+		if (size == 0) {
+			header.putInt(magic).putInt(FeedStore.VERSION).flip();
+			writeFully(channel, header, 0);
+			return FeedStore.HEADER_SIZE;
+		}
+		if (size < FeedStore.HEADER_SIZE) {
+			throw new InvalidFeedFormatException("not a feed store file");
+		}
+		while (header.hasRemaining()) {
+			channel.read(header, header.position());
+		}
+		FeedStore.checkHeader(header, magic);
+		if (header.getInt(4) != FeedStore.VERSION) {
+			// older records are still valid, new ones may not be readable by the older version
+			ByteBuffer version = ByteBuffer.allocate(4);
+			version.putInt(FeedStore.VERSION).flip();
+			writeFully(channel, version, 4);
+		}
+		return size;
+	}
+
+	private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			position += channel.write(buffer, position);
+		}
+	}
+
+	/**
+	 * Append the given {@link Feed} and all of its items.
+	 *
+	 * @param feed
+	 *            {@link Feed} to append, not {@code null}
+	 * @return number of the appended feed in the store
+	 * @throws IOException
+	 *             if writing fails, or if either file would grow beyond 2 GB, in which case nothing
+	 *             is written
+	 */
+	public int append(Feed feed) throws IOException {
+		List<Item> items = feed.getItems();
+		byte[][] records = new byte[items.size() + 1][];
+		records[0] = codec.encodeFeedHeader(feed);
+		long length = (records.length + 1L) * Long.BYTES;
+		for (int i = 0; i < items.size(); i++) {
+			records[i + 1] = codec.encodeItem(items.get(i));
+			length += records[i + 1].length;
+		}
+		length += records[0].length;
+		if (position + length > maxFileSize || FeedStore.HEADER_SIZE + (size + 1L) * FeedStore.ENTRY_SIZE > maxFileSize) {
+			throw new IOException("feed store full, appending " + length + " bytes would exceed " + maxFileSize + " bytes");
+		}
+
+		long[] offsets = new long[records.length + 1];
+		for (int i = 0; i < records.length; i++) {
+			offsets[i] = position;
+			write(records[i]);
+		}
+		offsets[offsets.length - 1] = position;
+
+		ByteBuffer directory = ByteBuffer.allocate(offsets.length * Long.BYTES);
+		directory.asLongBuffer().put(offsets);
+		long directoryOffset = position;
+		writeFully(data, directory, position);
+		position += offsets.length * Long.BYTES;
+
+		ByteBuffer entry = ByteBuffer.allocate(FeedStore.ENTRY_SIZE);
+		entry.putLong(directoryOffset).putInt(items.size()).putInt(0).flip();
+		writeFully(index, entry, FeedStore.HEADER_SIZE + (long) size * FeedStore.ENTRY_SIZE);
+		return size++;
+	}
+
+	private void write(byte[] bytes) throws IOException {
+		writeFully(data, ByteBuffer.wrap(bytes), position);
+		position += bytes.length;
+	}
+
+	/**
+	 * Force all appended feeds to the storage device.
+	 *
+	 * @throws IOException
+	 *             if syncing fails
+	 */
+	public void sync() throws IOException {
+		data.force(false);
+		index.force(false);
+	}
+
+	/**
+	 * @return number of feeds in the store
+	 */
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			data.close();
+		} finally {
+			if (index != null) {
+				index.close();
+			}
+		}
+	}
+
+}
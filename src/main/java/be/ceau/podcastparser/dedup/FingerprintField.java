@@ -0,0 +1,43 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.dedup;
+
+/**
+ * Values of an {@link be.ceau.podcastparser.models.core.Item} that an {@link ItemFingerprinter} can
+ * combine into a fingerprint.
+ */
+public enum FingerprintField {
+
+	/**
+	 * The guid, trimmed
+	 */
+	GUID,
+
+	/**
+	 * The original enclosure URL, without scheme and fragment and with a lowercase host
+	 */
+	ENCLOSURE_URL,
+
+	/**
+	 * The title, lowercase, trimmed, with whitespace runs as a single space
+	 */
+	TITLE,
+
+	/**
+	 * The duration, in whole seconds
+	 */
+	DURATION;
+
+}
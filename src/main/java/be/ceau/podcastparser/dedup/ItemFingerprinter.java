@@ -0,0 +1,211 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.dedup;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+import be.ceau.podcastparser.models.core.Item;
+import be.ceau.podcastparser.models.support.Enclosure;
+import be.ceau.podcastparser.models.support.Link;
+import be.ceau.podcastparser.models.support.TypedString;
+import be.ceau.podcastparser.util.Hashes;
+
+/**
+ * <p>
+ * Computes a 64-bit fingerprint of an {@link Item} from a configurable set of
+ * {@link FingerprintField} values, normalized so that mirrors of the same episode get the same
+ * fingerprint.
+ * </p>
+ * <p>
+ * The enclosure URL is taken from {@code feedburner:origEnclosureLink} if present, else from the
+ * enclosure, else from the BBC {@code enclosureSecure} or {@code enclosureLegacy} elements. As the
+ * scheme is ignored, {@code http} and {@code https} mirrors match. Values are hashed character by
+ * character as they are normalized, without creating normalized {@link String} instances.
+ * </p>
+ * <p>
+ * Pass an instance to
+ * {@link be.ceau.podcastparser.PodcastParser#PodcastParser(Collection, Collection, be.ceau.podcastparser.util.StringPool, ItemFingerprinter)}
+ * to set {@link Item#getFingerprint()} on every parsed item. A fingerprint is never {@code 0}.
+ * Instances are immutable and threadsafe.
+ * </p>
+ */
+public class ItemFingerprinter {
+
+	/**
+	 * Fingerprint of guid, enclosure URL and title
+	 */
+	public static final ItemFingerprinter DEFAULT = new ItemFingerprinter(EnumSet.of(FingerprintField.GUID, FingerprintField.ENCLOSURE_URL, FingerprintField.TITLE));
+
+	private static final String ORIG_ENCLOSURE_LINK = "origEnclosureLink";
+	private static final String[] MIRRORS = { "BBC enclosureSecure", "BBC enclosureLegacy" };
+
+	private final Set<FingerprintField> fields;
+
+	/**
+	 * @param fields
+	 *            {@link Collection} of {@link FingerprintField} to combine, not {@code null}, not
+	 *            empty
+	 * @throws IllegalArgumentException
+	 *             if {@code fields} is empty
+	 */
+	public ItemFingerprinter(Collection<FingerprintField> fields) {
+		if (fields.isEmpty()) {
+			throw new IllegalArgumentException("fields must not be empty");
+		}
+		this.fields = Collections.unmodifiableSet(EnumSet.copyOf(fields));
+	}
+
+	/**
+	 * @return unmodifiable {@link Set} of the {@link FingerprintField} combined, never {@code null}
+	 */
+	public Set<FingerprintField> getFields() {
+		return fields;
+	}
+
+	/**
+	 * @param item
+	 *            {@link Item}, not {@code null}
+	 * @return fingerprint of the given {@link Item}, never {@code 0}
+	 */
+	public long fingerprint(Item item) {
+		Objects.requireNonNull(item);
+		long state = Hashes.SEED;
+		for (FingerprintField field : fields) {
+			switch (field) {
+			case GUID:
+				state = updateTrimmed(state, item.getGuid());
+				break;
+			case ENCLOSURE_URL:
+				state = updateUrl(state, enclosureUrl(item));
+				break;
+			case TITLE:
+				TypedString title = item.getTitle();
+				state = updateText(state, title == null ? null : title.getText());
+				break;
+			case DURATION:
+				state = updateDuration(state, item.getDuration());
+				break;
+			}
+		}
+		long fingerprint = Hashes.finish(state);
+		return fingerprint == 0L ? 1L : fingerprint;
+	}
+
+	private static String enclosureUrl(Item item) {
+		if (item.getLinks() != null) {
+			for (Link link : item.getLinks()) {
+				if (ORIG_ENCLOSURE_LINK.equals(link.getRel()) && link.getHref() != null) {
+					return link.getHref();
+				}
+			}
+		}
+		Enclosure enclosure = item.getEnclosure();
+		if (enclosure != null && enclosure.getUrl() != null) {
+			return enclosure.getUrl();
+		}
+		for (String mirror : MIRRORS) {
+			enclosure = item.getOtherEnclosures().get(mirror);
+			if (enclosure != null && enclosure.getUrl() != null) {
+				return enclosure.getUrl();
+			}
+		}
+		return null;
+	}
+
+	private static long updateTrimmed(long state, String value) {
+		if (value == null) {
+			return Hashes.updateField(state, null);
+		}
+		int start = 0;
+		int end = value.length();
+		while (start < end && value.charAt(start) <= ' ') {
+			start++;
+		}
+		while (end > start && value.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		return Hashes.update(Hashes.update(state, value, start, end), '\u0000');
+	}
+
+	private static long updateUrl(long state, String url) {
+		if (url == null) {
+			return Hashes.updateField(state, null);
+		}
+		int start = 0;
+		int end = url.length();
+		while (start < end && url.charAt(start) <= ' ') {
+			start++;
+		}
+		while (end > start && url.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		int scheme = url.indexOf("://", start);
+		if (scheme > 0 && scheme < end) {
+			start = scheme + 3;
+		}
+		int fragment = url.indexOf('#', start);
+		if (fragment >= 0 && fragment < end) {
+			end = fragment;
+		}
+		boolean host = true;
+		for (int i = start; i < end; i++) {
+			char c = url.charAt(i);
+			if (c == '/' || c == '?') {
+				host = false;
+			}
+			state = Hashes.update(state, host ? Character.toLowerCase(c) : c);
+		}
+		return Hashes.update(state, '\u0000');
+	}
+
+	private static long updateText(long state, String text) {
+		if (text == null) {
+			return Hashes.updateField(state, null);
+		}
+		boolean space = false;
+		boolean started = false;
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (Character.isWhitespace(c)) {
+				space = started;
+				continue;
+			}
+			if (space) {
+				state = Hashes.update(state, ' ');
+				space = false;
+			}
+			started = true;
+			state = Hashes.update(state, Character.toLowerCase(c));
+		}
+		return Hashes.update(state, '\u0000');
+	}
+
+	private static long updateDuration(long state, Duration duration) {
+		if (duration == null) {
+			return Hashes.updateField(state, null);
+		}
+		long seconds = duration.getSeconds();
+		for (int shift = 0; shift < 64; shift += 16) {
+			state = Hashes.update(state, (char) (seconds >>> shift));
+		}
+		return Hashes.update(state, '\u0000');
+	}
+
+}
@@ -0,0 +1,98 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.delta;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Objects;
+
+import be.ceau.podcastparser.PodcastParser;
+import be.ceau.podcastparser.exceptions.InvalidFeedFormatException;
+import be.ceau.podcastparser.exceptions.PodcastParserException;
+
+/**
+ * <p>
+ * Parses a feed only if its {@link ContentHasher} hash differs from the hash of a previous fetch,
+ * for publishers that serve unchanged feeds without support for conditional requests.
+ * </p>
+ * <p>
+ * A {@link Reader} is hashed in chunks while it is read into memory, so an unchanged feed costs a
+ * single pass over its characters and no XML processing at all. Instances are threadsafe.
+ * </p>
+ */
+public class ChangeDetector {
+
+	private static final int CHUNK = 8192;
+
+	private final PodcastParser parser;
+	private final ContentHasher hasher;
+
+	/**
+	 * @param parser
+	 *            {@link PodcastParser} for parsing changed feeds, not {@code null}
+	 * @param hasher
+	 *            {@link ContentHasher}, not {@code null}
+	 */
+	public ChangeDetector(PodcastParser parser, ContentHasher hasher) {
+		this.parser = Objects.requireNonNull(parser);
+		this.hasher = Objects.requireNonNull(hasher);
+	}
+
+	/**
+	 * @param xml
+	 *            XML of the feed, not {@code null}
+	 * @param previousHash
+	 *            {@link ContentCheck#getHash()} of the previous fetch
+	 * @return {@link ContentCheck}, never {@code null}
+	 * @throws PodcastParserException
+	 *             if the feed changed and can not be parsed
+	 */
+	public ContentCheck parse(String xml, long previousHash) throws PodcastParserException {
+		long hash = hasher.hash(xml);
+		if (hash == previousHash) {
+			return new ContentCheck(hash, false, null);
+		}
+		return new ContentCheck(hash, true, parser.parse(xml));
+	}
+
+	/**
+	 * @param reader
+	 *            {@link Reader} with the XML of the feed, not {@code null}, not closed by this method
+	 * @param previousHash
+	 *            {@link ContentCheck#getHash()} of the previous fetch
+	 * @return {@link ContentCheck}, never {@code null}
+	 * @throws PodcastParserException
+	 *             if reading fails, or if the feed changed and can not be parsed
+	 */
+	public ContentCheck parse(Reader reader, long previousHash) throws PodcastParserException {
+		ContentHasher.State state = hasher.newState();
+		StringBuilder xml = new StringBuilder(CHUNK);
+		char[] chunk = new char[CHUNK];
+		try {
+			for (int read = reader.read(chunk); read != -1; read = reader.read(chunk)) {
+				state.update(chunk, 0, read);
+				xml.append(chunk, 0, read);
+			}
+		} catch (IOException e) {
+			throw new InvalidFeedFormatException(e);
+		}
+		long hash = state.getHash();
+		if (hash == previousHash) {
+			return new ContentCheck(hash, false, null);
+		}
+		return new ContentCheck(hash, true, parser.parse(xml.toString()));
+	}
+
+}
@@ -0,0 +1,66 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.delta;
+
+import be.ceau.podcastparser.models.core.Feed;
+
+/**
+ * Result of comparing a document with the {@link ContentHasher} hash of a previous fetch.
+ */
+public class ContentCheck {
+
+	private final long hash;
+	private final boolean changed;
+	private final Feed feed;
+
+	ContentCheck(long hash, boolean changed, Feed feed) {
+		this.hash = hash;
+		this.changed = changed;
+		this.feed = feed;
+	}
+
+	/**
+	 * @return hash of the current document, to pass on the next fetch
+	 */
+	public long getHash() {
+		return hash;
+	}
+
+	/**
+	 * @return {@code true} if the hash differs from the previous hash
+	 */
+	public boolean isChanged() {
+		return changed;
+	}
+
+	/**
+	 * @return the parsed {@link Feed} if changed, else {@code null}
+	 */
+	public Feed getFeed() {
+		return feed;
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder()
+				.append("ContentCheck [hash=")
+				.append(Long.toHexString(hash))
+				.append(", changed=")
+				.append(changed)
+				.append("]")
+				.toString();
+	}
+
+}
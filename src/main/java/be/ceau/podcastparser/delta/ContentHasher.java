@@ -0,0 +1,203 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.delta;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import be.ceau.podcastparser.util.Hashes;
+
+/**
+ * <p>
+ * Streaming 64-bit hash of a feed document, for detecting feeds that are served again without
+ * changes, before any parsing.
+ * </p>
+ * <p>
+ * The input is normalized while hashing: a byte order mark and leading and trailing whitespace are
+ * ignored, and every run of whitespace counts as a single space, so line ending or indentation
+ * changes do not change the hash. Optionally, the content of elements with given local names is
+ * ignored, for values that are regenerated on every request, such as {@code lastBuildDate}.
+ * Instances are immutable and threadsafe.
+ * </p>
+ */
+public final class ContentHasher {
+
+	/**
+	 * Hash of the normalized document
+	 */
+	public static final ContentHasher DEFAULT = new ContentHasher(Collections.emptySet());
+
+	/**
+	 * Hash of the normalized document, without the content of {@code lastBuildDate} elements
+	 */
+	public static final ContentHasher IGNORE_VOLATILE = ignoring("lastBuildDate");
+
+	private static final int MAX_NAME = 64;
+
+	private final Set<String> ignored;
+
+	private ContentHasher(Set<String> ignored) {
+		this.ignored = ignored;
+	}
+
+	/**
+	 * @param localNames
+	 *            local names of elements of which attributes and content must not change the hash,
+	 *            regardless of namespace
+	 * @return a new {@link ContentHasher}, never {@code null}
+	 */
+	public static ContentHasher ignoring(String... localNames) {
+		return new ContentHasher(Collections.unmodifiableSet(new HashSet<>(Arrays.asList(localNames))));
+	}
+
+	/**
+	 * @param chars
+	 *            {@link CharSequence} holding a complete document, not {@code null}
+	 * @return hash of the document
+	 */
+	public long hash(CharSequence chars) {
+		State state = newState();
+		for (int i = 0; i < chars.length(); i++) {
+			state.update(chars.charAt(i));
+		}
+		return state.getHash();
+	}
+
+	State newState() {
+		return new State(ignored);
+	}
+
+	/**
+	 * Hash of a single document, fed one character at a time.
+	 */
+	static final class State {
+
+		private static final int TEXT = 0;
+		private static final int NAME = 1;
+		private static final int SKIP = 2;
+
+		private final Set<String> ignored;
+		private final StringBuilder name = new StringBuilder();
+		private long hash = Hashes.SEED;
+		private int mode = TEXT;
+		private boolean started;
+		private boolean space;
+		// while skipping an ignored element
+		private String end;
+		private int matched;
+		private boolean inStartTag;
+		private char previous;
+
+		private State(Set<String> ignored) {
+			this.ignored = ignored;
+		}
+
+		void update(char[] chars, int start, int end) {
+			for (int i = start; i < end; i++) {
+				update(chars[i]);
+			}
+		}
+
+		void update(char c) {
+			switch (mode) {
+			case SKIP:
+				skip(c);
+				return;
+			case NAME:
+				if (c > ' ' && c != '>' && (c != '/' || name.length() == 0) && name.length() < MAX_NAME) {
+					name.append(c);
+					hash = Hashes.update(hash, c);
+					return;
+				}
+				mode = TEXT;
+				if (c != '/' && isIgnored()) {
+					mode = SKIP;
+					end = "</" + name;
+					matched = 0;
+					inStartTag = c != '>';
+					previous = c;
+					return;
+				}
+				text(c);
+				return;
+			default:
+				text(c);
+			}
+		}
+
+		private void text(char c) {
+			if (c <= ' ' || c == '\uFEFF') {
+				space = started;
+				return;
+			}
+			if (space) {
+				hash = Hashes.update(hash, ' ');
+				space = false;
+			}
+			started = true;
+			hash = Hashes.update(hash, c);
+			if (c == '<') {
+				mode = NAME;
+				name.setLength(0);
+			}
+		}
+
+		private void skip(char c) {
+			if (inStartTag) {
+				if (c == '>') {
+					inStartTag = false;
+					if (previous == '/') {
+						// empty element, nothing more to skip
+						mode = TEXT;
+						text('>');
+						return;
+					}
+				}
+				previous = c;
+				return;
+			}
+			if (matched == end.length()) {
+				if (c <= ' ' || c == '>') {
+					mode = TEXT;
+					hash = Hashes.update(hash, end, 0, end.length());
+					text(c);
+					return;
+				}
+				matched = 0;
+			}
+			if (c == end.charAt(matched)) {
+				matched++;
+			} else {
+				matched = c == '<' ? 1 : 0;
+			}
+		}
+
+		private boolean isIgnored() {
+			if (ignored.isEmpty() || name.length() == 0) {
+				return false;
+			}
+			int colon = name.indexOf(":");
+			return ignored.contains(colon < 0 ? name.toString() : name.substring(colon + 1));
+		}
+
+		long getHash() {
+			return Hashes.finish(hash);
+		}
+
+	}
+
+}
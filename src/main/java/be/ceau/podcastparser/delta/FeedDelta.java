@@ -0,0 +1,119 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.delta;
+
+import java.util.Collections;
+import java.util.List;
+
+import be.ceau.podcastparser.models.core.Feed;
+import be.ceau.podcastparser.models.core.Item;
+
+/**
+ * Difference between a feed and its {@link FeedFingerprint} from a previous fetch.
+ */
+public class FeedDelta {
+
+	private final Feed header;
+	private final List<Item> added;
+	private final List<Item> changed;
+	private final List<String> removed;
+	private final int unchanged;
+	private final FeedFingerprint fingerprint;
+
+	FeedDelta(Feed header, List<Item> added, List<Item> changed, List<String> removed, int unchanged, FeedFingerprint fingerprint) {
+		this.header = header;
+		this.added = Collections.unmodifiableList(added);
+		this.changed = Collections.unmodifiableList(changed);
+		this.removed = Collections.unmodifiableList(removed);
+		this.unchanged = unchanged;
+		this.fingerprint = fingerprint;
+	}
+
+	/**
+	 * @return {@code true} if the markup outside the items changed
+	 */
+	public boolean isHeaderChanged() {
+		return header != null;
+	}
+
+	/**
+	 * @return the feed level values, without items, if the header changed, else {@code null}
+	 */
+	public Feed getHeader() {
+		return header;
+	}
+
+	/**
+	 * @return unmodifiable {@link List} of parsed items with a key that was not in the previous
+	 *         fingerprint, in document order
+	 */
+	public List<Item> getAdded() {
+		return added;
+	}
+
+	/**
+	 * @return unmodifiable {@link List} of parsed items with a known key, of which guid, enclosure
+	 *         URL, pubDate or title changed, in document order
+	 */
+	public List<Item> getChanged() {
+		return changed;
+	}
+
+	/**
+	 * @return unmodifiable {@link List} with the keys of previous items that are no longer present
+	 */
+	public List<String> getRemoved() {
+		return removed;
+	}
+
+	/**
+	 * @return number of items that were not parsed, because they did not change
+	 */
+	public int getUnchanged() {
+		return unchanged;
+	}
+
+	/**
+	 * @return {@code true} if neither header nor items changed
+	 */
+	public boolean isEmpty() {
+		return header == null && added.isEmpty() && changed.isEmpty() && removed.isEmpty();
+	}
+
+	/**
+	 * @return {@link FeedFingerprint} of the current state, to pass on the next fetch
+	 */
+	public FeedFingerprint getFingerprint() {
+		return fingerprint;
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder()
+				.append("FeedDelta [headerChanged=")
+				.append(isHeaderChanged())
+				.append(", added=")
+				.append(added.size())
+				.append(", changed=")
+				.append(changed.size())
+				.append(", removed=")
+				.append(removed.size())
+				.append(", unchanged=")
+				.append(unchanged)
+				.append("]")
+				.toString();
+	}
+
+}
@@ -0,0 +1,194 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.delta;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import be.ceau.podcastparser.PodcastParser;
+import be.ceau.podcastparser.exceptions.PodcastParserException;
+import be.ceau.podcastparser.lazy.ItemView;
+import be.ceau.podcastparser.lazy.LazyFeed;
+import be.ceau.podcastparser.models.core.Feed;
+import be.ceau.podcastparser.models.core.Item;
+import be.ceau.podcastparser.models.support.Enclosure;
+import be.ceau.podcastparser.util.Hashes;
+
+/**
+ * <p>
+ * Computes a {@link FeedDelta} between a feed and a previous {@link FeedFingerprint}.
+ * </p>
+ * <p>
+ * The feed is scanned with {@link LazyFeed}, and the raw markup of every item is hashed in place.
+ * An item with a raw hash from the previous fingerprint is unchanged, and is skipped without
+ * decoding anything. Only for other items are the guid or Atom id, enclosure URL, date and title
+ * decoded, to tell added, changed and merely reformatted items apart. Added and changed items are parsed
+ * completely, in runs of consecutive items, and the feed level values are only parsed if the markup
+ * outside the items changed. Instances are threadsafe.
+ * </p>
+ */
+public class FeedDiffer {
+
+	private final PodcastParser parser;
+
+	/**
+	 * @param parser
+	 *            {@link PodcastParser} for parsing changed content, not {@code null}
+	 */
+	public FeedDiffer(PodcastParser parser) {
+		this.parser = Objects.requireNonNull(parser);
+	}
+
+	/**
+	 * @param xml
+	 *            current XML of the feed, not {@code null}
+	 * @param previous
+	 *            {@link FeedFingerprint} from the previous fetch, or {@link FeedFingerprint#EMPTY},
+	 *            not {@code null}
+	 * @return {@link FeedDelta}, never {@code null}
+	 * @throws PodcastParserException
+	 *             if changed content can not be parsed
+	 */
+	public FeedDelta diff(String xml, FeedFingerprint previous) throws PodcastParserException {
+		Objects.requireNonNull(previous);
+		LazyFeed scan = LazyFeed.scan(Objects.requireNonNull(xml));
+		long headerHash = scan.getHeaderHash();
+		Feed header = null;
+		if (!previous.hasHeader() || previous.getHeaderHash() != headerHash) {
+			header = parser.parse(scan.getDocumentWithoutItems());
+		}
+
+		int size = scan.size();
+		long[] rawHashes = new long[size];
+		String[] keys = new String[size];
+		long[] contentHashes = new long[size];
+		boolean[] parse = new boolean[size];
+		boolean[] isNew = new boolean[size];
+		int unchanged = 0;
+		for (int i = 0; i < size; i++) {
+			ItemView view = scan.get(i);
+			rawHashes[i] = view.getRawHash();
+			int known = previous.indexOfRawHash(rawHashes[i]);
+			if (known >= 0) {
+				keys[i] = previous.getKey(known);
+				contentHashes[i] = previous.getContentHash(known);
+				unchanged++;
+				continue;
+			}
+			keys[i] = key(view, rawHashes[i]);
+			contentHashes[i] = contentHash(view);
+			int index = previous.indexOfKey(keys[i]);
+			if (index < 0) {
+				parse[i] = true;
+				isNew[i] = true;
+			} else if (previous.getContentHash(index) != contentHashes[i]) {
+				parse[i] = true;
+			} else {
+				unchanged++;
+			}
+		}
+
+		List<Item> added = new ArrayList<>();
+		List<Item> changed = new ArrayList<>();
+		parseRuns(scan, parse, isNew, added, changed);
+
+		Set<String> present = new HashSet<>(size * 2);
+		for (String key : keys) {
+			present.add(key);
+		}
+		List<String> removed = new ArrayList<>();
+		for (String key : previous.getKeys()) {
+			if (!present.contains(key)) {
+				removed.add(key);
+			}
+		}
+		FeedFingerprint fingerprint = new FeedFingerprint(true, headerHash, rawHashes, keys, contentHashes);
+		return new FeedDelta(header, added, changed, removed, unchanged, fingerprint);
+	}
+
+	/**
+	 * Parse every run of consecutive flagged items as a single document, which avoids parsing the
+	 * markup before the first item again for each of them.
+	 */
+	private void parseRuns(LazyFeed scan, boolean[] parse, boolean[] isNew, List<Item> added, List<Item> changed) {
+		int i = 0;
+		while (i < parse.length) {
+			if (!parse[i]) {
+				i++;
+				continue;
+			}
+			int from = i;
+			while (i < parse.length && parse[i]) {
+				i++;
+			}
+			List<Item> items = parser.parse(scan.getDocument(from, i)).getItems();
+			for (int j = from; j < i; j++) {
+				Item item = items.size() == i - from ? items.get(j - from) : scan.get(j).toItem();
+				if (item != null) {
+					(isNew[j] ? added : changed).add(item);
+				}
+			}
+		}
+	}
+
+	private static String key(ItemView view, long rawHash) {
+		String key = view.getGuid();
+		if (key == null || key.isEmpty()) {
+			key = enclosureUrl(view);
+		}
+		if (key == null || key.isEmpty()) {
+			key = view.getTitle();
+		}
+		if (key == null || key.isEmpty()) {
+			key = "#" + Long.toHexString(rawHash);
+		}
+		return key;
+	}
+
+	private static long contentHash(ItemView view) {
+		long state = Hashes.SEED;
+		state = Hashes.updateField(state, view.getGuid());
+		state = Hashes.updateField(state, enclosureUrl(view));
+		state = Hashes.updateField(state, date(view));
+		state = Hashes.updateField(state, view.getTitle());
+		return Hashes.finish(state);
+	}
+
+	/**
+	 * @return URL of the RSS {@code enclosure} or of the Atom {@code link rel="enclosure"}, or
+	 *         {@code null}
+	 */
+	private static String enclosureUrl(ItemView view) {
+		Enclosure enclosure = view.getEnclosure();
+		String url = enclosure == null ? null : enclosure.getUrl();
+		return url != null ? url.trim() : null;
+	}
+
+	/**
+	 * @return raw text of the RSS {@code pubDate} or the Atom {@code published} or {@code updated},
+	 *         or {@code null}
+	 */
+	private static String date(ItemView view) {
+		String date = view.getText("pubDate");
+		if (date == null) {
+			date = view.getText("published");
+		}
+		return date != null ? date : view.getText("updated");
+	}
+
+}
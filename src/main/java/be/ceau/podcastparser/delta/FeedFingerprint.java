@@ -0,0 +1,181 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.delta;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <p>
+ * State of a feed at a previous fetch, used by {@link FeedDiffer} to skip unchanged content. It
+ * holds a hash of the raw markup outside the items, and for every item, in document order: a hash
+ * of its raw markup, its key and a hash of its identifying values.
+ * </p>
+ * <p>
+ * The key of an item is its guid, else its enclosure URL, else its title. The identifying values
+ * are guid, enclosure URL, pubDate and title. Instances are immutable, and can be stored with
+ * {@link #writeTo(DataOutput)}.
+ * </p>
+ */
+public final class FeedFingerprint {
+
+	/**
+	 * Fingerprint of a feed that was never fetched: everything is new
+	 */
+	public static final FeedFingerprint EMPTY = new FeedFingerprint(false, 0L, new long[0], new String[0], new long[0]);
+
+	private static final int VERSION = 1;
+
+	private final boolean hasHeader;
+	private final long headerHash;
+	private final long[] rawHashes;
+	private final String[] keys;
+	private final long[] contentHashes;
+	private final long[] sortedRawHashes;
+	private final int[] sortedIndexes;
+	private final Map<String, Integer> indexByKey;
+
+	FeedFingerprint(boolean hasHeader, long headerHash, long[] rawHashes, String[] keys, long[] contentHashes) {
+		this.hasHeader = hasHeader;
+		this.headerHash = headerHash;
+		this.rawHashes = rawHashes;
+		this.keys = keys;
+		this.contentHashes = contentHashes;
+		Integer[] order = new Integer[rawHashes.length];
+		for (int i = 0; i < order.length; i++) {
+			order[i] = i;
+		}
+		Arrays.sort(order, (a, b) -> Long.compare(rawHashes[a], rawHashes[b]));
+		this.sortedRawHashes = new long[order.length];
+		this.sortedIndexes = new int[order.length];
+		for (int i = 0; i < order.length; i++) {
+			sortedIndexes[i] = order[i];
+			sortedRawHashes[i] = rawHashes[order[i]];
+		}
+		this.indexByKey = new HashMap<>(keys.length * 2);
+		for (int i = 0; i < keys.length; i++) {
+			indexByKey.put(keys[i], i);
+		}
+	}
+
+	/**
+	 * @return {@code true} if this fingerprint was taken from a fetched feed
+	 */
+	public boolean hasHeader() {
+		return hasHeader;
+	}
+
+	/**
+	 * @return hash of the raw markup of the feed outside its items
+	 */
+	public long getHeaderHash() {
+		return headerHash;
+	}
+
+	/**
+	 * @return number of items
+	 */
+	public int size() {
+		return keys.length;
+	}
+
+	/**
+	 * @return unmodifiable {@link List} with the key of every item, in document order
+	 */
+	public List<String> getKeys() {
+		return Collections.unmodifiableList(Arrays.asList(keys));
+	}
+
+	String getKey(int index) {
+		return keys[index];
+	}
+
+	long getContentHash(int index) {
+		return contentHashes[index];
+	}
+
+	/**
+	 * @return index of an item with the given raw hash, or -1 if none
+	 */
+	int indexOfRawHash(long rawHash) {
+		int found = Arrays.binarySearch(sortedRawHashes, rawHash);
+		return found < 0 ? -1 : sortedIndexes[found];
+	}
+
+	/**
+	 * @return index of the item with the given key, or -1 if none
+	 */
+	int indexOfKey(String key) {
+		Integer index = indexByKey.get(key);
+		return index == null ? -1 : index;
+	}
+
+	/**
+	 * @param out
+	 *            {@link DataOutput} to write to, not {@code null}
+	 * @throws IOException
+	 *             if writing fails
+	 */
+	public void writeTo(DataOutput out) throws IOException {
+		out.writeByte(VERSION);
+		out.writeBoolean(hasHeader);
+		out.writeLong(headerHash);
+		out.writeInt(keys.length);
+		for (int i = 0; i < keys.length; i++) {
+			out.writeLong(rawHashes[i]);
+			out.writeUTF(keys[i]);
+			out.writeLong(contentHashes[i]);
+		}
+	}
+
+	/**
+	 * @param in
+	 *            {@link DataInput} holding a fingerprint written by {@link #writeTo(DataOutput)},
+	 *            not {@code null}
+	 * @return the {@link FeedFingerprint} read, never {@code null}
+	 * @throws IOException
+	 *             if reading fails or the data is not a fingerprint
+	 */
+	public static FeedFingerprint readFrom(DataInput in) throws IOException {
+		Objects.requireNonNull(in);
+		int version = in.readByte();
+		if (version != VERSION) {
+			throw new IOException("unsupported fingerprint version " + version);
+		}
+		boolean hasHeader = in.readBoolean();
+		long headerHash = in.readLong();
+		int size = in.readInt();
+		if (size < 0) {
+			throw new IOException("invalid fingerprint size " + size);
+		}
+		long[] rawHashes = new long[size];
+		String[] keys = new String[size];
+		long[] contentHashes = new long[size];
+		for (int i = 0; i < size; i++) {
+			rawHashes[i] = in.readLong();
+			keys[i] = in.readUTF();
+			contentHashes[i] = in.readLong();
+		}
+		return new FeedFingerprint(hasHeader, headerHash, rawHashes, keys, contentHashes);
+	}
+
+}
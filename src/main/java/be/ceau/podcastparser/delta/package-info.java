@@ -0,0 +1,20 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+/**
+ * Incremental parsing of refreshed feeds: unchanged documents are detected by a
+ * {@link be.ceau.podcastparser.delta.ContentHasher} hash before parsing, and otherwise only items
+ * that changed since a previous {@link be.ceau.podcastparser.delta.FeedFingerprint} are parsed.
+ */
+package be.ceau.podcastparser.delta;
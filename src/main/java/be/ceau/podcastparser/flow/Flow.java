@@ -0,0 +1,106 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.flow;
+
+/**
+ * <p>
+ * Interfaces for demand-driven publication, with the same methods and contract as their
+ * counterparts in {@code java.util.concurrent.Flow}, which is not available on Java 8. On Java 9
+ * and later, adapting between the two is a matter of delegating each method.
+ * </p>
+ */
+public final class Flow {
+
+	private Flow() {
+		// interfaces only
+	}
+
+	/**
+	 * Producer of items, received by {@link Subscriber} instances.
+	 *
+	 * @param <T>
+	 *            type of published items
+	 */
+	@FunctionalInterface
+	public static interface Publisher<T> {
+
+		/**
+		 * Adds the given {@link Subscriber}, which receives {@link Subscriber#onSubscribe} first.
+		 *
+		 * @param subscriber
+		 *            {@link Subscriber}, not {@code null}
+		 * @throws NullPointerException
+		 *             if {@code subscriber} is {@code null}
+		 */
+		public void subscribe(Subscriber<? super T> subscriber);
+
+	}
+
+	/**
+	 * Receiver of items. Methods are invoked serially, in the order onSubscribe, onNext* and
+	 * optionally onError or onComplete.
+	 *
+	 * @param <T>
+	 *            type of received items
+	 */
+	public static interface Subscriber<T> {
+
+		/**
+		 * @param subscription
+		 *            {@link Subscription} for requesting items, not {@code null}
+		 */
+		public void onSubscribe(Subscription subscription);
+
+		/**
+		 * @param item
+		 *            next item, not {@code null}
+		 */
+		public void onNext(T item);
+
+		/**
+		 * @param throwable
+		 *            error that ended the subscription, not {@code null}
+		 */
+		public void onError(Throwable throwable);
+
+		/**
+		 * Signals that no more items follow.
+		 */
+		public void onComplete();
+
+	}
+
+	/**
+	 * Link between a {@link Publisher} and a {@link Subscriber}.
+	 */
+	public static interface Subscription {
+
+		/**
+		 * Adds {@code n} items to the demand of the {@link Subscriber}. A non-positive {@code n}
+		 * results in {@link Subscriber#onError} with an {@link IllegalArgumentException}.
+		 *
+		 * @param n
+		 *            number of items to add to the demand
+		 */
+		public void request(long n);
+
+		/**
+		 * Stops the {@link Subscriber} from receiving further signals, eventually.
+		 */
+		public void cancel();
+
+	}
+
+}
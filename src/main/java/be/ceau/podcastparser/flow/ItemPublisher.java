@@ -0,0 +1,230 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.flow;
+
+import java.io.Reader;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import be.ceau.podcastparser.PodcastParser;
+import be.ceau.podcastparser.batch.FeedSource;
+import be.ceau.podcastparser.models.core.Item;
+
+/**
+ * <p>
+ * {@link Flow.Publisher} of the items of a single feed, parsed as subscriber demand requires.
+ * </p>
+ * <p>
+ * Every subscription parses the {@link FeedSource} anew, on a task of the given {@link Executor},
+ * started at the first request. The parser hands each item to an
+ * {@link be.ceau.podcastparser.sink.ItemSink} that waits for outstanding demand before passing it
+ * on, blocking inside the parser. The input is therefore read no further than needed for the items
+ * requested so far, plus one item and the buffering of the XML parser. Cancelling ends the parse
+ * and closes the input. Parse errors, including
+ * {@link be.ceau.podcastparser.exceptions.PodcastParserException}, are signalled through
+ * {@link Flow.Subscriber#onError(Throwable)}.
+ * </p>
+ * <p>
+ * All signals after {@link Flow.Subscriber#onSubscribe(Flow.Subscription)} are delivered on the
+ * parse task. A parse task occupies its thread while it waits for demand, so the {@link Executor}
+ * should not be shared with latency-sensitive work. Instances are threadsafe.
+ * </p>
+ */
+public class ItemPublisher implements Flow.Publisher<Item> {
+
+	private final PodcastParser parser;
+	private final FeedSource source;
+	private final Executor executor;
+
+	/**
+	 * @param parser
+	 *            {@link PodcastParser} to parse with, not {@code null}
+	 * @param source
+	 *            {@link FeedSource} of the feed, not {@code null}
+	 * @param executor
+	 *            {@link Executor} running one parse task per subscription, not {@code null}
+	 */
+	public ItemPublisher(PodcastParser parser, FeedSource source, Executor executor) {
+		this.parser = Objects.requireNonNull(parser);
+		this.source = Objects.requireNonNull(source);
+		this.executor = Objects.requireNonNull(executor);
+	}
+
+	@Override
+	public void subscribe(Flow.Subscriber<? super Item> subscriber) {
+		Objects.requireNonNull(subscriber);
+		subscriber.onSubscribe(new ItemSubscription(subscriber));
+	}
+
+	/**
+	 * Thrown from the {@link be.ceau.podcastparser.sink.ItemSink} to abort parsing
+	 */
+	private static class Cancelled extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		private Cancelled() {
+			super(null, null, false, false);
+		}
+
+	}
+
+	private class ItemSubscription implements Flow.Subscription {
+
+		private final Flow.Subscriber<? super Item> subscriber;
+		private final ReentrantLock lock = new ReentrantLock();
+		private final Condition demanded = lock.newCondition();
+		private long demand;
+		private boolean started;
+		private boolean cancelled;
+		private boolean invalid;
+
+		private ItemSubscription(Flow.Subscriber<? super Item> subscriber) {
+			this.subscriber = subscriber;
+		}
+
+		@Override
+		public void request(long n) {
+			boolean start;
+			lock.lock();
+			try {
+				if (cancelled) {
+					return;
+				}
+				if (n <= 0) {
+					// reported on the parse task, keeping all signals serial
+					invalid = true;
+				} else {
+					demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+				}
+				start = !started;
+				started = true;
+				demanded.signal();
+			} finally {
+				lock.unlock();
+			}
+			if (start) {
+				start();
+			}
+		}
+
+		@Override
+		public void cancel() {
+			lock.lock();
+			try {
+				cancelled = true;
+				demanded.signal();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		private void start() {
+			try {
+				executor.execute(this::run);
+			} catch (RejectedExecutionException e) {
+				if (!isCancelled()) {
+					subscriber.onError(e);
+				}
+			}
+		}
+
+		private void run() {
+			if (invalid() || isCancelled()) {
+				return;
+			}
+			try (Reader reader = source.open()) {
+				parser.parse(reader, item -> {
+					if (!awaitDemand()) {
+						throw new Cancelled();
+					}
+					subscriber.onNext(item);
+				});
+			} catch (Cancelled e) {
+				invalid();
+				return;
+			} catch (Throwable e) {
+				if (!isCancelled()) {
+					cancel();
+					subscriber.onError(e);
+				}
+				return;
+			}
+			if (!isCancelled()) {
+				cancel();
+				subscriber.onComplete();
+			}
+		}
+
+		/**
+		 * Take one unit of demand, waiting for it as needed.
+		 *
+		 * @return {@code true} if there is demand, {@code false} if the subscription ended
+		 */
+		private boolean awaitDemand() {
+			lock.lock();
+			try {
+				while (demand == 0 && !cancelled && !invalid) {
+					demanded.await();
+				}
+				if (cancelled || invalid) {
+					return false;
+				}
+				if (demand != Long.MAX_VALUE) {
+					demand--;
+				}
+				return true;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				cancelled = true;
+				return false;
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * @return {@code true} if a non-positive request ended the subscription, after signalling
+		 *         the error
+		 */
+		private boolean invalid() {
+			lock.lock();
+			try {
+				if (!invalid || cancelled) {
+					return invalid;
+				}
+				cancelled = true;
+			} finally {
+				lock.unlock();
+			}
+			subscriber.onError(new IllegalArgumentException("non-positive subscription request"));
+			return true;
+		}
+
+		private boolean isCancelled() {
+			lock.lock();
+			try {
+				return cancelled;
+			} finally {
+				lock.unlock();
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,153 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.lazy;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Position up to which a truncated feed document was parsed by a {@link ResumableParser}: the offset
+ * just after the last complete item, and the markup needed to parse the remainder of the document
+ * on its own.
+ * </p>
+ * <p>
+ * The remainder is fetched, for example with an HTTP range request starting at
+ * {@link #getByteOffset()}, and passed to {@link ResumableParser#resume(Checkpoint, String)}. The
+ * markup before the first item holds the root element with its namespace declarations, any entity
+ * declarations and the feed level elements. Instances are immutable, and can be stored with
+ * {@link #writeTo(DataOutput)}.
+ * </p>
+ */
+public final class Checkpoint {
+
+	private static final int VERSION = 1;
+
+	private final String prolog;
+	private final String closing;
+	private final long charOffset;
+	private final long byteOffset;
+	private final int items;
+
+	Checkpoint(String prolog, String closing, long charOffset, long byteOffset, int items) {
+		this.prolog = prolog;
+		this.closing = closing;
+		this.charOffset = charOffset;
+		this.byteOffset = byteOffset;
+		this.items = items;
+	}
+
+	/**
+	 * @return the markup of the document before its first item, never {@code null}
+	 */
+	public String getProlog() {
+		return prolog;
+	}
+
+	/**
+	 * @return end tags for the elements open at the first item, never {@code null}
+	 */
+	public String getClosing() {
+		return closing;
+	}
+
+	/**
+	 * @return offset in characters from the start of the document to resume from
+	 */
+	public long getCharOffset() {
+		return charOffset;
+	}
+
+	/**
+	 * @return offset in bytes from the start of the document to resume from, in the encoding given
+	 *         to the {@link ResumableParser}
+	 */
+	public long getByteOffset() {
+		return byteOffset;
+	}
+
+	/**
+	 * @return number of complete items before the offset
+	 */
+	public int getItems() {
+		return items;
+	}
+
+	/**
+	 * @param out
+	 *            {@link DataOutput} to write to, not {@code null}
+	 * @throws IOException
+	 *             if writing fails
+	 */
+	public void writeTo(DataOutput out) throws IOException {
+		out.writeByte(VERSION);
+		writeString(out, prolog);
+		writeString(out, closing);
+		out.writeLong(charOffset);
+		out.writeLong(byteOffset);
+		out.writeInt(items);
+	}
+
+	/**
+	 * @param in
+	 *            {@link DataInput} holding a checkpoint written by {@link #writeTo(DataOutput)}, not
+	 *            {@code null}
+	 * @return the {@link Checkpoint} read, never {@code null}
+	 * @throws IOException
+	 *             if reading fails or the data is not a checkpoint
+	 */
+	public static Checkpoint readFrom(DataInput in) throws IOException {
+		Objects.requireNonNull(in);
+		int version = in.readByte();
+		if (version != VERSION) {
+			throw new IOException("unsupported checkpoint version " + version);
+		}
+		return new Checkpoint(readString(in), readString(in), in.readLong(), in.readLong(), in.readInt());
+	}
+
+	// writeUTF is limited to 65535 bytes, too short for the feed level markup of some feeds
+	private static void writeString(DataOutput out, String value) throws IOException {
+		out.writeInt(value.length());
+		out.writeChars(value);
+	}
+
+	private static String readString(DataInput in) throws IOException {
+		int length = in.readInt();
+		if (length < 0) {
+			throw new IOException("invalid string length " + length);
+		}
+		char[] chars = new char[length];
+		for (int i = 0; i < length; i++) {
+			chars[i] = in.readChar();
+		}
+		return new String(chars);
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder()
+				.append("Checkpoint [charOffset=")
+				.append(charOffset)
+				.append(", byteOffset=")
+				.append(byteOffset)
+				.append(", items=")
+				.append(items)
+				.append("]")
+				.toString();
+	}
+
+}
@@ -0,0 +1,223 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.lazy;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import be.ceau.podcastparser.PodcastParser;
+import be.ceau.podcastparser.models.core.Item;
+import be.ceau.podcastparser.models.support.Enclosure;
+import be.ceau.podcastparser.util.Dates;
+import be.ceau.podcastparser.util.Durations;
+import be.ceau.podcastparser.util.Numbers;
+
+/**
+ * <p>
+ * Flyweight view of a single item of a {@link LazyFeed}. Every getter decodes its value from the
+ * raw XML when called; nothing is cached, so callers that need a value repeatedly should keep it.
+ * </p>
+ * <p>
+ * The getters cover the values most clients read for RSS and Atom items. Any other child element
+ * is available through {@link #getText(String, String)} and
+ * {@link #getAttribute(String, String, String)}, and {@link #toItem()} parses the item completely.
+ * </p>
+ */
+public class ItemView {
+
+	private static final String ATOM = "http://www.w3.org/2005/Atom";
+	private static final String CONTENT = "http://purl.org/rss/1.0/modules/content/";
+	private static final String ITUNES = "http://www.itunes.com/dtds/podcast-1.0.dtd";
+
+	private final LazyFeed feed;
+	private final int index;
+
+	ItemView(LazyFeed feed, int index) {
+		this.feed = feed;
+		this.index = index;
+	}
+
+	/**
+	 * @return number of this item in its {@link LazyFeed}
+	 */
+	public int getIndex() {
+		return index;
+	}
+
+	/**
+	 * @return raw markup of this item, never {@code null}
+	 */
+	public String getXml() {
+		return feed.getXml(index);
+	}
+
+	/**
+	 * @return 64-bit hash of the raw markup of this item, computed without copying it; equal markup
+	 *         gives an equal hash
+	 */
+	public long getRawHash() {
+		return feed.getRawHash(index);
+	}
+
+	/**
+	 * @param localName
+	 *            name of a child element without namespace prefix, not {@code null}
+	 * @return trimmed text of the first such child element, or {@code null} if absent
+	 */
+	public String getText(String localName) {
+		return getText(null, localName);
+	}
+
+	/**
+	 * @param namespaceURI
+	 *            namespace of the child element, or {@code null} for an element without prefix
+	 * @param localName
+	 *            local name of the child element, not {@code null}
+	 * @return trimmed text of the first such child element, or {@code null} if absent
+	 */
+	public String getText(String namespaceURI, String localName) {
+		int element = feed.find(index, -1, namespaceURI, localName);
+		return element < 0 ? null : feed.getText(element);
+	}
+
+	/**
+	 * @param namespaceURI
+	 *            namespace of the child element, or {@code null} for an element without prefix
+	 * @param localName
+	 *            local name of the child element, not {@code null}
+	 * @param attribute
+	 *            qualified name of the attribute, not {@code null}
+	 * @return value of the attribute on the first such child element, or {@code null} if absent
+	 */
+	public String getAttribute(String namespaceURI, String localName, String attribute) {
+		int element = feed.find(index, -1, namespaceURI, localName);
+		return element < 0 ? null : feed.getAttribute(element, attribute);
+	}
+
+	/**
+	 * @return text of the {@code title} element, or {@code null}
+	 */
+	public String getTitle() {
+		return getText("title");
+	}
+
+	/**
+	 * @return text of the {@code guid} element, or the Atom {@code id}, or {@code null}
+	 */
+	public String getGuid() {
+		String guid = getText("guid");
+		return guid != null ? guid : getText("id");
+	}
+
+	/**
+	 * @return text of the {@code link} element, or the {@code href} of the first Atom {@code link}
+	 *         that is not an enclosure, or {@code null}
+	 */
+	public String getLink() {
+		for (int e = feed.find(index, -1, null, "link"); e >= 0; e = feed.find(index, e + 1, null, "link")) {
+			String text = feed.getText(e);
+			if (!text.isEmpty()) {
+				return text;
+			}
+			String rel = feed.getAttribute(e, "rel");
+			if (rel == null || "alternate".equals(rel)) {
+				return feed.getAttribute(e, "href");
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @return parsed {@code pubDate}, or Atom {@code published} or {@code updated}, or {@code null}
+	 */
+	public ZonedDateTime getPubDate() {
+		String date = getText("pubDate");
+		if (date == null) {
+			date = getText("published");
+		}
+		if (date == null) {
+			date = getText("updated");
+		}
+		return date == null ? null : Dates.parse(date);
+	}
+
+	/**
+	 * @return text of the {@code description} element, or the Atom {@code summary}, or {@code null}
+	 */
+	public String getDescription() {
+		String description = getText("description");
+		return description != null ? description : getText("summary");
+	}
+
+	/**
+	 * @return text of the {@code content:encoded} element, or the Atom {@code content}, or
+	 *         {@code null}
+	 */
+	public String getContent() {
+		String content = getText(CONTENT, "encoded");
+		return content != null ? content : getText(ATOM, "content");
+	}
+
+	/**
+	 * @return parsed {@code itunes:duration}, or {@code null}
+	 */
+	public Duration getDuration() {
+		Long millis = Durations.parse(getText(ITUNES, "duration"));
+		return millis == null ? null : Duration.ofMillis(millis);
+	}
+
+	/**
+	 * @return the {@code enclosure}, or the first Atom {@code link} with {@code rel="enclosure"}, or
+	 *         {@code null}
+	 */
+	public Enclosure getEnclosure() {
+		int element = feed.find(index, -1, null, "enclosure");
+		if (element >= 0) {
+			return enclosure(element, "url");
+		}
+		for (int e = feed.find(index, -1, null, "link"); e >= 0; e = feed.find(index, e + 1, null, "link")) {
+			if ("enclosure".equals(feed.getAttribute(e, "rel"))) {
+				return enclosure(e, "href");
+			}
+		}
+		return null;
+	}
+
+	private Enclosure enclosure(int element, String url) {
+		Enclosure enclosure = new Enclosure();
+		enclosure.setUrl(feed.getAttribute(element, url));
+		enclosure.setType(feed.getAttribute(element, "type"));
+		enclosure.setLength(Numbers.parseLong(feed.getAttribute(element, "length"), 0L));
+		return enclosure;
+	}
+
+	/**
+	 * Parse this item completely, in the context of the markup preceding the first item of the
+	 * feed, so namespace declarations apply.
+	 *
+	 * @return a fully parsed {@link Item}, or {@code null} if the parser did not produce one
+	 */
+	public Item toItem() {
+		List<Item> items = new PodcastParser().parse(feed.getDocument(index, index + 1)).getItems();
+		return items.isEmpty() ? null : items.get(0);
+	}
+
+	@Override
+	public String toString() {
+		return "ItemView [index=" + index + ", title=" + getTitle() + "]";
+	}
+
+}
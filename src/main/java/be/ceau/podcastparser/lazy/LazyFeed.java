@@ -0,0 +1,398 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.lazy;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import be.ceau.podcastparser.namespace.Namespace;
+import be.ceau.podcastparser.namespace.NamespaceFactory;
+import be.ceau.podcastparser.util.Hashes;
+
+/**
+ * <p>
+ * The items of a feed as {@link ItemView} instances over the raw XML.
+ * </p>
+ * <p>
+ * {@link #scan(String)} makes a single pass over the document and records, for every {@code item}
+ * or {@code entry} element, where it starts and ends, and where each of its direct child elements
+ * starts and ends, in two {@code int} arrays. No element text is decoded during the scan. Retained
+ * memory is the document itself plus 16 bytes per child element, instead of fully materialized
+ * {@link be.ceau.podcastparser.models.core.Item} instances with all their {@link String} values.
+ * </p>
+ * <p>
+ * The scan is lenient: it does not validate the document, and stops at the first unterminated
+ * markup, dropping an incomplete last item. Namespace prefixes are resolved with the declarations
+ * on elements outside of items. Instances are threadsafe.
+ * </p>
+ */
+public class LazyFeed {
+
+	private static final int ITEM_FIELDS = 3;
+	private static final int ELEMENT_FIELDS = 4;
+
+	private final String xml;
+	private final Map<String, String> namespaces = new HashMap<>();
+	private final Map<String, String[]> prefixes = new ConcurrentHashMap<>();
+	/** per item: start, end, index of first child element */
+	private int[] items = new int[ITEM_FIELDS * 16];
+	/** per child element: name start, name end, content start, content end or -1 if empty */
+	private int[] elements = new int[ELEMENT_FIELDS * 64];
+	private int itemCount;
+	private int elementCount;
+	private int firstItem = -1;
+	private String closing = "";
+
+	/**
+	 * Scan the given document for items.
+	 *
+	 * @param xml
+	 *            RSS or Atom document, not {@code null}
+	 * @return a {@link LazyFeed}, never {@code null}
+	 */
+	public static LazyFeed scan(String xml) {
+		LazyFeed feed = new LazyFeed(Objects.requireNonNull(xml));
+		feed.scan();
+		return feed;
+	}
+
+	private LazyFeed(String xml) {
+		this.xml = xml;
+	}
+
+	private void scan() {
+		Deque<String> open = new ArrayDeque<>();
+		int[] bounds = new int[ELEMENT_FIELDS];
+		int depth = 0;
+		int itemDepth = -1;
+		int itemStart = -1;
+		int itemFirstChild = 0;
+		int child = -1;
+		int i = 0;
+		int lt;
+		while ((lt = xml.indexOf('<', i)) >= 0 && lt + 1 < xml.length()) {
+			char c = xml.charAt(lt + 1);
+			if (c == '!' || c == '?') {
+				i = Markup.skipSpecial(xml, lt);
+				if (i < 0) {
+					break;
+				}
+				continue;
+			}
+			int nameEnd = Markup.nameEnd(xml, lt);
+			int gt = Markup.tagEnd(xml, nameEnd);
+			if (gt < 0) {
+				break;
+			}
+			i = gt + 1;
+			if (c == '/') {
+				depth--;
+				if (itemDepth >= 0) {
+					if (depth == itemDepth + 1 && child >= 0) {
+						elements[child * ELEMENT_FIELDS + 3] = lt;
+						child = -1;
+					} else if (depth == itemDepth) {
+						addItem(itemStart, gt + 1, itemFirstChild);
+						itemDepth = -1;
+					}
+				} else if (firstItem < 0 && !open.isEmpty()) {
+					open.pop();
+				}
+				continue;
+			}
+			boolean empty = Markup.isEmptyElement(xml, gt);
+			if (itemDepth < 0) {
+				if (isItem(lt + 1, nameEnd)) {
+					if (firstItem < 0) {
+						firstItem = lt;
+						closing = closing(open);
+					}
+					if (empty) {
+						addItem(lt, gt + 1, elementCount);
+						continue;
+					}
+					itemStart = lt;
+					itemFirstChild = elementCount;
+					itemDepth = depth;
+				} else {
+					declare(nameEnd, gt, bounds);
+					if (!empty && firstItem < 0) {
+						open.push(xml.substring(lt + 1, nameEnd));
+					}
+				}
+			} else if (depth == itemDepth + 1) {
+				child = addElement(lt + 1, nameEnd, gt + 1, empty);
+			}
+			if (!empty) {
+				depth++;
+			}
+		}
+	}
+
+	private boolean isItem(int nameStart, int nameEnd) {
+		int length = nameEnd - nameStart;
+		return (length == 4 && xml.startsWith("item", nameStart)) || (length == 5 && xml.startsWith("entry", nameStart));
+	}
+
+	private static String closing(Deque<String> open) {
+		StringBuilder sb = new StringBuilder();
+		for (String name : open) {
+			sb.append("</").append(name).append('>');
+		}
+		return sb.toString();
+	}
+
+	private void declare(int from, int to, int[] bounds) {
+		while ((from = Markup.nextAttribute(xml, from, to, bounds)) >= 0) {
+			if (xml.startsWith("xmlns", bounds[0])) {
+				String uri = Markup.decode(xml, bounds[2], bounds[3], true);
+				if (bounds[1] - bounds[0] == 5) {
+					namespaces.put("", uri);
+				} else if (xml.charAt(bounds[0] + 5) == ':') {
+					namespaces.put(xml.substring(bounds[0] + 6, bounds[1]), uri);
+				}
+			}
+		}
+	}
+
+	private void addItem(int start, int end, int firstChild) {
+		if ((itemCount + 1) * ITEM_FIELDS > items.length) {
+			items = Arrays.copyOf(items, items.length * 2);
+		}
+		int offset = itemCount++ * ITEM_FIELDS;
+		items[offset] = start;
+		items[offset + 1] = end;
+		items[offset + 2] = firstChild;
+	}
+
+	private int addElement(int nameStart, int nameEnd, int contentStart, boolean empty) {
+		if ((elementCount + 1) * ELEMENT_FIELDS > elements.length) {
+			elements = Arrays.copyOf(elements, elements.length * 2);
+		}
+		int offset = elementCount * ELEMENT_FIELDS;
+		elements[offset] = nameStart;
+		elements[offset + 1] = nameEnd;
+		elements[offset + 2] = contentStart;
+		elements[offset + 3] = empty ? -1 : contentStart;
+		int index = elementCount++;
+		return empty ? -1 : index;
+	}
+
+	/**
+	 * @return number of items in this feed
+	 */
+	public int size() {
+		return itemCount;
+	}
+
+	/**
+	 * @param index
+	 *            number of an item in this feed
+	 * @return an {@link ItemView} for the item, never {@code null}
+	 * @throws IndexOutOfBoundsException
+	 *             if there is no such item
+	 */
+	public ItemView get(int index) {
+		if (index < 0 || index >= itemCount) {
+			throw new IndexOutOfBoundsException("item " + index + " of " + itemCount);
+		}
+		return new ItemView(this, index);
+	}
+
+	/**
+	 * @return {@link List} with an {@link ItemView} for every item, never {@code null}
+	 */
+	public List<ItemView> getItems() {
+		List<ItemView> views = new ArrayList<>(itemCount);
+		for (int i = 0; i < itemCount; i++) {
+			views.add(new ItemView(this, i));
+		}
+		return views;
+	}
+
+	/**
+	 * @return the scanned document, never {@code null}
+	 */
+	public String getXml() {
+		return xml;
+	}
+
+	String getXml(int item) {
+		return xml.substring(items[item * ITEM_FIELDS], items[item * ITEM_FIELDS + 1]);
+	}
+
+	/**
+	 * @return offset of the end of the given item, exclusive
+	 */
+	int getEnd(int item) {
+		return items[item * ITEM_FIELDS + 1];
+	}
+
+	/**
+	 * @return offset of the start of the first item, or -1 if no item starts in the document
+	 */
+	int getFirstItemStart() {
+		return firstItem;
+	}
+
+	/**
+	 * @return end tags for the elements that were open at the first item
+	 */
+	String getClosing() {
+		return closing;
+	}
+
+	long getRawHash(int item) {
+		return Hashes.finish(Hashes.update(Hashes.SEED, xml, items[item * ITEM_FIELDS], items[item * ITEM_FIELDS + 1]));
+	}
+
+	/**
+	 * @return hash of the document without its items, as in {@link #getDocumentWithoutItems()},
+	 *         computed without copying
+	 */
+	public long getHeaderHash() {
+		if (itemCount == 0) {
+			return Hashes.hash(xml);
+		}
+		long state = Hashes.update(Hashes.SEED, xml, 0, firstItem);
+		return Hashes.finish(Hashes.update(state, xml, items[(itemCount - 1) * ITEM_FIELDS + 1], xml.length()));
+	}
+
+	/**
+	 * Build a standalone document with a range of items: the markup before the first item, which
+	 * holds the namespace and entity declarations, followed by the given items and end tags for the
+	 * elements that were open at the first item.
+	 *
+	 * @param fromItem
+	 *            number of the first item to include
+	 * @param toItem
+	 *            number of the item after the last item to include
+	 * @return a document that parses into the given items, never {@code null}
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is not valid
+	 */
+	public String getDocument(int fromItem, int toItem) {
+		if (fromItem < 0 || toItem > itemCount || fromItem >= toItem) {
+			throw new IndexOutOfBoundsException("items " + fromItem + " to " + toItem + " of " + itemCount);
+		}
+		int start = items[fromItem * ITEM_FIELDS];
+		int end = items[(toItem - 1) * ITEM_FIELDS + 1];
+		return new StringBuilder(firstItem + end - start + closing.length())
+				.append(xml, 0, firstItem)
+				.append(xml, start, end)
+				.append(closing)
+				.toString();
+	}
+
+	/**
+	 * @return the document with all items and everything between them removed, so it parses into
+	 *         the feed level values only, never {@code null}
+	 */
+	public String getDocumentWithoutItems() {
+		if (itemCount == 0) {
+			return xml;
+		}
+		int end = items[(itemCount - 1) * ITEM_FIELDS + 1];
+		return new StringBuilder(firstItem + xml.length() - end)
+				.append(xml, 0, firstItem)
+				.append(xml, end, xml.length())
+				.toString();
+	}
+
+	/**
+	 * @param item
+	 *            number of an item
+	 * @param from
+	 *            element index to start searching from, or -1 to start at the first child
+	 * @param namespaceURI
+	 *            namespace of the element, or {@code null} for elements without prefix
+	 * @param localName
+	 *            local name of the element
+	 * @return element index of the next matching child element of the item, or -1 if none
+	 */
+	int find(int item, int from, String namespaceURI, String localName) {
+		int first = items[item * ITEM_FIELDS + 2];
+		int end = item + 1 < itemCount ? items[(item + 1) * ITEM_FIELDS + 2] : elementCount;
+		String[] candidates = namespaceURI == null ? null : prefixes(namespaceURI);
+		for (int e = Math.max(first, from); e < end; e++) {
+			int nameStart = elements[e * ELEMENT_FIELDS];
+			int length = elements[e * ELEMENT_FIELDS + 1] - nameStart;
+			if (candidates == null) {
+				if (length == localName.length() && xml.startsWith(localName, nameStart)) {
+					return e;
+				}
+				continue;
+			}
+			for (String prefix : candidates) {
+				if (prefix.isEmpty()) {
+					if (length == localName.length() && xml.startsWith(localName, nameStart)) {
+						return e;
+					}
+				} else if (length == prefix.length() + 1 + localName.length()
+						&& xml.startsWith(prefix, nameStart)
+						&& xml.charAt(nameStart + prefix.length()) == ':'
+						&& xml.startsWith(localName, nameStart + prefix.length() + 1)) {
+					return e;
+				}
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @return all prefixes declared for the given namespace or an alternative name of it, with the
+	 *         empty {@link String} for the default namespace
+	 */
+	private String[] prefixes(String namespaceURI) {
+		return prefixes.computeIfAbsent(namespaceURI, uri -> {
+			Namespace namespace = NamespaceFactory.getInstance(uri);
+			List<String> list = new ArrayList<>();
+			for (Map.Entry<String, String> entry : namespaces.entrySet()) {
+				String declared = entry.getValue();
+				if (declared.equals(uri) || (namespace != null && namespace == NamespaceFactory.getInstance(declared))) {
+					list.add(entry.getKey());
+				}
+			}
+			return list.toArray(new String[list.size()]);
+		});
+	}
+
+	/**
+	 * @return decoded and trimmed text content of the element, empty for an empty element
+	 */
+	String getText(int element) {
+		int contentEnd = elements[element * ELEMENT_FIELDS + 3];
+		if (contentEnd < 0) {
+			return "";
+		}
+		return Markup.decode(xml, elements[element * ELEMENT_FIELDS + 2], contentEnd, true);
+	}
+
+	/**
+	 * @return decoded value of the given attribute of the element, or {@code null}
+	 */
+	String getAttribute(int element, String attribute) {
+		int tagEnd = elements[element * ELEMENT_FIELDS + 2] - 1;
+		return Markup.attribute(xml, elements[element * ELEMENT_FIELDS + 1], tagEnd, attribute);
+	}
+
+}
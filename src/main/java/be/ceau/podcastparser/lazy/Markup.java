@@ -0,0 +1,262 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.lazy;
+
+/**
+ * Static helpers for reading raw XML markup from a {@link String}, without a full XML parser.
+ */
+class Markup {
+
+	private Markup() {
+		// static methods only
+	}
+
+	/**
+	 * @return index of the first character after the name of the tag starting at {@code lt}
+	 */
+	static int nameEnd(String xml, int lt) {
+		int i = lt + 1;
+		if (i < xml.length() && xml.charAt(i) == '/') {
+			i++;
+		}
+		while (i < xml.length()) {
+			char c = xml.charAt(i);
+			if (c <= ' ' || c == '>' || c == '/') {
+				break;
+			}
+			i++;
+		}
+		return i;
+	}
+
+	/**
+	 * @return index of the {@code >} closing the tag that contains index {@code from}, skipping
+	 *         quoted attribute values, or -1 if the tag is not closed
+	 */
+	static int tagEnd(String xml, int from) {
+		char quote = 0;
+		for (int i = from; i < xml.length(); i++) {
+			char c = xml.charAt(i);
+			if (quote != 0) {
+				if (c == quote) {
+					quote = 0;
+				}
+			} else if (c == '"' || c == '\'') {
+				quote = c;
+			} else if (c == '>') {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @return index of the first character after the declaration, comment, CDATA section or
+	 *         processing instruction starting at {@code lt}, or -1 if it is not closed
+	 */
+	static int skipSpecial(String xml, int lt) {
+		if (xml.startsWith("<!--", lt)) {
+			return after(xml, xml.indexOf("-->", lt + 4), 3);
+		}
+		if (xml.startsWith("<![CDATA[", lt)) {
+			return after(xml, xml.indexOf("]]>", lt + 9), 3);
+		}
+		if (xml.startsWith("<?", lt)) {
+			return after(xml, xml.indexOf("?>", lt + 2), 2);
+		}
+		// DOCTYPE, possibly with an internal subset between brackets
+		int depth = 0;
+		for (int i = lt + 2; i < xml.length(); i++) {
+			char c = xml.charAt(i);
+			if (c == '[') {
+				depth++;
+			} else if (c == ']') {
+				depth--;
+			} else if (c == '>' && depth <= 0) {
+				return i + 1;
+			}
+		}
+		return -1;
+	}
+
+	private static int after(String xml, int index, int length) {
+		return index < 0 ? -1 : index + length;
+	}
+
+	/**
+	 * @return {@code true} if the tag ending with the {@code >} at {@code gt} is self-closing
+	 */
+	static boolean isEmptyElement(String xml, int gt) {
+		return xml.charAt(gt - 1) == '/';
+	}
+
+	/**
+	 * @param xml
+	 *            markup
+	 * @param from
+	 *            index after the element name
+	 * @param to
+	 *            index of the closing {@code >} of the start tag
+	 * @param name
+	 *            qualified attribute name
+	 * @return the decoded attribute value, or {@code null} if absent
+	 */
+	static String attribute(String xml, int from, int to, String name) {
+		int[] bounds = new int[4];
+		while ((from = nextAttribute(xml, from, to, bounds)) >= 0) {
+			if (bounds[1] - bounds[0] == name.length() && xml.startsWith(name, bounds[0])) {
+				return decode(xml, bounds[2], bounds[3], false);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Find the next attribute in a start tag.
+	 *
+	 * @param xml
+	 *            markup
+	 * @param from
+	 *            index after the element name or after the previous attribute
+	 * @param to
+	 *            index of the closing {@code >} of the start tag
+	 * @param bounds
+	 *            receives start and end of the attribute name, then start and end of its raw value
+	 * @return index to continue from, or -1 if there are no more attributes
+	 */
+	static int nextAttribute(String xml, int from, int to, int[] bounds) {
+		int i = from;
+		while (i < to && (xml.charAt(i) <= ' ' || xml.charAt(i) == '/')) {
+			i++;
+		}
+		bounds[0] = i;
+		while (i < to && xml.charAt(i) != '=' && xml.charAt(i) > ' ') {
+			i++;
+		}
+		bounds[1] = i;
+		while (i < to && xml.charAt(i) != '"' && xml.charAt(i) != '\'') {
+			i++;
+		}
+		if (i >= to) {
+			return -1;
+		}
+		char quote = xml.charAt(i);
+		bounds[2] = ++i;
+		while (i < to && xml.charAt(i) != quote) {
+			i++;
+		}
+		bounds[3] = i;
+		return i + 1;
+	}
+
+	/**
+	 * Decode character data: unwrap CDATA sections, resolve predefined and numeric entity
+	 * references and drop comments. Nested elements are retained as markup.
+	 *
+	 * @param xml
+	 *            markup
+	 * @param start
+	 *            start index, inclusive
+	 * @param end
+	 *            end index, exclusive
+	 * @param trim
+	 *            whether to trim the result
+	 * @return decoded text, never {@code null}
+	 */
+	static String decode(String xml, int start, int end, boolean trim) {
+		int plain = start;
+		while (plain < end && xml.charAt(plain) != '&' && xml.charAt(plain) != '<') {
+			plain++;
+		}
+		if (plain == end) {
+			// nothing to decode
+			String text = xml.substring(start, end);
+			return trim ? text.trim() : text;
+		}
+		StringBuilder sb = new StringBuilder(end - start);
+		sb.append(xml, start, plain);
+		int i = plain;
+		while (i < end) {
+			char c = xml.charAt(i);
+			if (c == '&') {
+				int semicolon = xml.indexOf(';', i);
+				if (semicolon > i && semicolon < end && appendEntity(sb, xml, i + 1, semicolon)) {
+					i = semicolon + 1;
+					continue;
+				}
+			} else if (c == '<') {
+				if (xml.startsWith("<![CDATA[", i)) {
+					int close = xml.indexOf("]]>", i + 9);
+					int contentEnd = close < 0 || close > end ? end : close;
+					sb.append(xml, i + 9, contentEnd);
+					i = contentEnd + 3;
+					continue;
+				}
+				if (xml.startsWith("<!--", i)) {
+					int close = xml.indexOf("-->", i + 4);
+					i = close < 0 || close > end ? end : close + 3;
+					continue;
+				}
+			}
+			sb.append(c);
+			i++;
+		}
+		String text = sb.toString();
+		return trim ? text.trim() : text;
+	}
+
+	private static boolean appendEntity(StringBuilder sb, String xml, int start, int end) {
+		int length = end - start;
+		if (length > 1 && xml.charAt(start) == '#') {
+			int radix = 10;
+			int digits = start + 1;
+			if (xml.charAt(digits) == 'x' || xml.charAt(digits) == 'X') {
+				radix = 16;
+				digits++;
+			}
+			int codePoint = 0;
+			if (digits == end || end - digits > 8) {
+				return false;
+			}
+			for (int i = digits; i < end; i++) {
+				int digit = Character.digit(xml.charAt(i), radix);
+				if (digit < 0) {
+					return false;
+				}
+				codePoint = codePoint * radix + digit;
+			}
+			if (!Character.isValidCodePoint(codePoint)) {
+				return false;
+			}
+			sb.appendCodePoint(codePoint);
+			return true;
+		}
+		if (length == 2 && xml.startsWith("lt", start)) {
+			sb.append('<');
+		} else if (length == 2 && xml.startsWith("gt", start)) {
+			sb.append('>');
+		} else if (length == 3 && xml.startsWith("amp", start)) {
+			sb.append('&');
+		} else if (length == 4 && xml.startsWith("quot", start)) {
+			sb.append('"');
+		} else if (length == 4 && xml.startsWith("apos", start)) {
+			sb.append('\'');
+		} else {
+			return false;
+		}
+		return true;
+	}
+
+}
@@ -0,0 +1,64 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.lazy;
+
+import be.ceau.podcastparser.models.core.Feed;
+
+/**
+ * Result of a {@link ResumableParser}: the parsed {@link Feed}, and a {@link Checkpoint} if the
+ * document was truncated.
+ */
+public class PartialFeed {
+
+	private final Feed feed;
+	private final Checkpoint checkpoint;
+	private final Exception error;
+
+	PartialFeed(Feed feed, Checkpoint checkpoint, Exception error) {
+		this.feed = feed;
+		this.checkpoint = checkpoint;
+		this.error = error;
+	}
+
+	/**
+	 * @return the parsed {@link Feed}, with all complete items, never {@code null}
+	 */
+	public Feed getFeed() {
+		return feed;
+	}
+
+	/**
+	 * @return {@code true} if the whole document was parsed
+	 */
+	public boolean isComplete() {
+		return checkpoint == null;
+	}
+
+	/**
+	 * @return {@link Checkpoint} to resume from if the document is not complete, else {@code null}
+	 */
+	public Checkpoint getCheckpoint() {
+		return checkpoint;
+	}
+
+	/**
+	 * @return the error that parsing the whole document failed with if not complete, else
+	 *         {@code null}
+	 */
+	public Exception getError() {
+		return error;
+	}
+
+}
@@ -0,0 +1,168 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.lazy;
+
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import be.ceau.podcastparser.PodcastParser;
+import be.ceau.podcastparser.exceptions.PodcastParserException;
+import be.ceau.podcastparser.models.core.Feed;
+
+/**
+ * <p>
+ * Parses feed documents that may be truncated, for example by a download that timed out, without
+ * losing the items that did arrive completely.
+ * </p>
+ * <p>
+ * A document is first parsed as a whole. If that fails, it is scanned with {@link LazyFeed}, which
+ * stops at the first unterminated markup, and the markup before the first item is parsed together
+ * with all complete items. The result then holds a {@link Checkpoint} just after the last complete
+ * item. The rest of the document, fetched from that offset, is parsed with
+ * {@link #resume(Checkpoint, String)}, without fetching or parsing the complete items again.
+ * </p>
+ * <p>
+ * Feed level elements after the items, and items that are not well-formed, are only available when
+ * the document is complete. Instances are threadsafe.
+ * </p>
+ */
+public class ResumableParser {
+
+	private final PodcastParser parser;
+	private final Charset charset;
+
+	/**
+	 * Constructor for documents encoded in UTF-8.
+	 *
+	 * @param parser
+	 *            {@link PodcastParser}, not {@code null}
+	 */
+	public ResumableParser(PodcastParser parser) {
+		this(parser, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * @param parser
+	 *            {@link PodcastParser}, not {@code null}
+	 * @param charset
+	 *            {@link Charset} the documents were encoded in, for computing
+	 *            {@link Checkpoint#getByteOffset()}, not {@code null}
+	 */
+	public ResumableParser(PodcastParser parser, Charset charset) {
+		this.parser = Objects.requireNonNull(parser);
+		this.charset = Objects.requireNonNull(charset);
+	}
+
+	/**
+	 * @param xml
+	 *            a complete or truncated document, not {@code null}
+	 * @return {@link PartialFeed}, never {@code null}
+	 * @throws PodcastParserException
+	 *             if the document is truncated before its first item
+	 */
+	public PartialFeed parse(String xml) throws PodcastParserException {
+		try {
+			return new PartialFeed(parser.parse(xml), null, null);
+		} catch (PodcastParserException e) {
+			LazyFeed scan = LazyFeed.scan(xml);
+			int prologEnd = scan.getFirstItemStart();
+			if (prologEnd < 0) {
+				throw e;
+			}
+			String prolog = xml.substring(0, prologEnd);
+			return partial(scan, prolog, scan.getClosing(), 0L, byteLength(prolog, 0, prologEnd), 0, e);
+		}
+	}
+
+	/**
+	 * @param checkpoint
+	 *            {@link Checkpoint} from a previous result, not {@code null}
+	 * @param continuation
+	 *            the document from {@link Checkpoint#getCharOffset()} on, complete or truncated
+	 *            again, not {@code null}
+	 * @return {@link PartialFeed} with the feed level values before the first item and the items in
+	 *         the continuation, never {@code null}
+	 * @throws PodcastParserException
+	 *             if parsing fails
+	 */
+	public PartialFeed resume(Checkpoint checkpoint, String continuation) throws PodcastParserException {
+		String prolog = checkpoint.getProlog();
+		String xml = prolog + Objects.requireNonNull(continuation);
+		try {
+			return new PartialFeed(parser.parse(xml), null, null);
+		} catch (PodcastParserException e) {
+			LazyFeed scan = LazyFeed.scan(xml);
+			if (scan.getFirstItemStart() < 0) {
+				// cut off before the next item started, nothing to add to the checkpoint
+				return new PartialFeed(parser.parse(prolog + checkpoint.getClosing()), checkpoint, e);
+			}
+			if (scan.getFirstItemStart() < prolog.length()) {
+				// the stored prolog never spans an item, so the scan disagrees with the checkpoint
+				throw e;
+			}
+			return partial(scan, prolog, checkpoint.getClosing(), checkpoint.getCharOffset() - prolog.length(),
+					checkpoint.getByteOffset(), checkpoint.getItems(), e);
+		}
+	}
+
+	/**
+	 * @param base
+	 *            character offset of the scanned text in the original document
+	 * @param byteOffset
+	 *            byte offset in the original document of the text after the prolog
+	 */
+	private PartialFeed partial(LazyFeed scan, String prolog, String closing, long base, long byteOffset, int items, Exception error) {
+		int count = scan.size();
+		Feed feed;
+		int end;
+		if (count == 0) {
+			feed = parser.parse(prolog + closing);
+			end = prolog.length();
+		} else {
+			feed = parser.parse(scan.getDocument(0, count));
+			end = scan.getEnd(count - 1);
+		}
+		long bytes = byteOffset + byteLength(scan.getXml(), prolog.length(), end);
+		Checkpoint checkpoint = new Checkpoint(prolog, closing, base + end, bytes, items + count);
+		return new PartialFeed(feed, checkpoint, error);
+	}
+
+	private long byteLength(String chars, int start, int end) {
+		if (charset != StandardCharsets.UTF_8) {
+			return charset.encode(CharBuffer.wrap(chars, start, end)).remaining();
+		}
+		long length = 0;
+		for (int i = start; i < end; i++) {
+			char c = chars.charAt(i);
+			if (c < 0x80) {
+				length++;
+			} else if (c < 0x800) {
+				length += 2;
+			} else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(chars.charAt(i + 1))) {
+				length += 4;
+				i++;
+			} else if (Character.isSurrogate(c)) {
+				// unpaired, encoded as '?'
+				length++;
+			} else {
+				length += 3;
+			}
+		}
+		return length;
+	}
+
+}
@@ -0,0 +1,22 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+/**
+ * Lazy access to the items of a feed: a single pass over the raw XML records where every item and
+ * its child elements start and end, and {@link be.ceau.podcastparser.lazy.ItemView} instances
+ * decode a value only when it is requested. The same scan lets
+ * {@link be.ceau.podcastparser.lazy.ResumableParser} recover the complete items of a truncated
+ * document and resume from a {@link be.ceau.podcastparser.lazy.Checkpoint}.
+ */
+package be.ceau.podcastparser.lazy;
@@ -23,13 +23,13 @@ import java.util.Collection;
 import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 
 import be.ceau.podcastparser.models.support.Category;
 import be.ceau.podcastparser.models.support.Copyright;
 import be.ceau.podcastparser.models.support.Credit;
+import be.ceau.podcastparser.models.support.Freezable;
 import be.ceau.podcastparser.models.support.GeoPoint;
 import be.ceau.podcastparser.models.support.Image;
 import be.ceau.podcastparser.models.support.Link;
@@ -38,43 +38,45 @@ import be.ceau.podcastparser.models.support.Person;
 import be.ceau.podcastparser.models.support.Rating;
 import be.ceau.podcastparser.models.support.TypedString;
 import be.ceau.podcastparser.models.support.UpdateInfo;
+import be.ceau.podcastparser.util.CompactSet;
+import be.ceau.podcastparser.util.Frozen;
 import be.ceau.podcastparser.util.Strings;
 
 public class Feed {
 
 	private String id;
 	private String title;
-	private final Set<Link> links = new HashSet<>();
+	private Set<Link> links = new CompactSet<>();
 
 	private TypedString description;
 	private String subtitle;
 	private String summary;
 
-	private final List<Item> items = new ArrayList<>();
-	private String language;
+	private List<Item> items = new ArrayList<>();
+	private RFC639 language;
 
 	private Copyright copyright;
 	private String managingEditor;
 	private String webMaster;
 	private ZonedDateTime pubDate;
 	private ZonedDateTime lastBuildDate;
-	private final Set<Category> categories = new HashSet<>();
+	private Set<Category> categories = new CompactSet<>();
 	private String generator;
 	private String docs;
 	private String cloud;
 	private Duration ttl;
-	private final List<Image> images = new ArrayList<>();
+	private List<Image> images = new ArrayList<>();
 	private String textInput;
-	private final List<Integer> skipHours = new ArrayList<>();
-	private final List<String> skipDays = new ArrayList<>();
-	private final List<Person> authors = new ArrayList<>();
+	private List<Integer> skipHours = new ArrayList<>();
+	private List<String> skipDays = new ArrayList<>();
+	private List<Person> authors = new ArrayList<>();
 	private Person owner;
-	private final List<Person> contributors = new ArrayList<>();
-	private final Set<String> keywords = new HashSet<>();
+	private List<Person> contributors = new ArrayList<>();
+	private Set<String> keywords = new HashSet<>();
 	private UpdateInfo updateInfo;
 	private final Rating rating = new Rating();
 	private String location;
-	private final Map<OtherValueKey, String> values = new EnumMap<>(OtherValueKey.class);
+	private Map<OtherValueKey, String> values = new EnumMap<>(OtherValueKey.class);
 	private GeoPoint geoPoint;
 	private boolean block;
 	private String type;
@@ -82,6 +84,7 @@ public class Feed {
 	private Credit credit;
 	private boolean complete;
 	private TypedString browserFriendly;
+	private volatile boolean frozen;
 
 	/**
 	 * <p>
@@ -98,6 +101,7 @@ public class Feed {
 	}
 
 	public void setId(String id) {
+		checkNotFrozen();
 		this.id = id;
 	}
 
@@ -111,6 +115,7 @@ public class Feed {
 	}
 
 	public void setTitle(String title) {
+		checkNotFrozen();
 		this.title = title;
 	}
 
@@ -123,13 +128,14 @@ public class Feed {
 	 * Required in RSS specification. Listed in Atom specification as element {@code link}.
 	 * </p>
 	 * 
-	 * @return a {@link Set}, never {@code null}
+	 * @return a {@link Set} in insertion order, never {@code null}
 	 */
 	public Set<Link> getLinks() {
 		return links;
 	}
 
 	public void addLink(Link link) {
+		checkNotFrozen();
 		if (link != null) {
 			this.links.add(link);
 		}
@@ -145,6 +151,7 @@ public class Feed {
 	}
 
 	public void setDescription(TypedString description) {
+		checkNotFrozen();
 		this.description = description;
 	}
 
@@ -162,6 +169,7 @@ public class Feed {
 	}
 
 	public void addItem(Item item) {
+		checkNotFrozen();
 		if (item != null) {
 			this.items.add(item);
 		}
@@ -170,26 +178,37 @@ public class Feed {
 	/**
 	 * The language the channel is written in.
 	 * 
-	 * @return {@link String} or {@code null}
+	 * @return two-letter lower case language code as {@link String} or {@code null}
 	 */
 	public String getLanguage() {
+		return language == null ? null : language.name();
+	}
+
+	/**
+	 * The language the channel is written in.
+	 * 
+	 * @return {@link RFC639} or {@code null}
+	 */
+	public RFC639 getLanguageCode() {
 		return language;
 	}
 
+	/**
+	 * @param language
+	 *            language tag, such as {@code en} or {@code en-US}, or {@code null}
+	 * @see RFC639#fromTag(CharSequence)
+	 */
 	public void setLanguage(String language) {
-		if (Strings.isBlank(language)) {
-			this.language = null;
-		} else {
-			language = language.trim().toLowerCase(Locale.ENGLISH);
-			if (language.length() > 2) {
-				language = language.substring(0, 2);
-			}
-			if (RFC639.LANGUAGES.contains(language)) {
-				this.language = language;
-			} else {
-				this.language = null;
-			}
-		}
+		setLanguageCode(RFC639.fromTag(language));
+	}
+
+	/**
+	 * @param language
+	 *            {@link RFC639} or {@code null}
+	 */
+	public void setLanguageCode(RFC639 language) {
+		checkNotFrozen();
+		this.language = language;
 	}
 
 	/**
@@ -202,6 +221,7 @@ public class Feed {
 	}
 
 	public void setCopyright(Copyright copyright) {
+		checkNotFrozen();
 		this.copyright = copyright;
 	}
 
@@ -215,6 +235,7 @@ public class Feed {
 	}
 
 	public void setManagingEditor(String managingEditor) {
+		checkNotFrozen();
 		this.managingEditor = managingEditor;
 	}
 
@@ -228,6 +249,7 @@ public class Feed {
 	}
 
 	public void setWebMaster(String webMaster) {
+		checkNotFrozen();
 		this.webMaster = webMaster;
 	}
 
@@ -245,6 +267,7 @@ public class Feed {
 	}
 
 	public void setPubDate(ZonedDateTime pubDate) {
+		checkNotFrozen();
 		this.pubDate = pubDate;
 	}
 
@@ -264,6 +287,7 @@ public class Feed {
 	}
 
 	public void setLastBuildDate(ZonedDateTime lastBuildDate) {
+		checkNotFrozen();
 		this.lastBuildDate = lastBuildDate;
 	}
 
@@ -271,14 +295,15 @@ public class Feed {
 	 * Specify one or more categories that the channel belongs to. Follows the same rules as the
 	 * {@link Item}-level category element.
 	 * 
-	 * @return a {@link Set} of {@link Category} instances, never {@code null}, never containing
-	 *         {@code null}
+	 * @return a {@link Set} of {@link Category} instances in insertion order, never {@code null},
+	 *         never containing {@code null}
 	 */
 	public Set<Category> getCategories() {
 		return categories;
 	}
 
 	public void addCategory(Category category) {
+		checkNotFrozen();
 		if (category != null) {
 			this.categories.add(category);
 		}
@@ -294,6 +319,7 @@ public class Feed {
 	}
 
 	public void setGenerator(String generator) {
+		checkNotFrozen();
 		this.generator = generator;
 	}
 
@@ -309,6 +335,7 @@ public class Feed {
 	}
 
 	public void setDocs(String docs) {
+		checkNotFrozen();
 		this.docs = docs;
 	}
 
@@ -323,6 +350,7 @@ public class Feed {
 	}
 
 	public void setCloud(String cloud) {
+		checkNotFrozen();
 		this.cloud = cloud;
 	}
 
@@ -342,6 +370,7 @@ public class Feed {
 	}
 
 	public void setTtl(Duration ttl) {
+		checkNotFrozen();
 		this.ttl = ttl;
 	}
 
@@ -357,6 +386,7 @@ public class Feed {
 	}
 
 	public void addImage(Image image) {
+		checkNotFrozen();
 		this.images.add(image);
 	}
 
@@ -370,6 +400,7 @@ public class Feed {
 	}
 
 	public void setTextInput(String textInput) {
+		checkNotFrozen();
 		this.textInput = textInput;
 	}
 
@@ -383,6 +414,7 @@ public class Feed {
 	}
 
 	public void addSkipHour(int skipHour) {
+		checkNotFrozen();
 		this.skipHours.add(skipHour);
 	}
 
@@ -396,6 +428,7 @@ public class Feed {
 	}
 
 	public void addSkipDay(String skipDay) {
+		checkNotFrozen();
 		this.skipDays.add(skipDay);
 	}
 
@@ -415,6 +448,7 @@ public class Feed {
 	}
 
 	public void setSubtitle(String subtitle) {
+		checkNotFrozen();
 		this.subtitle = subtitle;
 	}
 
@@ -434,6 +468,7 @@ public class Feed {
 	}
 
 	public void addAuthor(Person author) {
+		checkNotFrozen();
 		this.authors.add(author);
 	}
 
@@ -454,6 +489,7 @@ public class Feed {
 	}
 
 	public void setOwner(Person owner) {
+		checkNotFrozen();
 		this.owner = owner;
 	}
 
@@ -465,6 +501,7 @@ public class Feed {
 	}
 
 	public void addContributor(Person contributor) {
+		checkNotFrozen();
 		this.contributors.add(contributor);
 	}
 
@@ -480,12 +517,14 @@ public class Feed {
 	}
 
 	public void addKeyword(String keyword) {
+		checkNotFrozen();
 		if (Strings.isNotBlank(keyword)) {
 			this.keywords.add(keyword);
 		}
 	}
 
 	public void addKeywords(Collection<String> keywords) {
+		checkNotFrozen();
 		if (keywords != null) {
 			keywords.forEach(this::addKeyword);
 		}
@@ -503,10 +542,12 @@ public class Feed {
 	}
 
 	public void setUpdateInfo(UpdateInfo updateInfo) {
+		checkNotFrozen();
 		this.updateInfo = updateInfo;
 	}
 
 	public void setUpdatePeriod(String period) {
+		checkNotFrozen();
 		if (updateInfo == null) {
 			updateInfo = new UpdateInfo();
 		}
@@ -514,6 +555,7 @@ public class Feed {
 	}
 
 	public void setUpdateFrequency(Integer frequency) {
+		checkNotFrozen();
 		if (updateInfo == null) {
 			updateInfo = new UpdateInfo();
 		}
@@ -521,6 +563,7 @@ public class Feed {
 	}
 
 	public void setUpdateBase(ZonedDateTime base) {
+		checkNotFrozen();
 		if (updateInfo == null) {
 			updateInfo = new UpdateInfo();
 		}
@@ -542,6 +585,7 @@ public class Feed {
 	}
 
 	public void setRating(Rating rating) {
+		checkNotFrozen();
 		if (rating != null) {
 			if (Strings.isNotBlank(rating.getExplicit())) {
 				this.rating.setExplicit(rating.getExplicit());
@@ -573,6 +617,7 @@ public class Feed {
 	}
 
 	public void setLocation(String location) {
+		checkNotFrozen();
 		this.location = location;
 	}
 
@@ -592,6 +637,7 @@ public class Feed {
 	}
 
 	public void addOtherValue(OtherValueKey key, String value) {
+		checkNotFrozen();
 		// we only add if not blank
 		if (Strings.isNotBlank(value)) {
 			values.put(key, value.trim());
@@ -610,10 +656,12 @@ public class Feed {
 	}
 
 	public void setGeoPoint(GeoPoint geoPoint) {
+		checkNotFrozen();
 		this.geoPoint = geoPoint;
 	}
 
 	public void setLatitude(BigDecimal latitude) {
+		checkNotFrozen();
 		if (latitude != null) {
 			if (this.geoPoint == null) {
 				this.geoPoint = new GeoPoint();
@@ -625,6 +673,7 @@ public class Feed {
 	}
 
 	public void setLongitude(BigDecimal longitude) {
+		checkNotFrozen();
 		if (longitude != null) {
 			if (this.geoPoint == null) {
 				this.geoPoint = new GeoPoint();
@@ -640,6 +689,7 @@ public class Feed {
 	}
 
 	public void setBlock(boolean block) {
+		checkNotFrozen();
 		this.block = block;
 	}
 
@@ -663,6 +713,7 @@ public class Feed {
 	}
 
 	public void setSummary(String summary) {
+		checkNotFrozen();
 		this.summary = summary;
 	}
 
@@ -671,6 +722,7 @@ public class Feed {
 	}
 
 	public void setType(String type) {
+		checkNotFrozen();
 		this.type = type;
 	}
 
@@ -690,6 +742,7 @@ public class Feed {
 	}
 
 	public void setEmail(String email) {
+		checkNotFrozen();
 		this.email = email;
 	}
 
@@ -698,6 +751,7 @@ public class Feed {
 	}
 
 	public void setCredit(Credit credit) {
+		checkNotFrozen();
 		this.credit = credit;
 	}
 
@@ -706,6 +760,7 @@ public class Feed {
 	}
 
 	public void setComplete(boolean complete) {
+		checkNotFrozen();
 		this.complete = complete;
 	}
 
@@ -714,6 +769,7 @@ public class Feed {
 	}
 
 	public void setBrowserFriendly(TypedString browserFriendly) {
+		checkNotFrozen();
 		this.browserFriendly = browserFriendly;
 	}
 
@@ -739,6 +795,69 @@ public class Feed {
 		return localDate;
 	}
 
+	/**
+	 * <p>
+	 * Make this {@link Feed} and all of its {@link Item} instances read-only. Afterwards, all
+	 * collections are unmodifiable and every setter or {@code add} method throws
+	 * {@link IllegalStateException}. The collections are not copied, they are wrapped.
+	 * </p>
+	 * <p>
+	 * A frozen {@link Feed} can be shared between threads without locking or defensive copies. A
+	 * thread that sees {@link #isFrozen()} return {@code true}, or that received the instance through
+	 * any thread-safe handoff after {@code freeze()} returned, sees the complete frozen state. The
+	 * support objects held by the feed and its items, such as {@link Link} or {@link Rating}, are
+	 * frozen as well, see {@link Freezable}.
+	 * </p>
+	 * 
+	 * @return {@code this}
+	 */
+	public Feed freeze() {
+		if (frozen) {
+			return this;
+		}
+		for (Item item : items) {
+			item.freeze();
+		}
+		Freezable.freezeAll(links);
+		Freezable.freeze(description);
+		Freezable.freeze(copyright);
+		Freezable.freezeAll(categories);
+		Freezable.freezeAll(images);
+		Freezable.freezeAll(authors);
+		Freezable.freeze(owner);
+		Freezable.freezeAll(contributors);
+		Freezable.freeze(updateInfo);
+		Freezable.freeze(rating);
+		Freezable.freeze(geoPoint);
+		Freezable.freeze(credit);
+		Freezable.freeze(browserFriendly);
+		links = Frozen.set(links);
+		items = Frozen.list(items);
+		categories = Frozen.set(categories);
+		images = Frozen.list(images);
+		skipHours = Frozen.list(skipHours);
+		skipDays = Frozen.list(skipDays);
+		authors = Frozen.list(authors);
+		contributors = Frozen.list(contributors);
+		keywords = Frozen.set(keywords);
+		values = Frozen.map(values);
+		frozen = true;
+		return this;
+	}
+
+	/**
+	 * @return {@code true} if {@link #freeze()} has been called
+	 */
+	public boolean isFrozen() {
+		return frozen;
+	}
+
+	private void checkNotFrozen() {
+		if (frozen) {
+			throw new IllegalStateException("feed is frozen");
+		}
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder builder = new StringBuilder();
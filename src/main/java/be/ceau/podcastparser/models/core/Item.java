@@ -19,10 +19,10 @@ import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.EnumMap;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -33,6 +33,7 @@ import be.ceau.podcastparser.models.support.Comments;
 import be.ceau.podcastparser.models.support.Copyright;
 import be.ceau.podcastparser.models.support.Credit;
 import be.ceau.podcastparser.models.support.Enclosure;
+import be.ceau.podcastparser.models.support.Freezable;
 import be.ceau.podcastparser.models.support.GeoBox;
 import be.ceau.podcastparser.models.support.GeoPoint;
 import be.ceau.podcastparser.models.support.Hash;
@@ -49,8 +50,20 @@ import be.ceau.podcastparser.models.support.Scene;
 import be.ceau.podcastparser.models.support.Transcript;
 import be.ceau.podcastparser.models.support.TypedString;
 import be.ceau.podcastparser.models.support.Visibility;
+import be.ceau.podcastparser.util.CompactSet;
+import be.ceau.podcastparser.util.Frozen;
 import be.ceau.podcastparser.util.Strings;
 
+/**
+ * <p>
+ * A single entry in a {@link Feed}.
+ * </p>
+ * <p>
+ * Collections and the {@link Rating} are only allocated when the first value is added, as most
+ * items only use a few of them. Until then, the getters return shared immutable empty
+ * collections. Use the {@code add} methods to add values, not the returned collections.
+ * </p>
+ */
 public class Item {
 
 	/**
@@ -80,12 +93,21 @@ public class Item {
 
 	}
 
+	/**
+	 * Returned by {@link #getRating()} of a frozen {@link Item} without a {@link Rating}
+	 */
+	private static final Rating NO_RATING = new Rating();
+
+	static {
+		NO_RATING.freeze();
+	}
+
 	private TypedString title;
 	private String subtitle;
-	private final Set<Link> links = new HashSet<>();
+	private Set<Link> links;
 	private TypedString description;
-	private final List<Person> authors = new ArrayList<>();
-	private final Set<Category> categories = new HashSet<>();
+	private List<Person> authors;
+	private Set<Category> categories;
 	private Copyright copyright;
 	private Enclosure enclosure;
 	private String guid;
@@ -94,21 +116,21 @@ public class Item {
 	private ZonedDateTime validity;
 	private ZonedDateTime edited;
 	private String source;
-	private final Rating rating = new Rating();
+	private Rating rating;
 	private Duration duration;
-	private final List<MediaContent> mediaContents = new ArrayList<>();
-	private final List<Image> images = new ArrayList<>();
-	private final List<String> keywords = new ArrayList<>();
+	private List<MediaContent> mediaContents;
+	private List<Image> images;
+	private List<String> keywords;
 	private TypedString content;
 	private String subject;
 	private Comments comments;
-	private final List<Chapter> chapters = new ArrayList<>();
-	private final List<Hash> hashes = new ArrayList<>();
+	private List<Chapter> chapters;
+	private List<Hash> hashes;
 	private License license;
-	private final List<Credit> credits = new ArrayList<>();
+	private List<Credit> credits;
 	private String language;
-	private final Map<OtherValueKey, String> values = new EnumMap<>(OtherValueKey.class);
-	private final Map<String, Enclosure> otherEnclosures = new HashMap<>();
+	private Map<OtherValueKey, String> values;
+	private Map<String, Enclosure> otherEnclosures;
 	private GeoPoint geoPoint;
 	private GeoBox geoBox;
 	private Integer order;
@@ -118,14 +140,16 @@ public class Item {
 	private String episode;
 	private String season;
 	private MediaPlayer mediaPlayer;
-	private final List<Scene> scenes = new ArrayList<>();
-	private final List<Transcript> transcripts = new ArrayList<>();
+	private List<Scene> scenes;
+	private List<Transcript> transcripts;
 	private boolean hd;
 	private TypedString embed;
-	private final List<Metamark> metamarks = new ArrayList<>();
+	private List<Metamark> metamarks;
 	private String provider;
 	private Visibility visibility;
 	private String rights;
+	private long fingerprint;
+	private volatile boolean frozen;
 
 	/**
 	 * <p>
@@ -142,12 +166,14 @@ public class Item {
 	}
 
 	public void setTitle(String title) {
+		checkNotFrozen();
 		TypedString typedString = new TypedString();
 		typedString.setText(title);
 		setTitle(typedString);
 	}
 
 	public void setTitle(TypedString title) {
+		checkNotFrozen();
 		this.title = title;
 	}
 
@@ -166,6 +192,7 @@ public class Item {
 	}
 
 	public void setSubtitle(String subtitle) {
+		checkNotFrozen();
 		this.subtitle = subtitle;
 	}
 
@@ -178,14 +205,18 @@ public class Item {
 	 * Required in RSS specification. Listed in Atom specification as element {@code link}.
 	 * </p>
 	 * 
-	 * @return {@link Set}
+	 * @return {@link Set} in insertion order
 	 */
 	public Set<Link> getLinks() {
-		return links;
+		return links == null ? Collections.emptySet() : links;
 	}
 
 	public void addLink(Link link) {
+		checkNotFrozen();
 		if (link != null) {
+			if (links == null) {
+				links = new CompactSet<>();
+			}
 			this.links.add(link);
 		}
 	}
@@ -205,12 +236,14 @@ public class Item {
 	}
 
 	public void setDescription(String description) {
+		checkNotFrozen();
 		TypedString typedString = new TypedString();
 		typedString.setText(description);
 		setDescription(typedString);
 	}
 
 	public void setDescription(TypedString description) {
+		checkNotFrozen();
 		this.description = description;
 	}
 
@@ -220,25 +253,33 @@ public class Item {
 	 * @return {@link List} of {@link Person} instances, never {@code null}
 	 */
 	public List<Person> getAuthors() {
-		return authors;
+		return authors == null ? Collections.emptyList() : authors;
 	}
 
 	public void addAuthor(Person author) {
+		checkNotFrozen();
+		if (authors == null) {
+			authors = new ArrayList<>(2);
+		}
 		this.authors.add(author);
 	}
 
 	/**
 	 * Includes the item in one or more categories.
 	 * 
-	 * @return a {@link Set} of {@link Category} instances, never {@code null}, never containing
-	 *         {@code null}
+	 * @return a {@link Set} of {@link Category} instances in insertion order, never {@code null},
+	 *         never containing {@code null}
 	 */
 	public Set<Category> getCategories() {
-		return categories;
+		return categories == null ? Collections.emptySet() : categories;
 	}
 
 	public void addCategory(Category category) {
+		checkNotFrozen();
 		if (category != null) {
+			if (categories == null) {
+				categories = new CompactSet<>();
+			}
 			this.categories.add(category);
 		}
 	}
@@ -259,6 +300,7 @@ public class Item {
 	}
 
 	public void setCopyright(Copyright copyright) {
+		checkNotFrozen();
 		this.copyright = copyright;
 	}
 
@@ -278,6 +320,7 @@ public class Item {
 	}
 
 	public void setEnclosure(Enclosure enclosure) {
+		checkNotFrozen();
 		this.enclosure = enclosure;
 	}
 
@@ -311,6 +354,7 @@ public class Item {
 	}
 
 	public void setGuid(String guid) {
+		checkNotFrozen();
 		this.guid = guid;
 	}
 
@@ -329,6 +373,7 @@ public class Item {
 	}
 
 	public void setPubDate(ZonedDateTime pubDate) {
+		checkNotFrozen();
 		this.pubDate = pubDate;
 	}
 
@@ -349,6 +394,7 @@ public class Item {
 	}
 
 	public void setUpdated(ZonedDateTime updated) {
+		checkNotFrozen();
 		this.updated = updated;
 	}
 
@@ -367,6 +413,7 @@ public class Item {
 	}
 
 	public void setValidity(ZonedDateTime validity) {
+		checkNotFrozen();
 		this.validity = validity;
 	}
 
@@ -385,6 +432,7 @@ public class Item {
 	}
 
 	public void setEdited(ZonedDateTime edited) {
+		checkNotFrozen();
 		this.edited = edited;
 	}
 
@@ -403,6 +451,7 @@ public class Item {
 	}
 
 	public void setSource(String source) {
+		checkNotFrozen();
 		this.source = source;
 	}
 
@@ -417,22 +466,37 @@ public class Item {
 	 * @return a {@link Rating}, never {@code null}
 	 */
 	public Rating getRating() {
+		if (rating == null) {
+			if (frozen) {
+				return NO_RATING;
+			}
+			rating = new Rating();
+		}
 		return rating;
 	}
 
+	/**
+	 * @return {@code true} if a {@link Rating} has been created for this {@link Item}, without
+	 *         creating one as {@link #getRating()} does
+	 */
+	public boolean hasRating() {
+		return rating != null;
+	}
+
 	public void setRating(Rating rating) {
+		checkNotFrozen();
 		if (rating != null) {
 			if (Strings.isNotBlank(rating.getExplicit())) {
-				this.rating.setExplicit(rating.getExplicit());
+				getRating().setExplicit(rating.getExplicit());
 			}
 			if (Strings.isNotBlank(rating.getScheme())) {
-				this.rating.setScheme(rating.getScheme());
+				getRating().setScheme(rating.getScheme());
 			}
 			if (Strings.isNotBlank(rating.getText())) {
-				this.rating.setText(rating.getText());
+				getRating().setText(rating.getText());
 			}
 			if (Strings.isNotBlank(rating.getAdultContent())) {
-				this.rating.setAdultContent(rating.getAdultContent());
+				getRating().setAdultContent(rating.getAdultContent());
 			}
 		}
 	}
@@ -452,6 +516,7 @@ public class Item {
 	}
 
 	public void setDuration(Duration duration) {
+		checkNotFrozen();
 		this.duration = duration;
 	}
 
@@ -466,6 +531,7 @@ public class Item {
 	 *            present, the numbers furthest to the right are ignored.
 	 */
 	public void setDuration(String duration) {
+		checkNotFrozen();
 		if (duration != null) {
 			String[] split = duration.trim().split(":");
 			try {
@@ -513,22 +579,37 @@ public class Item {
 	 * @see MediaContent
 	 */
 	public List<MediaContent> getMediaContents() {
-		return mediaContents;
+		return mediaContents == null ? Collections.emptyList() : mediaContents;
 	}
 
 	public void addMediaContent(MediaContent mediaContent) {
+		checkNotFrozen();
+		if (this.mediaContents == null) {
+			this.mediaContents = new ArrayList<>(4);
+		}
 		this.mediaContents.add(mediaContent);
 	}
 
 	public void addMediaContents(List<MediaContent> mediaContents) {
+		checkNotFrozen();
+		if (mediaContents.isEmpty()) {
+			return;
+		}
+		if (this.mediaContents == null) {
+			this.mediaContents = new ArrayList<>(mediaContents.size());
+		}
 		this.mediaContents.addAll(mediaContents);
 	}
 
 	public List<Image> getImages() {
-		return images;
+		return images == null ? Collections.emptyList() : images;
 	}
 
 	public void addImage(Image image) {
+		checkNotFrozen();
+		if (images == null) {
+			images = new ArrayList<>(2);
+		}
 		this.images.add(image);
 	}
 
@@ -540,16 +621,21 @@ public class Item {
 	 * @return a {@link List}, not {@code null}
 	 */
 	public List<String> getKeywords() {
-		return this.keywords;
+		return keywords == null ? Collections.emptyList() : keywords;
 	}
 
 	public void addKeyword(String keyword) {
+		checkNotFrozen();
 		if (Strings.isNotBlank(keyword)) {
+			if (keywords == null) {
+				keywords = new ArrayList<>();
+			}
 			this.keywords.add(keyword.trim());
 		}
 	}
 
 	public void addKeywords(Collection<String> keywords) {
+		checkNotFrozen();
 		if (keywords != null) {
 			keywords.forEach(this::addKeyword);
 		}
@@ -567,6 +653,7 @@ public class Item {
 	}
 
 	public void setContent(TypedString content) {
+		checkNotFrozen();
 		this.content = content;
 	}
 
@@ -582,6 +669,7 @@ public class Item {
 	}
 
 	public void setSubject(String subject) {
+		checkNotFrozen();
 		this.subject = subject;
 	}
 
@@ -597,10 +685,12 @@ public class Item {
 	}
 
 	public void setComments(Comments comments) {
+		checkNotFrozen();
 		this.comments = comments;
 	}
 
 	public void setNumberOfComments(int number) {
+		checkNotFrozen();
 		if (comments == null) {
 			comments = new Comments();
 		}
@@ -615,11 +705,15 @@ public class Item {
 	 * @return a {@link List}, not {@code null}
 	 */
 	public List<Chapter> getChapters() {
-		return chapters;
+		return chapters == null ? Collections.emptyList() : chapters;
 	}
 
 	public void addChapter(Chapter chapter) {
+		checkNotFrozen();
 		if (chapter != null) {
+			if (chapters == null) {
+				chapters = new ArrayList<>();
+			}
 			chapters.add(chapter);
 		}
 	}
@@ -632,10 +726,14 @@ public class Item {
 	 * @return a {@link List}, not {@code null}
 	 */
 	public List<Hash> getHashes() {
-		return hashes;
+		return hashes == null ? Collections.emptyList() : hashes;
 	}
 
 	public void addHash(Hash hash) {
+		checkNotFrozen();
+		if (hashes == null) {
+			hashes = new ArrayList<>(2);
+		}
 		hashes.add(hash);
 	}
 
@@ -651,6 +749,7 @@ public class Item {
 	}
 
 	public void setLicense(License license) {
+		checkNotFrozen();
 		this.license = license;
 	}
 
@@ -662,10 +761,14 @@ public class Item {
 	 * @return a {@link List}, not {@code null}
 	 */
 	public List<Credit> getCredits() {
-		return credits;
+		return credits == null ? Collections.emptyList() : credits;
 	}
 
 	public void addCredit(Credit credit) {
+		checkNotFrozen();
+		if (credits == null) {
+			credits = new ArrayList<>();
+		}
 		credits.add(credit);
 	}
 
@@ -683,7 +786,17 @@ public class Item {
 		return language;
 	}
 
+	/**
+	 * @return {@link RFC639} for the language of this {@link Item}, or {@code null} if absent or
+	 *         not recognized
+	 * @see RFC639#fromTag(CharSequence)
+	 */
+	public RFC639 getLanguageCode() {
+		return RFC639.fromTag(language);
+	}
+
 	public void setLanguage(String language) {
+		checkNotFrozen();
 		this.language = language;
 	}
 
@@ -699,12 +812,16 @@ public class Item {
 	 * @return a {@link Map}, not {@code null}
 	 */
 	public Map<OtherValueKey, String> getOtherValues() {
-		return values;
+		return values == null ? Collections.emptyMap() : values;
 	}
 
 	public void addOtherValue(OtherValueKey key, String value) {
+		checkNotFrozen();
 		// we only add if not blank
 		if (Strings.isNotBlank(value)) {
+			if (values == null) {
+				values = new EnumMap<>(OtherValueKey.class);
+			}
 			values.put(key, value.trim());
 		}
 	}
@@ -719,12 +836,16 @@ public class Item {
 	 * @return a {@link Map}, not {@code null}
 	 */
 	public Map<String, Enclosure> getOtherEnclosures() {
-		return otherEnclosures;
+		return otherEnclosures == null ? Collections.emptyMap() : otherEnclosures;
 	}
 
 	public void addOtherEnclosure(String key, Enclosure enclosure) {
+		checkNotFrozen();
 		// we only add if not null
 		if (key != null && enclosure != null) {
+			if (otherEnclosures == null) {
+				otherEnclosures = new HashMap<>(4);
+			}
 			otherEnclosures.put(key, enclosure);
 		}
 	}
@@ -741,10 +862,12 @@ public class Item {
 	}
 
 	public void setGeoPoint(GeoPoint geoPoint) {
+		checkNotFrozen();
 		this.geoPoint = geoPoint;
 	}
 
 	public void setLatitude(BigDecimal latitude) {
+		checkNotFrozen();
 		if (latitude != null) {
 			if (this.geoPoint == null) {
 				this.geoPoint = new GeoPoint();
@@ -756,6 +879,7 @@ public class Item {
 	}
 
 	public void setLongitude(BigDecimal longitude) {
+		checkNotFrozen();
 		if (longitude != null) {
 			if (this.geoPoint == null) {
 				this.geoPoint = new GeoPoint();
@@ -771,6 +895,7 @@ public class Item {
 	}
 
 	public void setGeoBox(GeoBox geoBox) {
+		checkNotFrozen();
 		this.geoBox = geoBox;
 	}
 
@@ -791,6 +916,7 @@ public class Item {
 	}
 
 	public void setOrder(Integer order) {
+		checkNotFrozen();
 		this.order = order;
 	}
 
@@ -799,6 +925,7 @@ public class Item {
 	}
 
 	public void setSummary(String summary) {
+		checkNotFrozen();
 		this.summary = summary;
 	}
 
@@ -807,6 +934,7 @@ public class Item {
 	}
 
 	public void setBlock(boolean block) {
+		checkNotFrozen();
 		this.block = block;
 	}
 
@@ -820,6 +948,7 @@ public class Item {
 	}
 
 	public void setEpisodeType(String episodeType) {
+		checkNotFrozen();
 		this.episodeType = episodeType;
 	}
 
@@ -828,6 +957,7 @@ public class Item {
 	}
 
 	public void setEpisode(String episode) {
+		checkNotFrozen();
 		this.episode = episode;
 	}
 
@@ -836,6 +966,7 @@ public class Item {
 	}
 
 	public void setSeason(String season) {
+		checkNotFrozen();
 		this.season = season;
 	}
 
@@ -844,27 +975,36 @@ public class Item {
 	}
 
 	public void setMediaPlayer(MediaPlayer mediaPlayer) {
+		checkNotFrozen();
 		this.mediaPlayer = mediaPlayer;
 	}
 
 	public List<Scene> getScenes() {
-		return scenes;
+		return scenes == null ? Collections.emptyList() : scenes;
 	}
 
 	public void addScene(Scene scene) {
+		checkNotFrozen();
 		// we only add if not null
 		if (scene != null) {
+			if (scenes == null) {
+				scenes = new ArrayList<>();
+			}
 			scenes.add(scene);
 		}
 	}
 
 	public List<Transcript> getTranscripts() {
-		return transcripts;
+		return transcripts == null ? Collections.emptyList() : transcripts;
 	}
 
 	public void addTranscript(Transcript transcript) {
+		checkNotFrozen();
 		// we only add if not null
 		if (transcript != null) {
+			if (transcripts == null) {
+				transcripts = new ArrayList<>();
+			}
 			transcripts.add(transcript);
 		}
 	}
@@ -881,6 +1021,7 @@ public class Item {
 	}
 
 	public void setHd(boolean hd) {
+		checkNotFrozen();
 		this.hd = hd;
 	}
 
@@ -895,16 +1036,21 @@ public class Item {
 	}
 
 	public void setEmbed(TypedString embed) {
+		checkNotFrozen();
 		this.embed = embed;
 	}
 
 	public List<Metamark> getMetamarks() {
-		return metamarks;
+		return metamarks == null ? Collections.emptyList() : metamarks;
 	}
 
 	public void addMetamark(Metamark metamark) {
+		checkNotFrozen();
 		// we only add if not null
 		if (metamark != null) {
+			if (metamarks == null) {
+				metamarks = new ArrayList<>();
+			}
 			metamarks.add(metamark);
 		}
 	}
@@ -914,6 +1060,7 @@ public class Item {
 	}
 
 	public void setProvider(String provider) {
+		checkNotFrozen();
 		this.provider = provider;
 	}
 
@@ -922,6 +1069,7 @@ public class Item {
 	}
 
 	public void setVisibility(Visibility visibility) {
+		checkNotFrozen();
 		this.visibility = visibility;
 	}
 
@@ -930,9 +1078,94 @@ public class Item {
 	}
 
 	public void setRights(String rights) {
+		checkNotFrozen();
 		this.rights = rights;
 	}
 
+	/**
+	 * @return fingerprint set by a {@link be.ceau.podcastparser.dedup.ItemFingerprinter} while
+	 *         parsing, or {@code 0} if none
+	 */
+	public long getFingerprint() {
+		return fingerprint;
+	}
+
+	public void setFingerprint(long fingerprint) {
+		checkNotFrozen();
+		this.fingerprint = fingerprint;
+	}
+
+	/**
+	 * Make this {@link Item} and its support objects read-only. Afterwards, all collections are
+	 * unmodifiable and every setter or {@code add} method throws {@link IllegalStateException}, also
+	 * on the support objects, see {@link Freezable}. Without a {@link Rating}, {@link #getRating()}
+	 * returns a shared, frozen empty instance.
+	 * 
+	 * @return {@code this}
+	 * @see Feed#freeze()
+	 */
+	public Item freeze() {
+		if (frozen) {
+			return this;
+		}
+		Freezable.freeze(title);
+		Freezable.freezeAll(links);
+		Freezable.freeze(description);
+		Freezable.freezeAll(authors);
+		Freezable.freezeAll(categories);
+		Freezable.freeze(copyright);
+		Freezable.freeze(enclosure);
+		Freezable.freeze(rating);
+		Freezable.freezeAll(mediaContents);
+		Freezable.freezeAll(images);
+		Freezable.freeze(content);
+		Freezable.freeze(comments);
+		Freezable.freezeAll(chapters);
+		Freezable.freezeAll(hashes);
+		Freezable.freeze(license);
+		Freezable.freezeAll(credits);
+		if (otherEnclosures != null) {
+			Freezable.freezeAll(otherEnclosures.values());
+		}
+		Freezable.freeze(geoPoint);
+		Freezable.freeze(geoBox);
+		Freezable.freeze(mediaPlayer);
+		Freezable.freezeAll(scenes);
+		Freezable.freezeAll(transcripts);
+		Freezable.freeze(embed);
+		Freezable.freezeAll(metamarks);
+		Freezable.freeze(visibility);
+		links = Frozen.set(links);
+		authors = Frozen.list(authors);
+		categories = Frozen.set(categories);
+		mediaContents = Frozen.list(mediaContents);
+		images = Frozen.list(images);
+		keywords = Frozen.list(keywords);
+		chapters = Frozen.list(chapters);
+		hashes = Frozen.list(hashes);
+		credits = Frozen.list(credits);
+		values = Frozen.map(values);
+		otherEnclosures = Frozen.map(otherEnclosures);
+		scenes = Frozen.list(scenes);
+		transcripts = Frozen.list(transcripts);
+		metamarks = Frozen.list(metamarks);
+		frozen = true;
+		return this;
+	}
+
+	/**
+	 * @return {@code true} if {@link #freeze()} has been called
+	 */
+	public boolean isFrozen() {
+		return frozen;
+	}
+
+	private void checkNotFrozen() {
+		if (frozen) {
+			throw new IllegalStateException("item is frozen");
+		}
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder builder = new StringBuilder();
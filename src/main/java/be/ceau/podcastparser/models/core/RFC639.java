@@ -209,6 +209,17 @@ public enum RFC639 {
 	public static final Set<RFC639> ALL = Collections.unmodifiableSet(EnumSet.allOf(RFC639.class));
 	public static final Set<String> LANGUAGES = Collections.unmodifiableSet(ALL.stream().map(e -> e.name()).collect(Collectors.toSet()));
 
+	/**
+	 * Lookup table indexed by {@code (first - 'a') * 26 + (second - 'a')}
+	 */
+	private static final RFC639[] TABLE = new RFC639[26 * 26];
+
+	static {
+		for (RFC639 language : values()) {
+			TABLE[(language.name().charAt(0) - 'a') * 26 + language.name().charAt(1) - 'a'] = language;
+		}
+	}
+
 	private final String isoName;
 	private RFC639(String isoName) {
 		this.isoName = isoName;
@@ -217,4 +228,48 @@ public enum RFC639 {
 		return isoName;
 	}
 
+	/**
+	 * <p>
+	 * Find the language for a language tag, such as {@code en}, {@code en-US} or {@code EN_us},
+	 * without creating any objects.
+	 * </p>
+	 * <p>
+	 * Leading characters up to and including space are ignored. The first two characters must be
+	 * ASCII letters, in any case, and are looked up as a two-letter language code. Anything after
+	 * them is ignored.
+	 * </p>
+	 * 
+	 * @param tag
+	 *            language tag, or {@code null}
+	 * @return matching {@link RFC639} or {@code null}
+	 */
+	public static RFC639 fromTag(CharSequence tag) {
+		if (tag == null) {
+			return null;
+		}
+		int length = tag.length();
+		int start = 0;
+		while (start < length && tag.charAt(start) <= ' ') {
+			start++;
+		}
+		if (length - start < 2) {
+			return null;
+		}
+		int first = letter(tag.charAt(start));
+		int second = letter(tag.charAt(start + 1));
+		if (first < 0 || second < 0) {
+			return null;
+		}
+		return TABLE[first * 26 + second];
+	}
+
+	/**
+	 * @return index of the given ASCII letter in the alphabet, or -1
+	 */
+	private static int letter(char c) {
+		// folds upper case onto lower case, other characters end up outside a-z
+		int lower = c | 0x20;
+		return lower >= 'a' && lower <= 'z' ? lower - 'a' : -1;
+	}
+
 }
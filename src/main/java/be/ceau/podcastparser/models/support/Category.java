@@ -22,7 +22,7 @@ package be.ceau.podcastparser.models.support;
  * Used in iTunes and Media namespaces.
  * </p>
  */
-public class Category {
+public class Category extends Freezable {
 
 	private String name;
 	private String subcategory;
@@ -44,6 +44,7 @@ public class Category {
 	}
 
 	public void setName(String name) {
+		checkNotFrozen();
 		this.name = name;
 	}
 
@@ -62,6 +63,7 @@ public class Category {
 	}
 
 	public void setSubcategory(String subcategory) {
+		checkNotFrozen();
 		this.subcategory = subcategory;
 	}
 
@@ -80,6 +82,7 @@ public class Category {
 	}
 
 	public void setScheme(String scheme) {
+		checkNotFrozen();
 		this.scheme = scheme;
 	}
 
@@ -98,6 +101,7 @@ public class Category {
 	}
 
 	public void setLabel(String label) {
+		checkNotFrozen();
 		this.label = label;
 	}
 
@@ -14,7 +14,7 @@
 */
 package be.ceau.podcastparser.models.support;
 
-public class Chapter implements Comparable<Chapter> {
+public class Chapter extends Freezable implements Comparable<Chapter> {
 
 	private long start;
 	private String title;
@@ -36,6 +36,7 @@ public class Chapter implements Comparable<Chapter> {
 	}
 
 	public void setStart(long start) {
+		checkNotFrozen();
 		this.start = start;
 	}
 
@@ -54,6 +55,7 @@ public class Chapter implements Comparable<Chapter> {
 	}
 
 	public void setTitle(String title) {
+		checkNotFrozen();
 		this.title = title;
 	}
 
@@ -72,6 +74,7 @@ public class Chapter implements Comparable<Chapter> {
 	}
 
 	public void setHref(Link href) {
+		checkNotFrozen();
 		this.href = href;
 	}
 
@@ -90,6 +93,7 @@ public class Chapter implements Comparable<Chapter> {
 	}
 
 	public void setImage(Image image) {
+		checkNotFrozen();
 		this.image = image;
 	}
 
@@ -98,6 +102,13 @@ public class Chapter implements Comparable<Chapter> {
 		return (int) (start - o.start);
 	}
 
+	@Override
+	public void freeze() {
+		super.freeze();
+		freeze(href);
+		freeze(image);
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder builder = new StringBuilder();
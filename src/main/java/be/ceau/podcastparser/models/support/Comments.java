@@ -14,7 +14,7 @@
 */
 package be.ceau.podcastparser.models.support;
 
-public class Comments {
+public class Comments extends Freezable {
 
 	private Integer number;
 	private Link link;
@@ -34,6 +34,7 @@ public class Comments {
 	}
 
 	public void setNumber(Integer number) {
+		checkNotFrozen();
 		this.number = number;
 	}
 
@@ -52,9 +53,16 @@ public class Comments {
 	}
 
 	public void setLink(Link link) {
+		checkNotFrozen();
 		this.link = link;
 	}
 
+	@Override
+	public void freeze() {
+		super.freeze();
+		freeze(link);
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder builder = new StringBuilder();
@@ -22,7 +22,7 @@ package be.ceau.podcastparser.models.support;
  * As specified in the Media namespace.
  * </p>
  */
-public class Copyright {
+public class Copyright extends Freezable {
 
 	private String text;
 	private String url;
@@ -35,6 +35,7 @@ public class Copyright {
 	}
 
 	public void setText(String text) {
+		checkNotFrozen();
 		this.text = text;
 	}
 
@@ -49,6 +50,7 @@ public class Copyright {
 	}
 
 	public void setUrl(String url) {
+		checkNotFrozen();
 		this.url = url;
 	}
 
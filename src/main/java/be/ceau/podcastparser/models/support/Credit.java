@@ -23,7 +23,7 @@ package be.ceau.podcastparser.models.support;
  * Specified in Media RSS namespace specification.
  * </p>
  */
-public class Credit {
+public class Credit extends Freezable {
 
 	/*
 	 * <media:credit role="producer" scheme="urn:ebu">entity name</media:credit>
@@ -59,6 +59,7 @@ public class Credit {
 	}
 
 	public void setEntity(String entity) {
+		checkNotFrozen();
 		this.entity = entity;
 	}
 
@@ -77,6 +78,7 @@ public class Credit {
 	}
 
 	public void setRole(String role) {
+		checkNotFrozen();
 		this.role = role;
 	}
 
@@ -96,6 +98,7 @@ public class Credit {
 	}
 
 	public void setScheme(String scheme) {
+		checkNotFrozen();
 		this.scheme = scheme;
 	}
 
@@ -16,7 +16,7 @@ package be.ceau.podcastparser.models.support;
 
 import be.ceau.podcastparser.util.Strings;
 
-public class Enclosure {
+public class Enclosure extends Freezable {
 
 	private String url;
 	private long length;
@@ -38,6 +38,7 @@ public class Enclosure {
 	}
 
 	public void setUrl(String url) {
+		checkNotFrozen();
 		this.url = url;
 	}
 
@@ -56,10 +57,12 @@ public class Enclosure {
 	}
 
 	public void setLength(long length) {
+		checkNotFrozen();
 		this.length = length;
 	}
 
 	public void setLength(String length) {
+		checkNotFrozen();
 		if (Strings.isNotBlank(length)) {
 			try {
 				this.length = Long.parseLong(length.trim());
@@ -82,6 +85,7 @@ public class Enclosure {
 	}
 
 	public void setType(String type) {
+		checkNotFrozen();
 		this.type = type;
 	}
 
@@ -100,6 +104,7 @@ public class Enclosure {
 	}
 
 	public void setDescription(String description) {
+		checkNotFrozen();
 		this.description = description;
 	}
 
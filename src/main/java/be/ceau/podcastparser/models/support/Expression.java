@@ -0,0 +1,59 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.models.support;
+
+/**
+ * Whether a Media RSS object is a sample, the full version or a continuous stream, as in the
+ * {@code expression} attribute of {@code media:content}.
+ */
+public enum Expression {
+
+	SAMPLE("sample"),
+	FULL("full"),
+	NONSTOP("nonstop");
+
+	private static final Expression[] VALUES = values();
+
+	private final String value;
+
+	private Expression(String value) {
+		this.value = value;
+	}
+
+	/**
+	 * @return value as it appears in Media RSS, never {@code null}
+	 */
+	public String getValue() {
+		return value;
+	}
+
+	/**
+	 * @param value
+	 *            attribute value, compared ignoring case and surrounding whitespace, or {@code null}
+	 * @return matching {@link Expression}, or {@code null}
+	 */
+	public static Expression from(String value) {
+		if (value != null) {
+			value = value.trim();
+			for (Expression expression : VALUES) {
+				if (expression.value.equalsIgnoreCase(value)) {
+					return expression;
+				}
+			}
+		}
+		return null;
+	}
+
+}
@@ -0,0 +1,82 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.models.support;
+
+/**
+ * <p>
+ * Base class of the support models, which become read-only when the
+ * {@link be.ceau.podcastparser.models.core.Feed} or {@link be.ceau.podcastparser.models.core.Item}
+ * holding them is frozen. Afterwards, every setter throws {@link IllegalStateException}.
+ * </p>
+ * <p>
+ * The frozen state is published by the owning model, whose own frozen flag is written after all of
+ * its support objects are frozen.
+ * </p>
+ * 
+ * @see be.ceau.podcastparser.models.core.Feed#freeze()
+ * @see be.ceau.podcastparser.models.core.Item#freeze()
+ */
+public abstract class Freezable {
+
+	private boolean frozen;
+
+	/**
+	 * Make this instance, and any support objects it holds, read-only. Calling this more than once
+	 * has no further effect.
+	 */
+	public void freeze() {
+		frozen = true;
+	}
+
+	/**
+	 * @return {@code true} if {@link #freeze()} has been called
+	 */
+	public boolean isFrozen() {
+		return frozen;
+	}
+
+	/**
+	 * @throws IllegalStateException
+	 *             if this instance is frozen
+	 */
+	protected final void checkNotFrozen() {
+		if (frozen) {
+			throw new IllegalStateException(getClass().getSimpleName() + " is frozen");
+		}
+	}
+
+	/**
+	 * @param value
+	 *            {@link Freezable} to freeze, or {@code null}
+	 */
+	public static void freeze(Freezable value) {
+		if (value != null) {
+			value.freeze();
+		}
+	}
+
+	/**
+	 * @param values
+	 *            {@link Freezable} instances to freeze, or {@code null}
+	 */
+	public static void freezeAll(Iterable<? extends Freezable> values) {
+		if (values != null) {
+			for (Freezable value : values) {
+				freeze(value);
+			}
+		}
+	}
+
+}
@@ -24,7 +24,7 @@ package be.ceau.podcastparser.models.support;
  * Used in GeoRSS namespace specifications.
  * </p>
  */
-public class GeoBox {
+public class GeoBox extends Freezable {
 
 	private GeoPoint lowerCorner;
 	private GeoPoint upperCorner;
@@ -34,6 +34,7 @@ public class GeoBox {
 	}
 
 	public void setLowerCorner(GeoPoint lowerCorner) {
+		checkNotFrozen();
 		this.lowerCorner = lowerCorner;
 	}
 
@@ -42,9 +43,17 @@ public class GeoBox {
 	}
 
 	public void setUpperCorner(GeoPoint upperCorner) {
+		checkNotFrozen();
 		this.upperCorner = upperCorner;
 	}
 
+	@Override
+	public void freeze() {
+		super.freeze();
+		freeze(lowerCorner);
+		freeze(upperCorner);
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder builder = new StringBuilder();
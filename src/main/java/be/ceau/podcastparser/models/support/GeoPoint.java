@@ -24,7 +24,7 @@ import java.math.BigDecimal;
  * Used in Geo and GeoRSS namespace specifications.
  * </p>
  */
-public class GeoPoint {
+public class GeoPoint extends Freezable {
 
 	private BigDecimal latitude;
 	private BigDecimal longitude;
@@ -34,6 +34,7 @@ public class GeoPoint {
 	}
 
 	public void setLatitude(BigDecimal latitude) {
+		checkNotFrozen();
 		this.latitude = latitude;
 	}
 
@@ -42,6 +43,7 @@ public class GeoPoint {
 	}
 
 	public void setLongitude(BigDecimal longitude) {
+		checkNotFrozen();
 		this.longitude = longitude;
 	}
 
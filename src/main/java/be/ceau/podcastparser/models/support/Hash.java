@@ -24,7 +24,7 @@ package be.ceau.podcastparser.models.support;
  * Specified in the Media RSS namespace specification.
  * </p>
  */
-public class Hash {
+public class Hash extends Freezable {
 
 	private String hash;
 	private String algo;
@@ -44,6 +44,7 @@ public class Hash {
 	}
 
 	public void setHash(String hash) {
+		checkNotFrozen();
 		this.hash = hash;
 	}
 
@@ -63,6 +64,7 @@ public class Hash {
 	}
 
 	public void setAlgo(String algo) {
+		checkNotFrozen();
 		this.algo = algo;
 	}
 
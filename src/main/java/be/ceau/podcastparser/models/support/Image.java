@@ -17,15 +17,21 @@ package be.ceau.podcastparser.models.support;
 /**
  * Image instance, based on RSS spec {@code channel} level image.
  */
-public class Image {
+public class Image extends Freezable {
+
+	private static final int WIDTH = 1;
+	private static final int HEIGHT = 1 << 1;
+	private static final int TIME = 1 << 2;
 
 	private String url;
 	private String title;
 	private String link;
-	private Integer width;
-	private Integer height;
+	private int width;
+	private int height;
 	private String description;
-	private Long time;
+	private long time;
+	// bits for width, height and time that are set
+	private byte present;
 
 	/**
 	 * <p>
@@ -42,6 +48,7 @@ public class Image {
 	}
 
 	public void setUrl(String url) {
+		checkNotFrozen();
 		this.url = url;
 	}
 
@@ -61,6 +68,7 @@ public class Image {
 	}
 
 	public void setTitle(String title) {
+		checkNotFrozen();
 		this.title = title;
 	}
 
@@ -82,6 +90,7 @@ public class Image {
 	}
 
 	public void setLink(String link) {
+		checkNotFrozen();
 		this.link = link;
 	}
 
@@ -96,11 +105,31 @@ public class Image {
 	 * @return Integer or {@code null}
 	 */
 	public Integer getWidth() {
-		return width;
+		return has(WIDTH) ? width : null;
+	}
+
+	/**
+	 * @param fallback
+	 *            value to return if absent
+	 * @return the width, or {@code fallback}
+	 */
+	public int getWidth(int fallback) {
+		return has(WIDTH) ? width : fallback;
 	}
 
 	public void setWidth(Integer width) {
+		checkNotFrozen();
+		if (width == null) {
+			present &= ~WIDTH;
+		} else {
+			setWidth(width.intValue());
+		}
+	}
+
+	public void setWidth(int width) {
+		checkNotFrozen();
 		this.width = width;
+		present |= WIDTH;
 	}
 
 	/**
@@ -114,11 +143,31 @@ public class Image {
 	 * @return Integer or {@code null}
 	 */
 	public Integer getHeight() {
-		return height;
+		return has(HEIGHT) ? height : null;
+	}
+
+	/**
+	 * @param fallback
+	 *            value to return if absent
+	 * @return the height, or {@code fallback}
+	 */
+	public int getHeight(int fallback) {
+		return has(HEIGHT) ? height : fallback;
 	}
 
 	public void setHeight(Integer height) {
+		checkNotFrozen();
+		if (height == null) {
+			present &= ~HEIGHT;
+		} else {
+			setHeight(height.intValue());
+		}
+	}
+
+	public void setHeight(int height) {
+		checkNotFrozen();
 		this.height = height;
+		present |= HEIGHT;
 	}
 
 	/**
@@ -137,6 +186,7 @@ public class Image {
 	}
 
 	public void setDescription(String description) {
+		checkNotFrozen();
 		this.description = description;
 	}
 
@@ -155,11 +205,35 @@ public class Image {
 	 * @return {@code Long} or {@code null}
 	 */
 	public Long getTime() {
-		return time;
+		return has(TIME) ? time : null;
+	}
+
+	/**
+	 * @param fallback
+	 *            value to return if absent
+	 * @return the time, or {@code fallback}
+	 */
+	public long getTime(long fallback) {
+		return has(TIME) ? time : fallback;
 	}
 
 	public void setTime(Long time) {
+		checkNotFrozen();
+		if (time == null) {
+			present &= ~TIME;
+		} else {
+			setTime(time.longValue());
+		}
+	}
+
+	public void setTime(long time) {
+		checkNotFrozen();
 		this.time = time;
+		present |= TIME;
+	}
+
+	private boolean has(int bit) {
+		return (present & bit) != 0;
 	}
 
 	@Override
@@ -172,13 +246,13 @@ public class Image {
 			builder.append("title=").append(title).append(", ");
 		if (link != null)
 			builder.append("link=").append(link).append(", ");
-		if (width != null)
+		if (has(WIDTH))
 			builder.append("width=").append(width).append(", ");
-		if (height != null)
+		if (has(HEIGHT))
 			builder.append("height=").append(height).append(", ");
 		if (description != null)
 			builder.append("description=").append(description).append(", ");
-		if (time != null)
+		if (has(TIME))
 			builder.append("time=").append(time);
 		builder.append("]");
 		return builder.toString();
@@ -17,7 +17,7 @@ package be.ceau.podcastparser.models.support;
 /**
  * License information.
  */
-public class License {
+public class License extends Freezable {
 
 	private String href;
 	private String type;
@@ -38,6 +38,7 @@ public class License {
 	}
 
 	public void setHref(String href) {
+		checkNotFrozen();
 		this.href = href;
 	}
 
@@ -56,6 +57,7 @@ public class License {
 	}
 
 	public void setType(String type) {
+		checkNotFrozen();
 		this.type = type;
 	}
 
@@ -74,6 +76,7 @@ public class License {
 	}
 
 	public void setLabel(String label) {
+		checkNotFrozen();
 		this.label = label;
 	}
 
@@ -27,7 +27,7 @@ package be.ceau.podcastparser.models.support;
  * }?, attribute hreflang { atomLanguageTag }?, attribute title { text }?,
  * attribute length { text }?, undefinedContent } *
  */
-public class Link {
+public class Link extends Freezable {
 
 	private String href;
 	private String rel;
@@ -41,6 +41,7 @@ public class Link {
 	}
 
 	public void setHref(String href) {
+		checkNotFrozen();
 		this.href = href;
 	}
 
@@ -49,6 +50,7 @@ public class Link {
 	}
 
 	public void setRel(String rel) {
+		checkNotFrozen();
 		this.rel = rel;
 	}
 
@@ -57,6 +59,7 @@ public class Link {
 	}
 
 	public void setType(String type) {
+		checkNotFrozen();
 		this.type = type;
 	}
 
@@ -65,6 +68,7 @@ public class Link {
 	}
 
 	public void setHreflang(String hreflang) {
+		checkNotFrozen();
 		this.hreflang = hreflang;
 	}
 
@@ -73,6 +77,7 @@ public class Link {
 	}
 
 	public void setTitle(String title) {
+		checkNotFrozen();
 		this.title = title;
 	}
 
@@ -81,6 +86,7 @@ public class Link {
 	}
 
 	public void setLength(String length) {
+		checkNotFrozen();
 		this.length = length;
 	}
 
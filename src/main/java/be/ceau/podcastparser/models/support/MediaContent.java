@@ -16,6 +16,8 @@ package be.ceau.podcastparser.models.support;
 
 import java.time.Duration;
 
+import be.ceau.podcastparser.util.Numbers;
+
 /**
  * Media RSS is an RSS module that supplements the enclosure capabilities of RSS 2.0. Media RSS
  * extends enclosures to handle other media types, such as short films or TV, as well as provide
@@ -23,22 +25,32 @@ import java.time.Duration;
  * 
  * @see be.ceau.podcastparser.namespace.custom.impl.Media
  */
-public class MediaContent {
+public class MediaContent extends Freezable {
+
+	// bits in present, for numeric and boolean fields that are set
+	private static final int FILE_SIZE = 1;
+	private static final int IS_DEFAULT = 1 << 1;
+	private static final int BITRATE = 1 << 2;
+	private static final int FRAMERATE = 1 << 3;
+	private static final int CHANNELS = 1 << 4;
+	private static final int HEIGHT = 1 << 5;
+	private static final int WIDTH = 1 << 6;
 
 	private String url;
-	private Long fileSize;
+	private long fileSize;
 	private String type;
-	private String medium;
-	private String isDefault;
-	private String expression = "full";
-	private Long bitrate;
-	private Long framerate;
+	private Medium medium;
+	private boolean isDefault;
+	private Expression expression = Expression.FULL;
+	private long bitrate;
+	private long framerate;
 	private String samplingrate;
-	private String channels;
+	private int channels;
 	private Duration duration;
-	private Integer height;
-	private Integer width;
+	private int height;
+	private int width;
 	private String lang;
+	private byte present;
 
 	/**
 	 * The direct URL to the media object.
@@ -50,6 +62,7 @@ public class MediaContent {
 	}
 
 	public void setUrl(String url) {
+		checkNotFrozen();
 		this.url = url;
 	}
 
@@ -64,11 +77,31 @@ public class MediaContent {
 	 * @return a {@link Long} or {@code null}
 	 */
 	public Long getFileSize() {
-		return fileSize;
+		return has(FILE_SIZE) ? fileSize : null;
+	}
+
+	/**
+	 * @param fallback
+	 *            value to return if absent
+	 * @return number of bytes of the media object, or {@code fallback}
+	 */
+	public long getFileSize(long fallback) {
+		return has(FILE_SIZE) ? fileSize : fallback;
 	}
 
 	public void setFileSize(Long fileSize) {
+		checkNotFrozen();
+		if (fileSize == null) {
+			clear(FILE_SIZE);
+		} else {
+			setFileSize(fileSize.longValue());
+		}
+	}
+
+	public void setFileSize(long fileSize) {
+		checkNotFrozen();
 		this.fileSize = fileSize;
+		set(FILE_SIZE);
 	}
 
 	/**
@@ -79,13 +112,14 @@ public class MediaContent {
 	 * Optional in Media RSS specification.
 	 * </p>
 	 * 
-	 * @return a {@link Long} or {@code null}
+	 * @return a {@link String} or {@code null}
 	 */
 	public String getType() {
 		return type;
 	}
 
 	public void setType(String type) {
+		checkNotFrozen();
 		this.type = type;
 	}
 
@@ -100,10 +134,31 @@ public class MediaContent {
 	 * @return a {@link String} or {@code null}
 	 */
 	public String getMedium() {
+		return medium == null ? null : medium.getValue();
+	}
+
+	/**
+	 * @return a {@link Medium} or {@code null}
+	 */
+	public Medium getMediumType() {
 		return medium;
 	}
 
+	/**
+	 * @param medium
+	 *            {@link String} value, values other than those of {@link Medium} are ignored
+	 */
 	public void setMedium(String medium) {
+		checkNotFrozen();
+		this.medium = Medium.from(medium);
+	}
+
+	/**
+	 * @param medium
+	 *            {@link Medium} or {@code null}
+	 */
+	public void setMediumType(Medium medium) {
+		checkNotFrozen();
 		this.medium = medium;
 	}
 
@@ -118,11 +173,33 @@ public class MediaContent {
 	 * @return a {@link String} or {@code null}
 	 */
 	public String getIsDefault() {
-		return isDefault;
+		return has(IS_DEFAULT) ? String.valueOf(isDefault) : null;
+	}
+
+	/**
+	 * @return {@code true} if this is the default {@link MediaContent} of its group
+	 */
+	public boolean isDefault() {
+		return has(IS_DEFAULT) && isDefault;
 	}
 
+	/**
+	 * @param isDefault
+	 *            {@code true} (ignoring case) or any other value for {@code false}, or {@code null}
+	 */
 	public void setIsDefault(String isDefault) {
+		checkNotFrozen();
+		if (isDefault == null) {
+			clear(IS_DEFAULT);
+		} else {
+			setIsDefault("true".equalsIgnoreCase(isDefault.trim()));
+		}
+	}
+
+	public void setIsDefault(boolean isDefault) {
+		checkNotFrozen();
 		this.isDefault = isDefault;
+		set(IS_DEFAULT);
 	}
 
 	/**
@@ -137,10 +214,31 @@ public class MediaContent {
 	 * @return a {@link String} or {@code null}
 	 */
 	public String getExpression() {
+		return expression == null ? null : expression.getValue();
+	}
+
+	/**
+	 * @return an {@link Expression} or {@code null}
+	 */
+	public Expression getExpressionType() {
 		return expression;
 	}
 
+	/**
+	 * @param expression
+	 *            {@link String} value, values other than those of {@link Expression} are ignored
+	 */
 	public void setExpression(String expression) {
+		checkNotFrozen();
+		this.expression = Expression.from(expression);
+	}
+
+	/**
+	 * @param expression
+	 *            {@link Expression} or {@code null}
+	 */
+	public void setExpressionType(Expression expression) {
+		checkNotFrozen();
 		this.expression = expression;
 	}
 
@@ -155,11 +253,31 @@ public class MediaContent {
 	 * @return a {@link Long} or {@code null}
 	 */
 	public Long getBitrate() {
-		return bitrate;
+		return has(BITRATE) ? bitrate : null;
+	}
+
+	/**
+	 * @param fallback
+	 *            value to return if absent
+	 * @return the bitrate, or {@code fallback}
+	 */
+	public long getBitrate(long fallback) {
+		return has(BITRATE) ? bitrate : fallback;
 	}
 
 	public void setBitrate(Long bitrate) {
+		checkNotFrozen();
+		if (bitrate == null) {
+			clear(BITRATE);
+		} else {
+			setBitrate(bitrate.longValue());
+		}
+	}
+
+	public void setBitrate(long bitrate) {
+		checkNotFrozen();
 		this.bitrate = bitrate;
+		set(BITRATE);
 	}
 
 	/**
@@ -173,11 +291,31 @@ public class MediaContent {
 	 * @return a {@link Long} or {@code null}
 	 */
 	public Long getFramerate() {
-		return framerate;
+		return has(FRAMERATE) ? framerate : null;
+	}
+
+	/**
+	 * @param fallback
+	 *            value to return if absent
+	 * @return the framerate, or {@code fallback}
+	 */
+	public long getFramerate(long fallback) {
+		return has(FRAMERATE) ? framerate : fallback;
 	}
 
 	public void setFramerate(Long framerate) {
+		checkNotFrozen();
+		if (framerate == null) {
+			clear(FRAMERATE);
+		} else {
+			setFramerate(framerate.longValue());
+		}
+	}
+
+	public void setFramerate(long framerate) {
+		checkNotFrozen();
 		this.framerate = framerate;
+		set(FRAMERATE);
 	}
 
 	/**
@@ -196,6 +334,7 @@ public class MediaContent {
 	}
 
 	public void setSamplingrate(String samplingrate) {
+		checkNotFrozen();
 		this.samplingrate = samplingrate;
 	}
 
@@ -210,11 +349,36 @@ public class MediaContent {
 	 * @return a {@link String} or {@code null}
 	 */
 	public String getChannels() {
-		return channels;
+		return has(CHANNELS) ? String.valueOf(channels) : null;
 	}
 
+	/**
+	 * @param fallback
+	 *            value to return if absent
+	 * @return the number of audio channels, or {@code fallback}
+	 */
+	public int getChannels(int fallback) {
+		return has(CHANNELS) ? channels : fallback;
+	}
+
+	/**
+	 * @param channels
+	 *            number of channels as {@link String}, ignored if not a valid number
+	 */
 	public void setChannels(String channels) {
+		checkNotFrozen();
+		int value = Numbers.parseInt(channels, Integer.MIN_VALUE);
+		if (value == Integer.MIN_VALUE) {
+			clear(CHANNELS);
+		} else {
+			setChannels(value);
+		}
+	}
+
+	public void setChannels(int channels) {
+		checkNotFrozen();
 		this.channels = channels;
+		set(CHANNELS);
 	}
 
 	/**
@@ -232,6 +396,7 @@ public class MediaContent {
 	}
 
 	public void setDuration(Duration duration) {
+		checkNotFrozen();
 		this.duration = duration;
 	}
 
@@ -246,11 +411,31 @@ public class MediaContent {
 	 * @return an {@link Integer} or {@code null}
 	 */
 	public Integer getHeight() {
-		return height;
+		return has(HEIGHT) ? height : null;
+	}
+
+	/**
+	 * @param fallback
+	 *            value to return if absent
+	 * @return the height, or {@code fallback}
+	 */
+	public int getHeight(int fallback) {
+		return has(HEIGHT) ? height : fallback;
 	}
 
 	public void setHeight(Integer height) {
+		checkNotFrozen();
+		if (height == null) {
+			clear(HEIGHT);
+		} else {
+			setHeight(height.intValue());
+		}
+	}
+
+	public void setHeight(int height) {
+		checkNotFrozen();
 		this.height = height;
+		set(HEIGHT);
 	}
 
 	/**
@@ -264,11 +449,31 @@ public class MediaContent {
 	 * @return an {@link Integer} or {@code null}
 	 */
 	public Integer getWidth() {
-		return width;
+		return has(WIDTH) ? width : null;
+	}
+
+	/**
+	 * @param fallback
+	 *            value to return if absent
+	 * @return the width, or {@code fallback}
+	 */
+	public int getWidth(int fallback) {
+		return has(WIDTH) ? width : fallback;
 	}
 
 	public void setWidth(Integer width) {
+		checkNotFrozen();
+		if (width == null) {
+			clear(WIDTH);
+		} else {
+			setWidth(width.intValue());
+		}
+	}
+
+	public void setWidth(int width) {
+		checkNotFrozen();
 		this.width = width;
+		set(WIDTH);
 	}
 
 	/**
@@ -289,38 +494,51 @@ public class MediaContent {
 	}
 
 	public void setLang(String lang) {
+		checkNotFrozen();
 		this.lang = lang;
 	}
 
+	private boolean has(int bit) {
+		return (present & bit) != 0;
+	}
+
+	private void set(int bit) {
+		present |= bit;
+	}
+
+	private void clear(int bit) {
+		present &= ~bit;
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder builder = new StringBuilder();
 		builder.append("MediaContent [");
 		if (url != null)
 			builder.append("url=").append(url).append(", ");
-		if (fileSize != null)
+		if (has(FILE_SIZE))
 			builder.append("fileSize=").append(fileSize).append(", ");
 		if (type != null)
 			builder.append("type=").append(type).append(", ");
 		if (medium != null)
 			builder.append("medium=").append(medium).append(", ");
-		if (isDefault != null)
+		if (has(IS_DEFAULT))
 			builder.append("isDefault=").append(isDefault).append(", ");
 		if (expression != null)
 			builder.append("expression=").append(expression).append(", ");
-		if (bitrate != null)
+		if (has(BITRATE))
 			builder.append("bitrate=").append(bitrate).append(", ");
-		if (framerate != null)
+		if (has(FRAMERATE))
 			builder.append("framerate=").append(framerate).append(", ");
 		if (samplingrate != null)
 			builder.append("samplingrate=").append(samplingrate).append(", ");
-		if (channels != null)
+		if (has(CHANNELS))
 			builder.append("channels=").append(channels).append(", ");
 		if (duration != null)
 			builder.append("duration=").append(duration).append(", ");
-		if (height != null)
+		if (has(HEIGHT))
 			builder.append("height=").append(height).append(", ");
-		if (width != null)
+		if (has(WIDTH))
 			builder.append("width=").append(width).append(", ");
 		if (lang != null)
 			builder.append("lang=").append(lang);
@@ -22,7 +22,7 @@ package be.ceau.podcastparser.models.support;
  * As specified in the Media namespace.
  * </p>
  */
-public class MediaPlayer {
+public class MediaPlayer extends Freezable {
 
 	private String url;
 	private Integer height;
@@ -38,6 +38,7 @@ public class MediaPlayer {
 	}
 
 	public void setUrl(String url) {
+		checkNotFrozen();
 		this.url = url;
 	}
 
@@ -52,6 +53,7 @@ public class MediaPlayer {
 	}
 
 	public void setHeight(Integer height) {
+		checkNotFrozen();
 		this.height = height;
 	}
 
@@ -66,6 +68,7 @@ public class MediaPlayer {
 	}
 
 	public void setWidth(Integer width) {
+		checkNotFrozen();
 		this.width = width;
 	}
 
@@ -0,0 +1,60 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.models.support;
+
+/**
+ * Type of a Media RSS object, as in the {@code medium} attribute of {@code media:content}.
+ */
+public enum Medium {
+
+	IMAGE("image"),
+	AUDIO("audio"),
+	VIDEO("video"),
+	DOCUMENT("document"),
+	EXECUTABLE("executable");
+
+	private static final Medium[] VALUES = values();
+
+	private final String value;
+
+	private Medium(String value) {
+		this.value = value;
+	}
+
+	/**
+	 * @return value as it appears in Media RSS, never {@code null}
+	 */
+	public String getValue() {
+		return value;
+	}
+
+	/**
+	 * @param value
+	 *            attribute value, compared ignoring case and surrounding whitespace, or {@code null}
+	 * @return matching {@link Medium}, or {@code null}
+	 */
+	public static Medium from(String value) {
+		if (value != null) {
+			value = value.trim();
+			for (Medium medium : VALUES) {
+				if (medium.value.equalsIgnoreCase(value)) {
+					return medium;
+				}
+			}
+		}
+		return null;
+	}
+
+}
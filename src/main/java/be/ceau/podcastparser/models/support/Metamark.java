@@ -29,7 +29,7 @@ package be.ceau.podcastparser.models.support;
  * }
  * </p>
  */
-public class Metamark {
+public class Metamark extends Freezable {
 
 	private String text;
 	private String link;
@@ -47,6 +47,7 @@ public class Metamark {
 	}
 
 	public void setText(String text) {
+		checkNotFrozen();
 		this.text = text;
 	}
 
@@ -60,6 +61,7 @@ public class Metamark {
 	}
 
 	public void setLink(String link) {
+		checkNotFrozen();
 		this.link = link;
 	}
 
@@ -73,6 +75,7 @@ public class Metamark {
 	}
 
 	public void setType(String type) {
+		checkNotFrozen();
 		this.type = type;
 	}
 
@@ -86,6 +89,7 @@ public class Metamark {
 	}
 
 	public void setPosition(Integer position) {
+		checkNotFrozen();
 		this.position = position;
 	}
 
@@ -99,6 +103,7 @@ public class Metamark {
 	}
 
 	public void setDuration(Integer duration) {
+		checkNotFrozen();
 		this.duration = duration;
 	}
 
@@ -23,7 +23,7 @@ package be.ceau.podcastparser.models.support;
  * As listed in Atom specification.
  * </p>
  */
-public class Person {
+public class Person extends Freezable {
 
 	private String name;
 	private String uri;
@@ -45,6 +45,7 @@ public class Person {
 	}
 
 	public void setName(String name) {
+		checkNotFrozen();
 		this.name = name;
 	}
 
@@ -64,6 +65,7 @@ public class Person {
 	}
 
 	public void setUri(String uri) {
+		checkNotFrozen();
 		this.uri = uri;
 	}
 
@@ -83,6 +85,7 @@ public class Person {
 	}
 
 	public void setEmail(String email) {
+		checkNotFrozen();
 		this.email = email;
 	}
 
@@ -14,7 +14,7 @@
 */
 package be.ceau.podcastparser.models.support;
 
-public class Rating {
+public class Rating extends Freezable {
 
 	private String text;
 	private String scheme;
@@ -37,6 +37,7 @@ public class Rating {
 	}
 
 	public void setText(String text) {
+		checkNotFrozen();
 		this.text = text;
 	}
 
@@ -57,6 +58,7 @@ public class Rating {
 	}
 
 	public void setScheme(String scheme) {
+		checkNotFrozen();
 		this.scheme = scheme;
 	}
 
@@ -76,6 +78,7 @@ public class Rating {
 	}
 
 	public void setExplicit(String explicit) {
+		checkNotFrozen();
 		this.explicit = explicit;
 	}
 
@@ -91,6 +94,7 @@ public class Rating {
 	}
 
 	public void setAdultContent(String adultContent) {
+		checkNotFrozen();
 		this.adultContent = adultContent;
 	}
 
@@ -14,7 +14,7 @@
 */
 package be.ceau.podcastparser.models.support;
 
-public class Scene {
+public class Scene extends Freezable {
 	/*
 	 * Optional element to specify various scenes within a media object.
 	 * It can have multiple child <media:scene> elements, where each
@@ -50,6 +50,7 @@ public class Scene {
 	}
 
 	public void setTitle(String title) {
+		checkNotFrozen();
 		this.title = title;
 	}
 
@@ -58,6 +59,7 @@ public class Scene {
 	}
 
 	public void setDescription(String description) {
+		checkNotFrozen();
 		this.description = description;
 	}
 
@@ -66,6 +68,7 @@ public class Scene {
 	}
 
 	public void setStartTime(String startTime) {
+		checkNotFrozen();
 		this.startTime = startTime;
 	}
 
@@ -74,6 +77,7 @@ public class Scene {
 	}
 
 	public void setEndTime(String endTime) {
+		checkNotFrozen();
 		this.endTime = endTime;
 	}
 
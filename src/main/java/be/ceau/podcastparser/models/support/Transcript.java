@@ -17,7 +17,7 @@ package be.ceau.podcastparser.models.support;
 /**
  * A text transcript as specified in the Media namespace
  */
-public class Transcript {
+public class Transcript extends Freezable {
 	/*
 	 * <media:text type="plain" lang="en" start="00:00:03.000" end="00:00:10.000"> Oh, say, can you
 	 * see</media:text>
@@ -34,6 +34,7 @@ public class Transcript {
 	}
 
 	public void setText(String text) {
+		checkNotFrozen();
 		this.text = text;
 	}
 
@@ -42,6 +43,7 @@ public class Transcript {
 	}
 
 	public void setType(String type) {
+		checkNotFrozen();
 		this.type = type;
 	}
 
@@ -50,6 +52,7 @@ public class Transcript {
 	}
 
 	public void setLang(String lang) {
+		checkNotFrozen();
 		this.lang = lang;
 	}
 
@@ -58,6 +61,7 @@ public class Transcript {
 	}
 
 	public void setStart(Long start) {
+		checkNotFrozen();
 		this.start = start;
 	}
 
@@ -66,6 +70,7 @@ public class Transcript {
 	}
 
 	public void setEnd(Long end) {
+		checkNotFrozen();
 		this.end = end;
 	}
 
@@ -14,7 +14,7 @@
 */
 package be.ceau.podcastparser.models.support;
 
-public class TypedString {
+public class TypedString extends Freezable {
 
 	private String type;
 	private String text;
@@ -24,6 +24,7 @@ public class TypedString {
 	}
 
 	public void setType(String type) {
+		checkNotFrozen();
 		this.type = type;
 	}
 
@@ -32,6 +33,7 @@ public class TypedString {
 	}
 
 	public void setText(String text) {
+		checkNotFrozen();
 		this.text = text;
 	}
 
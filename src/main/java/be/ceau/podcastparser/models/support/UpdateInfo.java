@@ -24,7 +24,7 @@ import java.time.ZonedDateTime;
  * Aggregates data from Syndication and RawVoice namespace elements.
  * </p>
  */
-public class UpdateInfo {
+public class UpdateInfo extends Freezable {
 
 	private Integer frequency;
 	private String period;
@@ -48,7 +48,8 @@ public class UpdateInfo {
 		return frequency;
 	}
 
-	public void setFrequency(int frequency) {
+	public void setFrequency(Integer frequency) {
+		checkNotFrozen();
 		this.frequency = frequency;
 	}
 
@@ -69,6 +70,7 @@ public class UpdateInfo {
 	}
 
 	public void setPeriod(String period) {
+		checkNotFrozen();
 		this.period = period;
 	}
 
@@ -89,6 +91,7 @@ public class UpdateInfo {
 	}
 
 	public void setBase(ZonedDateTime base) {
+		checkNotFrozen();
 		this.base = base;
 	}
 
@@ -16,7 +16,7 @@ package be.ceau.podcastparser.models.support;
 
 import java.time.ZonedDateTime;
 
-public class Visibility {
+public class Visibility extends Freezable {
 
 	private ZonedDateTime from;
 	private ZonedDateTime to;
@@ -26,6 +26,7 @@ public class Visibility {
 	}
 
 	public void setFrom(ZonedDateTime from) {
+		checkNotFrozen();
 		this.from = from;
 	}
 
@@ -34,6 +35,7 @@ public class Visibility {
 	}
 
 	public void setTo(ZonedDateTime to) {
+		checkNotFrozen();
 		this.to = to;
 	}
 
@@ -30,7 +30,8 @@ import be.ceau.podcastparser.models.core.Item;
  * Implements logic specific to a specific XML namespace used in podcasting RSS feeds.
  * </p>
  * <p>
- * Implementations should be threadsafe.
+ * Implementations must be threadsafe: a single instance serves all concurrent parses, so any state
+ * of a parse belongs in the {@link PodcastParserContext}, not in fields.
  * </p>
  */
 public interface Namespace {
@@ -39,6 +39,8 @@ public class Feedburner implements Namespace {
 
 	private static final String NAME = "http://rssnamespace.org/feedburner/ext/1.0";
 
+	private static final Attributes URI = Attributes.get("uri");
+
 	@Override
 	public String getName() {
 		return NAME;
@@ -83,12 +85,13 @@ public class Feedburner implements Namespace {
 			 * attribute is required, and indicates the feed URI chosen by the publisher where the feed can be
 			 * accessed under feeds.feedburner.com.
 			 */
-			Attributes.get("uri").from(ctx.getReader()).ifPresent(uri -> {
+			String uri = URI.orNull(ctx.getReader());
+			if (uri != null) {
 				Link link = new Link();
 				link.setHref("https://feeds.feedburner.com/" + uri);
 				link.setRel("feedburner");
 				ctx.getFeed().addLink(link);
-			});
+			}
 			break;
 		default:
 			Namespace.super.process(ctx);
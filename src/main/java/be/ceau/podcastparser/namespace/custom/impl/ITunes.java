@@ -27,6 +27,7 @@ import be.ceau.podcastparser.models.support.Image;
 import be.ceau.podcastparser.models.support.Link;
 import be.ceau.podcastparser.models.support.Person;
 import be.ceau.podcastparser.namespace.Namespace;
+import be.ceau.podcastparser.util.AttributeSnapshot;
 import be.ceau.podcastparser.util.Attributes;
 import be.ceau.podcastparser.util.Strings;
 import be.ceau.podcastparser.util.UnmodifiableSet;
@@ -58,6 +59,13 @@ public class ITunes implements Namespace {
 			"https://www.itunes.com/dtds/podcast-1.0.dtd",
 			"itunes");
 
+	private static final Attributes HREF = Attributes.get("href");
+	private static final Attributes REL = Attributes.get("rel");
+	private static final Attributes TYPE = Attributes.get("type");
+	private static final Attributes HREFLANG = Attributes.get("hreflang");
+	private static final Attributes TITLE = Attributes.get("title");
+	private static final Attributes LENGTH = Attributes.get("length");
+
 	@Override
 	public String getName() {
 		return NAME;
@@ -85,7 +93,7 @@ public class ITunes implements Namespace {
 			ctx.getFeed().setComplete(parseComplete(ctx));
 			break;
 		case "explicit":
-			ctx.getFeed().getRating().setExplicit(ctx.getElementText());
+			ctx.getFeed().getRating().setExplicit(ctx.getElementTextInterned());
 			break;
 		case "image":
 			ctx.getFeed().addImage(parseImage(ctx));
@@ -138,7 +146,7 @@ public class ITunes implements Namespace {
 		switch (localName) {
 		case "author":
 			Person person = new Person();
-			person.setEmail(ctx.getElementText());
+			person.setEmail(ctx.getElementTextInterned());
 			item.addAuthor(person);
 			return;
 		case "block":
@@ -175,7 +183,7 @@ public class ITunes implements Namespace {
 			item.setEpisodeType(ctx.getElementText());
 			return;
 		case "explicit":
-			item.getRating().setExplicit(ctx.getElementText());
+			item.getRating().setExplicit(ctx.getElementTextInterned());
 			return;
 		case "guid":
 			// This is a global RSS item, but many publishers add it to the iTunes namespace.
@@ -286,12 +294,12 @@ public class ITunes implements Namespace {
 	 * </itunes:category>
 	 */
 	private Category parseCategory(PodcastParserContext ctx) throws XMLStreamException {
-		String text = ctx.getAttribute("text");
+		String text = ctx.intern(ctx.getAttribute("text"));
 		while (ctx.getReader().hasNext()) {
 			switch (ctx.getReader().next()) {
 			case XMLStreamConstants.START_ELEMENT:
 				if ("category".equals(ctx.getReader().getLocalName())) {
-					String subcategory = ctx.getAttribute("text");
+					String subcategory = ctx.intern(ctx.getAttribute("text"));
 					Category category = new Category();
 					category.setName(text);
 					category.setSubcategory(subcategory);
@@ -335,7 +343,7 @@ public class ITunes implements Namespace {
 	 */
 	private Image parseImage(PodcastParserContext ctx) throws XMLStreamException {
 		Image image = new Image();
-		image.setUrl(ctx.getAttribute("href"));
+		image.setUrl(ctx.intern(ctx.getAttribute("href")));
 		return image;
 	}
 
@@ -369,12 +377,13 @@ public class ITunes implements Namespace {
 	// XXX duplicate code -> see Atom
 	private Link parseLink(PodcastParserContext ctx) throws XMLStreamException {
 		Link link = new Link();
-		Attributes.get("href").from(ctx.getReader()).ifPresent(link::setHref);
-		Attributes.get("rel").from(ctx.getReader()).ifPresent(link::setRel);
-		Attributes.get("type").from(ctx.getReader()).ifPresent(link::setType);
-		Attributes.get("hreflang").from(ctx.getReader()).ifPresent(link::setHreflang);
-		Attributes.get("title").from(ctx.getReader()).ifPresent(link::setTitle);
-		Attributes.get("length").from(ctx.getReader()).ifPresent(link::setLength);
+		AttributeSnapshot attributes = ctx.getAttributes();
+		HREF.into(attributes, link, Link::setHref);
+		link.setRel(ctx.intern(REL.orNull(attributes)));
+		link.setType(ctx.intern(TYPE.orNull(attributes)));
+		HREFLANG.into(attributes, link, Link::setHreflang);
+		TITLE.into(attributes, link, Link::setTitle);
+		LENGTH.into(attributes, link, Link::setLength);
 		return link;
 	}
 
@@ -25,17 +25,21 @@ import be.ceau.podcastparser.PodcastParserContext;
 import be.ceau.podcastparser.models.core.Item;
 import be.ceau.podcastparser.models.support.Category;
 import be.ceau.podcastparser.models.support.Copyright;
+import be.ceau.podcastparser.models.support.Expression;
 import be.ceau.podcastparser.models.support.Credit;
 import be.ceau.podcastparser.models.support.Hash;
 import be.ceau.podcastparser.models.support.Image;
 import be.ceau.podcastparser.models.support.License;
 import be.ceau.podcastparser.models.support.MediaContent;
 import be.ceau.podcastparser.models.support.MediaPlayer;
+import be.ceau.podcastparser.models.support.Medium;
 import be.ceau.podcastparser.models.support.Rating;
 import be.ceau.podcastparser.models.support.Scene;
 import be.ceau.podcastparser.models.support.Transcript;
 import be.ceau.podcastparser.models.support.TypedString;
 import be.ceau.podcastparser.namespace.Namespace;
+import be.ceau.podcastparser.util.AttributeSnapshot;
+import be.ceau.podcastparser.util.Attributes;
 import be.ceau.podcastparser.util.Durations;
 import be.ceau.podcastparser.util.Strings;
 import be.ceau.podcastparser.util.UnmodifiableSet;
@@ -109,6 +113,23 @@ public class Media implements Namespace {
 			"http://search.yahoo.com/mrss",
 			"http://www.rssboard.org/media-rss");
 
+	private static final Attributes URL = Attributes.get("url");
+	private static final Attributes FILE_SIZE = Attributes.get("fileSize");
+	private static final Attributes TYPE = Attributes.get("type");
+	private static final Attributes MEDIUM = Attributes.get("medium");
+	private static final Attributes EXPRESSION = Attributes.get("expression");
+	private static final Attributes IS_DEFAULT = Attributes.get("isDefault");
+	private static final Attributes BITRATE = Attributes.get("bitrate");
+	private static final Attributes FRAMERATE = Attributes.get("framerate");
+	private static final Attributes SAMPLINGRATE = Attributes.get("samplingrate");
+	private static final Attributes CHANNELS = Attributes.get("channels");
+	private static final Attributes HEIGHT = Attributes.get("height");
+	private static final Attributes WIDTH = Attributes.get("width");
+	private static final Attributes LANG = Attributes.get("lang");
+	private static final Attributes TIME = Attributes.get("time");
+	private static final Attributes START = Attributes.get("start");
+	private static final Attributes END = Attributes.get("end");
+
 	@Override
 	public String getName() {
 		return NAME;
@@ -429,11 +450,12 @@ public class Media implements Namespace {
 	 * order of importance. It has one required attribute and three optional attributes.
 	 */
 	private Image parseImage(PodcastParserContext ctx) throws XMLStreamException {
+		AttributeSnapshot attributes = ctx.getAttributes();
 		Image image = new Image();
-		image.setUrl(ctx.getAttribute("url"));
-		image.setWidth(ctx.getAttributeAsInteger("width"));
-		image.setHeight(ctx.getAttributeAsInteger("height"));
-		image.setTime(ctx.getAttributeAsLong("time"));
+		image.setUrl(attributes.getTrimmed(URL));
+		WIDTH.intoInt(attributes, image, Image::setWidth);
+		HEIGHT.intoInt(attributes, image, Image::setHeight);
+		TIME.intoLong(attributes, image, Image::setTime);
 		return image;
 	}
 
@@ -461,19 +483,24 @@ public class Media implements Namespace {
 	}
 
 	private MediaContent parseMediaContent(PodcastParserContext ctx) throws XMLStreamException {
+		AttributeSnapshot attributes = ctx.getAttributes();
 		MediaContent mediaContent = new MediaContent();
-		mediaContent.setUrl(ctx.getAttribute("url"));
-		mediaContent.setFileSize(ctx.getAttributeAsLong("fileSize"));
-		mediaContent.setType(ctx.getAttribute("type"));
-		mediaContent.setMedium(ctx.getAttribute("medium"));
-		mediaContent.setIsDefault(ctx.getAttribute("isDefault"));
-		mediaContent.setBitrate(ctx.getAttributeAsLong("bitrate"));
-		mediaContent.setFramerate(ctx.getAttributeAsLong("framerate"));
-		mediaContent.setSamplingrate(ctx.getAttribute("samplingrate"));
-		mediaContent.setChannels(ctx.getAttribute("channels"));
-		mediaContent.setHeight(ctx.getAttributeAsInteger("height"));
-		mediaContent.setWidth(ctx.getAttributeAsInteger("width"));
-		mediaContent.setLang(ctx.getAttribute("lang"));
+		mediaContent.setUrl(attributes.getTrimmed(URL));
+		FILE_SIZE.intoLong(attributes, mediaContent, MediaContent::setFileSize);
+		mediaContent.setType(ctx.intern(attributes.getTrimmed(TYPE)));
+		mediaContent.setMediumType(Medium.from(attributes.get(MEDIUM)));
+		mediaContent.setIsDefault(attributes.get(IS_DEFAULT));
+		Expression expression = Expression.from(attributes.get(EXPRESSION));
+		if (expression != null) {
+			mediaContent.setExpressionType(expression);
+		}
+		BITRATE.intoLong(attributes, mediaContent, MediaContent::setBitrate);
+		FRAMERATE.intoLong(attributes, mediaContent, MediaContent::setFramerate);
+		mediaContent.setSamplingrate(attributes.getTrimmed(SAMPLINGRATE));
+		CHANNELS.intoInt(attributes, mediaContent, MediaContent::setChannels);
+		HEIGHT.intoInt(attributes, mediaContent, MediaContent::setHeight);
+		WIDTH.intoInt(attributes, mediaContent, MediaContent::setWidth);
+		mediaContent.setLang(attributes.getTrimmed(LANG));
 		return mediaContent;
 	}
 
@@ -487,8 +514,14 @@ public class Media implements Namespace {
 				}
 				break;
 			case XMLStreamConstants.START_ELEMENT:
-				if ("content".equals(ctx.getReader().getLocalName())) {
+				switch (ctx.getReader().getLocalName()) {
+				case "content":
 					list.add(parseMediaContent(ctx));
+					break;
+				case "group":
+					// nested group consumes its own end element
+					list.addAll(parseMediaGroup(ctx));
+					break;
 				}
 				break;
 			}
@@ -497,10 +530,11 @@ public class Media implements Namespace {
 	}
 
 	private MediaPlayer parseMediaPlayer(PodcastParserContext ctx) throws XMLStreamException {
+		AttributeSnapshot attributes = ctx.getAttributes();
 		MediaPlayer player = new MediaPlayer();
-		player.setUrl(ctx.getAttribute("url"));
-		player.setHeight(ctx.getAttributeAsInteger("height"));
-		player.setWidth(ctx.getAttributeAsInteger("width"));
+		player.setUrl(attributes.getTrimmed(URL));
+		player.setHeight(attributes.getAsInteger(HEIGHT));
+		player.setWidth(attributes.getAsInteger(WIDTH));
 		return player;
 	}
 
@@ -663,21 +697,22 @@ public class Media implements Namespace {
 	 */
 	private Transcript parseText(PodcastParserContext ctx) throws XMLStreamException {
 
+		AttributeSnapshot attributes = ctx.getAttributes();
 		Transcript transcript = new Transcript();
-		transcript.setLang(ctx.getAttribute("lang"));
+		transcript.setLang(attributes.getTrimmed(LANG));
 
-		String type = ctx.getAttribute("type");
+		String type = attributes.getTrimmed(TYPE);
 		if (Strings.isBlank(type)) {
 			type = "plain";
 		}
 		transcript.setType(type);
 
-		String start = ctx.getAttribute("start");
+		String start = attributes.getTrimmed(START);
 		if (Strings.isNotBlank(start)) {
 			transcript.setStart(Durations.parse(start));
 		}
 
-		String end = ctx.getAttribute("end");
+		String end = attributes.getTrimmed(END);
 		if (Strings.isNotBlank(end)) {
 			transcript.setEnd(Durations.parse(end));
 		}
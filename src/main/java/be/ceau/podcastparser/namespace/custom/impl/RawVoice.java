@@ -65,7 +65,12 @@ public class RawVoice implements Namespace {
 			}
 			break;
 		case "frequency":
-			ctx.getFeed().setUpdateInfo(parseUpdateInfo(ctx));
+			// the readable frequency of the media episodes, the Syndication namespace takes precedence
+			String frequency = ctx.getElementText();
+			UpdateInfo updateInfo = ctx.getFeed().getUpdateInfo();
+			if (Strings.isNotBlank(frequency) && (updateInfo == null || updateInfo.getPeriod() == null)) {
+				ctx.getFeed().setUpdatePeriod(frequency);
+			}
 			break;
 		case "location":
 			// the readable location of the content
@@ -257,11 +262,4 @@ public class RawVoice implements Namespace {
 		return metamark;
 	}
 
-	private UpdateInfo parseUpdateInfo(PodcastParserContext ctx) throws XMLStreamException {
-		// the readable frequency of the media episodes
-		UpdateInfo updateInfo = new UpdateInfo();
-		updateInfo.setPeriod(ctx.getElementText());
-		return updateInfo;
-	}
-
 }
@@ -33,6 +33,7 @@ import be.ceau.podcastparser.models.support.TypedString;
 import be.ceau.podcastparser.namespace.Namespace;
 import be.ceau.podcastparser.namespace.NamespaceFactory;
 import be.ceau.podcastparser.namespace.RootNamespace;
+import be.ceau.podcastparser.util.AttributeSnapshot;
 import be.ceau.podcastparser.util.Attributes;
 import be.ceau.podcastparser.util.Dates;
 import be.ceau.podcastparser.util.Strings;
@@ -56,6 +57,14 @@ public class Atom implements RootNamespace, Namespace {
 
 	private static final Atom INSTANCE = new Atom();
 
+	private static final Attributes HREF = Attributes.get("href");
+	private static final Attributes REL = Attributes.get("rel");
+	private static final Attributes TYPE = Attributes.get("type");
+	private static final Attributes HREFLANG = Attributes.get("hreflang");
+	private static final Attributes TITLE = Attributes.get("title");
+	private static final Attributes LENGTH = Attributes.get("length");
+	private static final Attributes TERM = Attributes.get("term");
+
 	public static Atom instance() {
 		return INSTANCE;
 	}
@@ -139,7 +148,7 @@ public class Atom implements RootNamespace, Namespace {
 			break;
 		case "category":
 			Category category = new Category();
-			Attributes.get("term").from(ctx.getReader()).ifPresent(category::setName);
+			category.setName(ctx.intern(TERM.orNull(ctx.getReader())));
 			ctx.getFeed().addCategory(category);
 			break;
 		case "contributor":
@@ -173,7 +182,7 @@ public class Atom implements RootNamespace, Namespace {
 			ctx.getFeed().setLastBuildDate(Dates.parse(ctx.getElementText()));
 			break;
 		case "entry":
-			ctx.getFeed().addItem(parseItem(ctx));
+			ctx.addItem(parseItem(ctx));
 			break;
 		default : 
 			Namespace.super.process(ctx);
@@ -242,7 +251,7 @@ public class Atom implements RootNamespace, Namespace {
 
 	private Category parseCategory(PodcastParserContext ctx) throws XMLStreamException {
 		Category category = new Category();
-		category.setName(ctx.getAttribute("term"));
+		category.setName(ctx.intern(ctx.getAttribute("term")));
 		return category;
 	}
 
@@ -269,17 +278,11 @@ public class Atom implements RootNamespace, Namespace {
 	 * @throws XMLStreamException
 	 */
 	private Enclosure parseEnclosure(PodcastParserContext ctx) throws XMLStreamException {
+		AttributeSnapshot attributes = ctx.getAttributes();
 		Enclosure enclosure = new Enclosure();
-		enclosure.setUrl(ctx.getAttribute("href"));
-		enclosure.setType(ctx.getAttribute("type"));
-		String length = ctx.getAttribute("length");
-		if (length != null) {
-			try {
-				enclosure.setLength(Long.parseLong(length));
-			} catch (NumberFormatException e) {
-
-			}
-		}
+		enclosure.setUrl(attributes.getTrimmed(HREF));
+		enclosure.setType(ctx.intern(attributes.getTrimmed(TYPE)));
+		enclosure.setLength(attributes.getAsLong(LENGTH, 0L));
 		return enclosure;
 	}
 
@@ -293,12 +296,13 @@ public class Atom implements RootNamespace, Namespace {
 	private Link parseLink(PodcastParserContext ctx) throws XMLStreamException {
 		Link link = new Link();
 		// links in Atom are self-closing
-		Attributes.get("href").from(ctx.getReader()).ifPresent(link::setHref);
-		Attributes.get("rel").from(ctx.getReader()).ifPresent(link::setRel);
-		Attributes.get("type").from(ctx.getReader()).ifPresent(link::setType);
-		Attributes.get("hreflang").from(ctx.getReader()).ifPresent(link::setHreflang);
-		Attributes.get("title").from(ctx.getReader()).ifPresent(link::setTitle);
-		Attributes.get("length").from(ctx.getReader()).ifPresent(link::setLength);
+		AttributeSnapshot attributes = ctx.getAttributes();
+		HREF.into(attributes, link, Link::setHref);
+		link.setRel(ctx.intern(REL.orNull(attributes)));
+		link.setType(ctx.intern(TYPE.orNull(attributes)));
+		HREFLANG.into(attributes, link, Link::setHreflang);
+		TITLE.into(attributes, link, Link::setTitle);
+		LENGTH.into(attributes, link, Link::setLength);
 		return link;
 	}
 
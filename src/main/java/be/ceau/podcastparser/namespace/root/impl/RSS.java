@@ -34,6 +34,7 @@ import be.ceau.podcastparser.models.support.TypedString;
 import be.ceau.podcastparser.namespace.Namespace;
 import be.ceau.podcastparser.namespace.NamespaceFactory;
 import be.ceau.podcastparser.namespace.RootNamespace;
+import be.ceau.podcastparser.util.AttributeSnapshot;
 import be.ceau.podcastparser.util.Attributes;
 import be.ceau.podcastparser.util.Dates;
 import be.ceau.podcastparser.util.Strings;
@@ -64,6 +65,10 @@ public class RSS implements RootNamespace, Namespace {
 
 	private static final RSS INSTANCE = new RSS();
 
+	private static final Attributes URL = Attributes.get("url");
+	private static final Attributes TYPE = Attributes.get("type");
+	private static final Attributes LENGTH = Attributes.get("length");
+
 	public static RSS instance() {
 		return INSTANCE;
 	}
@@ -152,7 +157,7 @@ public class RSS implements RootNamespace, Namespace {
 			ctx.getFeed().setDescription(parseDescription(ctx));
 			break;
 		case "item":
-			ctx.getFeed().addItem(parseItem(ctx));
+			ctx.addItem(parseItem(ctx));
 			break;
 		case "language":
 			ctx.getFeed().setLanguage(ctx.getElementText());
@@ -272,7 +277,7 @@ public class RSS implements RootNamespace, Namespace {
 	
 	private Category parseCategory(PodcastParserContext ctx) throws XMLStreamException {
 		Category category = new Category();
-		category.setName(ctx.getElementText());
+		category.setName(ctx.getElementTextInterned());
 		return category;
 	}
 
@@ -335,12 +340,20 @@ public class RSS implements RootNamespace, Namespace {
 				case "link":
 					image.setLink(ctx.getElementText());
 					break;
-				case "width":
-					image.setWidth(ctx.getElementTextAsInteger());
+				case "width": {
+					int width = ctx.getElementTextAsInt(Integer.MIN_VALUE);
+					if (width != Integer.MIN_VALUE) {
+						image.setWidth(width);
+					}
 					break;
-				case "height":
-					image.setHeight(ctx.getElementTextAsInteger());
+				}
+				case "height": {
+					int height = ctx.getElementTextAsInt(Integer.MIN_VALUE);
+					if (height != Integer.MIN_VALUE) {
+						image.setHeight(height);
+					}
 					break;
+				}
 				case "description":
 					image.setDescription(ctx.getElementText());
 					break;
@@ -361,17 +374,11 @@ public class RSS implements RootNamespace, Namespace {
 	 * @throws XMLStreamException
 	 */
 	private Enclosure parseEnclosure(PodcastParserContext ctx) throws XMLStreamException {
+		AttributeSnapshot attributes = ctx.getAttributes();
 		Enclosure enclosure = new Enclosure();
-		Attributes.get("url").from(ctx.getReader()).ifPresent(enclosure::setUrl);
-		Attributes.get("type").from(ctx.getReader()).ifPresent(enclosure::setType);
-		Attributes.get("length").from(ctx.getReader()).ifPresent(length -> {
-			if (length != null) {
-				try {
-					enclosure.setLength(Long.parseLong(length));
-				} catch (NumberFormatException e) {
-				}
-			}
-		});
+		URL.into(attributes, enclosure, Enclosure::setUrl);
+		enclosure.setType(ctx.intern(TYPE.orNull(attributes)));
+		enclosure.setLength(attributes.getAsLong(LENGTH, 0L));
 		while (ctx.getReader().hasNext()) {
 			switch (ctx.getReader().next()) {
 			case XMLStreamConstants.END_ELEMENT:
@@ -396,7 +403,10 @@ public class RSS implements RootNamespace, Namespace {
 			case XMLStreamConstants.START_ELEMENT:
 				switch (ctx.getReader().getLocalName()) {
 				case "hour":
-					ctx.getFeed().addSkipHour(ctx.getElementTextAsInteger());
+					int hour = ctx.getElementTextAsInt(-1);
+					if (hour >= 0 && hour < 24) {
+						ctx.getFeed().addSkipHour(hour);
+					}
 					break;
 				}
 			}
@@ -413,8 +423,11 @@ public class RSS implements RootNamespace, Namespace {
 				break;
 			case XMLStreamConstants.START_ELEMENT:
 				switch (ctx.getReader().getLocalName()) {
-				case "hour":
-					ctx.getFeed().addSkipHour(ctx.getElementTextAsInteger());
+				case "day":
+					String day = ctx.getElementTextInterned();
+					if (Strings.isNotBlank(day)) {
+						ctx.getFeed().addSkipDay(day);
+					}
 					break;
 				}
 			}
@@ -431,11 +444,12 @@ public class RSS implements RootNamespace, Namespace {
 	 * Example: <ttl>60</ttl>
 	 */
 	private Duration parseTtl(PodcastParserContext ctx) throws XMLStreamException {
-		Integer minutes = ctx.getElementTextAsInteger();
-		if (minutes != null) {
-			return Duration.ofMinutes(minutes);
+		// int range, as before, so Duration.ofMinutes can not overflow
+		long minutes = ctx.getElementTextAsLong(Long.MIN_VALUE);
+		if (minutes < Integer.MIN_VALUE || minutes > Integer.MAX_VALUE) {
+			return null;
 		}
-		return null;
+		return Duration.ofMinutes(minutes);
 	}
 
 }
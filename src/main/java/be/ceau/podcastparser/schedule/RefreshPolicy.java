@@ -0,0 +1,282 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.schedule;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+import be.ceau.podcastparser.models.core.Feed;
+import be.ceau.podcastparser.models.core.Item;
+import be.ceau.podcastparser.models.support.UpdateInfo;
+
+/**
+ * <p>
+ * Computes when a feed should be fetched again, from the hints it declares and the cadence at which
+ * it actually publishes.
+ * </p>
+ * <p>
+ * The cadence is the median interval between the most recent item {@code pubDate} values. Without
+ * at least two dated items, the cadence declared by {@code sy:updatePeriod} and
+ * {@code sy:updateFrequency}, or by {@code rawvoice:frequency}, is used. Observed cadence takes
+ * precedence because many publishing tools declare an hourly update period by default.
+ * </p>
+ * <p>
+ * Until the next item is expected, at the latest item plus the cadence, the feed is not polled.
+ * Once overdue, it is polled every eighth of the cadence, or after half the time it is overdue if
+ * that is longer, so quiet feeds back off. The delay is never shorter than the {@code ttl} of the
+ * feed, and is kept between the minimum and maximum of the policy. Finally, hours and days listed
+ * in {@code skipHours} and {@code skipDays}, which are in GMT, are skipped. Instances are immutable
+ * and threadsafe.
+ * </p>
+ */
+public class RefreshPolicy {
+
+	/**
+	 * Policy with a minimum delay of 15 minutes, a maximum of 7 days, and 1 hour for feeds without
+	 * any hints
+	 */
+	public static final RefreshPolicy DEFAULT = new RefreshPolicy(Duration.ofMinutes(15), Duration.ofDays(7), Duration.ofHours(1));
+
+	private static final int SAMPLES = 16;
+
+	private final Duration min;
+	private final Duration max;
+	private final Duration fallback;
+
+	/**
+	 * @param min
+	 *            minimum delay between polls, not {@code null}
+	 * @param max
+	 *            maximum delay between polls, not {@code null}, not less than {@code min}
+	 * @param fallback
+	 *            delay for feeds without cadence, not {@code null}
+	 * @throws IllegalArgumentException
+	 *             if {@code max} is less than {@code min}
+	 */
+	public RefreshPolicy(Duration min, Duration max, Duration fallback) {
+		this.min = Objects.requireNonNull(min);
+		this.max = Objects.requireNonNull(max);
+		this.fallback = Objects.requireNonNull(fallback);
+		if (max.compareTo(min) < 0) {
+			throw new IllegalArgumentException("max " + max + " is less than min " + min);
+		}
+	}
+
+	/**
+	 * @param feed
+	 *            {@link Feed} as fetched at {@code now}, not {@code null}
+	 * @param now
+	 *            {@link Instant} of the fetch, not {@code null}
+	 * @return {@link Instant} of the next poll, after {@code now}, never {@code null}
+	 */
+	public Instant nextPoll(Feed feed, Instant now) {
+		Duration cadence = getCadence(feed);
+		Instant latest = getLatest(feed, now);
+		Duration delay;
+		if (cadence == null) {
+			delay = fallback;
+		} else if (latest == null) {
+			delay = cadence;
+		} else {
+			Instant expected = latest.plus(cadence);
+			if (expected.isAfter(now)) {
+				delay = Duration.between(now, expected);
+			} else {
+				// overdue, back off with the time since the item was expected
+				Duration quiet = Duration.between(expected, now).dividedBy(2);
+				Duration retry = cadence.dividedBy(8);
+				delay = quiet.compareTo(retry) > 0 ? quiet : retry;
+			}
+		}
+		Duration ttl = feed.getTtl();
+		if (ttl != null && ttl.compareTo(delay) > 0) {
+			delay = ttl;
+		}
+		if (delay.compareTo(min) < 0) {
+			delay = min;
+		} else if (delay.compareTo(max) > 0) {
+			delay = max;
+		}
+		return skip(feed, now.plus(delay));
+	}
+
+	/**
+	 * @param feed
+	 *            {@link Feed}, not {@code null}
+	 * @return observed cadence, else declared cadence, else {@code null}
+	 */
+	public Duration getCadence(Feed feed) {
+		Duration observed = getObservedCadence(feed);
+		return observed != null ? observed : getDeclaredCadence(feed.getUpdateInfo());
+	}
+
+	/**
+	 * @param feed
+	 *            {@link Feed}, not {@code null}
+	 * @return median interval between the most recent distinct item publication dates, or
+	 *         {@code null} if fewer than two items are dated
+	 */
+	public Duration getObservedCadence(Feed feed) {
+		long[] dates = new long[feed.getItems().size()];
+		int count = 0;
+		for (Item item : feed.getItems()) {
+			ZonedDateTime pubDate = item.getPubDate();
+			if (pubDate != null) {
+				dates[count++] = pubDate.toEpochSecond();
+			}
+		}
+		if (count < 2) {
+			return null;
+		}
+		Arrays.sort(dates, 0, count);
+		long[] gaps = new long[SAMPLES];
+		int gapCount = 0;
+		for (int i = count - 1; i > 0 && gapCount < SAMPLES; i--) {
+			long gap = dates[i] - dates[i - 1];
+			if (gap > 0) {
+				gaps[gapCount++] = gap;
+			}
+		}
+		if (gapCount == 0) {
+			return null;
+		}
+		Arrays.sort(gaps, 0, gapCount);
+		return Duration.ofSeconds(gaps[gapCount / 2]);
+	}
+
+	/**
+	 * @param updateInfo
+	 *            {@link UpdateInfo}, or {@code null}
+	 * @return declared period divided by declared frequency, or {@code null} if not declared or not
+	 *         understood
+	 */
+	public Duration getDeclaredCadence(UpdateInfo updateInfo) {
+		if (updateInfo == null) {
+			return null;
+		}
+		String period = updateInfo.getPeriod();
+		Integer frequency = updateInfo.getFrequency();
+		if (period == null) {
+			// the Syndication specification assumes daily
+			if (frequency == null) {
+				return null;
+			}
+			period = "daily";
+		}
+		Duration duration = parsePeriod(period);
+		if (duration == null) {
+			return null;
+		}
+		if (frequency != null && frequency > 1) {
+			duration = duration.dividedBy(frequency);
+		}
+		return duration;
+	}
+
+	/**
+	 * Understands the {@code sy:updatePeriod} values and common free text of
+	 * {@code rawvoice:frequency}, such as "Weekly", "Every Monday" or "Every other week".
+	 */
+	private static Duration parsePeriod(String period) {
+		String text = period.trim().toLowerCase(Locale.ENGLISH);
+		if (text.contains("hour")) {
+			return Duration.ofHours(1);
+		}
+		if (text.contains("weekday")) {
+			return Duration.ofDays(1);
+		}
+		if (text.contains("fortnight") || text.contains("biweekly") || text.contains("bi-weekly") || text.contains("other week")) {
+			return Duration.ofDays(14);
+		}
+		if (text.contains("week")) {
+			return Duration.ofDays(7);
+		}
+		for (DayOfWeek day : DayOfWeek.values()) {
+			// "every monday"
+			if (text.contains(day.name().toLowerCase(Locale.ENGLISH))) {
+				return Duration.ofDays(7);
+			}
+		}
+		if (text.contains("month")) {
+			return Duration.ofDays(30);
+		}
+		if (text.contains("year") || text.contains("annual")) {
+			return Duration.ofDays(365);
+		}
+		if (text.contains("dai") || text.contains("day")) {
+			return Duration.ofDays(1);
+		}
+		return null;
+	}
+
+	/**
+	 * @return latest publication date that is not in the future, or {@code null}
+	 */
+	private static Instant getLatest(Feed feed, Instant now) {
+		Instant latest = null;
+		for (Item item : feed.getItems()) {
+			ZonedDateTime pubDate = item.getPubDate();
+			if (pubDate != null) {
+				Instant instant = pubDate.toInstant();
+				if (!instant.isAfter(now) && (latest == null || instant.isAfter(latest))) {
+					latest = instant;
+				}
+			}
+		}
+		return latest;
+	}
+
+	/**
+	 * @return the given {@link Instant}, or the start of the first hour after it that is not skipped
+	 */
+	private static Instant skip(Feed feed, Instant next) {
+		List<Integer> hours = feed.getSkipHours();
+		List<String> days = feed.getSkipDays();
+		if (hours.isEmpty() && days.isEmpty()) {
+			return next;
+		}
+		ZonedDateTime time = next.atZone(ZoneOffset.UTC);
+		// a week of hours, in case every hour is skipped
+		for (int i = 0; i < 24 * 7; i++) {
+			if (!isSkipped(time, hours, days)) {
+				return time.toInstant();
+			}
+			time = time.truncatedTo(ChronoUnit.HOURS).plusHours(1);
+		}
+		return next;
+	}
+
+	private static boolean isSkipped(ZonedDateTime time, List<Integer> hours, List<String> days) {
+		if (hours.contains(time.getHour())) {
+			return true;
+		}
+		DayOfWeek day = time.getDayOfWeek();
+		for (String skipped : days) {
+			if (day.name().equalsIgnoreCase(skipped.trim())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
@@ -0,0 +1,188 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.schedule;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Queue of feeds ordered by next poll time, sized for millions of feeds in a single JVM.
+ * </p>
+ * <p>
+ * Entries are kept in a binary min-heap over two parallel arrays, poll times as epoch milliseconds
+ * in a {@code long[]} and keys in an {@code Object[]}, so each entry costs 12 to 16 bytes besides
+ * the key itself, without a node object per entry. Scheduling and taking an entry are
+ * {@code O(log n)}.
+ * </p>
+ * <p>
+ * A key is expected to be scheduled once per poll cycle: taken when due, fetched, and scheduled
+ * again, typically at {@link RefreshPolicy#nextPoll(be.ceau.podcastparser.models.core.Feed, Instant)}.
+ * Scheduling a key that is already queued adds a second entry. Instances are threadsafe.
+ * </p>
+ *
+ * @param <K>
+ *            type of the feed key, such as a URL or database id
+ */
+public class RefreshScheduler<K> {
+
+	private final Clock clock;
+	private long[] times = new long[16];
+	private Object[] keys = new Object[16];
+	private int size;
+
+	/**
+	 * Constructor with the system clock.
+	 */
+	public RefreshScheduler() {
+		this(Clock.systemUTC());
+	}
+
+	/**
+	 * @param clock
+	 *            {@link Clock} that decides which entries are due, not {@code null}
+	 */
+	public RefreshScheduler(Clock clock) {
+		this.clock = Objects.requireNonNull(clock);
+	}
+
+	/**
+	 * @param key
+	 *            feed key, not {@code null}
+	 * @param at
+	 *            {@link Instant} at which the feed is due, not {@code null}
+	 */
+	public synchronized void schedule(K key, Instant at) {
+		Objects.requireNonNull(key);
+		long time = at.toEpochMilli();
+		if (size == times.length) {
+			int capacity = size + (size >> 1);
+			times = Arrays.copyOf(times, capacity);
+			keys = Arrays.copyOf(keys, capacity);
+		}
+		siftUp(size++, time, key);
+		if (times[0] == time) {
+			// new earliest entry, waiting threads must wait less
+			notifyAll();
+		}
+	}
+
+	/**
+	 * @return number of queued entries
+	 */
+	public synchronized int size() {
+		return size;
+	}
+
+	/**
+	 * @return {@link Instant} of the earliest entry, or {@code null} if empty
+	 */
+	public synchronized Instant peekTime() {
+		return size == 0 ? null : Instant.ofEpochMilli(times[0]);
+	}
+
+	/**
+	 * Remove and return due entries, without waiting.
+	 *
+	 * @param max
+	 *            maximum number of entries to return
+	 * @return {@link List} of keys, earliest first, possibly empty, never {@code null}
+	 */
+	public synchronized List<K> pollDue(int max) {
+		long now = clock.millis();
+		List<K> due = new ArrayList<>();
+		while (size > 0 && times[0] <= now && due.size() < max) {
+			due.add(removeFirst());
+		}
+		return due;
+	}
+
+	/**
+	 * Remove and return due entries, waiting until at least one entry is due.
+	 *
+	 * @param max
+	 *            maximum number of entries to return, at least 1
+	 * @return {@link List} of keys, earliest first, not empty, never {@code null}
+	 * @throws InterruptedException
+	 *             if interrupted while waiting
+	 */
+	public synchronized List<K> takeDue(int max) throws InterruptedException {
+		if (max < 1) {
+			throw new IllegalArgumentException("max must be at least 1");
+		}
+		while (true) {
+			if (size == 0) {
+				wait();
+				continue;
+			}
+			long delay = times[0] - clock.millis();
+			if (delay <= 0) {
+				return pollDue(max);
+			}
+			wait(delay);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private K removeFirst() {
+		K first = (K) keys[0];
+		int last = --size;
+		long time = times[last];
+		Object key = keys[last];
+		keys[last] = null;
+		if (last > 0) {
+			siftDown(0, time, key);
+		}
+		return first;
+	}
+
+	private void siftUp(int index, long time, Object key) {
+		while (index > 0) {
+			int parent = (index - 1) >>> 1;
+			if (times[parent] <= time) {
+				break;
+			}
+			times[index] = times[parent];
+			keys[index] = keys[parent];
+			index = parent;
+		}
+		times[index] = time;
+		keys[index] = key;
+	}
+
+	private void siftDown(int index, long time, Object key) {
+		int half = size >>> 1;
+		while (index < half) {
+			int child = 2 * index + 1;
+			int right = child + 1;
+			if (right < size && times[right] < times[child]) {
+				child = right;
+			}
+			if (time <= times[child]) {
+				break;
+			}
+			times[index] = times[child];
+			keys[index] = keys[child];
+			index = child;
+		}
+		times[index] = time;
+		keys[index] = key;
+	}
+
+}
@@ -0,0 +1,445 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.sink;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import be.ceau.podcastparser.models.core.Item;
+import be.ceau.podcastparser.models.support.Category;
+import be.ceau.podcastparser.models.support.Enclosure;
+import be.ceau.podcastparser.models.support.TypedString;
+
+/**
+ * <p>
+ * Columnar {@link ItemSink}: stores selected values of every {@link Item} in parallel arrays, one
+ * row per item, instead of retaining the {@link Item} objects. Meant for analytics over very large
+ * numbers of items, for example a whole crawl, where materializing the models would dominate heap
+ * use.
+ * </p>
+ * <p>
+ * Dates and durations are stored as epoch and duration milliseconds, enclosure types and category
+ * names are dictionary encoded, and titles, guids and enclosure URLs are stored back to back in
+ * paged {@code char[]} arrays per column. Missing values are {@link #ABSENT} for numbers,
+ * {@code -1} for dictionary ids and {@code null} for text.
+ * </p>
+ * <p>
+ * A single batch can collect the items of many feeds: call {@link #beginFeed()} before parsing each
+ * feed to number them. Read the batch with a {@link Cursor}, which does not allocate per row.
+ * Instances are not threadsafe.
+ * </p>
+ */
+public class FeedBatch implements ItemSink {
+
+	/**
+	 * Value of numeric columns for missing values
+	 */
+	public static final long ABSENT = Long.MIN_VALUE;
+
+	private int size;
+	private int feed = -1;
+
+	private int[] feeds;
+	private long[] pubDateMillis;
+	private long[] durationMillis;
+	private long[] enclosureLengths;
+	private int[] enclosureTypes;
+	// categories of row i are categoryIds[categoryOffsets[i]] to categoryIds[categoryOffsets[i + 1]]
+	private int[] categoryOffsets;
+	private int[] categoryIds = new int[16];
+
+	private final Dictionary enclosureTypeDictionary = new Dictionary();
+	private final Dictionary categoryDictionary = new Dictionary();
+	private final TextColumn titles = new TextColumn();
+	private final TextColumn guids = new TextColumn();
+	private final TextColumn enclosureUrls = new TextColumn();
+
+	public FeedBatch() {
+		this(64);
+	}
+
+	/**
+	 * @param capacity
+	 *            initial number of rows
+	 */
+	public FeedBatch(int capacity) {
+		capacity = Math.max(capacity, 1);
+		feeds = new int[capacity];
+		pubDateMillis = new long[capacity];
+		durationMillis = new long[capacity];
+		enclosureLengths = new long[capacity];
+		enclosureTypes = new int[capacity];
+		categoryOffsets = new int[capacity + 1];
+	}
+
+	/**
+	 * Start a new feed: rows added afterwards get the next feed number, starting at {@code 0}.
+	 * 
+	 * @return number of the new feed
+	 */
+	public int beginFeed() {
+		return ++feed;
+	}
+
+	@Override
+	public void accept(Item item) {
+		ensureCapacity(size + 1);
+		int row = size;
+		feeds[row] = feed;
+		pubDateMillis[row] = item.getPubDate() == null ? ABSENT : item.getPubDate().toInstant().toEpochMilli();
+		durationMillis[row] = item.getDuration() == null ? ABSENT : item.getDuration().toMillis();
+		Enclosure enclosure = item.getEnclosure();
+		if (enclosure == null) {
+			enclosureLengths[row] = ABSENT;
+			enclosureTypes[row] = -1;
+			enclosureUrls.add(row, null);
+		} else {
+			enclosureLengths[row] = enclosure.getLength();
+			enclosureTypes[row] = enclosureTypeDictionary.id(enclosure.getType());
+			enclosureUrls.add(row, enclosure.getUrl());
+		}
+		int categories = categoryOffsets[row];
+		for (Category category : item.getCategories()) {
+			int id = categoryDictionary.id(category.getName());
+			if (id >= 0) {
+				if (categories == categoryIds.length) {
+					categoryIds = Arrays.copyOf(categoryIds, categories + (categories >> 1) + 1);
+				}
+				categoryIds[categories++] = id;
+			}
+		}
+		categoryOffsets[row + 1] = categories;
+		TypedString title = item.getTitle();
+		titles.add(row, title == null ? null : title.getText());
+		guids.add(row, item.getGuid());
+		size++;
+	}
+
+	/**
+	 * @return number of rows
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return distinct enclosure types, indexed by dictionary id, never {@code null}
+	 */
+	public List<String> getEnclosureTypes() {
+		return enclosureTypeDictionary.view;
+	}
+
+	/**
+	 * @return distinct category names, indexed by dictionary id, never {@code null}
+	 */
+	public List<String> getCategories() {
+		return categoryDictionary.view;
+	}
+
+	/**
+	 * @return a new {@link Cursor}, positioned before the first row
+	 */
+	public Cursor cursor() {
+		return new Cursor();
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity > feeds.length) {
+			int grown = Math.max(capacity, feeds.length + (feeds.length >> 1));
+			feeds = Arrays.copyOf(feeds, grown);
+			pubDateMillis = Arrays.copyOf(pubDateMillis, grown);
+			durationMillis = Arrays.copyOf(durationMillis, grown);
+			enclosureLengths = Arrays.copyOf(enclosureLengths, grown);
+			enclosureTypes = Arrays.copyOf(enclosureTypes, grown);
+			categoryOffsets = Arrays.copyOf(categoryOffsets, grown + 1);
+		}
+	}
+
+	/**
+	 * Reusable view on a single row of a {@link FeedBatch}. The {@link CharSequence} instances
+	 * returned for text columns are reused as well, and change when the cursor moves; call
+	 * {@link CharSequence#toString()} to keep a value.
+	 */
+	public class Cursor {
+
+		private int row = -1;
+		private final Slice title = new Slice(titles);
+		private final Slice guid = new Slice(guids);
+		private final Slice enclosureUrl = new Slice(enclosureUrls);
+
+		/**
+		 * Move to the next row.
+		 * 
+		 * @return {@code false} if there are no more rows
+		 */
+		public boolean next() {
+			if (row + 1 < size) {
+				row++;
+				return true;
+			}
+			return false;
+		}
+
+		/**
+		 * @param row
+		 *            row to move to, between {@code 0} and {@link FeedBatch#size()}
+		 * @throws IndexOutOfBoundsException
+		 *             if {@code row} is out of bounds
+		 */
+		public void moveTo(int row) {
+			if (row < 0 || row >= size) {
+				throw new IndexOutOfBoundsException(String.valueOf(row));
+			}
+			this.row = row;
+		}
+
+		public int getRow() {
+			return row;
+		}
+
+		/**
+		 * @return number of the feed, as returned by {@link FeedBatch#beginFeed()}, or {@code -1}
+		 */
+		public int getFeed() {
+			return feeds[row];
+		}
+
+		/**
+		 * @return publication date in milliseconds since the epoch, or {@link FeedBatch#ABSENT}
+		 */
+		public long getPubDateMillis() {
+			return pubDateMillis[row];
+		}
+
+		/**
+		 * @return duration in milliseconds, or {@link FeedBatch#ABSENT}
+		 */
+		public long getDurationMillis() {
+			return durationMillis[row];
+		}
+
+		/**
+		 * @return enclosure length in bytes, or {@link FeedBatch#ABSENT} if there is no enclosure
+		 */
+		public long getEnclosureLength() {
+			return enclosureLengths[row];
+		}
+
+		/**
+		 * @return dictionary id of the enclosure type, or {@code -1}
+		 * @see FeedBatch#getEnclosureTypes()
+		 */
+		public int getEnclosureTypeId() {
+			return enclosureTypes[row];
+		}
+
+		/**
+		 * @return enclosure type, or {@code null}
+		 */
+		public String getEnclosureType() {
+			int id = enclosureTypes[row];
+			return id < 0 ? null : enclosureTypeDictionary.values.get(id);
+		}
+
+		public int getCategoryCount() {
+			return categoryOffsets[row + 1] - categoryOffsets[row];
+		}
+
+		/**
+		 * @param index
+		 *            index between {@code 0} and {@link #getCategoryCount()}
+		 * @return dictionary id of the category
+		 * @see FeedBatch#getCategories()
+		 */
+		public int getCategoryId(int index) {
+			if (index < 0 || index >= getCategoryCount()) {
+				throw new IndexOutOfBoundsException(String.valueOf(index));
+			}
+			return categoryIds[categoryOffsets[row] + index];
+		}
+
+		/**
+		 * @param index
+		 *            index between {@code 0} and {@link #getCategoryCount()}
+		 * @return name of the category
+		 */
+		public String getCategory(int index) {
+			return categoryDictionary.values.get(getCategoryId(index));
+		}
+
+		/**
+		 * @return title text, or {@code null}
+		 */
+		public CharSequence getTitle() {
+			return title.at(row);
+		}
+
+		/**
+		 * @return guid, or {@code null}
+		 */
+		public CharSequence getGuid() {
+			return guid.at(row);
+		}
+
+		/**
+		 * @return enclosure URL, or {@code null}
+		 */
+		public CharSequence getEnclosureUrl() {
+			return enclosureUrl.at(row);
+		}
+
+	}
+
+	/**
+	 * Maps distinct values to consecutive ids
+	 */
+	private static class Dictionary {
+
+		private final Map<String, Integer> ids = new HashMap<>();
+		private final List<String> values = new ArrayList<>();
+		private final List<String> view = Collections.unmodifiableList(values);
+
+		/**
+		 * @return id of the value, or {@code -1} if {@code null}
+		 */
+		private int id(String value) {
+			if (value == null) {
+				return -1;
+			}
+			Integer id = ids.get(value);
+			if (id == null) {
+				id = values.size();
+				ids.put(value, id);
+				values.add(value);
+			}
+			return id;
+		}
+
+	}
+
+	/**
+	 * Text values stored back to back in pages of {@value #PAGE_SIZE} chars, with page and start
+	 * offset per row. A value never spans pages, a longer value gets a page of its own, so a column
+	 * is not limited to {@link Integer#MAX_VALUE} chars.
+	 */
+	private static class TextColumn {
+
+		private static final int PAGE_SIZE = 1 << 20;
+
+		private char[][] pages = { new char[1024] };
+		private int page;
+		// chars used in the current page
+		private int length;
+		private int[] rowPages = new int[64];
+		private int[] starts = new int[64];
+		private int[] lengths = new int[64];
+
+		private void add(int row, String value) {
+			if (row >= starts.length) {
+				int grown = Math.max(row + 1, starts.length + (starts.length >> 1));
+				rowPages = Arrays.copyOf(rowPages, grown);
+				starts = Arrays.copyOf(starts, grown);
+				lengths = Arrays.copyOf(lengths, grown);
+			}
+			if (value == null) {
+				rowPages[row] = page;
+				starts[row] = length;
+				lengths[row] = -1;
+				return;
+			}
+			int needed = length + value.length();
+			char[] current = pages[page];
+			if (needed > current.length) {
+				if (needed <= PAGE_SIZE) {
+					pages[page] = Arrays.copyOf(current, Math.min(PAGE_SIZE, Math.max(needed, current.length + (current.length >> 1))));
+				} else {
+					newPage(value.length());
+					needed = value.length();
+				}
+			}
+			value.getChars(0, value.length(), pages[page], length);
+			rowPages[row] = page;
+			starts[row] = length;
+			lengths[row] = value.length();
+			length = needed;
+		}
+
+		private void newPage(int minimum) {
+			if (length > 0) {
+				page++;
+				if (page == pages.length) {
+					pages = Arrays.copyOf(pages, pages.length * 2);
+				}
+			}
+			pages[page] = new char[Math.max(PAGE_SIZE, minimum)];
+			length = 0;
+		}
+
+	}
+
+	/**
+	 * Reusable {@link CharSequence} over one value of a {@link TextColumn}
+	 */
+	private static class Slice implements CharSequence {
+
+		private final TextColumn column;
+		private char[] chars;
+		private int start;
+		private int length;
+
+		private Slice(TextColumn column) {
+			this.column = column;
+		}
+
+		private Slice at(int row) {
+			if (column.lengths[row] < 0) {
+				return null;
+			}
+			chars = column.pages[column.rowPages[row]];
+			start = column.starts[row];
+			length = column.lengths[row];
+			return this;
+		}
+
+		@Override
+		public int length() {
+			return length;
+		}
+
+		@Override
+		public char charAt(int index) {
+			if (index < 0 || index >= length) {
+				throw new IndexOutOfBoundsException(String.valueOf(index));
+			}
+			return chars[start + index];
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			return toString().substring(start, end);
+		}
+
+		@Override
+		public String toString() {
+			return new String(chars, start, length);
+		}
+
+	}
+
+}
@@ -0,0 +1,39 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.sink;
+
+import be.ceau.podcastparser.models.core.Item;
+
+/**
+ * <p>
+ * Target for the {@link Item} instances of a feed, as they are parsed.
+ * </p>
+ * <p>
+ * By default, every {@link Item} is added to the {@link be.ceau.podcastparser.models.core.Feed}
+ * being parsed. When an {@link ItemSink} is passed to the parser, each {@link Item} is handed to
+ * it instead, as soon as its end element is reached. The {@link Item} is not retained by the
+ * parser, so an {@link ItemSink} that only extracts values lets it be collected right away.
+ * </p>
+ */
+@FunctionalInterface
+public interface ItemSink {
+
+	/**
+	 * @param item
+	 *            a parsed {@link Item}, not {@code null}
+	 */
+	public void accept(Item item);
+
+}
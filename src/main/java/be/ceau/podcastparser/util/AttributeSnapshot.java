@@ -0,0 +1,148 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.util;
+
+import java.util.Arrays;
+
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * <p>
+ * The attribute values of a single start element, read in one pass over the attributes and
+ * indexed by {@link Attributes} id. Looking up an attribute is an array access instead of a scan
+ * over all attributes with {@link String} compares.
+ * </p>
+ * <p>
+ * Only attributes with a name for which an {@link Attributes} instance exists are retained. An
+ * {@link Attributes} instance that is not cached, or that was created after the snapshot was
+ * loaded, possibly by another thread, is looked up on the {@link XMLStreamReader} instead, which
+ * must still be positioned at the same element. An instance is reusable: each call to
+ * {@link #load(XMLStreamReader)} replaces the previous values, without clearing the arrays.
+ * Instances are not threadsafe.
+ * </p>
+ */
+public class AttributeSnapshot {
+
+	private String[] values = new String[0];
+	private int[] stamps = new int[0];
+	private int stamp;
+	private XMLStreamReader reader;
+
+	/**
+	 * Read all attributes of the current start element of the given {@link XMLStreamReader}.
+	 *
+	 * @param reader
+	 *            {@link XMLStreamReader} positioned at a start element, not {@code null}
+	 * @return {@code this}
+	 */
+	public AttributeSnapshot load(XMLStreamReader reader) {
+		this.reader = reader;
+		int known = Attributes.count();
+		if (values.length < known) {
+			values = Arrays.copyOf(values, known);
+			stamps = Arrays.copyOf(stamps, known);
+		}
+		if (++stamp == 0) {
+			// wrapped around, forget all stamps
+			Arrays.fill(stamps, 0);
+			stamp = 1;
+		}
+		int count = reader.getAttributeCount();
+		for (int i = 0; i < count; i++) {
+			Attributes attribute = Attributes.find(reader.getAttributeLocalName(i));
+			if (attribute != null) {
+				int id = attribute.getId();
+				// first attribute with a matching local name wins, like getAttributeValue(null, name)
+				if (id < stamps.length && stamps[id] != stamp) {
+					stamps[id] = stamp;
+					values[id] = reader.getAttributeValue(i);
+				}
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * @param attribute
+	 *            {@link Attributes}, not {@code null}
+	 * @return the raw value of the attribute, or {@code null} if absent
+	 */
+	public String get(Attributes attribute) {
+		int id = attribute.getId();
+		if (id >= 0 && id < stamps.length) {
+			// arrays are sized at a load, so this id existed when the current element was read
+			return stamps[id] == stamp ? values[id] : null;
+		}
+		return reader == null ? null : reader.getAttributeValue(null, attribute.getLocalName());
+	}
+
+	/**
+	 * @param attribute
+	 *            {@link Attributes}, not {@code null}
+	 * @return the trimmed value of the attribute, or {@code null} if absent
+	 */
+	public String getTrimmed(Attributes attribute) {
+		String value = get(attribute);
+		if (value != null) {
+			value = value.trim();
+		}
+		return value;
+	}
+
+	/**
+	 * @param attribute
+	 *            {@link Attributes}, not {@code null}
+	 * @param fallback
+	 *            value to return if the attribute is absent or not a valid {@code int}
+	 * @return attribute value parsed as {@code int}, or {@code fallback}
+	 */
+	public int getAsInt(Attributes attribute, int fallback) {
+		return Numbers.parseInt(get(attribute), fallback);
+	}
+
+	/**
+	 * @param attribute
+	 *            {@link Attributes}, not {@code null}
+	 * @param fallback
+	 *            value to return if the attribute is absent or not a valid {@code long}
+	 * @return attribute value parsed as {@code long}, or {@code fallback}
+	 */
+	public long getAsLong(Attributes attribute, long fallback) {
+		return Numbers.parseLong(get(attribute), fallback);
+	}
+
+	/**
+	 * @param attribute
+	 *            {@link Attributes}, not {@code null}
+	 * @return attribute value parsed as {@link Integer}, or {@code null}
+	 */
+	public Integer getAsInteger(Attributes attribute) {
+		long value = getAsLong(attribute, Long.MIN_VALUE);
+		if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+			return null;
+		}
+		return (int) value;
+	}
+
+	/**
+	 * @param attribute
+	 *            {@link Attributes}, not {@code null}
+	 * @return attribute value parsed as {@link Long}, or {@code null}
+	 */
+	public Long getAsLong(Attributes attribute) {
+		return Numbers.parseLong(get(attribute));
+	}
+
+}
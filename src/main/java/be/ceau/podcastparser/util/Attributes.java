@@ -17,6 +17,11 @@ package be.ceau.podcastparser.util;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
 
 import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamReader;
@@ -26,27 +31,248 @@ import javax.xml.stream.XMLStreamReader;
  */
 public class Attributes {
 
+	/**
+	 * Maximum number of cached instances, so arbitrary names can not grow the cache without bound
+	 */
+	static final int MAX_CACHED = 1024;
+
 	private static final Map<String, Attributes> CACHE = new ConcurrentHashMap<>();
-	
+	private static final AtomicInteger IDS = new AtomicInteger();
+
+	/**
+	 * Get the shared instance for the given name. Instances are meant to be held in
+	 * {@code static final} fields. Once {@link #MAX_CACHED} names are cached, a new instance that
+	 * is not indexed by {@link AttributeSnapshot} is returned for any other name.
+	 * 
+	 * @param localName
+	 *            {@link String} attribute name, not {@code null}
+	 * @return {@link Attributes} instance, never {@code null}
+	 */
 	public static Attributes get(String localName) {
-		return CACHE.computeIfAbsent(localName, x -> new Attributes(localName));
+		Attributes attributes = CACHE.get(localName);
+		if (attributes != null) {
+			return attributes;
+		}
+		return register(localName);
+	}
+
+	private static synchronized Attributes register(String localName) {
+		Attributes attributes = CACHE.get(localName);
+		if (attributes != null) {
+			return attributes;
+		}
+		int id = IDS.get();
+		if (id >= MAX_CACHED) {
+			return new Attributes(localName, -1);
+		}
+		attributes = new Attributes(localName, id);
+		CACHE.put(localName, attributes);
+		// publish the id only after the instance can be found, see AttributeSnapshot
+		IDS.set(id + 1);
+		return attributes;
+	}
+
+	/**
+	 * @param localName
+	 *            {@link String} attribute name
+	 * @return the {@link Attributes} instance for the given name, or {@code null} if no instance was
+	 *         created for it through {@link #get(String)}
+	 */
+	static Attributes find(String localName) {
+		return CACHE.get(localName);
+	}
+
+	/**
+	 * @return number of {@link Attributes} instances created, all ids are lower than this number
+	 */
+	static int count() {
+		return IDS.get();
 	}
 
 	private final String localName;
+	private final int id;
 
-	private Attributes(String localName) {
+	private Attributes(String localName, int id) {
 		this.localName = localName;
+		this.id = id;
 	}
-	
+
+	/**
+	 * @return {@link String} attribute name, not {@code null}
+	 */
+	public String getLocalName() {
+		return localName;
+	}
+
+	/**
+	 * @return unique {@code int} id of this {@link Attributes} instance, used as index in
+	 *         {@link AttributeSnapshot}, or -1 if this instance is not cached
+	 */
+	int getId() {
+		return id;
+	}
+
+	/**
+	 * Prefer {@link #orNull(XMLStreamReader)} or
+	 * {@link #into(XMLStreamReader, Object, BiConsumer)} on hot paths, these do not allocate an
+	 * {@link Optional}.
+	 * 
+	 * @param reader
+	 *            {@link XMLStreamReader} positioned at a start element, not {@code null}
+	 * @return {@link Optional} with the trimmed attribute value, empty if absent or blank
+	 */
 	public Optional<String> from(XMLStreamReader reader) {
-		String value = reader.getAttributeValue(null, localName);
+		return Optional.ofNullable(orNull(reader));
+	}
+
+	/**
+	 * @param snapshot
+	 *            {@link AttributeSnapshot} of the current element, not {@code null}
+	 * @return {@link Optional} with the trimmed attribute value, empty if absent or blank
+	 */
+	public Optional<String> from(AttributeSnapshot snapshot) {
+		return Optional.ofNullable(orNull(snapshot));
+	}
+
+	/**
+	 * @param reader
+	 *            {@link XMLStreamReader} positioned at a start element, not {@code null}
+	 * @return the trimmed attribute value, or {@code null} if absent or blank
+	 */
+	public String orNull(XMLStreamReader reader) {
+		return clean(reader.getAttributeValue(null, localName));
+	}
+
+	/**
+	 * @param snapshot
+	 *            {@link AttributeSnapshot} of the current element, not {@code null}
+	 * @return the trimmed attribute value, or {@code null} if absent or blank
+	 */
+	public String orNull(AttributeSnapshot snapshot) {
+		return clean(snapshot.get(this));
+	}
+
+	/**
+	 * Pass the trimmed attribute value to the given {@link Consumer}, if present and not blank.
+	 * 
+	 * @param reader
+	 *            {@link XMLStreamReader} positioned at a start element, not {@code null}
+	 * @param consumer
+	 *            {@link Consumer} for the value, not {@code null}
+	 * @return {@code true} if the value was passed to the {@link Consumer}
+	 */
+	public boolean into(XMLStreamReader reader, Consumer<String> consumer) {
+		String value = orNull(reader);
+		if (value != null) {
+			consumer.accept(value);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Set the trimmed attribute value on the target, if present and not blank. Pass an unbound
+	 * method reference such as {@code Link::setHref} as setter, so no lambda instance is created
+	 * per call.
+	 * 
+	 * @param <T>
+	 *            type of the target
+	 * @param reader
+	 *            {@link XMLStreamReader} positioned at a start element, not {@code null}
+	 * @param target
+	 *            object to set the value on
+	 * @param setter
+	 *            {@link BiConsumer} setting the value on the target, not {@code null}
+	 * @return {@code true} if the value was set
+	 */
+	public <T> boolean into(XMLStreamReader reader, T target, BiConsumer<T, String> setter) {
+		String value = orNull(reader);
+		if (value != null) {
+			setter.accept(target, value);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Set the trimmed attribute value on the target, if present and not blank. Pass an unbound
+	 * method reference such as {@code Link::setHref} as setter, so no lambda instance is created
+	 * per call.
+	 * 
+	 * @param <T>
+	 *            type of the target
+	 * @param snapshot
+	 *            {@link AttributeSnapshot} of the current element, not {@code null}
+	 * @param target
+	 *            object to set the value on
+	 * @param setter
+	 *            {@link BiConsumer} setting the value on the target, not {@code null}
+	 * @return {@code true} if the value was set
+	 */
+	public <T> boolean into(AttributeSnapshot snapshot, T target, BiConsumer<T, String> setter) {
+		String value = orNull(snapshot);
+		if (value != null) {
+			setter.accept(target, value);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Set the attribute value parsed as {@code int} on the target, if present and valid, without
+	 * boxing. Pass an unbound method reference such as {@code Image::setWidth} as setter.
+	 * 
+	 * @param <T>
+	 *            type of the target
+	 * @param snapshot
+	 *            {@link AttributeSnapshot} of the current element, not {@code null}
+	 * @param target
+	 *            object to set the value on
+	 * @param setter
+	 *            {@link ObjIntConsumer} setting the value on the target, not {@code null}
+	 * @return {@code true} if the value was set
+	 */
+	public <T> boolean intoInt(AttributeSnapshot snapshot, T target, ObjIntConsumer<T> setter) {
+		long value = snapshot.getAsLong(this, Long.MIN_VALUE);
+		if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+			setter.accept(target, (int) value);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Set the attribute value parsed as {@code long} on the target, if present and valid, without
+	 * boxing. Pass an unbound method reference such as {@code MediaContent::setFileSize} as setter.
+	 * 
+	 * @param <T>
+	 *            type of the target
+	 * @param snapshot
+	 *            {@link AttributeSnapshot} of the current element, not {@code null}
+	 * @param target
+	 *            object to set the value on
+	 * @param setter
+	 *            {@link ObjLongConsumer} setting the value on the target, not {@code null}
+	 * @return {@code true} if the value was set
+	 */
+	public <T> boolean intoLong(AttributeSnapshot snapshot, T target, ObjLongConsumer<T> setter) {
+		long value = snapshot.getAsLong(this, Long.MIN_VALUE);
+		// the fallback is also a valid value, so a second fallback tells them apart
+		if (value != Long.MIN_VALUE || snapshot.getAsLong(this, Long.MAX_VALUE) != Long.MAX_VALUE) {
+			setter.accept(target, value);
+			return true;
+		}
+		return false;
+	}
+
+	private static String clean(String value) {
 		if (value != null) {
 			value = value.trim();
 			if (!value.isEmpty()) {
-				return Optional.of(value);
+				return value;
 			}
 		}
-		return Optional.empty();
+		return null;
 	}
 
 	public static String toString(XMLStreamReader reader) {
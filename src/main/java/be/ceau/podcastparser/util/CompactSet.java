@@ -0,0 +1,258 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.util;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Insertion-ordered {@link java.util.Set} backed by arrays, for the small sets of mutable beans in
+ * the models, such as links and categories.
+ * </p>
+ * <p>
+ * The hash code of every element is computed once, when the element is added, and cached. Lookups
+ * compare cached hashes before calling {@link Object#equals(Object)}. Up to
+ * {@value #LINEAR_LIMIT} elements are scanned linearly; larger sets additionally build an
+ * open-addressing index over the cached hashes.
+ * </p>
+ * <p>
+ * As with {@link java.util.HashSet}, elements must not change in a way that affects
+ * {@link Object#equals(Object)} while they are in the set, unless {@link #rehash()} is called
+ * afterwards. The models call it when they are frozen, once their elements are final.
+ * </p>
+ * <p>
+ * {@code null} elements are not supported. Instances are not threadsafe.
+ * </p>
+ *
+ * @param <E>
+ *            element type
+ */
+public class CompactSet<E> extends AbstractSet<E> {
+
+	private static final int LINEAR_LIMIT = 8;
+	private static final Object[] EMPTY = new Object[0];
+	private static final int[] NO_HASHES = new int[0];
+
+	private Object[] elements = EMPTY;
+	private int[] hashes = NO_HASHES;
+	private int size;
+	private int modCount;
+
+	/**
+	 * Index of positions plus one, zero for an empty slot, only present beyond
+	 * {@link #LINEAR_LIMIT} elements
+	 */
+	private int[] index;
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		return o != null && indexOf(o, o.hashCode()) >= 0;
+	}
+
+	/**
+	 * @throws NullPointerException
+	 *             if {@code e} is {@code null}
+	 */
+	@Override
+	public boolean add(E e) {
+		Objects.requireNonNull(e);
+		int hash = e.hashCode();
+		if (indexOf(e, hash) >= 0) {
+			return false;
+		}
+		if (size == elements.length) {
+			int capacity = size == 0 ? 2 : size + (size >> 1) + 1;
+			elements = Arrays.copyOf(elements, capacity);
+			hashes = Arrays.copyOf(hashes, capacity);
+		}
+		elements[size] = e;
+		hashes[size] = hash;
+		size++;
+		modCount++;
+		if (index != null) {
+			if (size * 2 > index.length) {
+				rebuildIndex();
+			} else {
+				insertIndex(size - 1);
+			}
+		} else if (size > LINEAR_LIMIT) {
+			rebuildIndex();
+		}
+		return true;
+	}
+
+	@Override
+	public boolean remove(Object o) {
+		if (o == null) {
+			return false;
+		}
+		int position = indexOf(o, o.hashCode());
+		if (position < 0) {
+			return false;
+		}
+		removeAt(position);
+		return true;
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(elements, 0, size, null);
+		size = 0;
+		index = null;
+		modCount++;
+	}
+
+	/**
+	 * Compute the cached hash of every element again, for elements that changed since they were
+	 * added. An element that became equal to an earlier element is removed.
+	 */
+	@SuppressWarnings("unchecked")
+	public void rehash() {
+		Object[] current = Arrays.copyOf(elements, size);
+		clear();
+		for (Object element : current) {
+			add((E) element);
+		}
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		return new Iterator<E>() {
+
+			private int next;
+			private int last = -1;
+			private int expectedModCount = modCount;
+
+			@Override
+			public boolean hasNext() {
+				return next < size;
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public E next() {
+				if (modCount != expectedModCount) {
+					throw new ConcurrentModificationException();
+				}
+				if (next >= size) {
+					throw new NoSuchElementException();
+				}
+				last = next++;
+				return (E) elements[last];
+			}
+
+			@Override
+			public void remove() {
+				if (last < 0) {
+					throw new IllegalStateException();
+				}
+				if (modCount != expectedModCount) {
+					throw new ConcurrentModificationException();
+				}
+				removeAt(last);
+				next = last;
+				last = -1;
+				expectedModCount = modCount;
+			}
+
+		};
+	}
+
+	/**
+	 * Sum of the cached hashes, as specified by {@link java.util.Set#hashCode()}
+	 */
+	@Override
+	public int hashCode() {
+		int h = 0;
+		for (int i = 0; i < size; i++) {
+			h += hashes[i];
+		}
+		return h;
+	}
+
+	private int indexOf(Object o, int hash) {
+		if (index == null) {
+			for (int i = 0; i < size; i++) {
+				if (hashes[i] == hash && o.equals(elements[i])) {
+					return i;
+				}
+			}
+			return -1;
+		}
+		int mask = index.length - 1;
+		for (int slot = mix(hash) & mask;; slot = (slot + 1) & mask) {
+			int position = index[slot] - 1;
+			if (position < 0) {
+				return -1;
+			}
+			if (hashes[position] == hash && o.equals(elements[position])) {
+				return position;
+			}
+		}
+	}
+
+	private void removeAt(int position) {
+		int moved = size - position - 1;
+		if (moved > 0) {
+			System.arraycopy(elements, position + 1, elements, position, moved);
+			System.arraycopy(hashes, position + 1, hashes, position, moved);
+		}
+		elements[--size] = null;
+		modCount++;
+		if (index != null) {
+			if (size > LINEAR_LIMIT) {
+				rebuildIndex();
+			} else {
+				index = null;
+			}
+		}
+	}
+
+	private void rebuildIndex() {
+		int capacity = Integer.highestOneBit(size * 4 - 1);
+		if (index == null || index.length != capacity) {
+			index = new int[capacity];
+		} else {
+			Arrays.fill(index, 0);
+		}
+		for (int i = 0; i < size; i++) {
+			insertIndex(i);
+		}
+	}
+
+	private void insertIndex(int position) {
+		int mask = index.length - 1;
+		int slot = mix(hashes[position]) & mask;
+		while (index[slot] != 0) {
+			slot = (slot + 1) & mask;
+		}
+		index[slot] = position + 1;
+	}
+
+	private static int mix(int hash) {
+		return hash ^ (hash >>> 16);
+	}
+
+}
@@ -0,0 +1,91 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>
+ * Utility methods for turning the collections of a model into read-only collections when the model
+ * is frozen.
+ * </p>
+ * <p>
+ * Non-empty collections are wrapped rather than copied: the model owning them stops modifying them
+ * once frozen, so the wrapper shares the existing structure. Empty or {@code null} collections
+ * become the shared immutable empty instances. A {@link CompactSet} is rehashed first, as its
+ * elements are final from then on.
+ * </p>
+ */
+public class Frozen {
+
+	private Frozen() {
+		// static methods only
+	}
+
+	/**
+	 * @param <T>
+	 *            element type
+	 * @param list
+	 *            {@link List} no longer modified by its owner, or {@code null}
+	 * @return unmodifiable {@link List}, never {@code null}
+	 */
+	public static <T> List<T> list(List<T> list) {
+		if (list == null || list.isEmpty()) {
+			return Collections.emptyList();
+		}
+		if (list instanceof ArrayList) {
+			((ArrayList<T>) list).trimToSize();
+		}
+		return Collections.unmodifiableList(list);
+	}
+
+	/**
+	 * @param <T>
+	 *            element type
+	 * @param set
+	 *            {@link Set} no longer modified by its owner, or {@code null}
+	 * @return unmodifiable {@link Set}, never {@code null}
+	 */
+	public static <T> Set<T> set(Set<T> set) {
+		if (set == null || set.isEmpty()) {
+			return Collections.emptySet();
+		}
+		if (set instanceof CompactSet) {
+			((CompactSet<T>) set).rehash();
+		}
+		return Collections.unmodifiableSet(set);
+	}
+
+	/**
+	 * @param <K>
+	 *            key type
+	 * @param <V>
+	 *            value type
+	 * @param map
+	 *            {@link Map} no longer modified by its owner, or {@code null}
+	 * @return unmodifiable {@link Map}, never {@code null}
+	 */
+	public static <K, V> Map<K, V> map(Map<K, V> map) {
+		if (map == null || map.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		return Collections.unmodifiableMap(map);
+	}
+
+}
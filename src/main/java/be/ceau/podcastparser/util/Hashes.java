@@ -0,0 +1,129 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.util;
+
+/**
+ * <p>
+ * Fast, non-cryptographic 64-bit hashing of characters, for detecting changed content.
+ * </p>
+ * <p>
+ * A hash is computed by starting from {@link #SEED}, feeding characters through the
+ * {@code update} methods, possibly in several chunks, and applying {@link #finish(long)}. The
+ * update step is FNV-1a over UTF-16 code units; the finishing step mixes all bits, so the result
+ * is also usable as a hash table key. Splitting the input into different chunks does not change the
+ * result.
+ * </p>
+ */
+public class Hashes {
+
+	/**
+	 * Initial state
+	 */
+	public static final long SEED = 0xcbf29ce484222325L;
+
+	private static final long PRIME = 0x100000001b3L;
+
+	private Hashes() {
+		// static methods only
+	}
+
+	/**
+	 * @param state
+	 *            current state
+	 * @param c
+	 *            next character
+	 * @return new state
+	 */
+	public static long update(long state, char c) {
+		return (state ^ c) * PRIME;
+	}
+
+	/**
+	 * @param state
+	 *            current state
+	 * @param chars
+	 *            {@link CharSequence} holding the next characters, not {@code null}
+	 * @param start
+	 *            index of the first character, inclusive
+	 * @param end
+	 *            index of the last character, exclusive
+	 * @return new state
+	 */
+	public static long update(long state, CharSequence chars, int start, int end) {
+		for (int i = start; i < end; i++) {
+			state = (state ^ chars.charAt(i)) * PRIME;
+		}
+		return state;
+	}
+
+	/**
+	 * @param state
+	 *            current state
+	 * @param chars
+	 *            {@code char[]} holding the next characters, not {@code null}
+	 * @param start
+	 *            index of the first character, inclusive
+	 * @param end
+	 *            index of the last character, exclusive
+	 * @return new state
+	 */
+	public static long update(long state, char[] chars, int start, int end) {
+		for (int i = start; i < end; i++) {
+			state = (state ^ chars[i]) * PRIME;
+		}
+		return state;
+	}
+
+	/**
+	 * Feed a value that is one of several fields. Fields are terminated, and {@code null} differs
+	 * from the empty {@link String}, so moving characters between fields changes the hash.
+	 *
+	 * @param state
+	 *            current state
+	 * @param field
+	 *            {@link CharSequence} field value, or {@code null}
+	 * @return new state
+	 */
+	public static long updateField(long state, CharSequence field) {
+		if (field == null) {
+			return update(state, '\u0001');
+		}
+		return update(update(state, field, 0, field.length()), '\u0000');
+	}
+
+	/**
+	 * @param state
+	 *            final state
+	 * @return hash with all bits mixed
+	 */
+	public static long finish(long state) {
+		state ^= state >>> 33;
+		state *= 0xff51afd7ed558ccdL;
+		state ^= state >>> 33;
+		state *= 0xc4ceb9fe1a85ec53L;
+		state ^= state >>> 33;
+		return state;
+	}
+
+	/**
+	 * @param chars
+	 *            {@link CharSequence} to hash, not {@code null}
+	 * @return hash of all characters
+	 */
+	public static long hash(CharSequence chars) {
+		return finish(update(SEED, chars, 0, chars.length()));
+	}
+
+}
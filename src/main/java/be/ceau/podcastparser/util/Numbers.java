@@ -0,0 +1,229 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.util;
+
+/**
+ * <p>
+ * Utility methods for parsing decimal numbers directly from characters, without creating
+ * intermediate {@link String} objects and without throwing {@link NumberFormatException}.
+ * </p>
+ * <p>
+ * Leading and trailing characters up to and including space are ignored, as with
+ * {@link String#trim()}. An optional sign is accepted. Any other invalid input, or a value that
+ * does not fit in the target type, results in the given fallback value.
+ * </p>
+ */
+public class Numbers {
+
+	private Numbers() {
+		// static methods only
+	}
+
+	/**
+	 * @param chars
+	 *            {@code char[]} holding the number, not {@code null}
+	 * @param start
+	 *            index of the first character
+	 * @param length
+	 *            number of characters
+	 * @param fallback
+	 *            value to return if the characters do not hold a valid {@code int}
+	 * @return parsed {@code int} or {@code fallback}
+	 */
+	public static int parseInt(char[] chars, int start, int length, int fallback) {
+		long value = parseLong(chars, start, length, Long.MIN_VALUE);
+		if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+			return fallback;
+		}
+		return (int) value;
+	}
+
+	/**
+	 * @param chars
+	 *            {@link CharSequence} holding the number, or {@code null}
+	 * @param fallback
+	 *            value to return if the characters do not hold a valid {@code int}
+	 * @return parsed {@code int} or {@code fallback}
+	 */
+	public static int parseInt(CharSequence chars, int fallback) {
+		long value = parseLong(chars, Long.MIN_VALUE);
+		if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+			return fallback;
+		}
+		return (int) value;
+	}
+
+	/**
+	 * @param chars
+	 *            {@code char[]} holding the number, not {@code null}
+	 * @param start
+	 *            index of the first character
+	 * @param length
+	 *            number of characters
+	 * @param fallback
+	 *            value to return if the characters do not hold a valid {@code long}
+	 * @return parsed {@code long} or {@code fallback}
+	 */
+	public static long parseLong(char[] chars, int start, int length, long fallback) {
+		int end = start + length;
+		while (start < end && chars[start] <= ' ') {
+			start++;
+		}
+		while (end > start && chars[end - 1] <= ' ') {
+			end--;
+		}
+		if (start == end) {
+			return fallback;
+		}
+		boolean negative = false;
+		char first = chars[start];
+		if (first == '-' || first == '+') {
+			negative = first == '-';
+			if (++start == end) {
+				return fallback;
+			}
+		}
+		// accumulate negatively, as Long.parseLong does, so Long.MIN_VALUE is in range
+		long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+		long multmin = limit / 10;
+		long result = 0;
+		for (int i = start; i < end; i++) {
+			int digit = Character.digit(chars[i], 10);
+			if (digit < 0 || result < multmin) {
+				return fallback;
+			}
+			result *= 10;
+			if (result < limit + digit) {
+				return fallback;
+			}
+			result -= digit;
+		}
+		return negative ? result : -result;
+	}
+
+	/**
+	 * @param chars
+	 *            {@link CharSequence} holding the number, or {@code null}
+	 * @param fallback
+	 *            value to return if the characters do not hold a valid {@code long}
+	 * @return parsed {@code long} or {@code fallback}
+	 */
+	public static long parseLong(CharSequence chars, long fallback) {
+		if (chars == null) {
+			return fallback;
+		}
+		int start = 0;
+		int end = chars.length();
+		while (start < end && chars.charAt(start) <= ' ') {
+			start++;
+		}
+		while (end > start && chars.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		if (start == end) {
+			return fallback;
+		}
+		boolean negative = false;
+		char first = chars.charAt(start);
+		if (first == '-' || first == '+') {
+			negative = first == '-';
+			if (++start == end) {
+				return fallback;
+			}
+		}
+		long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+		long multmin = limit / 10;
+		long result = 0;
+		for (int i = start; i < end; i++) {
+			int digit = Character.digit(chars.charAt(i), 10);
+			if (digit < 0 || result < multmin) {
+				return fallback;
+			}
+			result *= 10;
+			if (result < limit + digit) {
+				return fallback;
+			}
+			result -= digit;
+		}
+		return negative ? result : -result;
+	}
+
+	/**
+	 * @param chars
+	 *            {@link CharSequence} holding the number, or {@code null}
+	 * @return parsed {@link Long}, or {@code null} if the characters do not hold a valid
+	 *         {@code long}
+	 */
+	public static Long parseLong(CharSequence chars) {
+		long value = parseLong(chars, Long.MIN_VALUE);
+		// the fallback is also a valid value, so a second fallback tells them apart
+		if (value == Long.MIN_VALUE && parseLong(chars, Long.MAX_VALUE) == Long.MAX_VALUE) {
+			return null;
+		}
+		return value;
+	}
+
+	/**
+	 * Check whether the given characters hold a decimal number that
+	 * {@link java.math.BigDecimal#BigDecimal(char[], int, int)} accepts: an optional sign, digits
+	 * with at most one decimal point and an optional exponent. Surrounding whitespace is not
+	 * accepted.
+	 *
+	 * @param chars
+	 *            {@code char[]} holding the number, not {@code null}
+	 * @param start
+	 *            index of the first character
+	 * @param length
+	 *            number of characters
+	 * @return {@code true} if valid
+	 */
+	public static boolean isDecimal(char[] chars, int start, int length) {
+		int end = start + length;
+		int i = start;
+		if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+			i++;
+		}
+		int digits = 0;
+		boolean point = false;
+		for (; i < end; i++) {
+			char c = chars[i];
+			if (c >= '0' && c <= '9') {
+				digits++;
+			} else if (c == '.' && !point) {
+				point = true;
+			} else {
+				break;
+			}
+		}
+		if (digits == 0) {
+			return false;
+		}
+		if (i < end && (chars[i] == 'e' || chars[i] == 'E')) {
+			i++;
+			if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+				i++;
+			}
+			int exponent = 0;
+			for (; i < end && chars[i] >= '0' && chars[i] <= '9'; i++) {
+				exponent++;
+			}
+			if (exponent == 0 || exponent > 9) {
+				return false;
+			}
+		}
+		return i == end;
+	}
+
+}
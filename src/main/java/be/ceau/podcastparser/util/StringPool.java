@@ -0,0 +1,148 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.util;
+
+/**
+ * <p>
+ * Bounded pool for deduplicating short, frequently repeated {@link String} values, such as MIME
+ * types, category names or {@code explicit} flags.
+ * </p>
+ * <p>
+ * The pool is a direct-mapped table: every value maps to a single slot, and a new value replaces
+ * whatever was in its slot. Memory use is therefore fixed, and values that are not repeated are
+ * evicted soon enough. Values longer than the configured maximum length are never pooled.
+ * </p>
+ * <p>
+ * Instances are threadsafe without locking. Concurrent updates of a slot can lose a value, which
+ * only means a later lookup misses and creates a new {@link String}.
+ * </p>
+ */
+public class StringPool {
+
+	/**
+	 * Default number of slots
+	 */
+	public static final int DEFAULT_SIZE = 1024;
+
+	/**
+	 * Default maximum length of pooled values
+	 */
+	public static final int DEFAULT_MAX_LENGTH = 64;
+
+	private final String[] table;
+	private final int mask;
+	private final int maxLength;
+
+	/**
+	 * Constructor for a pool of {@value #DEFAULT_SIZE} slots, pooling values up to
+	 * {@value #DEFAULT_MAX_LENGTH} characters.
+	 */
+	public StringPool() {
+		this(DEFAULT_SIZE, DEFAULT_MAX_LENGTH);
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param size
+	 *            number of slots, rounded up to a power of two
+	 * @param maxLength
+	 *            maximum length of pooled values
+	 * @throws IllegalArgumentException
+	 *             if {@code size} is not positive or larger than 2^30, or if {@code maxLength} is
+	 *             negative
+	 */
+	public StringPool(int size, int maxLength) {
+		if (size <= 0 || size > 1 << 30) {
+			throw new IllegalArgumentException("size must be between 1 and 2^30");
+		}
+		if (maxLength < 0) {
+			throw new IllegalArgumentException("maxLength must not be negative");
+		}
+		int capacity = Integer.highestOneBit(size);
+		if (capacity < size) {
+			capacity <<= 1;
+		}
+		this.table = new String[capacity];
+		this.mask = capacity - 1;
+		this.maxLength = maxLength;
+	}
+
+	/**
+	 * @param value
+	 *            {@link String} to deduplicate, or {@code null}
+	 * @return an equal pooled {@link String}, or {@code value} itself
+	 */
+	public String intern(String value) {
+		if (value == null || value.length() > maxLength) {
+			return value;
+		}
+		int index = index(value.hashCode());
+		String pooled = table[index];
+		if (value.equals(pooled)) {
+			return pooled;
+		}
+		table[index] = value;
+		return value;
+	}
+
+	/**
+	 * Find or create a {@link String} for the given characters. If an equal value is pooled, no
+	 * {@link String} is created.
+	 * 
+	 * @param chars
+	 *            {@code char[]} holding the value, not {@code null}
+	 * @param start
+	 *            index of the first character
+	 * @param length
+	 *            number of characters
+	 * @return a {@link String} with the given characters, not {@code null}
+	 */
+	public String intern(char[] chars, int start, int length) {
+		if (length > maxLength) {
+			return new String(chars, start, length);
+		}
+		// same hash as String.hashCode()
+		int hash = 0;
+		for (int i = start, end = start + length; i < end; i++) {
+			hash = 31 * hash + chars[i];
+		}
+		int index = index(hash);
+		String pooled = table[index];
+		if (pooled != null && matches(pooled, chars, start, length)) {
+			return pooled;
+		}
+		String value = new String(chars, start, length);
+		table[index] = value;
+		return value;
+	}
+
+	private int index(int hash) {
+		return (hash ^ (hash >>> 16)) & mask;
+	}
+
+	private static boolean matches(String pooled, char[] chars, int start, int length) {
+		if (pooled.length() != length) {
+			return false;
+		}
+		for (int i = 0; i < length; i++) {
+			if (pooled.charAt(i) != chars[start + i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
@@ -14,6 +14,7 @@
 */
 package be.ceau.podcastparser;
 
+import java.lang.management.ManagementFactory;
 import java.util.UUID;
 
 import org.slf4j.Logger;
@@ -34,17 +35,46 @@ public class Bench {
 	private UUID uuid = UUID.randomUUID();
 	private long start = System.nanoTime();
 	private long stop;
+	private long startAllocated = allocatedBytes();
+	private long stopAllocated;
 
 	public Bench reset() {
+		this.startAllocated = allocatedBytes();
 		this.start = System.nanoTime();
 		return this;
 	}
 	
 	public Bench stop() {
 		this.stop = System.nanoTime();
+		this.stopAllocated = allocatedBytes();
 		return this;
 	}
 
+	/**
+	 * @return bytes allocated by the current thread between start and {@link #stop()}, or -1 if the
+	 *         JVM does not support measuring thread allocation
+	 */
+	public long getAllocatedBytes() {
+		if (startAllocated < 0 || stopAllocated < 0) {
+			return -1;
+		}
+		return stopAllocated - startAllocated;
+	}
+
+	/**
+	 * @return bytes allocated by the current thread so far, or -1 if not supported
+	 */
+	public static long allocatedBytes() {
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (bean instanceof com.sun.management.ThreadMXBean) {
+			com.sun.management.ThreadMXBean sun = (com.sun.management.ThreadMXBean) bean;
+			if (sun.isThreadAllocatedMemorySupported() && sun.isThreadAllocatedMemoryEnabled()) {
+				return sun.getThreadAllocatedBytes(Thread.currentThread().getId());
+			}
+		}
+		return -1;
+	}
+
 	public Bench log() {
 		logger.info(timingString(stop - start));
 		return this;
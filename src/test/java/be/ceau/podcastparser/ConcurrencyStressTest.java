@@ -0,0 +1,103 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import be.ceau.podcastparser.json.JsonFactory;
+import be.ceau.podcastparser.test.provider.ClasspathFileProvider;
+import be.ceau.podcastparser.test.wrappedxml.SyntheticXml;
+import be.ceau.podcastparser.test.wrappedxml.WrappedXml;
+import be.ceau.podcastparser.util.Attributes;
+import be.ceau.podcastparser.util.StringPool;
+
+/**
+ * Parse the same inputs with one shared {@link PodcastParser} on many threads at once, and compare
+ * every result to a single-threaded parse with a parser of its own.
+ */
+public class ConcurrencyStressTest {
+
+	private static final int THREADS = 16;
+	private static final int ROUNDS = 5;
+
+	private final List<WrappedXml> inputs = Arrays.asList(
+			SyntheticXml.rss(200),
+			SyntheticXml.nestedMedia(50, 3, 3),
+			SyntheticXml.nestedMedia(20, 1, 8),
+			ClasspathFileProvider.read("/uyd.xml"));
+
+	@Test
+	public void sharedParser() throws Exception {
+		stress(new PodcastParser());
+	}
+
+	@Test
+	public void sharedParserWithStringPool() throws Exception {
+		stress(new PodcastParser(Collections.emptySet(), Collections.emptySet(), new StringPool()));
+	}
+
+	private void stress(PodcastParser shared) throws Exception {
+		List<String> expected = new ArrayList<>();
+		for (WrappedXml input : inputs) {
+			expected.add(JsonFactory.write(new PodcastParser().parse(input.getXml())));
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			List<Callable<Integer>> tasks = new ArrayList<>();
+			for (int t = 0; t < THREADS; t++) {
+				int seed = t;
+				tasks.add(() -> {
+					Random random = new Random(seed);
+					start.await();
+					int parsed = 0;
+					for (int round = 0; round < ROUNDS; round++) {
+						// register attribute names while other threads parse
+						Attributes.get("stress-" + seed + "-" + round);
+						int i = random.nextInt(inputs.size());
+						String json = JsonFactory.write(shared.parse(inputs.get(i).getXml()));
+						Assert.assertEquals(inputs.get(i).getName(), expected.get(i), json);
+						parsed++;
+					}
+					return parsed;
+				});
+			}
+			List<Future<Integer>> futures = new ArrayList<>();
+			for (Callable<Integer> task : tasks) {
+				futures.add(executor.submit(task));
+			}
+			start.countDown();
+			for (Future<Integer> future : futures) {
+				Assert.assertEquals(ROUNDS, future.get().intValue());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+}
@@ -0,0 +1,111 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser;
+
+import java.io.StringReader;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import be.ceau.podcastparser.models.core.Feed;
+import be.ceau.podcastparser.models.core.Item;
+import be.ceau.podcastparser.models.support.Enclosure;
+import be.ceau.podcastparser.test.wrappedxml.SyntheticXml;
+import be.ceau.podcastparser.test.wrappedxml.WrappedXml;
+import be.ceau.podcastparser.util.Attributes;
+
+/**
+ * Measure heap allocation of attribute lookups on enclosure heavy feeds.
+ */
+public class EnclosureAllocationTest {
+
+	private static final int ITEMS = 5000;
+	private static final int ROUNDS = 5;
+	private static final int LOOKUPS = 1000000;
+
+	private static final Attributes URL = Attributes.get("url");
+	private static final Attributes TYPE = Attributes.get("type");
+
+	@Test
+	public void enclosureFeed() {
+		WrappedXml xml = SyntheticXml.rss(ITEMS);
+		PodcastParser parser = new PodcastParser();
+
+		Feed feed = parser.parse(xml.getXml());
+		Assert.assertEquals(ITEMS, feed.getItems().size());
+		for (Item item : feed.getItems()) {
+			Assert.assertNotNull(item.getEnclosure().getUrl());
+			Assert.assertEquals("audio/mpeg", item.getEnclosure().getType());
+		}
+
+		Bench bench = new Bench();
+		for (int i = 0; i < ROUNDS; i++) {
+			parser.parse(xml.getXml());
+		}
+		bench.stop().log("parsed " + ROUNDS + " x " + xml.getName() + ", "
+				+ bench.getAllocatedBytes() / (ROUNDS * ITEMS) + " bytes allocated per item");
+	}
+
+	@Test
+	public void lookups() throws XMLStreamException {
+		XMLStreamReader reader = XMLInputFactory.newInstance()
+				.createXMLStreamReader(new StringReader("<enclosure url=\"https://example.com/a.mp3\" type=\"audio/mpeg\" />"));
+		Assert.assertEquals(XMLStreamConstants.START_ELEMENT, reader.nextTag());
+		Enclosure enclosure = new Enclosure();
+
+		// warm up both variants before measuring
+		optional(reader, enclosure, LOOKUPS);
+		into(reader, enclosure, LOOKUPS);
+
+		Bench bench = new Bench();
+		optional(reader, enclosure, LOOKUPS);
+		long optionalBytes = bench.stop().getAllocatedBytes();
+		bench.log(LOOKUPS + " x from(reader).ifPresent, " + optionalBytes / LOOKUPS + " bytes per lookup");
+
+		bench.reset();
+		into(reader, enclosure, LOOKUPS);
+		long intoBytes = bench.stop().getAllocatedBytes();
+		bench.log(LOOKUPS + " x into(reader, target, setter), " + intoBytes / LOOKUPS + " bytes per lookup");
+
+		Assume.assumeTrue("allocation measurement not supported", intoBytes >= 0);
+		// values are not padded, so trim() does not allocate and only the lookup itself is measured;
+		// the Optional path is not bounded, as escape analysis may or may not remove its allocation
+		Assert.assertTrue(intoBytes + " bytes for " + LOOKUPS + " lookups", intoBytes < LOOKUPS);
+
+		Assert.assertEquals("https://example.com/a.mp3", enclosure.getUrl());
+		Assert.assertEquals("audio/mpeg", enclosure.getType());
+	}
+
+	private static void optional(XMLStreamReader reader, Enclosure enclosure, int count) {
+		for (int i = 0; i < count; i++) {
+			URL.from(reader).ifPresent(enclosure::setUrl);
+			TYPE.from(reader).ifPresent(enclosure::setType);
+		}
+	}
+
+	private static void into(XMLStreamReader reader, Enclosure enclosure, int count) {
+		for (int i = 0; i < count; i++) {
+			URL.into(reader, enclosure, Enclosure::setUrl);
+			TYPE.into(reader, enclosure, Enclosure::setType);
+		}
+	}
+
+}
@@ -0,0 +1,157 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import be.ceau.podcastparser.models.core.Feed;
+import be.ceau.podcastparser.models.core.Item;
+import be.ceau.podcastparser.models.support.Link;
+import be.ceau.podcastparser.models.support.MediaContent;
+import be.ceau.podcastparser.models.support.Medium;
+import be.ceau.podcastparser.test.wrappedxml.SyntheticXml;
+
+public class FrozenFeedTest {
+
+	private static final int ITEMS = 100;
+
+	@Test
+	public void freeze() {
+		Feed feed = new PodcastParser().parse(SyntheticXml.nestedMedia(ITEMS, 1, 2).getXml());
+		Assert.assertFalse(feed.isFrozen());
+		Assert.assertSame(feed, feed.freeze());
+		Assert.assertTrue(feed.isFrozen());
+		Assert.assertEquals(ITEMS, feed.getItems().size());
+		for (Item item : feed.getItems()) {
+			Assert.assertTrue(item.isFrozen());
+			Assert.assertEquals(2, item.getMediaContents().size());
+		}
+		// idempotent
+		feed.freeze();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void feedSetter() {
+		new Feed().freeze().setTitle("title");
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void itemAdd() {
+		new Item().freeze().addLink(new Link());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void items() {
+		Feed feed = new Feed();
+		feed.addItem(new Item());
+		feed.freeze().getItems().add(new Item());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void links() {
+		Item item = new Item();
+		item.addLink(new Link());
+		item.freeze().getLinks().clear();
+	}
+
+	@Test
+	public void linkChangedBeforeFreeze() {
+		Item item = new Item();
+		Link link = new Link();
+		link.setHref("https://example.com/a");
+		item.addLink(link);
+		link.setHref("https://example.com/b");
+		item.freeze();
+		Link equal = new Link();
+		equal.setHref("https://example.com/b");
+		Assert.assertTrue(item.getLinks().contains(equal));
+	}
+
+	@Test
+	public void rating() {
+		Item item = new Item().freeze();
+		Assert.assertFalse(item.hasRating());
+		Assert.assertSame(item.getRating(), new Item().freeze().getRating());
+		Assert.assertTrue(item.getRating().isFrozen());
+		Assert.assertNull(item.getRating().getExplicit());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void emptyRating() {
+		new Item().freeze().getRating().setExplicit("yes");
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void feedRating() {
+		new Feed().freeze().getRating().setExplicit("yes");
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void enclosure() {
+		Feed feed = new PodcastParser().parse(SyntheticXml.rss(ITEMS).getXml()).freeze();
+		feed.getItems().get(0).getEnclosure().setUrl("https://example.com/other.mp3");
+	}
+
+	@Test
+	public void supportObjects() {
+		Feed feed = new PodcastParser().parse(SyntheticXml.nestedMedia(ITEMS, 1, 2).getXml()).freeze();
+		Item item = feed.getItems().get(0);
+		Assert.assertTrue(item.getTitle().isFrozen());
+		for (Link link : item.getLinks()) {
+			Assert.assertTrue(link.isFrozen());
+		}
+		for (MediaContent content : item.getMediaContents()) {
+			Assert.assertTrue(content.isFrozen());
+		}
+		try {
+			item.getMediaContents().get(0).setMediumType(Medium.AUDIO);
+			Assert.fail("modified frozen media content");
+		} catch (IllegalStateException expected) {
+			// expected
+		}
+	}
+
+	@Test
+	public void shared() throws Exception {
+		Feed feed = new PodcastParser().parse(SyntheticXml.rss(ITEMS).getXml()).freeze();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Callable<Integer>> tasks = new ArrayList<>();
+			for (int i = 0; i < 16; i++) {
+				tasks.add(() -> {
+					int links = 0;
+					for (Item item : feed.getItems()) {
+						links += item.getLinks().size();
+					}
+					return links;
+				});
+			}
+			for (Future<Integer> future : executor.invokeAll(tasks)) {
+				Assert.assertEquals(ITEMS, future.get().intValue());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+}
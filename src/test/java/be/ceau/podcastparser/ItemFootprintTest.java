@@ -0,0 +1,114 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import be.ceau.podcastparser.models.core.Feed;
+import be.ceau.podcastparser.models.core.Item;
+import be.ceau.podcastparser.test.wrappedxml.SyntheticXml;
+import be.ceau.podcastparser.test.wrappedxml.WrappedXml;
+
+/**
+ * Measure the heap footprint of {@link Item} instances, both empty and as parsed from a feed. The
+ * retained heap of parsed feeds depends on the garbage collector, so those measurements only run
+ * with {@code -Dpodcastparser.footprint=true}.
+ */
+public class ItemFootprintTest {
+
+	private static final Logger logger = LoggerFactory.getLogger(ItemFootprintTest.class);
+
+	private static final int ITEMS = 5000;
+	private static final int COPIES = 8;
+
+	/**
+	 * Upper bound on the bytes allocated by {@code new Item()}, which creates no collections
+	 */
+	private static final long EMPTY_ITEM_BYTES = 256;
+
+	@Test
+	public void emptyItem() {
+		Item[] items = new Item[ITEMS];
+		// warm up
+		for (int i = 0; i < ITEMS; i++) {
+			items[i] = new Item();
+		}
+		Bench bench = new Bench();
+		for (int i = 0; i < ITEMS; i++) {
+			items[i] = new Item();
+		}
+		long allocated = bench.stop().getAllocatedBytes();
+		logger.info("new Item() allocates {} bytes", allocated / ITEMS);
+		Assert.assertTrue(items[ITEMS - 1].getLinks().isEmpty());
+		Assert.assertTrue(items[ITEMS - 1].getOtherValues().isEmpty());
+
+		Assume.assumeTrue("allocation measurement not supported", allocated >= 0);
+		Assert.assertTrue(allocated / ITEMS + " bytes per item", allocated < EMPTY_ITEM_BYTES * ITEMS);
+	}
+
+	@Test
+	public void parsedFeed() {
+		assumeFootprint();
+		WrappedXml xml = SyntheticXml.rss(ITEMS);
+		long retained = retained(xml);
+		logger.info("{} retains about {} bytes per item", xml.getName(), retained / ITEMS);
+	}
+
+	@Test
+	public void parsedMediaFeed() {
+		assumeFootprint();
+		WrappedXml xml = SyntheticXml.nestedMedia(ITEMS / 10, 2, 5);
+		long retained = retained(xml) - retained(SyntheticXml.rss(ITEMS / 10));
+		logger.info("{} retains about {} bytes per media:content", xml.getName(), retained / (ITEMS / 10 * 2 * 5));
+	}
+
+	private static void assumeFootprint() {
+		Assume.assumeTrue("retained heap measurement not enabled", Boolean.getBoolean("podcastparser.footprint"));
+	}
+
+	/**
+	 * @return average number of bytes retained by a {@link Feed} parsed from the given XML
+	 */
+	private static long retained(WrappedXml xml) {
+		PodcastParser parser = new PodcastParser();
+		parser.parse(xml.getXml());
+
+		// hold several copies to average out noise in the heap measurement
+		Feed[] feeds = new Feed[COPIES];
+		long before = usedMemory();
+		for (int i = 0; i < COPIES; i++) {
+			feeds[i] = parser.parse(xml.getXml());
+		}
+		long after = usedMemory();
+
+		for (Feed feed : feeds) {
+			Assert.assertFalse(feed.getItems().isEmpty());
+		}
+		return (after - before) / COPIES;
+	}
+
+	private static long usedMemory() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 5; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+}
@@ -0,0 +1,76 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import be.ceau.podcastparser.models.core.Feed;
+import be.ceau.podcastparser.models.core.Item;
+import be.ceau.podcastparser.models.core.RFC639;
+
+public class LanguageTest {
+
+	@Test
+	public void fromTag() {
+		Assert.assertEquals(RFC639.en, RFC639.fromTag("en"));
+		Assert.assertEquals(RFC639.en, RFC639.fromTag("en-US"));
+		Assert.assertEquals(RFC639.en, RFC639.fromTag("EN_us"));
+		Assert.assertEquals(RFC639.nl, RFC639.fromTag(" \tnl-BE\n"));
+		Assert.assertEquals(RFC639.zu, RFC639.fromTag("zu"));
+		Assert.assertEquals(RFC639.aa, RFC639.fromTag("aa"));
+
+		Assert.assertNull(RFC639.fromTag(null));
+		Assert.assertNull(RFC639.fromTag(""));
+		Assert.assertNull(RFC639.fromTag(" e"));
+		Assert.assertNull(RFC639.fromTag("xx"));
+		Assert.assertNull(RFC639.fromTag("e-"));
+		Assert.assertNull(RFC639.fromTag("1n"));
+		Assert.assertNull(RFC639.fromTag("@n"));
+		Assert.assertNull(RFC639.fromTag("Én"));
+	}
+
+	@Test
+	public void allCodes() {
+		for (RFC639 language : RFC639.values()) {
+			Assert.assertSame(language, RFC639.fromTag(language.name()));
+			Assert.assertSame(language, RFC639.fromTag(language.name().toUpperCase()));
+		}
+	}
+
+	@Test
+	public void feed() {
+		Feed feed = new Feed();
+		feed.setLanguage("de-AT");
+		Assert.assertEquals("de", feed.getLanguage());
+		Assert.assertEquals(RFC639.de, feed.getLanguageCode());
+		feed.setLanguage("unknown");
+		Assert.assertNull(feed.getLanguage());
+		Assert.assertNull(feed.getLanguageCode());
+		feed.setLanguageCode(RFC639.nl);
+		Assert.assertEquals("nl", feed.getLanguage());
+		feed.setLanguage(null);
+		Assert.assertNull(feed.getLanguageCode());
+	}
+
+	@Test
+	public void item() {
+		Item item = new Item();
+		item.setLanguage("fr-CA");
+		Assert.assertEquals("fr-CA", item.getLanguage());
+		Assert.assertEquals(RFC639.fr, item.getLanguageCode());
+	}
+
+}
@@ -0,0 +1,89 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import be.ceau.podcastparser.filter.ExcludeNamespaceFilter;
+import be.ceau.podcastparser.models.core.Feed;
+import be.ceau.podcastparser.models.core.Item;
+import be.ceau.podcastparser.models.support.Expression;
+import be.ceau.podcastparser.models.support.MediaContent;
+import be.ceau.podcastparser.models.support.Medium;
+import be.ceau.podcastparser.test.wrappedxml.SyntheticXml;
+import be.ceau.podcastparser.test.wrappedxml.WrappedXml;
+
+/**
+ * Parse and time deeply nested Media RSS groups, both processed and skipped.
+ */
+public class NestedMediaTest {
+
+	private static final int ITEMS = 500;
+	private static final int DEPTH = 8;
+	private static final int RENDITIONS = 4;
+	private static final int ROUNDS = 10;
+
+	@Test
+	public void nestedGroups() {
+		WrappedXml xml = SyntheticXml.nestedMedia(ITEMS, DEPTH, RENDITIONS);
+		PodcastParser parser = new PodcastParser();
+
+		Feed feed = parser.parse(xml.getXml());
+		Assert.assertEquals(ITEMS, feed.getItems().size());
+		for (Item item : feed.getItems()) {
+			Assert.assertEquals(DEPTH * RENDITIONS, item.getMediaContents().size());
+			Assert.assertNotNull(item.getEnclosure());
+		}
+		MediaContent content = feed.getItems().get(0).getMediaContents().get(1);
+		Assert.assertEquals(Medium.VIDEO, content.getMediumType());
+		Assert.assertEquals("video", content.getMedium());
+		Assert.assertEquals(Expression.FULL, content.getExpressionType());
+		Assert.assertEquals(5000001L, content.getFileSize(-1L));
+		Assert.assertEquals(Long.valueOf(256L), content.getBitrate());
+		Assert.assertEquals(480, content.getHeight(-1));
+		Assert.assertEquals(800, content.getWidth(-1));
+		Assert.assertNull(content.getFramerate());
+		Assert.assertEquals(-1, content.getChannels(-1));
+		Assert.assertNull(content.getIsDefault());
+		Assert.assertFalse(content.isDefault());
+
+		Bench bench = new Bench();
+		for (int i = 0; i < ROUNDS; i++) {
+			parser.parse(xml.getXml());
+		}
+		bench.stop().log("parsed " + ROUNDS + " x " + xml.getName());
+	}
+
+	@Test
+	public void skippedNestedGroups() {
+		WrappedXml xml = SyntheticXml.nestedMedia(ITEMS, DEPTH, RENDITIONS);
+		PodcastParser parser = new PodcastParser(new ExcludeNamespaceFilter("http://search.yahoo.com/mrss/"));
+
+		Feed feed = parser.parse(xml.getXml());
+		Assert.assertEquals(ITEMS, feed.getItems().size());
+		for (Item item : feed.getItems()) {
+			Assert.assertTrue(item.getMediaContents().isEmpty());
+			Assert.assertNotNull(item.getEnclosure());
+		}
+
+		Bench bench = new Bench();
+		for (int i = 0; i < ROUNDS; i++) {
+			parser.parse(xml.getXml());
+		}
+		bench.stop().log("parsed " + ROUNDS + " x " + xml.getName() + " skipping media namespace");
+	}
+
+}
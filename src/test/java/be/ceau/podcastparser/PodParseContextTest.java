@@ -14,6 +14,8 @@
 */
 package be.ceau.podcastparser;
 
+import java.io.StringReader;
+
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
@@ -59,4 +61,70 @@ public class PodParseContextTest {
 
 	}
 	
+	@Test
+	public void skipNestedSameName() throws XMLStreamException {
+		XMLStreamReader streamReader = reader("<rss><group><group><group/></group><a/></group><after/></rss>");
+		PodcastParserContext ctx = new PodcastParserContext("rss", streamReader);
+		next(streamReader, "group");
+		ctx.skip();
+		Assert.assertTrue(streamReader.isEndElement());
+		Assert.assertEquals("group", streamReader.getLocalName());
+		streamReader.next();
+		Assert.assertTrue(streamReader.isStartElement());
+		Assert.assertEquals("after", streamReader.getLocalName());
+	}
+
+	@Test
+	public void elementTextNestedSameName() throws XMLStreamException {
+		XMLStreamReader streamReader = reader("<rss><category>a<category>b</category>c</category><after/></rss>");
+		PodcastParserContext ctx = new PodcastParserContext("rss", streamReader);
+		next(streamReader, "category");
+		Assert.assertEquals("abc", ctx.getElementText());
+		streamReader.next();
+		Assert.assertEquals("after", streamReader.getLocalName());
+	}
+
+	@Test
+	public void elementTextChunks() throws XMLStreamException {
+		StringBuilder longText = new StringBuilder();
+		for (int i = 0; i < 1000; i++) {
+			longText.append(i % 10);
+		}
+		XMLStreamReader streamReader = reader("<rss><a>x &amp; <![CDATA[<y>]]> z</a><b></b><c>" + longText + "</c><d>short</d></rss>");
+		PodcastParserContext ctx = new PodcastParserContext("rss", streamReader);
+		next(streamReader, "a");
+		Assert.assertEquals("x & <y> z", ctx.getElementText());
+		next(streamReader, "b");
+		Assert.assertEquals("", ctx.getElementText());
+		next(streamReader, "c");
+		Assert.assertEquals(longText.toString(), ctx.getElementText());
+		next(streamReader, "d");
+		Assert.assertEquals("short", ctx.getElementText());
+	}
+
+	@Test
+	public void attributeAsLong() throws XMLStreamException {
+		XMLStreamReader streamReader = reader("<rss><a n=\"-9223372036854775808\" m=\"x\"/></rss>");
+		PodcastParserContext ctx = new PodcastParserContext("rss", streamReader);
+		next(streamReader, "a");
+		Assert.assertEquals(Long.valueOf(Long.MIN_VALUE), ctx.getAttributeAsLong("n"));
+		Assert.assertNull(ctx.getAttributeAsLong("m"));
+		Assert.assertNull(ctx.getAttributeAsLong("absent"));
+	}
+
+	private static XMLStreamReader reader(String xml) throws XMLStreamException {
+		XMLInputFactory factory = XMLInputFactory.newFactory();
+		factory.setXMLResolver(new QuietResolver());
+		return factory.createXMLStreamReader(new StringReader(xml));
+	}
+
+	private static void next(XMLStreamReader streamReader, String localName) throws XMLStreamException {
+		while (streamReader.hasNext()) {
+			if (streamReader.next() == XMLStreamConstants.START_ELEMENT && localName.equals(streamReader.getLocalName())) {
+				return;
+			}
+		}
+		Assert.fail(localName + " not found");
+	}
+
 }
@@ -14,6 +14,9 @@
 */
 package be.ceau.podcastparser;
 
+import java.time.Duration;
+
+import org.junit.Assert;
 import org.junit.Test;
 
 import be.ceau.podcastparser.exceptions.InvalidFeedFormatException;
@@ -25,5 +28,20 @@ public class PodcastParserTest {
 	public void emptyInput() {
 		new PodcastParser().parse("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
 	}
+
+	@Test
+	public void ttl() {
+		Assert.assertEquals(Duration.ofMinutes(60), ttl("60"));
+		Assert.assertEquals(Duration.ofMinutes(-5), ttl("-5"));
+		Assert.assertEquals(Duration.ofMinutes(Integer.MAX_VALUE), ttl("2147483647"));
+		// out of int range, as before, instead of overflowing Duration
+		Assert.assertNull(ttl("2147483648"));
+		Assert.assertNull(ttl("9223372036854775807"));
+		Assert.assertNull(ttl("soon"));
+	}
+
+	private static Duration ttl(String ttl) {
+		return new PodcastParser().parse("<rss><channel><title>T</title><ttl>" + ttl + "</ttl></channel></rss>").getTtl();
+	}
 	
 }
@@ -0,0 +1,128 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.batch;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import be.ceau.podcastparser.PodcastParser;
+import be.ceau.podcastparser.test.wrappedxml.SyntheticXml;
+
+public class BatchParserTest {
+
+	private static final Logger logger = LoggerFactory.getLogger(BatchParserTest.class);
+
+	private static final int FEEDS = 200;
+	private static final int MAX_IN_FLIGHT = 8;
+
+	private final String xml = SyntheticXml.rss(50).getXml();
+	private final AtomicInteger open = new AtomicInteger();
+	private final AtomicInteger maxOpen = new AtomicInteger();
+
+	@Test
+	public void ordered() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<ParseResult<Source>> results = new ArrayList<>();
+			BatchMetrics metrics = new BatchParser(new PodcastParser(), executor, MAX_IN_FLIGHT, true)
+					.parseAll(sources(), result -> {
+						open.decrementAndGet();
+						results.add(result);
+					});
+			logger.info("{}", metrics);
+
+			Assert.assertEquals(FEEDS, results.size());
+			for (int i = 0; i < FEEDS; i++) {
+				ParseResult<Source> result = results.get(i);
+				Assert.assertEquals(i, result.getIndex());
+				Assert.assertEquals(i, result.getSource().id);
+				Assert.assertEquals(i % 10 == 0, !result.isSuccess());
+			}
+			Assert.assertEquals(FEEDS, metrics.getFeeds());
+			Assert.assertEquals(FEEDS / 10, metrics.getFailures());
+			Assert.assertEquals((FEEDS - FEEDS / 10) * 50L, metrics.getItems());
+			Assert.assertTrue(metrics.getMaxInFlight() <= MAX_IN_FLIGHT);
+			Assert.assertTrue(maxOpen.get() <= MAX_IN_FLIGHT);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void unordered() throws Exception {
+		List<ParseResult<Source>> results = new ArrayList<>();
+		BatchMetrics metrics = new BatchParser(new PodcastParser(), ForkJoinPool.commonPool(), MAX_IN_FLIGHT, false)
+				.parseAll(sources(), result -> {
+					open.decrementAndGet();
+					results.add(result);
+				});
+		logger.info("{}", metrics);
+
+		Assert.assertEquals(FEEDS, results.size());
+		Assert.assertEquals(FEEDS * (FEEDS - 1L) / 2, results.stream().mapToLong(ParseResult::getIndex).sum());
+		Assert.assertTrue(maxOpen.get() <= MAX_IN_FLIGHT);
+	}
+
+	@Test
+	public void rejected() throws Exception {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		executor.shutdown();
+		List<ParseResult<Source>> results = new ArrayList<>();
+		new BatchParser(new PodcastParser(), executor, 2, true).parseAll(sources(), results::add);
+		Assert.assertEquals(FEEDS, results.size());
+		Assert.assertFalse(results.get(1).isSuccess());
+	}
+
+	private Stream<Source> sources() {
+		return IntStream.range(0, FEEDS).mapToObj(Source::new);
+	}
+
+	/**
+	 * Every tenth source fails to open.
+	 */
+	private class Source implements FeedSource {
+
+		private final int id;
+
+		private Source(int id) {
+			this.id = id;
+		}
+
+		@Override
+		public Reader open() throws IOException {
+			maxOpen.accumulateAndGet(open.incrementAndGet(), Math::max);
+			if (id % 10 == 0) {
+				throw new IOException("source " + id);
+			}
+			return new StringReader(xml);
+		}
+
+	}
+
+}
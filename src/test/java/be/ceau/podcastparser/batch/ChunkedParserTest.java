@@ -0,0 +1,116 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.batch;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import be.ceau.podcastparser.Bench;
+import be.ceau.podcastparser.PodcastParser;
+import be.ceau.podcastparser.exceptions.InvalidFeedFormatException;
+import be.ceau.podcastparser.json.JsonFactory;
+import be.ceau.podcastparser.models.core.Feed;
+import be.ceau.podcastparser.test.provider.ClasspathFileProvider;
+import be.ceau.podcastparser.test.wrappedxml.SyntheticXml;
+import be.ceau.podcastparser.test.wrappedxml.WrappedXml;
+
+public class ChunkedParserTest {
+
+	private static final Logger logger = LoggerFactory.getLogger(ChunkedParserTest.class);
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	@After
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	@Test
+	public void synthetic() {
+		assertSameAsSerial(SyntheticXml.nestedMedia(500, 1, 2).getXml(), 64);
+	}
+
+	@Test
+	public void uyd() {
+		assertSameAsSerial(ClasspathFileProvider.read("/uyd.xml").getXml(), 3);
+	}
+
+	@Test
+	public void markupInTextAndEntities() {
+		StringBuilder sb = new StringBuilder()
+				.append("<?xml version=\"1.0\"?>\n")
+				.append("<!DOCTYPE rss [ <!ENTITY show \"The Show\"> ]>\n")
+				.append("<rss version=\"2.0\"><channel><title>&show;</title>\n")
+				.append("<!-- <item><title>commented</title></item> -->\n");
+		for (int i = 0; i < 20; i++) {
+			sb.append("<item><title>&show; ").append(i).append(" &amp; more</title>")
+					.append("<description><![CDATA[</item><item> is not a boundary]]></description>")
+					.append("<guid>").append(i).append("</guid></item>\n");
+		}
+		sb.append("<copyright>after the items</copyright></channel></rss>");
+		Feed feed = assertSameAsSerial(sb.toString(), 3);
+		Assert.assertEquals(20, feed.getItems().size());
+		Assert.assertEquals("The Show 7 & more", feed.getItems().get(7).getTitle().getText());
+		Assert.assertEquals("after the items", feed.getCopyright().getText());
+	}
+
+	@Test(expected = InvalidFeedFormatException.class)
+	public void invalidChunk() {
+		StringBuilder sb = new StringBuilder("<rss version=\"2.0\"><channel>");
+		for (int i = 0; i < 10; i++) {
+			sb.append(i == 7 ? "<item><title>a</b></title></item>" : "<item><title>a</title></item>");
+		}
+		sb.append("</channel></rss>");
+		new ChunkedParser(new PodcastParser(), executor, 2).parse(sb.toString());
+	}
+
+	/**
+	 * Time a large feed on 1 up to N cores.
+	 */
+	@Test
+	public void scaling() {
+		WrappedXml xml = SyntheticXml.rss(20000);
+		PodcastParser parser = new PodcastParser();
+		Bench bench = new Bench();
+		parser.parse(xml.getXml());
+		bench.stop().log("serial " + xml.getName());
+		int cores = Runtime.getRuntime().availableProcessors();
+		for (int threads = 1; threads <= cores; threads *= 2) {
+			ExecutorService pool = Executors.newFixedThreadPool(threads);
+			try {
+				bench.reset();
+				Feed feed = new ChunkedParser(parser, pool, 500).parse(xml.getXml());
+				bench.stop().log("chunked " + xml.getName() + " on " + threads + " of " + cores + " cores");
+				Assert.assertEquals(20000, feed.getItems().size());
+			} finally {
+				pool.shutdown();
+			}
+		}
+	}
+
+	private Feed assertSameAsSerial(String xml, int itemsPerChunk) {
+		Feed serial = new PodcastParser().parse(xml);
+		Feed chunked = new ChunkedParser(new PodcastParser(), executor, itemsPerChunk).parse(xml);
+		Assert.assertEquals(JsonFactory.write(serial), JsonFactory.write(chunked));
+		return chunked;
+	}
+
+}
@@ -0,0 +1,163 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.batch;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import be.ceau.podcastparser.PodcastParser;
+import be.ceau.podcastparser.test.wrappedxml.SyntheticXml;
+
+public class ParsePipelineTest {
+
+	private static final Logger logger = LoggerFactory.getLogger(ParsePipelineTest.class);
+
+	private static final int FEEDS = 300;
+	private static final int MAX_IN_FLIGHT = 16;
+	private static final long LATENCY_MILLIS = 2;
+
+	private final String xml = SyntheticXml.rss(100).getXml();
+	private final AtomicInteger open = new AtomicInteger();
+	private final AtomicInteger maxOpen = new AtomicInteger();
+
+	@Test
+	public void pipeline() throws Exception {
+		ExecutorService io = Executors.newCachedThreadPool();
+		LongAdder results = new LongAdder();
+		try {
+			ParsePipeline<FeedSource> pipeline = new ParsePipeline<>(new PodcastParser(), io, 2, 4, MAX_IN_FLIGHT, result -> {
+				open.decrementAndGet();
+				results.increment();
+			});
+			for (int i = 0; i < FEEDS; i++) {
+				pipeline.submit(i % 25 == 0 ? failing() : source());
+			}
+			pipeline.awaitTermination();
+			BatchMetrics metrics = pipeline.getMetrics();
+			logger.info("{}", metrics);
+
+			Assert.assertEquals(FEEDS, results.sum());
+			Assert.assertEquals(FEEDS, metrics.getFeeds());
+			Assert.assertEquals(FEEDS / 25, metrics.getFailures());
+			Assert.assertEquals((FEEDS - FEEDS / 25) * 100L, metrics.getItems());
+			Assert.assertTrue(maxOpen.get() <= MAX_IN_FLIGHT);
+		} finally {
+			io.shutdown();
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void closed() throws Exception {
+		ParsePipeline<FeedSource> pipeline = new ParsePipeline<>(new PodcastParser(), Runnable::run, 1, 1, 1, result -> {});
+		pipeline.close();
+		pipeline.submit(source());
+	}
+
+	@Test
+	public void closeInterrupted() throws Exception {
+		ExecutorService io = Executors.newCachedThreadPool();
+		CountDownLatch release = new CountDownLatch(1);
+		LongAdder results = new LongAdder();
+		try {
+			ParsePipeline<FeedSource> pipeline = new ParsePipeline<>(new PodcastParser(), io, 1, 1, 1, result -> results.increment());
+			pipeline.submit(() -> {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IOException(e);
+				}
+				return new StringReader(xml);
+			});
+			Thread.currentThread().interrupt();
+			pipeline.close();
+			Assert.assertTrue(Thread.interrupted());
+			Assert.assertEquals(0, results.sum());
+
+			release.countDown();
+			pipeline.awaitTermination();
+			Assert.assertEquals(1, results.sum());
+			Assert.assertEquals(0, pipeline.getMetrics().getFailures());
+		} finally {
+			io.shutdown();
+		}
+	}
+
+	/**
+	 * Sustained feeds per second for an increasing number of parse threads, with simulated read
+	 * latency on the I/O side.
+	 */
+	@Test
+	public void load() throws Exception {
+		int cores = Runtime.getRuntime().availableProcessors();
+		ExecutorService io = Executors.newCachedThreadPool();
+		try {
+			for (int threads = 1; threads <= cores; threads *= 2) {
+				ParsePipeline<FeedSource> pipeline = new ParsePipeline<>(new PodcastParser(), io, threads, 2 * threads, 8 * threads, result -> {});
+				for (int i = 0; i < FEEDS; i++) {
+					pipeline.submit(slow());
+				}
+				pipeline.awaitTermination();
+				BatchMetrics metrics = pipeline.getMetrics();
+				logger.info("{} of {} cores: {} feeds/s", threads, cores, String.format("%.1f", metrics.getFeedsPerSecond()));
+				Assert.assertEquals(0, metrics.getFailures());
+			}
+		} finally {
+			io.shutdown();
+		}
+	}
+
+	private FeedSource source() {
+		return () -> {
+			maxOpen.accumulateAndGet(open.incrementAndGet(), Math::max);
+			return new StringReader(xml);
+		};
+	}
+
+	private FeedSource failing() {
+		return () -> {
+			maxOpen.accumulateAndGet(open.incrementAndGet(), Math::max);
+			throw new IOException("unreachable");
+		};
+	}
+
+	private FeedSource slow() {
+		return new FeedSource() {
+			@Override
+			public Reader open() throws IOException {
+				try {
+					TimeUnit.MILLISECONDS.sleep(LATENCY_MILLIS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IOException(e);
+				}
+				return new StringReader(xml);
+			}
+		};
+	}
+
+}
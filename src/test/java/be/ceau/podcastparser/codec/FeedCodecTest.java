@@ -0,0 +1,264 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.codec;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import be.ceau.podcastparser.Bench;
+import be.ceau.podcastparser.PodcastParser;
+import be.ceau.podcastparser.exceptions.InvalidFeedFormatException;
+import be.ceau.podcastparser.json.JsonFactory;
+import be.ceau.podcastparser.models.core.Feed;
+import be.ceau.podcastparser.models.core.Item;
+import be.ceau.podcastparser.models.support.Category;
+import be.ceau.podcastparser.models.support.Chapter;
+import be.ceau.podcastparser.models.support.Comments;
+import be.ceau.podcastparser.models.support.Credit;
+import be.ceau.podcastparser.models.support.Enclosure;
+import be.ceau.podcastparser.models.support.Expression;
+import be.ceau.podcastparser.models.support.GeoBox;
+import be.ceau.podcastparser.models.support.GeoPoint;
+import be.ceau.podcastparser.models.support.Hash;
+import be.ceau.podcastparser.models.support.Image;
+import be.ceau.podcastparser.models.support.Link;
+import be.ceau.podcastparser.models.support.MediaContent;
+import be.ceau.podcastparser.models.support.Metamark;
+import be.ceau.podcastparser.models.support.OtherValueKey;
+import be.ceau.podcastparser.models.support.Person;
+import be.ceau.podcastparser.models.support.Transcript;
+import be.ceau.podcastparser.models.support.TypedString;
+import be.ceau.podcastparser.models.support.UpdateInfo;
+import be.ceau.podcastparser.test.provider.ClasspathFileProvider;
+import be.ceau.podcastparser.test.wrappedxml.SyntheticXml;
+import be.ceau.podcastparser.test.wrappedxml.WrappedXml;
+
+public class FeedCodecTest {
+
+	private static final Logger logger = LoggerFactory.getLogger(FeedCodecTest.class);
+
+	private static final int ROUNDS = 20;
+
+	private final FeedCodec codec = new FeedCodec();
+
+	@Test
+	public void synthetic() {
+		assertRoundTrip(new PodcastParser().parse(SyntheticXml.nestedMedia(200, 2, 3).getXml()));
+	}
+
+	@Test
+	public void uyd() {
+		assertRoundTrip(new PodcastParser().parse(ClasspathFileProvider.read("/uyd.xml").getXml()));
+	}
+
+	@Test
+	public void allFields() {
+		Feed feed = new Feed();
+		feed.setTitle("title");
+		feed.setLanguage("nl-be");
+		feed.setTtl(Duration.ofMinutes(90));
+		feed.setPubDate(ZonedDateTime.parse("2017-12-05T20:16:00+01:00[Europe/Brussels]"));
+		feed.addSkipHour(3);
+		feed.addSkipDay("Monday");
+		feed.getRating().setExplicit("yes");
+		feed.setBlock(true);
+		UpdateInfo updateInfo = new UpdateInfo();
+		updateInfo.setFrequency(2);
+		updateInfo.setPeriod("daily");
+		feed.setUpdateInfo(updateInfo);
+		feed.addOtherValue(OtherValueKey.values()[0], "other");
+
+		Item item = new Item();
+		item.setTitle(typed("text", "item"));
+		item.setHd(true);
+		Link link = new Link();
+		link.setHref("https://example.com");
+		link.setRel("alternate");
+		item.addLink(link);
+		Category category = new Category();
+		category.setName("Technology");
+		category.setSubcategory("Software");
+		item.addCategory(category);
+		Enclosure enclosure = new Enclosure();
+		enclosure.setUrl("https://example.com/a.mp3");
+		enclosure.setLength(-1L);
+		item.setEnclosure(enclosure);
+		item.addOtherEnclosure("alt", enclosure);
+		MediaContent content = new MediaContent();
+		content.setUrl("https://example.com/v.mp4");
+		content.setFileSize(123456789012L);
+		content.setIsDefault(true);
+		content.setExpressionType(Expression.SAMPLE);
+		content.setChannels(2);
+		content.setDuration(Duration.ofSeconds(61));
+		item.addMediaContent(content);
+		MediaContent bare = new MediaContent();
+		bare.setExpressionType(null);
+		item.addMediaContent(bare);
+		Image image = new Image();
+		image.setUrl("https://example.com/i.png");
+		image.setWidth(144);
+		image.setTime(-5L);
+		item.addImage(image);
+		Chapter chapter = new Chapter();
+		chapter.setStart(1500L);
+		chapter.setHref(link);
+		chapter.setImage(image);
+		item.addChapter(chapter);
+		Comments comments = new Comments();
+		comments.setNumber(7);
+		comments.setLink(link);
+		item.setComments(comments);
+		Hash hash = new Hash();
+		hash.setAlgo("md5");
+		hash.setHash("abc");
+		item.addHash(hash);
+		Credit credit = new Credit();
+		credit.setRole("host");
+		item.addCredit(credit);
+		Person person = new Person();
+		person.setName("Jäne Dœ");
+		item.addAuthor(person);
+		GeoPoint lower = new GeoPoint();
+		lower.setLatitude(new BigDecimal("-50.8503"));
+		lower.setLongitude(new BigDecimal("4.3517E+2"));
+		GeoBox box = new GeoBox();
+		box.setLowerCorner(lower);
+		item.setGeoBox(box);
+		item.setGeoPoint(lower);
+		Metamark metamark = new Metamark();
+		metamark.setPosition(-3);
+		item.addMetamark(metamark);
+		Transcript transcript = new Transcript();
+		transcript.setStart(10L);
+		item.addTranscript(transcript);
+		item.setOrder(Integer.MIN_VALUE);
+		item.addKeyword("keyword");
+		item.getRating().setAdultContent("true");
+		feed.addItem(item);
+		feed.addItem(new Item());
+
+		Feed decoded = assertRoundTrip(feed);
+		Item first = decoded.getItems().get(0);
+		Assert.assertEquals(Expression.SAMPLE, first.getMediaContents().get(0).getExpressionType());
+		Assert.assertNull(first.getMediaContents().get(1).getExpressionType());
+		Assert.assertTrue(first.getMediaContents().get(0).isDefault());
+		Assert.assertEquals(new BigDecimal("4.3517E+2"), first.getGeoPoint().getLongitude());
+		Assert.assertEquals(feed.getPubDate(), decoded.getPubDate());
+	}
+
+	@Test
+	public void item() {
+		Feed feed = new PodcastParser().parse(SyntheticXml.rss(10).getXml());
+		Item item = feed.getItems().get(7);
+		byte[] bytes = codec.encodeItem(item);
+		Assert.assertEquals(JsonFactory.write(item), JsonFactory.write(codec.decodeItem(ByteBuffer.wrap(bytes))));
+		Feed header = codec.decodeFeedHeader(ByteBuffer.wrap(codec.encodeFeedHeader(feed)));
+		Assert.assertEquals(feed.getTitle(), header.getTitle());
+		Assert.assertTrue(header.getItems().isEmpty());
+	}
+
+	@Test
+	public void corrupt() {
+		byte[] bytes = codec.encode(new PodcastParser().parse(SyntheticXml.rss(10).getXml()));
+		assertInvalid(new byte[0]);
+		assertInvalid("<rss></rss>".getBytes(StandardCharsets.UTF_8));
+		for (int length = 4; length < bytes.length; length += 7) {
+			byte[] truncated = new byte[length];
+			System.arraycopy(bytes, 0, truncated, 0, length);
+			assertInvalid(truncated);
+		}
+		bytes[4] = 99;
+		assertInvalid(bytes);
+	}
+
+	@Test
+	public void previousVersion() {
+		Feed feed = new PodcastParser().parse(SyntheticXml.rss(10).getXml());
+		byte[] bytes = codec.encode(feed);
+		Assert.assertEquals(FeedCodec.VERSION, bytes[4]);
+		bytes[4] = FeedCodec.MIN_VERSION;
+		Assert.assertEquals(JsonFactory.write(feed), JsonFactory.write(codec.decode(bytes)));
+		bytes[4] = FeedCodec.VERSION + 1;
+		assertInvalid(bytes);
+	}
+
+	@Test
+	public void compareWithJson() {
+		WrappedXml xml = SyntheticXml.nestedMedia(1000, 1, 2);
+		Feed feed = new PodcastParser().parse(xml.getXml());
+
+		byte[] binary = codec.encode(feed);
+		String json = JsonFactory.write(feed);
+
+		Bench bench = new Bench();
+		for (int i = 0; i < ROUNDS; i++) {
+			codec.encode(feed);
+		}
+		bench.stop().log("binary encoded " + ROUNDS + " x " + xml.getName());
+		bench.reset();
+		for (int i = 0; i < ROUNDS; i++) {
+			codec.decode(binary);
+		}
+		bench.stop().log("binary decoded " + ROUNDS + " x " + xml.getName());
+		bench.reset();
+		for (int i = 0; i < ROUNDS; i++) {
+			JsonFactory.write(feed);
+		}
+		bench.stop().log("json encoded " + ROUNDS + " x " + xml.getName());
+		bench.reset();
+		for (int i = 0; i < ROUNDS; i++) {
+			new PodcastParser().parse(xml.getXml());
+		}
+		bench.stop().log("reparsed " + ROUNDS + " x " + xml.getName());
+
+		int jsonBytes = json.getBytes(StandardCharsets.UTF_8).length;
+		logger.info("{} bytes binary, {} bytes json, {} chars xml", binary.length, jsonBytes, xml.getXml().length());
+		Assert.assertTrue(binary.length < jsonBytes / 2);
+	}
+
+	private Feed assertRoundTrip(Feed feed) {
+		byte[] bytes = codec.encode(feed);
+		Feed decoded = codec.decode(bytes);
+		Assert.assertEquals(JsonFactory.write(feed), JsonFactory.write(decoded));
+		Assert.assertArrayEquals(bytes, codec.encode(decoded));
+		return decoded;
+	}
+
+	private void assertInvalid(byte[] bytes) {
+		try {
+			codec.decode(bytes);
+			Assert.fail("decoded " + bytes.length + " invalid bytes");
+		} catch (InvalidFeedFormatException expected) {
+			// expected
+		}
+	}
+
+	private static TypedString typed(String type, String text) {
+		TypedString typedString = new TypedString();
+		typedString.setType(type);
+		typedString.setText(text);
+		return typedString;
+	}
+
+}
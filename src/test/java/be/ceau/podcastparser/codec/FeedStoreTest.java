@@ -0,0 +1,224 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.codec;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import be.ceau.podcastparser.Bench;
+import be.ceau.podcastparser.PodcastParser;
+import be.ceau.podcastparser.exceptions.InvalidFeedFormatException;
+import be.ceau.podcastparser.json.JsonFactory;
+import be.ceau.podcastparser.models.core.Feed;
+import be.ceau.podcastparser.models.core.Item;
+import be.ceau.podcastparser.test.provider.ClasspathFileProvider;
+import be.ceau.podcastparser.test.wrappedxml.SyntheticXml;
+import be.ceau.podcastparser.test.wrappedxml.WrappedXml;
+
+public class FeedStoreTest {
+
+	private static final int ITEMS = 5000;
+	private static final int LOOKUPS = 1000;
+	private static final int APPENDS = 2000;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void randomAccess() throws IOException {
+		Path data = folder.getRoot().toPath().resolve("feeds.dat");
+		Path index = folder.getRoot().toPath().resolve("feeds.idx");
+		Feed uyd = new PodcastParser().parse(ClasspathFileProvider.read("/uyd.xml").getXml());
+		Feed synthetic = new PodcastParser().parse(SyntheticXml.nestedMedia(50, 1, 2).getXml());
+
+		try (FeedStoreWriter writer = new FeedStoreWriter(data, index)) {
+			Assert.assertEquals(0, writer.append(uyd));
+			Assert.assertEquals(1, writer.append(new Feed()));
+		}
+		try (FeedStoreWriter writer = new FeedStoreWriter(data, index)) {
+			Assert.assertEquals(2, writer.size());
+			Assert.assertEquals(2, writer.append(synthetic));
+			writer.sync();
+		}
+
+		try (FeedStore store = new FeedStore(data, index)) {
+			Assert.assertEquals(3, store.size());
+			Assert.assertEquals(JsonFactory.write(uyd), JsonFactory.write(store.getFeed(0)));
+			Assert.assertEquals(0, store.getItemCount(1));
+			Assert.assertEquals(JsonFactory.write(synthetic), JsonFactory.write(store.getFeed(2)));
+
+			Assert.assertEquals(uyd.getTitle(), store.getFeedHeader(0).getTitle());
+			Assert.assertTrue(store.getFeedHeader(0).getItems().isEmpty());
+			Item item = store.getItem(2, 17);
+			Assert.assertEquals(JsonFactory.write(synthetic.getItems().get(17)), JsonFactory.write(item));
+		}
+	}
+
+	@Test
+	public void previousVersion() throws IOException {
+		Path data = folder.getRoot().toPath().resolve("feeds.dat");
+		Path index = folder.getRoot().toPath().resolve("feeds.idx");
+		Feed feed = new PodcastParser().parse(SyntheticXml.rss(20).getXml());
+		try (FeedStoreWriter writer = new FeedStoreWriter(data, index)) {
+			writer.append(feed);
+		}
+		setVersion(data, FeedStore.MIN_VERSION);
+		setVersion(index, FeedStore.MIN_VERSION);
+		try (FeedStore store = new FeedStore(data, index)) {
+			Assert.assertEquals(JsonFactory.write(feed), JsonFactory.write(store.getFeed(0)));
+		}
+
+		try (FeedStoreWriter writer = new FeedStoreWriter(data, index)) {
+			writer.append(feed);
+		}
+		Assert.assertEquals(FeedStore.VERSION, ByteBuffer.wrap(Files.readAllBytes(data)).getInt(4));
+		Assert.assertEquals(FeedStore.VERSION, ByteBuffer.wrap(Files.readAllBytes(index)).getInt(4));
+		try (FeedStore store = new FeedStore(data, index)) {
+			Assert.assertEquals(2, store.size());
+			Assert.assertEquals(JsonFactory.write(feed), JsonFactory.write(store.getFeed(1)));
+		}
+
+		setVersion(data, FeedStore.VERSION + 1);
+		try {
+			new FeedStore(data, index).close();
+			Assert.fail("opened unsupported version");
+		} catch (InvalidFeedFormatException expected) {
+			// expected
+		}
+	}
+
+	private static void setVersion(Path path, int version) throws IOException {
+		byte[] bytes = Files.readAllBytes(path);
+		ByteBuffer.wrap(bytes).putInt(4, version);
+		Files.write(path, bytes);
+	}
+
+	@Test
+	public void full() throws IOException {
+		Path data = folder.getRoot().toPath().resolve("feeds.dat");
+		Path index = folder.getRoot().toPath().resolve("feeds.idx");
+		Feed feed = new PodcastParser().parse(SyntheticXml.rss(20).getXml());
+		try (FeedStoreWriter writer = new FeedStoreWriter(data, index)) {
+			writer.append(feed);
+		}
+		long limit = Files.size(data) * 3 / 2;
+		Files.delete(data);
+		Files.delete(index);
+
+		try (FeedStoreWriter writer = new FeedStoreWriter(data, index, limit)) {
+			Assert.assertEquals(0, writer.append(feed));
+			long size = Files.size(data);
+			try {
+				writer.append(feed);
+				Assert.fail("appended beyond " + limit + " bytes");
+			} catch (IOException expected) {
+				// expected
+			}
+			Assert.assertEquals(size, Files.size(data));
+			Assert.assertEquals(1, writer.append(new Feed()));
+		}
+		try (FeedStore store = new FeedStore(data, index)) {
+			Assert.assertEquals(2, store.size());
+			Assert.assertEquals(JsonFactory.write(feed), JsonFactory.write(store.getFeed(0)));
+		}
+	}
+
+	@Test
+	public void openWhileAppending() throws Exception {
+		Path data = folder.getRoot().toPath().resolve("feeds.dat");
+		Path index = folder.getRoot().toPath().resolve("feeds.idx");
+		Feed feed = new PodcastParser().parse(SyntheticXml.rss(20).getXml());
+		try (FeedStoreWriter writer = new FeedStoreWriter(data, index)) {
+			writer.append(feed);
+			Thread appender = new Thread(() -> {
+				try {
+					for (int i = 0; i < APPENDS; i++) {
+						writer.append(feed);
+					}
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+			appender.start();
+			int opened = 0;
+			while (appender.isAlive() || opened == 0) {
+				try (FeedStore store = new FeedStore(data, index)) {
+					int last = store.size() - 1;
+					Assert.assertEquals(feed.getTitle(), store.getFeedHeader(last).getTitle());
+					Assert.assertEquals(20, store.getItemCount(last));
+				}
+				opened++;
+			}
+			appender.join();
+		}
+		try (FeedStore store = new FeedStore(data, index)) {
+			Assert.assertEquals(APPENDS + 1, store.size());
+		}
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void missingItem() throws IOException {
+		Path data = folder.getRoot().toPath().resolve("feeds.dat");
+		Path index = folder.getRoot().toPath().resolve("feeds.idx");
+		try (FeedStoreWriter writer = new FeedStoreWriter(data, index)) {
+			writer.append(new PodcastParser().parse(SyntheticXml.rss(3).getXml()));
+		}
+		try (FeedStore store = new FeedStore(data, index)) {
+			store.getItem(0, 3);
+		}
+	}
+
+	@Test(expected = InvalidFeedFormatException.class)
+	public void notAStore() throws IOException {
+		Path data = folder.newFile("feeds.dat").toPath();
+		Files.write(data, "<rss></rss>".getBytes(StandardCharsets.UTF_8));
+		new FeedStoreWriter(data, folder.getRoot().toPath().resolve("feeds.idx")).close();
+	}
+
+	@Test
+	public void compareWithReparse() throws IOException {
+		WrappedXml xml = SyntheticXml.rss(ITEMS);
+		Path data = folder.getRoot().toPath().resolve("feeds.dat");
+		Path index = folder.getRoot().toPath().resolve("feeds.idx");
+		try (FeedStoreWriter writer = new FeedStoreWriter(data, index)) {
+			writer.append(new PodcastParser().parse(xml.getXml()));
+		}
+
+		Bench bench = new Bench();
+		Item reparsed = new PodcastParser().parse(xml.getXml()).getItems().get(ITEMS - 1);
+		bench.stop().log("reparsed " + xml.getName() + " for its last item");
+
+		try (FeedStore store = new FeedStore(data, index)) {
+			bench.reset();
+			Item stored = null;
+			for (int i = 0; i < LOOKUPS; i++) {
+				stored = store.getItem(0, (i * 7919) % ITEMS);
+			}
+			bench.stop().log(LOOKUPS + " random item lookups in " + xml.getName());
+			Assert.assertNotNull(stored);
+			Assert.assertEquals(JsonFactory.write(reparsed), JsonFactory.write(store.getItem(0, ITEMS - 1)));
+		}
+	}
+
+}
@@ -0,0 +1,99 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.dedup;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import be.ceau.podcastparser.Bench;
+import be.ceau.podcastparser.PodcastParser;
+import be.ceau.podcastparser.codec.FeedCodec;
+import be.ceau.podcastparser.models.core.Feed;
+import be.ceau.podcastparser.models.core.Item;
+import be.ceau.podcastparser.test.wrappedxml.SyntheticXml;
+
+public class ItemFingerprinterTest {
+
+	private static final String ORIGINAL = "<rss><channel><title>Original</title>"
+			+ "<item><title>Episode 1</title><guid>urn:1</guid><enclosure url=\"https://Example.com/a/1.mp3\" length=\"1\" type=\"audio/mpeg\"/></item>"
+			+ "<item><title>Episode 2</title><guid>urn:2</guid><enclosure url=\"https://example.com/a/2.mp3\" length=\"1\" type=\"audio/mpeg\"/></item>"
+			+ "</channel></rss>";
+
+	private static final String FEEDBURNER = "<rss xmlns:feedburner=\"http://rssnamespace.org/feedburner/ext/1.0\"><channel><title>Mirror</title>"
+			+ "<item><title> episode  1 </title><guid> urn:1 </guid><enclosure url=\"http://feeds.example.net/~r/x/1.mp3\" length=\"1\" type=\"audio/mpeg\"/>"
+			+ "<feedburner:origEnclosureLink>http://example.com/a/1.mp3#t=0</feedburner:origEnclosureLink></item>"
+			+ "<item><title>Episode 3</title><guid>urn:3</guid><enclosure url=\"https://example.com/a/3.mp3\" length=\"1\" type=\"audio/mpeg\"/></item>"
+			+ "</channel></rss>";
+
+	@Test
+	public void mirrors() {
+		PodcastParser parser = new PodcastParser(Collections.emptySet(), Collections.emptySet(), null, ItemFingerprinter.DEFAULT);
+		List<Item> original = parser.parse(ORIGINAL).getItems();
+		List<Item> mirror = parser.parse(FEEDBURNER).getItems();
+		Assert.assertNotEquals(0L, original.get(0).getFingerprint());
+		Assert.assertEquals(original.get(0).getFingerprint(), mirror.get(0).getFingerprint());
+		Assert.assertNotEquals(original.get(1).getFingerprint(), mirror.get(1).getFingerprint());
+		Assert.assertEquals(ItemFingerprinter.DEFAULT.fingerprint(original.get(0)), original.get(0).getFingerprint());
+
+		// not computed without fingerprinter
+		Assert.assertEquals(0L, new PodcastParser().parse(ORIGINAL).getItems().get(0).getFingerprint());
+	}
+
+	@Test
+	public void fields() {
+		Item a = new Item();
+		a.setGuid("urn:1");
+		a.setDuration("00:10:00");
+		Item b = new Item();
+		b.setGuid("urn:1");
+		b.setDuration("00:11:00");
+		ItemFingerprinter guid = new ItemFingerprinter(EnumSet.of(FingerprintField.GUID));
+		ItemFingerprinter duration = new ItemFingerprinter(EnumSet.of(FingerprintField.GUID, FingerprintField.DURATION));
+		Assert.assertEquals(guid.fingerprint(a), guid.fingerprint(b));
+		Assert.assertNotEquals(duration.fingerprint(a), duration.fingerprint(b));
+		Assert.assertEquals(EnumSet.of(FingerprintField.GUID, FingerprintField.DURATION), duration.getFields());
+	}
+
+	@Test
+	public void codec() {
+		PodcastParser parser = new PodcastParser(Collections.emptySet(), Collections.emptySet(), null, ItemFingerprinter.DEFAULT);
+		Feed feed = parser.parse(ORIGINAL);
+		FeedCodec codec = new FeedCodec();
+		Feed decoded = codec.decode(codec.encode(feed));
+		Assert.assertEquals(feed.getItems().get(1).getFingerprint(), decoded.getItems().get(1).getFingerprint());
+	}
+
+	@Test
+	public void dedup() {
+		PodcastParser parser = new PodcastParser(Collections.emptySet(), Collections.emptySet(), null, ItemFingerprinter.DEFAULT);
+		String xml = SyntheticXml.rss(2000).getXml();
+		Bench bench = new Bench();
+		Set<Long> seen = new HashSet<>();
+		for (Item item : parser.parse(xml).getItems()) {
+			Assert.assertTrue(seen.add(item.getFingerprint()));
+		}
+		for (Item item : parser.parse(xml.replace("https://example.com/audio/", "http://EXAMPLE.com/audio/")).getItems()) {
+			Assert.assertFalse(seen.add(item.getFingerprint()));
+		}
+		bench.stop().log("fingerprinted and deduplicated 2 x 2000 items");
+	}
+
+}
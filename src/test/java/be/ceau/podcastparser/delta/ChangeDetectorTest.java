@@ -0,0 +1,96 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.delta;
+
+import java.io.StringReader;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import be.ceau.podcastparser.Bench;
+import be.ceau.podcastparser.PodcastParser;
+import be.ceau.podcastparser.test.wrappedxml.SyntheticXml;
+
+public class ChangeDetectorTest {
+
+	private static final int ITEMS = 2000;
+	private static final int ROUNDS = 10;
+
+	private static final String XML = "<rss><channel><title>T</title>\n"
+			+ "<lastBuildDate>Tue, 05 Dec 2017 20:16:00 +0000</lastBuildDate>\n"
+			+ "<item><title>A</title></item></channel></rss>";
+
+	@Test
+	public void normalized() {
+		long hash = ContentHasher.DEFAULT.hash(XML);
+		Assert.assertEquals(hash, ContentHasher.DEFAULT.hash("\uFEFF  " + XML.replace("\n", "\r\n\t\t") + "\n"));
+		Assert.assertNotEquals(hash, ContentHasher.DEFAULT.hash(XML.replace("<title>A<", "<title>B<")));
+		Assert.assertNotEquals(hash, ContentHasher.DEFAULT.hash(XML.replace("20:16:00", "20:17:00")));
+	}
+
+	@Test
+	public void ignoreVolatile() {
+		ContentHasher hasher = ContentHasher.IGNORE_VOLATILE;
+		long hash = hasher.hash(XML);
+		Assert.assertEquals(hash, hasher.hash(XML.replace("20:16:00", "20:17:00")));
+		Assert.assertEquals(hash, hasher.hash(XML.replace("<lastBuildDate>", "<lastBuildDate x=\"1\">")));
+		Assert.assertNotEquals(hash, hasher.hash(XML.replace("<title>A<", "<title>B<")));
+		// empty elements do not start skipping
+		String empty = XML.replace("<lastBuildDate>Tue, 05 Dec 2017 20:16:00 +0000</lastBuildDate>", "<lastBuildDate a=\"b\"/>");
+		Assert.assertNotEquals(hasher.hash(empty), hasher.hash(empty.replace("<title>A<", "<title>B<")));
+		// prefixed and similar names
+		Assert.assertEquals(hasher.hash("<a><x:lastBuildDate>1</x:lastBuildDate></a>"), hasher.hash("<a><x:lastBuildDate>2</x:lastBuildDate></a>"));
+		Assert.assertNotEquals(hasher.hash("<a><lastBuildDates>1</lastBuildDates></a>"), hasher.hash("<a><lastBuildDates>2</lastBuildDates></a>"));
+	}
+
+	@Test
+	public void detect() {
+		PodcastParser parser = new PodcastParser();
+		String xml = SyntheticXml.rss(10).getXml();
+		ContentCheck first = parser.parseIfChanged(new StringReader(xml), 0L, ContentHasher.IGNORE_VOLATILE);
+		Assert.assertTrue(first.isChanged());
+		Assert.assertEquals(10, first.getFeed().getItems().size());
+		Assert.assertEquals(ContentHasher.IGNORE_VOLATILE.hash(xml), first.getHash());
+
+		ContentCheck second = parser.parseIfChanged(new StringReader(xml), first.getHash(), ContentHasher.IGNORE_VOLATILE);
+		Assert.assertFalse(second.isChanged());
+		Assert.assertNull(second.getFeed());
+		Assert.assertEquals(first.getHash(), second.getHash());
+
+		ContentCheck third = new ChangeDetector(parser, ContentHasher.IGNORE_VOLATILE).parse(xml.replace("Episode 3<", "Episode three<"), first.getHash());
+		Assert.assertTrue(third.isChanged());
+		Assert.assertEquals("Episode three", third.getFeed().getItems().get(3).getTitle().getText());
+	}
+
+	@Test
+	public void timing() {
+		PodcastParser parser = new PodcastParser();
+		String xml = SyntheticXml.rss(ITEMS).getXml();
+		long hash = ContentHasher.IGNORE_VOLATILE.hash(xml);
+
+		Bench bench = new Bench();
+		for (int i = 0; i < ROUNDS; i++) {
+			parser.parse(xml);
+		}
+		bench.stop().log("full parse " + ROUNDS + " x " + ITEMS + " items");
+
+		bench = new Bench();
+		for (int i = 0; i < ROUNDS; i++) {
+			Assert.assertFalse(parser.parseIfChanged(new StringReader(xml), hash, ContentHasher.IGNORE_VOLATILE).isChanged());
+		}
+		bench.stop().log("unchanged check " + ROUNDS + " x " + ITEMS + " items");
+	}
+
+}
@@ -0,0 +1,154 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.delta;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import be.ceau.podcastparser.Bench;
+import be.ceau.podcastparser.PodcastParser;
+import be.ceau.podcastparser.test.wrappedxml.SyntheticXml;
+
+public class FeedDifferTest {
+
+	private static final int ITEMS = 2000;
+	private static final int ROUNDS = 10;
+
+	private final PodcastParser parser = new PodcastParser();
+
+	@Test
+	public void firstFetch() {
+		String xml = SyntheticXml.rss(50).getXml();
+		FeedDelta delta = parser.parseDelta(xml, FeedFingerprint.EMPTY);
+		Assert.assertTrue(delta.isHeaderChanged());
+		Assert.assertEquals("Synthetic", delta.getHeader().getTitle());
+		Assert.assertTrue(delta.getHeader().getItems().isEmpty());
+		Assert.assertEquals(50, delta.getAdded().size());
+		Assert.assertEquals("Episode 49", delta.getAdded().get(49).getTitle().getText());
+		Assert.assertTrue(delta.getChanged().isEmpty());
+		Assert.assertTrue(delta.getRemoved().isEmpty());
+		Assert.assertEquals(50, delta.getFingerprint().size());
+		Assert.assertEquals("urn:synthetic:7", delta.getFingerprint().getKeys().get(7));
+	}
+
+	@Test
+	public void unchanged() {
+		String xml = SyntheticXml.rss(50).getXml();
+		FeedFingerprint fingerprint = parser.parseDelta(xml, FeedFingerprint.EMPTY).getFingerprint();
+		FeedDelta delta = parser.parseDelta(xml, fingerprint);
+		Assert.assertTrue(delta.isEmpty());
+		Assert.assertNull(delta.getHeader());
+		Assert.assertEquals(50, delta.getUnchanged());
+	}
+
+	@Test
+	public void changes() {
+		String xml = SyntheticXml.rss(50).getXml();
+		FeedFingerprint fingerprint = parser.parseDelta(xml, FeedFingerprint.EMPTY).getFingerprint();
+		String modified = xml
+				// new item on top
+				.replace("\t<item>\n\t\t<title>Episode 0<", "\t<item><title>Bonus</title><guid>urn:bonus</guid></item>\n\t<item>\n\t\t<title>Episode 0<")
+				// new title for a known guid
+				.replace("<title>Episode 3</title>", "<title>Episode Three</title>")
+				// markup changes only, not the identifying values
+				.replace("<p>Show notes for episode 4</p>", "<p>Better notes for episode 4</p>")
+				// removed item
+				.replace("urn:synthetic:49<", "urn:synthetic:fifty<");
+
+		FeedDelta delta = parser.parseDelta(modified, fingerprint);
+		Assert.assertNull(delta.getHeader());
+		Assert.assertEquals(Arrays.asList("Bonus", "Episode 49"), Arrays.asList(delta.getAdded().get(0).getTitle().getText(), delta.getAdded().get(1).getTitle().getText()));
+		Assert.assertEquals(1, delta.getChanged().size());
+		Assert.assertEquals("Episode Three", delta.getChanged().get(0).getTitle().getText());
+		Assert.assertEquals(Collections.singletonList("urn:synthetic:49"), delta.getRemoved());
+		Assert.assertEquals(48, delta.getUnchanged());
+
+		modified = modified.replace("<ttl>60</ttl>", "<ttl>30</ttl>");
+		delta = parser.parseDelta(modified, delta.getFingerprint());
+		Assert.assertEquals(Duration.ofMinutes(30), delta.getHeader().getTtl());
+		Assert.assertEquals(51, delta.getUnchanged());
+	}
+
+	@Test
+	public void atom() {
+		String xml = atom("https://example.com/1.mp3", "2024-01-01T10:00:00Z");
+		FeedFingerprint fingerprint = parser.parseDelta(xml, FeedFingerprint.EMPTY).getFingerprint();
+		Assert.assertEquals(Collections.singletonList("urn:entry:1"), fingerprint.getKeys());
+		Assert.assertTrue(parser.parseDelta(xml, fingerprint).isEmpty());
+
+		FeedDelta delta = parser.parseDelta(atom("https://example.com/1b.mp3", "2024-01-01T10:00:00Z"), fingerprint);
+		Assert.assertEquals(1, delta.getChanged().size());
+		Assert.assertEquals("https://example.com/1b.mp3", delta.getChanged().get(0).getEnclosure().getUrl());
+
+		delta = parser.parseDelta(atom("https://example.com/1.mp3", "2024-01-02T10:00:00Z"), fingerprint);
+		Assert.assertEquals(1, delta.getChanged().size());
+		Assert.assertEquals(0, delta.getUnchanged());
+	}
+
+	private static String atom(String enclosure, String updated) {
+		return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+				+ "<feed xmlns=\"http://www.w3.org/2005/Atom\">\n"
+				+ "\t<title>Atom</title>\n"
+				+ "\t<id>urn:feed</id>\n"
+				+ "\t<entry>\n"
+				+ "\t\t<id>urn:entry:1</id>\n"
+				+ "\t\t<title>Entry 1</title>\n"
+				+ "\t\t<updated>" + updated + "</updated>\n"
+				+ "\t\t<link rel=\"enclosure\" type=\"audio/mpeg\" href=\"" + enclosure + "\"/>\n"
+				+ "\t</entry>\n"
+				+ "</feed>\n";
+	}
+
+	@Test
+	public void persist() throws IOException {
+		String xml = SyntheticXml.rss(20).getXml();
+		FeedFingerprint fingerprint = parser.parseDelta(xml, FeedFingerprint.EMPTY).getFingerprint();
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		fingerprint.writeTo(new DataOutputStream(bytes));
+		FeedFingerprint read = FeedFingerprint.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+		Assert.assertEquals(fingerprint.getHeaderHash(), read.getHeaderHash());
+		Assert.assertEquals(fingerprint.getKeys(), read.getKeys());
+		Assert.assertTrue(parser.parseDelta(xml, read).isEmpty());
+	}
+
+	@Test
+	public void timing() {
+		String xml = SyntheticXml.rss(ITEMS).getXml();
+		FeedFingerprint fingerprint = parser.parseDelta(xml, FeedFingerprint.EMPTY).getFingerprint();
+		String refreshed = xml.replace("\t<item>\n\t\t<title>Episode 0<", "\t<item><title>New</title><guid>urn:new</guid></item>\n\t<item>\n\t\t<title>Episode 0<");
+
+		Bench bench = new Bench();
+		for (int i = 0; i < ROUNDS; i++) {
+			parser.parse(refreshed);
+		}
+		bench.stop().log("full parse " + ROUNDS + " x " + ITEMS + " items");
+
+		bench = new Bench();
+		for (int i = 0; i < ROUNDS; i++) {
+			Assert.assertEquals(1, parser.parseDelta(refreshed, fingerprint).getAdded().size());
+		}
+		bench.stop().log("delta parse " + ROUNDS + " x " + ITEMS + " items, 1 added");
+	}
+
+}
@@ -0,0 +1,281 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.flow;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import be.ceau.podcastparser.PodcastParser;
+import be.ceau.podcastparser.batch.FeedSource;
+import be.ceau.podcastparser.exceptions.PodcastParserException;
+import be.ceau.podcastparser.models.core.Item;
+import be.ceau.podcastparser.test.wrappedxml.SyntheticXml;
+
+/**
+ * Checks the rules of the Reactive Streams specification that apply to a cold, finite publisher,
+ * numbered as in the specification.
+ */
+public class ItemPublisherTest {
+
+	private static final int ITEMS = 2000;
+	private static final long TIMEOUT_MILLIS = 5000;
+	private static final long QUIET_MILLIS = 100;
+
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+	private final String xml = SyntheticXml.rss(ITEMS).getXml();
+	private final AtomicLong charsRead = new AtomicLong();
+	private final AtomicBoolean closed = new AtomicBoolean();
+
+	@After
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void rule_1_9_nullSubscriber() {
+		publisher(xml).subscribe(null);
+	}
+
+	@Test
+	public void rule_1_1_signalsNoMoreThanRequested() throws Exception {
+		Probe probe = subscribe(publisher(xml));
+		probe.subscription.request(3);
+		for (int i = 0; i < 3; i++) {
+			Assert.assertEquals("Episode " + i, probe.expectNext().getTitle().getText());
+		}
+		probe.expectNothing();
+		probe.subscription.request(2);
+		probe.expectNext();
+		probe.expectNext();
+		probe.expectNothing();
+		// the input is read about as far as demand requires
+		Assert.assertTrue(charsRead.get() < xml.length() / 10);
+		probe.subscription.cancel();
+	}
+
+	@Test
+	public void rule_1_2_completesFiniteStream() throws Exception {
+		Probe probe = subscribe(publisher(SyntheticXml.rss(3).getXml()));
+		probe.subscription.request(3);
+		probe.expectNext();
+		probe.expectNext();
+		probe.expectNext();
+		probe.expectSignal("complete");
+		Assert.assertTrue(closed.get());
+	}
+
+	@Test
+	public void rule_1_4_signalsErrorOnParseFailure() throws Exception {
+		Probe probe = subscribe(publisher("<html><body></body></html>"));
+		probe.subscription.request(1);
+		Assert.assertTrue(probe.expectError() instanceof PodcastParserException);
+		probe.expectNothing();
+	}
+
+	@Test
+	public void rule_1_10_freshParsePerSubscription() throws Exception {
+		ItemPublisher publisher = publisher(SyntheticXml.rss(2).getXml());
+		for (int i = 0; i < 2; i++) {
+			Probe probe = subscribe(publisher);
+			probe.subscription.request(Long.MAX_VALUE);
+			Assert.assertEquals("Episode 0", probe.expectNext().getTitle().getText());
+			probe.expectNext();
+			probe.expectSignal("complete");
+		}
+	}
+
+	@Test
+	public void rule_3_7_cancelStopsReadingAndSignals() throws Exception {
+		Probe probe = subscribe(publisher(xml));
+		probe.subscription.request(1);
+		probe.expectNext();
+		probe.subscription.cancel();
+		probe.subscription.request(10);
+		probe.expectNothing();
+		waitFor(closed);
+		long read = charsRead.get();
+		Thread.sleep(QUIET_MILLIS);
+		Assert.assertEquals(read, charsRead.get());
+	}
+
+	@Test
+	public void rule_3_9_nonPositiveRequestSignalsError() throws Exception {
+		Probe probe = subscribe(publisher(xml));
+		probe.subscription.request(0);
+		Assert.assertTrue(probe.expectError() instanceof IllegalArgumentException);
+		probe.expectNothing();
+	}
+
+	@Test
+	public void rule_3_17_demandSaturatesAtMaxValue() throws Exception {
+		Probe probe = subscribe(publisher(SyntheticXml.rss(50).getXml()));
+		probe.subscription.request(Long.MAX_VALUE);
+		probe.subscription.request(Long.MAX_VALUE);
+		for (int i = 0; i < 50; i++) {
+			probe.expectNext();
+		}
+		probe.expectSignal("complete");
+		Assert.assertFalse(probe.concurrent.get());
+	}
+
+	@Test
+	public void rule_3_3_requestFromOnNext() throws Exception {
+		List<Item> items = new CopyOnWriteArrayList<>();
+		BlockingQueue<String> done = new LinkedBlockingQueue<>();
+		publisher(SyntheticXml.rss(100).getXml()).subscribe(new Flow.Subscriber<Item>() {
+			private Flow.Subscription subscription;
+
+			@Override
+			public void onSubscribe(Flow.Subscription subscription) {
+				this.subscription = subscription;
+				subscription.request(1);
+			}
+
+			@Override
+			public void onNext(Item item) {
+				items.add(item);
+				subscription.request(1);
+			}
+
+			@Override
+			public void onError(Throwable throwable) {
+				done.add("error");
+			}
+
+			@Override
+			public void onComplete() {
+				done.add("complete");
+			}
+		});
+		Assert.assertEquals("complete", done.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+		Assert.assertEquals(100, items.size());
+	}
+
+	private ItemPublisher publisher(String content) {
+		FeedSource source = () -> new FilterReader(new StringReader(content)) {
+			@Override
+			public int read(char[] cbuf, int off, int len) throws IOException {
+				int read = super.read(cbuf, off, len);
+				if (read > 0) {
+					charsRead.addAndGet(read);
+				}
+				return read;
+			}
+
+			@Override
+			public void close() throws IOException {
+				closed.set(true);
+				super.close();
+			}
+		};
+		return new ItemPublisher(new PodcastParser(), source, executor);
+	}
+
+	private static Probe subscribe(ItemPublisher publisher) throws InterruptedException {
+		Probe probe = new Probe();
+		publisher.subscribe(probe);
+		Assert.assertNotNull(probe.subscription);
+		return probe;
+	}
+
+	private static void waitFor(AtomicBoolean flag) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+		while (!flag.get() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		Assert.assertTrue(flag.get());
+	}
+
+	/**
+	 * Records all signals in order, and whether any two overlapped.
+	 */
+	private static class Probe implements Flow.Subscriber<Item> {
+
+		private final BlockingQueue<Object> signals = new LinkedBlockingQueue<>();
+		private final AtomicBoolean active = new AtomicBoolean();
+		private final AtomicBoolean concurrent = new AtomicBoolean();
+		private volatile Flow.Subscription subscription;
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(Item item) {
+			record(item);
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			record(throwable);
+		}
+
+		@Override
+		public void onComplete() {
+			record("complete");
+		}
+
+		private void record(Object signal) {
+			if (!active.compareAndSet(false, true)) {
+				concurrent.set(true);
+			}
+			signals.add(signal);
+			active.set(false);
+		}
+
+		private Object poll() throws InterruptedException {
+			Object signal = signals.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+			Assert.assertNotNull("no signal within timeout", signal);
+			return signal;
+		}
+
+		private Item expectNext() throws InterruptedException {
+			Object signal = poll();
+			Assert.assertTrue("expected item, got " + signal, signal instanceof Item);
+			return (Item) signal;
+		}
+
+		private Throwable expectError() throws InterruptedException {
+			Object signal = poll();
+			Assert.assertTrue("expected error, got " + signal, signal instanceof Throwable);
+			return (Throwable) signal;
+		}
+
+		private void expectSignal(String expected) throws InterruptedException {
+			Assert.assertEquals(expected, poll());
+		}
+
+		private void expectNothing() throws InterruptedException {
+			Assert.assertNull(signals.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS));
+		}
+
+	}
+
+}
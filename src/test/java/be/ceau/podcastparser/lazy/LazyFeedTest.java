@@ -0,0 +1,142 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.lazy;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import be.ceau.podcastparser.Bench;
+import be.ceau.podcastparser.PodcastParser;
+import be.ceau.podcastparser.json.JsonFactory;
+import be.ceau.podcastparser.models.core.Feed;
+import be.ceau.podcastparser.models.core.Item;
+import be.ceau.podcastparser.models.support.Enclosure;
+import be.ceau.podcastparser.test.provider.ClasspathFileProvider;
+import be.ceau.podcastparser.test.wrappedxml.SyntheticXml;
+import be.ceau.podcastparser.test.wrappedxml.WrappedXml;
+
+public class LazyFeedTest {
+
+	private static final Logger logger = LoggerFactory.getLogger(LazyFeedTest.class);
+
+	private static final int ITEMS = 5000;
+
+	@Test
+	public void synthetic() {
+		WrappedXml xml = SyntheticXml.nestedMedia(100, 2, 2);
+		assertSameAsParsed(xml.getXml());
+		LazyFeed feed = LazyFeed.scan(xml.getXml());
+		ItemView view = feed.get(42);
+		Assert.assertEquals("<p>Show notes for episode 42</p>", view.getDescription());
+		Assert.assertEquals(Duration.ofMinutes(52), view.getDuration());
+		Assert.assertEquals(JsonFactory.write(new PodcastParser().parse(xml.getXml()).getItems().get(42)), JsonFactory.write(view.toItem()));
+	}
+
+	@Test
+	public void uyd() {
+		assertSameAsParsed(ClasspathFileProvider.read("/uyd.xml").getXml());
+	}
+
+	@Test
+	public void atom() {
+		String xml = "<?xml version=\"1.0\"?>\n<!-- <entry> in a comment -->\n"
+				+ "<feed xmlns=\"http://www.w3.org/2005/Atom\" xmlns:it=\"http://www.itunes.com/dtds/podcast-1.0.dtd\">"
+				+ "<title>Feed</title>"
+				+ "<entry><id>urn:1</id><title type=\"html\">Fish &amp; chips &#233;&#x20AC; <![CDATA[<b>&amp;</b>]]></title>"
+				+ "<link rel=\"enclosure\" href=\"https://example.com/1.mp3\" type=\"audio/mpeg\" length=\"123\"/>"
+				+ "<link href=\"https://example.com/1\"/>"
+				+ "<published>2017-12-05T20:16:00Z</published><it:duration>1:02:03</it:duration></entry>"
+				+ "<entry/>"
+				+ "</feed>";
+		LazyFeed feed = LazyFeed.scan(xml);
+		Assert.assertEquals(2, feed.size());
+		ItemView view = feed.get(0);
+		Assert.assertEquals("urn:1", view.getGuid());
+		Assert.assertEquals("Fish & chips é€ <b>&amp;</b>", view.getTitle());
+		Assert.assertEquals("html", view.getAttribute(null, "title", "type"));
+		Assert.assertEquals("https://example.com/1", view.getLink());
+		Enclosure enclosure = view.getEnclosure();
+		Assert.assertEquals("https://example.com/1.mp3", enclosure.getUrl());
+		Assert.assertEquals("audio/mpeg", enclosure.getType());
+		Assert.assertEquals(123L, enclosure.getLength());
+		Assert.assertEquals(Duration.ofSeconds(3723), view.getDuration());
+		Assert.assertNotNull(view.getPubDate());
+		Assert.assertEquals("urn:1", view.toItem().getGuid());
+		Assert.assertNull(feed.get(1).getTitle());
+	}
+
+	@Test
+	public void truncated() {
+		String xml = SyntheticXml.rss(10).getXml();
+		LazyFeed feed = LazyFeed.scan(xml.substring(0, xml.indexOf("<item>", xml.indexOf("Episode 6")) + 20));
+		Assert.assertEquals(7, feed.size());
+		Assert.assertEquals("Episode 6", feed.get(6).getTitle());
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void outOfBounds() {
+		LazyFeed.scan(SyntheticXml.rss(1).getXml()).get(1);
+	}
+
+	@Test
+	public void compareWithParse() {
+		WrappedXml xml = SyntheticXml.rss(ITEMS);
+
+		Bench bench = new Bench();
+		Feed parsed = new PodcastParser().parse(xml.getXml());
+		bench.stop().log("parsed " + xml.getName());
+		long parsedBytes = bench.getAllocatedBytes();
+
+		bench.reset();
+		LazyFeed feed = LazyFeed.scan(xml.getXml());
+		int length = 0;
+		for (ItemView view : feed.getItems()) {
+			length += view.getTitle().length();
+		}
+		bench.stop().log("scanned " + xml.getName() + " and read all titles");
+		long scannedBytes = bench.getAllocatedBytes();
+
+		logger.info("allocated {} bytes to parse, {} bytes to scan", parsedBytes, scannedBytes);
+		Assert.assertEquals(parsed.getItems().size(), feed.size());
+		Assert.assertTrue(length > 0);
+
+		Assume.assumeTrue("allocation measurement not supported", parsedBytes >= 0 && scannedBytes >= 0);
+		// scanning plus all titles should allocate a fraction of what the full models take
+		Assert.assertTrue(scannedBytes + " >= " + parsedBytes + " / 4", scannedBytes < parsedBytes / 4);
+	}
+
+	private static void assertSameAsParsed(String xml) {
+		List<Item> items = new PodcastParser().parse(xml).getItems();
+		LazyFeed feed = LazyFeed.scan(xml);
+		Assert.assertEquals(items.size(), feed.size());
+		for (int i = 0; i < items.size(); i++) {
+			Item item = items.get(i);
+			ItemView view = feed.get(i);
+			Assert.assertEquals(item.getTitle() == null ? null : item.getTitle().getText(), view.getTitle());
+			Assert.assertEquals(item.getGuid(), view.getGuid());
+			Assert.assertEquals(item.getPubDate(), view.getPubDate());
+			Assert.assertEquals(item.getEnclosure().getUrl(), view.getEnclosure().getUrl());
+			Assert.assertEquals(item.getEnclosure().getLength(), view.getEnclosure().getLength());
+			Assert.assertEquals(item.getEnclosure().getType(), view.getEnclosure().getType());
+		}
+	}
+
+}
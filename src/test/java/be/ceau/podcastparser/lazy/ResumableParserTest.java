@@ -0,0 +1,130 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.lazy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import be.ceau.podcastparser.PodcastParser;
+import be.ceau.podcastparser.exceptions.PodcastParserException;
+import be.ceau.podcastparser.models.core.Item;
+import be.ceau.podcastparser.test.wrappedxml.SyntheticXml;
+
+public class ResumableParserTest {
+
+	private static final int ITEMS = 200;
+
+	private final PodcastParser parser = new PodcastParser();
+
+	private static String xml() {
+		// multibyte characters, so byte and char offsets differ
+		return SyntheticXml.rss(ITEMS).getXml().replace("<title>Episode ", "<title>Épisode ☃ 🎙 ");
+	}
+
+	@Test
+	public void complete() {
+		PartialFeed result = parser.parseTolerant(xml());
+		Assert.assertTrue(result.isComplete());
+		Assert.assertNull(result.getCheckpoint());
+		Assert.assertEquals(ITEMS, result.getFeed().getItems().size());
+	}
+
+	@Test
+	public void truncated() {
+		String xml = xml();
+		String truncated = xml.substring(0, xml.length() / 2);
+		PartialFeed result = parser.parseTolerant(truncated);
+		Assert.assertFalse(result.isComplete());
+		Assert.assertNotNull(result.getError());
+		Assert.assertEquals("Synthetic", result.getFeed().getTitle());
+		Checkpoint checkpoint = result.getCheckpoint();
+		Assert.assertEquals(checkpoint.getItems(), result.getFeed().getItems().size());
+		Assert.assertTrue(checkpoint.getItems() > 0);
+		Assert.assertTrue(xml.substring(0, (int) checkpoint.getCharOffset()).endsWith("</item>"));
+
+		byte[] bytes = xml.getBytes(StandardCharsets.UTF_8);
+		String fromBytes = new String(bytes, (int) checkpoint.getByteOffset(), bytes.length - (int) checkpoint.getByteOffset(), StandardCharsets.UTF_8);
+		Assert.assertEquals(xml.substring((int) checkpoint.getCharOffset()), fromBytes);
+	}
+
+	@Test
+	public void resume() throws IOException {
+		String xml = xml();
+		ResumableParser resumable = new ResumableParser(parser);
+		List<Item> items = new ArrayList<>();
+		int[] cuts = { 1000, 1200, 1300, xml.length() / 3, xml.length() * 2 / 3 };
+		PartialFeed result = resumable.parse(xml.substring(0, cuts[0]));
+		items.addAll(result.getFeed().getItems());
+		for (int i = 1; i <= cuts.length; i++) {
+			Checkpoint checkpoint = roundTrip(result.getCheckpoint());
+			int from = (int) checkpoint.getCharOffset();
+			int to = i < cuts.length ? Math.max(from, cuts[i]) : xml.length();
+			result = resumable.resume(checkpoint, xml.substring(from, to));
+			items.addAll(result.getFeed().getItems());
+		}
+		Assert.assertTrue(result.isComplete());
+		Assert.assertEquals(ITEMS, items.size());
+		for (int i = 0; i < ITEMS; i++) {
+			Assert.assertEquals("urn:synthetic:" + i, items.get(i).getGuid());
+		}
+	}
+
+	@Test
+	public void resumeWithoutItemStart() {
+		String xml = xml();
+		ResumableParser resumable = new ResumableParser(parser);
+		PartialFeed result = resumable.parse(xml.substring(0, xml.lastIndexOf("</item>") + 8));
+		Assert.assertEquals(ITEMS, result.getFeed().getItems().size());
+		Checkpoint checkpoint = result.getCheckpoint();
+		int from = (int) checkpoint.getCharOffset();
+
+		// cut off in whitespace and in the closing tag, before any item start
+		for (int to : new int[] { from + 1, xml.indexOf("</channel>") + 6 }) {
+			result = resumable.resume(checkpoint, xml.substring(from, to));
+			Assert.assertFalse(result.isComplete());
+			Assert.assertNotNull(result.getError());
+			Assert.assertEquals("Synthetic", result.getFeed().getTitle());
+			Assert.assertTrue(result.getFeed().getItems().isEmpty());
+			Assert.assertEquals(checkpoint.getCharOffset(), result.getCheckpoint().getCharOffset());
+			Assert.assertEquals(checkpoint.getByteOffset(), result.getCheckpoint().getByteOffset());
+			Assert.assertEquals(ITEMS, result.getCheckpoint().getItems());
+		}
+
+		result = resumable.resume(checkpoint, xml.substring(from));
+		Assert.assertTrue(result.isComplete());
+		Assert.assertTrue(result.getFeed().getItems().isEmpty());
+	}
+
+	@Test(expected = PodcastParserException.class)
+	public void truncatedHeader() {
+		parser.parseTolerant(xml().substring(0, 200));
+	}
+
+	private static Checkpoint roundTrip(Checkpoint checkpoint) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		checkpoint.writeTo(new DataOutputStream(bytes));
+		return Checkpoint.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+	}
+
+}
@@ -0,0 +1,98 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.schedule;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import be.ceau.podcastparser.PodcastParser;
+import be.ceau.podcastparser.models.core.Feed;
+
+public class RefreshPolicyTest {
+
+	private static final String HEADER = "<rss xmlns:sy=\"http://purl.org/rss/1.0/modules/syndication/\""
+			+ " xmlns:rawvoice=\"http://www.rawvoice.com/rawvoiceRssModule/\"><channel><title>T</title>";
+
+	private static final String FOOTER = "</channel></rss>";
+
+	private final PodcastParser parser = new PodcastParser();
+
+	private static String items(String... pubDates) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < pubDates.length; i++) {
+			sb.append("<item><guid>").append(i).append("</guid><pubDate>").append(pubDates[i]).append("</pubDate></item>");
+		}
+		return sb.toString();
+	}
+
+	@Test
+	public void skipDaysAndHours() {
+		Feed feed = parser.parse(HEADER + "<skipHours><hour>0</hour><hour>x</hour><hour>23</hour></skipHours>"
+				+ "<skipDays><day>Saturday</day><day>Sunday</day></skipDays>" + FOOTER);
+		Assert.assertEquals(Arrays.asList(0, 23), feed.getSkipHours());
+		Assert.assertEquals(Arrays.asList("Saturday", "Sunday"), feed.getSkipDays());
+
+		// Friday 22:30 GMT plus one hour falls in skipped hour 23, then the weekend
+		Instant next = new RefreshPolicy(Duration.ofHours(1), Duration.ofHours(1), Duration.ofHours(1))
+				.nextPoll(feed, Instant.parse("2017-12-08T22:30:00Z"));
+		Assert.assertEquals(Instant.parse("2017-12-11T01:00:00Z"), next);
+	}
+
+	@Test
+	public void declared() {
+		Feed feed = parser.parse(HEADER + "<sy:updatePeriod>daily</sy:updatePeriod><sy:updateFrequency>4</sy:updateFrequency>"
+				+ "<rawvoice:frequency>Weekly</rawvoice:frequency>" + FOOTER);
+		Assert.assertEquals("daily", feed.getUpdateInfo().getPeriod());
+		Assert.assertEquals(Integer.valueOf(4), feed.getUpdateInfo().getFrequency());
+		Assert.assertEquals(Duration.ofHours(6), RefreshPolicy.DEFAULT.getCadence(feed));
+
+		feed = parser.parse(HEADER + "<rawvoice:frequency>Every Monday</rawvoice:frequency><sy:updateFrequency>x</sy:updateFrequency>" + FOOTER);
+		Assert.assertNull(feed.getUpdateInfo().getFrequency());
+		Assert.assertEquals(Duration.ofDays(7), RefreshPolicy.DEFAULT.getCadence(feed));
+
+		Assert.assertNull(RefreshPolicy.DEFAULT.getCadence(parser.parse(HEADER + FOOTER)));
+	}
+
+	@Test
+	public void observed() {
+		// weekly publishing overrides the hourly default of many publishing tools
+		Feed feed = parser.parse(HEADER + "<sy:updatePeriod>hourly</sy:updatePeriod>" + items(
+				"Mon, 04 Dec 2017 06:00:00 GMT",
+				"Mon, 27 Nov 2017 06:00:00 GMT",
+				"Tue, 21 Nov 2017 06:00:00 GMT",
+				"Mon, 13 Nov 2017 06:00:00 GMT") + FOOTER);
+		Assert.assertEquals(Duration.ofDays(7), RefreshPolicy.DEFAULT.getCadence(feed));
+
+		// not polled until the next episode is expected
+		Assert.assertEquals(Instant.parse("2017-12-11T06:00:00Z"), RefreshPolicy.DEFAULT.nextPoll(feed, Instant.parse("2017-12-05T12:00:00Z")));
+		// overdue: an eighth of the cadence
+		Assert.assertEquals(Instant.parse("2017-12-12T09:00:00Z"), RefreshPolicy.DEFAULT.nextPoll(feed, Instant.parse("2017-12-11T12:00:00Z")));
+		// quiet for a year: the maximum
+		Assert.assertEquals(Instant.parse("2018-12-11T12:00:00Z"), RefreshPolicy.DEFAULT.nextPoll(feed, Instant.parse("2018-12-04T12:00:00Z")));
+	}
+
+	@Test
+	public void ttlAndFallback() {
+		Feed feed = parser.parse(HEADER + "<ttl>180</ttl>" + FOOTER);
+		Instant now = Instant.parse("2017-12-05T12:00:00Z");
+		Assert.assertEquals(now.plus(Duration.ofHours(3)), RefreshPolicy.DEFAULT.nextPoll(feed, now));
+		Assert.assertEquals(now.plus(Duration.ofHours(1)), RefreshPolicy.DEFAULT.nextPoll(parser.parse(HEADER + FOOTER), now));
+	}
+
+}
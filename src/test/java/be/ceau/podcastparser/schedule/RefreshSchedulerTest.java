@@ -0,0 +1,118 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.schedule;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import be.ceau.podcastparser.Bench;
+
+public class RefreshSchedulerTest {
+
+	private static final int FEEDS = 1_000_000;
+
+	private static class MutableClock extends Clock {
+
+		private volatile long millis;
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Instant instant() {
+			return Instant.ofEpochMilli(millis);
+		}
+
+	}
+
+	@Test
+	public void order() {
+		MutableClock clock = new MutableClock();
+		RefreshScheduler<String> scheduler = new RefreshScheduler<>(clock);
+		scheduler.schedule("c", Instant.ofEpochMilli(30));
+		scheduler.schedule("a", Instant.ofEpochMilli(10));
+		scheduler.schedule("b", Instant.ofEpochMilli(20));
+		Assert.assertEquals(Instant.ofEpochMilli(10), scheduler.peekTime());
+		Assert.assertEquals(Collections.emptyList(), scheduler.pollDue(10));
+		clock.millis = 20;
+		Assert.assertEquals(Arrays.asList("a", "b"), scheduler.pollDue(10));
+		clock.millis = 100;
+		Assert.assertEquals(Collections.singletonList("c"), scheduler.pollDue(10));
+		Assert.assertEquals(0, scheduler.size());
+		Assert.assertNull(scheduler.peekTime());
+	}
+
+	@Test
+	public void takeDue() throws Exception {
+		RefreshScheduler<String> scheduler = new RefreshScheduler<>();
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<List<String>> taken = executor.submit(() -> scheduler.takeDue(5));
+			Thread.sleep(50);
+			Assert.assertFalse(taken.isDone());
+			scheduler.schedule("later", Instant.now().plusSeconds(3600));
+			scheduler.schedule("soon", Instant.now().plusMillis(50));
+			Assert.assertEquals(Collections.singletonList("soon"), taken.get(5, TimeUnit.SECONDS));
+			Assert.assertEquals(1, scheduler.size());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void millions() {
+		MutableClock clock = new MutableClock();
+		RefreshScheduler<Integer> scheduler = new RefreshScheduler<>(clock);
+		Random random = new Random(42);
+		Bench bench = new Bench();
+		for (int i = 0; i < FEEDS; i++) {
+			scheduler.schedule(i, Instant.ofEpochMilli(random.nextInt(86_400_000)));
+		}
+		bench.stop().log("scheduled " + FEEDS + " feeds");
+
+		bench = new Bench();
+		int taken = 0;
+		for (long hour = 1; hour <= 24; hour++) {
+			clock.millis = hour * 3_600_000L;
+			for (List<Integer> due = scheduler.pollDue(10_000); !due.isEmpty(); due = scheduler.pollDue(10_000)) {
+				taken += due.size();
+			}
+			Assert.assertTrue(scheduler.size() == 0 || scheduler.peekTime().toEpochMilli() > clock.millis);
+		}
+		bench.stop().log("took " + taken + " due feeds");
+		Assert.assertEquals(FEEDS, taken);
+	}
+
+}
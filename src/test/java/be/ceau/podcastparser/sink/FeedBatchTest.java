@@ -0,0 +1,166 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.sink;
+
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import be.ceau.podcastparser.Bench;
+import be.ceau.podcastparser.PodcastParser;
+import be.ceau.podcastparser.models.core.Feed;
+import be.ceau.podcastparser.models.core.Item;
+import be.ceau.podcastparser.models.support.TypedString;
+import be.ceau.podcastparser.test.wrappedxml.SyntheticXml;
+import be.ceau.podcastparser.test.wrappedxml.WrappedXml;
+
+public class FeedBatchTest {
+
+	private static final Logger logger = LoggerFactory.getLogger(FeedBatchTest.class);
+
+	private static final int ITEMS = 2000;
+
+	@Test
+	public void columns() {
+		WrappedXml xml = SyntheticXml.rss(ITEMS);
+		PodcastParser parser = new PodcastParser();
+		FeedBatch batch = new FeedBatch();
+
+		Assert.assertEquals(0, batch.beginFeed());
+		Feed feed = parser.parse(xml.getXml(), batch);
+		Assert.assertEquals("Synthetic", feed.getTitle());
+		Assert.assertTrue(feed.getItems().isEmpty());
+		Assert.assertEquals(1, batch.beginFeed());
+		parser.parse(xml.getXml(), batch);
+
+		Assert.assertEquals(2 * ITEMS, batch.size());
+		Assert.assertEquals(1, batch.getEnclosureTypes().size());
+		Assert.assertEquals(1, batch.getCategories().size());
+
+		long pubDate = ZonedDateTime.parse("2017-12-05T20:16:00Z").toInstant().toEpochMilli();
+		FeedBatch.Cursor cursor = batch.cursor();
+		int rows = 0;
+		while (cursor.next()) {
+			int i = rows % ITEMS;
+			Assert.assertEquals(rows / ITEMS, cursor.getFeed());
+			Assert.assertEquals(pubDate, cursor.getPubDateMillis());
+			Assert.assertEquals((10 + i % 50) * 60_000L, cursor.getDurationMillis());
+			Assert.assertEquals(1000000L + i, cursor.getEnclosureLength());
+			Assert.assertEquals("audio/mpeg", cursor.getEnclosureType());
+			Assert.assertEquals(0, cursor.getEnclosureTypeId());
+			Assert.assertEquals(1, cursor.getCategoryCount());
+			Assert.assertEquals("Technology", cursor.getCategory(0));
+			Assert.assertEquals("Episode " + i, cursor.getTitle().toString());
+			Assert.assertTrue(("urn:synthetic:" + i).contentEquals(cursor.getGuid()));
+			Assert.assertEquals("https://example.com/audio/" + i + ".mp3", cursor.getEnclosureUrl().toString());
+			rows++;
+		}
+		Assert.assertEquals(2 * ITEMS, rows);
+
+		cursor.moveTo(3);
+		Assert.assertEquals("Episode 3", cursor.getTitle().toString());
+	}
+
+	@Test
+	public void absent() {
+		FeedBatch batch = new FeedBatch(1);
+		for (int i = 0; i < 10; i++) {
+			batch.accept(new Item());
+		}
+		FeedBatch.Cursor cursor = batch.cursor();
+		Assert.assertTrue(cursor.next());
+		Assert.assertEquals(-1, cursor.getFeed());
+		Assert.assertEquals(FeedBatch.ABSENT, cursor.getPubDateMillis());
+		Assert.assertEquals(FeedBatch.ABSENT, cursor.getDurationMillis());
+		Assert.assertEquals(FeedBatch.ABSENT, cursor.getEnclosureLength());
+		Assert.assertEquals(-1, cursor.getEnclosureTypeId());
+		Assert.assertNull(cursor.getEnclosureType());
+		Assert.assertEquals(0, cursor.getCategoryCount());
+		Assert.assertNull(cursor.getTitle());
+		Assert.assertNull(cursor.getGuid());
+		Assert.assertNull(cursor.getEnclosureUrl());
+	}
+
+	@Test
+	public void textPages() {
+		FeedBatch batch = new FeedBatch();
+		String[] titles = new String[3003];
+		for (int i = 0; i < titles.length; i++) {
+			if (i == 1500) {
+				// longer than a page
+				titles[i] = text(i, (1 << 20) + 10);
+			} else if (i % 1000 != 7) {
+				titles[i] = text(i, 1000);
+			}
+			Item item = new Item();
+			if (titles[i] != null) {
+				TypedString title = new TypedString();
+				title.setText(titles[i]);
+				item.setTitle(title);
+			}
+			batch.accept(item);
+		}
+		FeedBatch.Cursor cursor = batch.cursor();
+		for (int i = 0; i < titles.length; i++) {
+			Assert.assertTrue(cursor.next());
+			if (titles[i] == null) {
+				Assert.assertNull(cursor.getTitle());
+			} else {
+				Assert.assertTrue("row " + i, titles[i].contentEquals(cursor.getTitle()));
+			}
+		}
+		Assert.assertFalse(cursor.next());
+	}
+
+	private static String text(int row, int length) {
+		char[] chars = new char[length];
+		Arrays.fill(chars, (char) ('a' + row % 26));
+		String prefix = String.valueOf(row);
+		prefix.getChars(0, prefix.length(), chars, 0);
+		return new String(chars);
+	}
+
+	@Test
+	public void iterationDoesNotAllocate() {
+		FeedBatch batch = new FeedBatch();
+		new PodcastParser().parse(SyntheticXml.rss(ITEMS).getXml(), batch);
+		long total = sum(batch);
+
+		Bench bench = new Bench();
+		long again = sum(batch);
+		long allocated = bench.stop().getAllocatedBytes();
+		Assert.assertEquals(total, again);
+		logger.info("iterating {} rows allocated {} bytes", batch.size(), allocated);
+
+		Assume.assumeTrue("allocation measurement not supported", allocated >= 0);
+		// less than a byte per row: only constant overhead such as the cursor itself
+		Assert.assertTrue(allocated + " bytes for " + batch.size() + " rows", allocated < batch.size());
+	}
+
+	private static long sum(FeedBatch batch) {
+		long total = 0;
+		FeedBatch.Cursor cursor = batch.cursor();
+		while (cursor.next()) {
+			total += cursor.getDurationMillis() + cursor.getEnclosureLength() + cursor.getTitle().length();
+		}
+		return total;
+	}
+
+}
@@ -0,0 +1,122 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.test.wrappedxml;
+
+import java.io.Reader;
+import java.io.StringReader;
+
+/**
+ * Generated RSS feed with iTunes and Media RSS elements, deterministic for the given parameters.
+ */
+public class SyntheticXml implements WrappedXml {
+
+	private final String name;
+	private final String xml;
+
+	/**
+	 * @param items
+	 *            number of {@code item} elements
+	 * @return a {@link WrappedXml} with a podcast feed of the given size
+	 */
+	public static WrappedXml rss(int items) {
+		return nestedMedia(items, 0, 0);
+	}
+
+	/**
+	 * @param items
+	 *            number of {@code item} elements
+	 * @param depth
+	 *            number of nested {@code media:group} elements in every {@code item}
+	 * @param renditions
+	 *            number of {@code media:content} elements in every {@code media:group}
+	 * @return a {@link WrappedXml} with a Media RSS feed
+	 */
+	public static WrappedXml nestedMedia(int items, int depth, int renditions) {
+		StringBuilder sb = new StringBuilder();
+		sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+				.append("<rss version=\"2.0\"")
+				.append(" xmlns:itunes=\"http://www.itunes.com/dtds/podcast-1.0.dtd\"")
+				.append(" xmlns:media=\"http://search.yahoo.com/mrss/\"")
+				.append(" xmlns:content=\"http://purl.org/rss/1.0/modules/content/\">\n")
+				.append("<channel>\n")
+				.append("\t<title>Synthetic</title>\n")
+				.append("\t<link>https://example.com</link>\n")
+				.append("\t<description>Generated feed</description>\n")
+				.append("\t<language>en-us</language>\n")
+				.append("\t<ttl>60</ttl>\n")
+				.append("\t<itunes:author>Synthetic Author</itunes:author>\n")
+				.append("\t<itunes:category text=\"Technology\"><itunes:category text=\"Software\" /></itunes:category>\n")
+				.append("\t<image>\n\t\t<url>https://example.com/cover.png</url>\n\t\t<width>144</width>\n\t\t<height>144</height>\n\t</image>\n");
+		for (int i = 0; i < items; i++) {
+			sb.append("\t<item>\n")
+					.append("\t\t<title>Episode ").append(i).append("</title>\n")
+					.append("\t\t<link>https://example.com/episodes/").append(i).append("</link>\n")
+					.append("\t\t<guid isPermaLink=\"false\">urn:synthetic:").append(i).append("</guid>\n")
+					.append("\t\t<pubDate>Tue, 05 Dec 2017 20:16:00 +0000</pubDate>\n")
+					.append("\t\t<description><![CDATA[<p>Show notes for episode ").append(i).append("</p>]]></description>\n")
+					.append("\t\t<enclosure url=\"https://example.com/audio/").append(i).append(".mp3\" length=\"").append(1000000L + i).append("\" type=\"audio/mpeg\" />\n")
+					.append("\t\t<category>Technology</category>\n")
+					.append("\t\t<itunes:author>Synthetic Author</itunes:author>\n")
+					.append("\t\t<itunes:explicit>no</itunes:explicit>\n")
+					.append("\t\t<itunes:duration>00:").append(10 + i % 50).append(":00</itunes:duration>\n");
+			for (int d = 0; d < depth; d++) {
+				sb.append("\t\t<media:group>\n");
+				for (int r = 0; r < renditions; r++) {
+					sb.append("\t\t\t<media:content url=\"https://example.com/video/").append(i).append('/').append(d).append('/').append(r)
+							.append(".mp4\" fileSize=\"").append(5000000L + r).append("\" type=\"video/mp4\" medium=\"video\" bitrate=\"")
+							.append(128 * (r + 1)).append("\" height=\"").append(360 + r * 120).append("\" width=\"").append(640 + r * 160)
+							.append("\" />\n");
+				}
+			}
+			for (int d = 0; d < depth; d++) {
+				sb.append("\t\t</media:group>\n");
+			}
+			sb.append("\t</item>\n");
+		}
+		sb.append("</channel>\n</rss>\n");
+		return new SyntheticXml("synthetic-" + items + "-" + depth + "-" + renditions, sb.toString());
+	}
+
+	private SyntheticXml(String name, String xml) {
+		this.name = name;
+		this.xml = xml;
+	}
+
+	@Override
+	public String getFullPath() {
+		return name;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public String getXml() {
+		return xml;
+	}
+
+	@Override
+	public Reader getReader() {
+		return new StringReader(xml);
+	}
+
+	@Override
+	public boolean delete() {
+		return false;
+	}
+
+}
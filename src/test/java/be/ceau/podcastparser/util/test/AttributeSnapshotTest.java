@@ -0,0 +1,100 @@
+/*
+	
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+	
+		https://www.apache.org/licenses/LICENSE-2.0
+	
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.util.test;
+
+import java.io.StringReader;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import be.ceau.podcastparser.util.AttributeSnapshot;
+import be.ceau.podcastparser.util.Attributes;
+
+public class AttributeSnapshotTest {
+
+	private static final Attributes URL = Attributes.get("url");
+	private static final Attributes WIDTH = Attributes.get("width");
+	private static final Attributes TYPE = Attributes.get("type");
+
+	@Test
+	public void snapshotPerElement() throws XMLStreamException {
+		XMLStreamReader reader = XMLInputFactory.newFactory().createXMLStreamReader(new StringReader(
+				"<root><a url=\" http://x \" width=\"12\" type=\"  \" unknown=\"?\"/><b url=\"http://y\"/></root>"));
+		AttributeSnapshot snapshot = new AttributeSnapshot();
+
+		next(reader);
+		next(reader);
+		snapshot.load(reader);
+		Assert.assertEquals(" http://x ", snapshot.get(URL));
+		Assert.assertEquals("http://x", snapshot.getTrimmed(URL));
+		Assert.assertEquals("http://x", URL.from(snapshot).get());
+		Assert.assertEquals(12, snapshot.getAsInt(WIDTH, -1));
+		Assert.assertEquals(Integer.valueOf(12), snapshot.getAsInteger(WIDTH));
+		Assert.assertEquals("", snapshot.getTrimmed(TYPE));
+		Assert.assertFalse(TYPE.from(snapshot).isPresent());
+
+		next(reader);
+		snapshot.load(reader);
+		Assert.assertEquals("http://y", snapshot.get(URL));
+		Assert.assertNull(snapshot.get(WIDTH));
+		Assert.assertNull(snapshot.getAsInteger(WIDTH));
+		Assert.assertNull(snapshot.get(TYPE));
+	}
+
+	@Test
+	public void longRange() throws XMLStreamException {
+		XMLStreamReader reader = XMLInputFactory.newFactory().createXMLStreamReader(new StringReader(
+				"<root><a width=\"-9223372036854775808\"/><b width=\"-9223372036854775809\"/></root>"));
+		AttributeSnapshot snapshot = new AttributeSnapshot();
+		next(reader);
+		next(reader);
+		snapshot.load(reader);
+		Assert.assertEquals(Long.valueOf(Long.MIN_VALUE), snapshot.getAsLong(WIDTH));
+		long[] target = { 0L };
+		Assert.assertTrue(WIDTH.intoLong(snapshot, target, (t, value) -> t[0] = value));
+		Assert.assertEquals(Long.MIN_VALUE, target[0]);
+		next(reader);
+		snapshot.load(reader);
+		Assert.assertNull(snapshot.getAsLong(WIDTH));
+		Assert.assertFalse(WIDTH.intoLong(snapshot, target, (t, value) -> t[0] = value));
+		Assert.assertFalse(URL.intoLong(snapshot, target, (t, value) -> t[0] = value));
+	}
+
+	@Test
+	public void registeredAfterLoad() throws XMLStreamException {
+		XMLStreamReader reader = XMLInputFactory.newFactory().createXMLStreamReader(new StringReader(
+				"<root><a url=\"http://x\" registered-after-load=\"late\"/></root>"));
+		AttributeSnapshot snapshot = new AttributeSnapshot();
+		next(reader);
+		next(reader);
+		snapshot.load(reader);
+		Attributes late = Attributes.get("registered-after-load");
+		Assert.assertSame(late, Attributes.get("registered-after-load"));
+		Assert.assertEquals("late", snapshot.get(late));
+		Assert.assertEquals("http://x", snapshot.get(URL));
+	}
+
+	private static void next(XMLStreamReader reader) throws XMLStreamException {
+		while (reader.next() != XMLStreamConstants.START_ELEMENT) {
+			// advance
+		}
+	}
+
+}
@@ -0,0 +1,160 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.util.test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import be.ceau.podcastparser.Bench;
+import be.ceau.podcastparser.models.support.Link;
+import be.ceau.podcastparser.util.CompactSet;
+
+public class CompactSetTest {
+
+	private static final int SETS = 1000;
+
+	@Test
+	public void insertionOrder() {
+		Set<String> set = new CompactSet<>();
+		Assert.assertTrue(set.add("c"));
+		Assert.assertTrue(set.add("a"));
+		Assert.assertTrue(set.add("b"));
+		Assert.assertFalse(set.add("a"));
+		Assert.assertEquals(Arrays.asList("c", "a", "b"), new ArrayList<>(set));
+		Assert.assertEquals(new HashSet<>(Arrays.asList("a", "b", "c")), set);
+		Assert.assertEquals(new HashSet<>(Arrays.asList("a", "b", "c")).hashCode(), set.hashCode());
+	}
+
+	@Test
+	public void large() {
+		Set<Integer> set = new CompactSet<>();
+		List<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			int value = (i * 7919) % 1000;
+			Assert.assertTrue(set.add(value));
+			expected.add(value);
+		}
+		for (int i = 0; i < 1000; i++) {
+			Assert.assertFalse(set.add(i));
+			Assert.assertTrue(set.contains(i));
+		}
+		Assert.assertFalse(set.contains(1000));
+		Assert.assertEquals(expected, new ArrayList<>(set));
+
+		for (int i = 0; i < 1000; i += 2) {
+			Assert.assertTrue(set.remove(i));
+		}
+		Assert.assertEquals(500, set.size());
+		for (int i = 0; i < 1000; i++) {
+			Assert.assertEquals(i % 2 == 1, set.contains(i));
+		}
+	}
+
+	@Test
+	public void iteratorRemove() {
+		Set<Integer> set = new CompactSet<>();
+		for (int i = 0; i < 20; i++) {
+			set.add(i);
+		}
+		for (Iterator<Integer> it = set.iterator(); it.hasNext();) {
+			if (it.next() < 15) {
+				it.remove();
+			}
+		}
+		Assert.assertEquals(Arrays.asList(15, 16, 17, 18, 19), new ArrayList<>(set));
+		Assert.assertTrue(set.contains(17));
+		Assert.assertFalse(set.contains(3));
+		set.clear();
+		Assert.assertTrue(set.isEmpty());
+	}
+
+	@Test
+	public void mutatedElement() {
+		CompactSet<Link> set = new CompactSet<>();
+		Link link = new Link();
+		link.setHref("https://example.com/a");
+		set.add(link);
+		link.setHref("https://example.com/b");
+		Assert.assertEquals(1, set.size());
+		Assert.assertSame(link, set.iterator().next());
+
+		set.rehash();
+		Link equal = new Link();
+		equal.setHref("https://example.com/b");
+		Assert.assertTrue(set.contains(equal));
+		Assert.assertFalse(set.add(equal));
+		Assert.assertEquals(1, set.size());
+	}
+
+	@Test
+	public void rehashMergesEqualElements() {
+		CompactSet<Link> set = new CompactSet<>();
+		Link first = new Link();
+		first.setHref("https://example.com/a");
+		Link second = new Link();
+		second.setHref("https://example.com/b");
+		set.add(first);
+		set.add(second);
+		second.setHref("https://example.com/a");
+		set.rehash();
+		Assert.assertEquals(1, set.size());
+		Assert.assertSame(first, set.iterator().next());
+	}
+
+	@Test
+	public void allocatesLessThanHashSet() {
+		String[] values = { "https://example.com/a", "https://example.com/b", "https://example.com/c" };
+		// warm up both variants before measuring
+		fill(HashSet::new, values);
+		fill(CompactSet::new, values);
+
+		Bench bench = new Bench();
+		fill(HashSet::new, values);
+		long hashSetBytes = bench.stop().getAllocatedBytes();
+		bench.reset();
+		fill(CompactSet::new, values);
+		long compactSetBytes = bench.stop().getAllocatedBytes();
+
+		Assume.assumeTrue("allocation measurement not supported", hashSetBytes >= 0 && compactSetBytes >= 0);
+		Assert.assertTrue(compactSetBytes + " >= " + hashSetBytes, compactSetBytes < hashSetBytes);
+	}
+
+	private static Set<?>[] fill(Supplier<Set<String>> factory, String[] values) {
+		Set<?>[] sets = new Set<?>[SETS];
+		for (int i = 0; i < SETS; i++) {
+			Set<String> set = factory.get();
+			for (String value : values) {
+				set.add(value);
+			}
+			sets[i] = set;
+		}
+		return sets;
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void nullElement() {
+		new CompactSet<String>().add(null);
+	}
+
+}
@@ -0,0 +1,87 @@
+/*
+	
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+	
+		https://www.apache.org/licenses/LICENSE-2.0
+	
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.util.test;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import be.ceau.podcastparser.util.Numbers;
+
+public class NumbersTest {
+
+	@Test
+	public void parseLongTest() {
+		Assert.assertEquals(123L, Numbers.parseLong("123", -1L));
+		Assert.assertEquals(123L, Numbers.parseLong(" \t123\n", -1L));
+		Assert.assertEquals(-123L, Numbers.parseLong("-123", -1L));
+		Assert.assertEquals(123L, Numbers.parseLong("+123", -1L));
+		Assert.assertEquals(Long.MAX_VALUE, Numbers.parseLong("9223372036854775807", -1L));
+		Assert.assertEquals(Long.MIN_VALUE, Numbers.parseLong("-9223372036854775808", -1L));
+
+		Assert.assertEquals(-1L, Numbers.parseLong("9223372036854775808", -1L));
+		Assert.assertEquals(-1L, Numbers.parseLong("-9223372036854775809", -1L));
+		Assert.assertEquals(-1L, Numbers.parseLong("99999999999999999999", -1L));
+		Assert.assertEquals(-1L, Numbers.parseLong("12a", -1L));
+		Assert.assertEquals(-1L, Numbers.parseLong("1 2", -1L));
+		Assert.assertEquals(-1L, Numbers.parseLong("-", -1L));
+		Assert.assertEquals(-1L, Numbers.parseLong("", -1L));
+		Assert.assertEquals(-1L, Numbers.parseLong("  ", -1L));
+		Assert.assertEquals(-1L, Numbers.parseLong(null, -1L));
+	}
+
+	@Test
+	public void parseBoxedLongTest() {
+		Assert.assertEquals(Long.valueOf(Long.MIN_VALUE), Numbers.parseLong("-9223372036854775808"));
+		Assert.assertEquals(Long.valueOf(Long.MAX_VALUE), Numbers.parseLong("9223372036854775807"));
+		Assert.assertEquals(Long.valueOf(-1L), Numbers.parseLong(" -1 "));
+		Assert.assertNull(Numbers.parseLong("-9223372036854775809"));
+		Assert.assertNull(Numbers.parseLong("x"));
+		Assert.assertNull(Numbers.parseLong((CharSequence) null));
+	}
+
+	@Test
+	public void parseIntTest() {
+		Assert.assertEquals(Integer.MAX_VALUE, Numbers.parseInt("2147483647", -1));
+		Assert.assertEquals(Integer.MIN_VALUE, Numbers.parseInt("-2147483648", -1));
+		Assert.assertEquals(-1, Numbers.parseInt("2147483648", -1));
+		Assert.assertEquals(-1, Numbers.parseInt("1.5", -1));
+
+		char[] chars = "xx 42 yy".toCharArray();
+		Assert.assertEquals(42, Numbers.parseInt(chars, 2, 4, -1));
+		Assert.assertEquals(-1, Numbers.parseInt(chars, 0, 5, -1));
+	}
+
+	@Test
+	public void isDecimalTest() {
+		Assert.assertTrue(isDecimal("1"));
+		Assert.assertTrue(isDecimal("-51.0235"));
+		Assert.assertTrue(isDecimal("+.5"));
+		Assert.assertTrue(isDecimal("5."));
+		Assert.assertTrue(isDecimal("1.5e10"));
+		Assert.assertTrue(isDecimal("1E-3"));
+
+		Assert.assertFalse(isDecimal(""));
+		Assert.assertFalse(isDecimal("."));
+		Assert.assertFalse(isDecimal("1.2.3"));
+		Assert.assertFalse(isDecimal("1e"));
+		Assert.assertFalse(isDecimal("abc"));
+		Assert.assertFalse(isDecimal(" 1"));
+	}
+
+	private static boolean isDecimal(String string) {
+		return Numbers.isDecimal(string.toCharArray(), 0, string.length());
+	}
+
+}
@@ -0,0 +1,80 @@
+/*
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		https://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package be.ceau.podcastparser.util.test;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import be.ceau.podcastparser.PodcastParser;
+import be.ceau.podcastparser.models.core.Feed;
+import be.ceau.podcastparser.models.core.Item;
+import be.ceau.podcastparser.test.wrappedxml.SyntheticXml;
+import be.ceau.podcastparser.util.StringPool;
+
+public class StringPoolTest {
+
+	@Test
+	public void internString() {
+		StringPool pool = new StringPool(16, 8);
+		String first = new String("audio/mp");
+		Assert.assertSame(first, pool.intern(first));
+		Assert.assertSame(first, pool.intern(new String("audio/mp")));
+		Assert.assertNull(pool.intern((String) null));
+
+		String longer = new String("audio/mpeg");
+		Assert.assertSame(longer, pool.intern(longer));
+		Assert.assertNotSame(longer, pool.intern(new String("audio/mpeg")));
+	}
+
+	@Test
+	public void internChars() {
+		StringPool pool = new StringPool();
+		char[] chars = "xxaudio/mpegxx".toCharArray();
+		String first = pool.intern(chars, 2, 10);
+		Assert.assertEquals("audio/mpeg", first);
+		Assert.assertSame(first, pool.intern(chars, 2, 10));
+		Assert.assertSame(first, pool.intern("audio/mpeg"));
+		Assert.assertEquals("", pool.intern(chars, 0, 0));
+		Assert.assertEquals("audio", pool.intern(chars, 2, 5));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidSize() {
+		new StringPool(0, 10);
+	}
+
+	@Test
+	public void parse() {
+		StringPool pool = new StringPool();
+		PodcastParser parser = new PodcastParser(Collections.emptySet(), Collections.emptySet(), pool);
+		Feed one = parser.parse(SyntheticXml.nestedMedia(50, 1, 2).getXml());
+		Feed two = parser.parse(SyntheticXml.nestedMedia(50, 1, 2).getXml());
+
+		List<Item> items = one.getItems();
+		Item item = items.get(0);
+		for (Item other : items) {
+			Assert.assertSame(item.getEnclosure().getType(), other.getEnclosure().getType());
+			Assert.assertSame(item.getRating().getExplicit(), other.getRating().getExplicit());
+			Assert.assertSame(item.getCategories().iterator().next().getName(), other.getCategories().iterator().next().getName());
+			Assert.assertSame(item.getMediaContents().get(0).getType(), other.getMediaContents().get(0).getType());
+		}
+		// pooled across parses as well
+		Assert.assertSame(item.getEnclosure().getType(), two.getItems().get(0).getEnclosure().getType());
+	}
+
+}